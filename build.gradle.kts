@@ -3,6 +3,7 @@ plugins {
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
     id("jacoco")
+    alias(libs.plugins.jmh)
 }
 
 configurations {
@@ -23,15 +24,21 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
+    runtimeOnly(libs.micrometer.registry.prometheus)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
     testImplementation(libs.spring.boot.starter.test)
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
 // about source and compilation
+// 가상 스레드(spring.threads.virtual.enabled) 사용을 위해 Java 21 로 빌드함
 java {
-    sourceCompatibility = JavaVersion.VERSION_17
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(21))
+    }
 }
 
 with(extensions.getByType(JacocoPluginExtension::class.java)) {
@@ -48,5 +55,49 @@ tasks.getByName("jar") {
 // test tasks
 tasks.test {
     ignoreFailures = true
-    useJUnitPlatform()
+    useJUnitPlatform {
+        // 부하 테스트는 loadTest 로만 실행함
+        excludeTags("load")
+    }
+    // ./gradlew test -Ptest.trace-pinned : 가상 스레드가 캐리어 스레드에 고정(pinning)되면 스택을 출력함
+    if (project.hasProperty("test.trace-pinned")) {
+        jvmArgs("-Djdk.tracePinnedThreads=short")
+    }
+}
+// load test tasks (src/test/java/io/hhplus/tdd/load)
+// 앱을 임의 포트로 띄우고 localhost 로만 부하를 주므로 외부 네트워크 없이 CI 에서 돌 수 있음
+// ./gradlew loadTest                                          : 기본 부하(초당 200건, 10초), 결과는 build/reports/load/<모드>.json
+// ./gradlew loadTest -Pload.rate=1000 -Pload.duration-seconds=60 -Pload.zipf-exponent=1.3
+// ./gradlew loadTest -Pload.mix=get=70,history=10,charge=10,use=10
+// ./gradlew loadTest -Ppoint.storage.type=MEMORY -Ppoint.cache.enabled=false : 저장소/락/캐시 모드를 바꿔서 비교
+tasks.register<Test>("loadTest") {
+    description = "PointController 에 운영과 비슷한 부하를 주고 API 별 처리량/응답 시간/거절 비율을 남깁니다."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("load")
+    }
+    outputs.upToDateWhen { false }
+    // -P 로 넘긴 load.* (부하 조건) 와 point.* / spring.* (앱 설정) 를 테스트 JVM 시스템 프로퍼티로 넘김
+    project.properties
+        .filterKeys { it.startsWith("load.") || it.startsWith("point.") || it.startsWith("spring.") }
+        .forEach { (key, value) -> systemProperty(key, value.toString()) }
+    systemProperty("load.report-dir", layout.buildDirectory.dir("reports/load").get().asFile.absolutePath)
+    testLogging {
+        showStandardStreams = true
+    }
+}
+// benchmark tasks (src/jmh/java)
+// ./gradlew jmh                              : 전체 벤치마크 실행, 결과는 build/reports/jmh/results.json
+// ./gradlew jmh -Pjmh.includes=PointService  : 클래스/메서드 이름이 일치하는 벤치마크만 실행
+// ./gradlew jmh -Pjmh.storage=THROTTLED      : 테이블 지연(원본과 같은 랜덤 지연)을 넣고 실행 (기본은 지연 없음)
+jmh {
+    jmhVersion.set(libs.versions.jmh.asProvider().get())
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+    findProperty("jmh.includes")?.let { includes.set(listOf(it.toString())) }
+    findProperty("jmh.storage")?.let {
+        benchmarkParameters.put("storage", objects.listProperty<String>().value(listOf(it.toString())))
+    }
 }
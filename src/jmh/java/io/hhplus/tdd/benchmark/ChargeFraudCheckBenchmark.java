@@ -0,0 +1,60 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.fraud.ChargeFraudDetector;
+import io.hhplus.tdd.point.fraud.FraudDetectionProperties;
+import io.hhplus.tdd.point.fraud.FraudSignal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PLC_PNT_001 부정 충전 검사 한 번의 비용
+ * 유저마다 기억하는 최근 충전(maxChargesPerWindow 건)을 모두 구간 안에 채워둬서
+ * 검사할 때 링 버퍼를 끝까지 훑는 최악의 경우를 측정함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class ChargeFraudCheckBenchmark {
+
+    private static final int USER_COUNT = 10_000;
+
+    @Param({"10", "100"})
+    public int maxChargesPerWindow;
+
+    private ChargeFraudDetector detector;
+    private long now;
+
+    @Setup
+    public void setUp() {
+        // 반복 충전 기준은 넘지 않도록 (기억하는 건수 - 1) 만큼만 채움
+        detector = new ChargeFraudDetector(
+                new FraudDetectionProperties(10_000, 60_000, maxChargesPerWindow, 60_000));
+        now = System.currentTimeMillis();
+        for (long userId = 1; userId <= USER_COUNT; userId++) {
+            for (int i = 0; i < maxChargesPerWindow - 1; i++) {
+                detector.record(userId, 1_000L + i, now);
+            }
+        }
+    }
+
+    @Benchmark
+    public FraudSignal check() {
+        long userId = ThreadLocalRandom.current().nextInt(USER_COUNT) + 1;
+        return detector.check(userId, 999L, now);
+    }
+}
@@ -0,0 +1,96 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.benchmark.support.BenchmarkPointServices;
+import io.hhplus.tdd.benchmark.support.BenchmarkStorage;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.execution.ConcurrencyMode;
+import io.hhplus.tdd.point.execution.PointWriteProperties;
+import io.hhplus.tdd.point.ledger.PointLedgerProperties;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 유저 락(PESSIMISTIC)과 버전 비교(OPTIMISTIC) 처리량 비교 (경합 정도별)
+ * - 8개 스레드가 1 ~ hotUsers 번 유저 중 하나를 골라 충전 후 사용
+ *   > hotUsers=1: 모든 요청이 한 유저에 몰림 (재시도가 많아서 락이 유리할 것으로 예상)
+ *   > hotUsers=100000: 같은 유저끼리 거의 겹치지 않음 (락을 잡고 놓는 비용이 없는 낙관적 모드가 유리할 것으로 예상)
+ * - 두 모드 모두 write-behind 원장 + 지연 없는 테이블로 돌려서 동시성 제어 비용만 비교함
+ * - 낙관적 모드는 재시도 횟수 제한을 풀어서 충돌로 실패하는 요청이 없게 함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PointConcurrencyModeBenchmark {
+
+    @Param({"PESSIMISTIC", "OPTIMISTIC"})
+    public ConcurrencyMode mode;
+
+    @Param({"1", "8", "100000"})
+    public int hotUsers;
+
+    private BenchmarkPointServices services;
+    private final AtomicInteger nextThreadIndex = new AtomicInteger();
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        PointWriteProperties writeProperties = mode == ConcurrencyMode.OPTIMISTIC
+                ? PointWriteProperties.optimistic().withMaxOptimisticAttempts(Integer.MAX_VALUE)
+                : PointWriteProperties.overlapped();
+        services = new BenchmarkPointServices(BenchmarkStorage.ZERO_LATENCY, PointMetrics.noop(),
+                writeProperties, PointLedgerProperties.writeBehindEvery(100));
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        services.close();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UserPoint chargeThenUse(Caller caller) {
+        long userId = ThreadLocalRandom.current().nextInt(hotUsers) + 1;
+        long amount = caller.nextAmount();
+        services.pointService.chargePoint(userId, amount);
+        return services.pointService.usePoint(userId, amount);
+    }
+
+    /**
+     * 충전 금액은 스레드마다 다른 1,000원 구간에서 돌려가며 써서 중복 금액(PLC_PNT_001)에 걸리지 않게 함
+     */
+    @State(Scope.Thread)
+    public static class Caller {
+
+        private long amountBase;
+        private int sequence;
+
+        @Setup(Level.Trial)
+        public void setUp(PointConcurrencyModeBenchmark benchmark) {
+            amountBase = 1_000L + (benchmark.nextThreadIndex.getAndIncrement() % 40) * 1_000L;
+        }
+
+        long nextAmount() {
+            sequence = (sequence + 1) % 1_000;
+            return amountBase + sequence;
+        }
+    }
+}
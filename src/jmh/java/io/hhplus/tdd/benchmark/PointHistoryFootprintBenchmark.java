@@ -0,0 +1,122 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.history.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.storage.InMemoryPointHistoryRepository;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내역 1,000만건을 들고 있는 데 드는 힙 크기
+ * - OBJECT_LIST: 원본 테이블과 같은 ArrayList<PointHistory>
+ * - COLUMNAR: 메모리 저장소(InMemoryPointHistoryRepository)의 열 단위 기본형 배열
+ * - INDEXED_COLUMNAR: 메모리 저장소 + 앞단 인덱스(IndexedPointHistoryRepository) > 서비스가 실제로 들고 있는 크기
+ * 채우기 전후로 GC 를 돌려서 살아남은 힙 증가량을 잼
+ * > 결과의 retainedMegabytes / bytesPerRow 보조 지표(aux counter)를 비교하면 되고, 시간(ms)은 채우는 데 걸린 시간
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+public class PointHistoryFootprintBenchmark {
+
+    public enum Layout { OBJECT_LIST, COLUMNAR, INDEXED_COLUMNAR }
+
+    private static final int USER_COUNT = 100_000;
+
+    @Param({"OBJECT_LIST", "COLUMNAR", "INDEXED_COLUMNAR"})
+    public Layout layout;
+
+    @Param({"10000000"})
+    public int rows;
+
+    // 다음 측정 전까지 살려둬서 GC 가 치우지 못하게 함
+    private Object retained;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long retainedMegabytes;
+        public long bytesPerRow;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            retainedMegabytes = 0;
+            bytesPerRow = 0;
+        }
+    }
+
+    @Benchmark
+    public Object fill(Footprint footprint) {
+        retained = null;
+        long before = usedHeapAfterGc();
+        retained = switch (layout) {
+            case OBJECT_LIST -> fillObjectList();
+            case COLUMNAR -> fillColumnar();
+            case INDEXED_COLUMNAR -> fillIndexedColumnar();
+        };
+        long retainedBytes = usedHeapAfterGc() - before;
+
+        footprint.retainedMegabytes = retainedBytes >> 20;
+        footprint.bytesPerRow = retainedBytes / rows;
+        return retained;
+    }
+
+    private List<PointHistory> fillObjectList() {
+        List<PointHistory> table = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            table.add(new PointHistory(i + 1L, i % USER_COUNT + 1, 1_000L + i, type(i), i));
+        }
+        return table;
+    }
+
+    private InMemoryPointHistoryRepository fillColumnar() {
+        InMemoryPointHistoryRepository repository = new InMemoryPointHistoryRepository();
+        for (int i = 0; i < rows; i++) {
+            repository.insert(i % USER_COUNT + 1, 1_000L + i, type(i), i);
+        }
+        return repository;
+    }
+
+    private IndexedPointHistoryRepository fillIndexedColumnar() {
+        IndexedPointHistoryRepository repository =
+                new IndexedPointHistoryRepository(new InMemoryPointHistoryRepository(), List.of());
+        for (int i = 0; i < rows; i++) {
+            repository.insert(i % USER_COUNT + 1, 1_000L + i, type(i), i);
+        }
+        return repository;
+    }
+
+    private static TransactionType type(int i) {
+        return i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
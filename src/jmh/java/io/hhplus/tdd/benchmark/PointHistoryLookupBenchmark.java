@@ -0,0 +1,79 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.benchmark.support.BenchmarkPointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.history.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.history.PointHistoryQuery;
+import io.hhplus.tdd.point.storage.TablePointHistoryRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유저 내역 조회 비용 (전체 내역 크기별)
+ * - tableScan: PointHistoryTable.selectAllByUserId (원본과 같은 전체 스캔)
+ * - indexed: IndexedPointHistoryRepository.selectAllByUserId (유저별 인덱스)
+ * - indexedFirstPage: 첫 페이지(기본 100건)만 조회
+ * 내역 저장 지연은 측정 대상이 아니므로 항상 지연 없는 대역으로 채움
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class PointHistoryLookupBenchmark {
+
+    private static final int USER_COUNT = 1_000;
+    private static final PointHistoryQuery FIRST_PAGE =
+            new PointHistoryQuery(null, PointHistoryQuery.DEFAULT_LIMIT, null, null, null);
+
+    @Param({"10000", "100000", "1000000"})
+    public int historySize;
+
+    private BenchmarkPointHistoryTable table;
+    private IndexedPointHistoryRepository repository;
+
+    @Setup
+    public void setUp() {
+        table = new BenchmarkPointHistoryTable(0);
+        repository = new IndexedPointHistoryRepository(new TablePointHistoryRepository(table), List.of());
+        for (int i = 0; i < historySize; i++) {
+            long userId = i % USER_COUNT + 1;
+            repository.insert(userId, 1_000L + i, i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE, i);
+        }
+    }
+
+    @Benchmark
+    public List<PointHistory> tableScan() {
+        return table.selectAllByUserId(randomUserId());
+    }
+
+    @Benchmark
+    public List<PointHistory> indexed() {
+        return repository.selectAllByUserId(randomUserId());
+    }
+
+    @Benchmark
+    public PointHistoryPage indexedFirstPage() {
+        return repository.findByUserId(randomUserId(), FIRST_PAGE);
+    }
+
+    private long randomUserId() {
+        return ThreadLocalRandom.current().nextInt(USER_COUNT) + 1;
+    }
+}
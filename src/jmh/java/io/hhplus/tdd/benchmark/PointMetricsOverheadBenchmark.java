@@ -0,0 +1,68 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.benchmark.support.BenchmarkPointServices;
+import io.hhplus.tdd.benchmark.support.BenchmarkStorage;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지표 수집 비용
+ * 지연 없는 테이블로 충전 + 사용 + 조회 한 묶음을 처리하는 시간을, 지표를 버리는 경우(NOOP)와
+ * 히스토그램까지 실제로 쌓는 경우(RECORDING)로 나눠서 비교함 > 두 값의 차이가 요청 하나에 붙는 지표 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PointMetricsOverheadBenchmark {
+
+    public enum MetricsMode { NOOP, RECORDING }
+
+    @Param({"NOOP", "RECORDING"})
+    public MetricsMode metrics;
+
+    private BenchmarkPointServices services;
+    private long sequence;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        PointMetrics pointMetrics = metrics == MetricsMode.NOOP
+                ? PointMetrics.noop()
+                : new PointMetrics(new SimpleMeterRegistry());
+        services = new BenchmarkPointServices(BenchmarkStorage.ZERO_LATENCY, pointMetrics);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        services.close();
+    }
+
+    @Benchmark
+    public UserPoint chargeUseGet() {
+        // 같은 유저는 1,000번에 한번씩 돌아오고 그때마다 금액이 1원씩 달라져서 중복 금액(PLC_PNT_001)에 걸리지 않음
+        long userId = sequence % 1_000 + 1;
+        long amount = 1_000L + (sequence / 1_000) % 1_000;
+        sequence++;
+        services.pointService.chargePoint(userId, amount);
+        services.pointService.usePoint(userId, amount);
+        return services.pointService.getPointById(userId);
+    }
+}
@@ -0,0 +1,98 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.benchmark.support.BenchmarkPointServices;
+import io.hhplus.tdd.benchmark.support.BenchmarkStorage;
+import io.hhplus.tdd.point.UserPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 충전/사용 처리량
+ * - singleUserContention: 모든 스레드가 한 유저에게 충전 후 사용 > 유저 락 경합 비용
+ * - manyUserParallel: 스레드마다 다른 유저 > 유저 단위 락이 병렬로 풀리는지
+ * 한 번 호출에 충전 1건 + 사용 1건을 하므로 잔액은 늘지 않음 (최대 잔고 제한에 걸리지 않음)
+ * 내역이 계속 쌓이므로 측정 구간(iteration)마다 서비스를 새로 조립함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PointServiceBenchmark {
+
+    private static final long CONTENDED_USER_ID = 1L;
+
+    @Param({"ZERO_LATENCY", "IN_MEMORY"})
+    public BenchmarkStorage storage;
+
+    private BenchmarkPointServices services;
+    private final AtomicLong nextUserId = new AtomicLong(CONTENDED_USER_ID + 1);
+    private final AtomicInteger nextThreadIndex = new AtomicInteger();
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        services = new BenchmarkPointServices(storage);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        services.close();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UserPoint singleUserContention(Caller caller) {
+        return chargeThenUse(CONTENDED_USER_ID, caller.nextAmount());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UserPoint manyUserParallel(Caller caller) {
+        return chargeThenUse(caller.userId, caller.nextAmount());
+    }
+
+    private UserPoint chargeThenUse(long userId, long amount) {
+        services.pointService.chargePoint(userId, amount);
+        return services.pointService.usePoint(userId, amount);
+    }
+
+    /**
+     * 스레드별 상태
+     * 충전 금액은 스레드마다 다른 1,000원 구간에서 돌려가며 써서 중복 금액(PLC_PNT_001)에 걸리지 않게 함
+     */
+    @State(Scope.Thread)
+    public static class Caller {
+
+        private long userId;
+        private long amountBase;
+        private int sequence;
+
+        @Setup(Level.Trial)
+        public void setUp(PointServiceBenchmark benchmark) {
+            userId = benchmark.nextUserId.getAndIncrement();
+            amountBase = 1_000L + (benchmark.nextThreadIndex.getAndIncrement() % 40) * 1_000L;
+        }
+
+        long nextAmount() {
+            sequence = (sequence + 1) % 1_000;
+            return amountBase + sequence;
+        }
+    }
+}
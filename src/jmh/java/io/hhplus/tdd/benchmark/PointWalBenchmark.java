@@ -0,0 +1,207 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.cache.PointCacheProperties;
+import io.hhplus.tdd.point.cache.UserPointCache;
+import io.hhplus.tdd.point.execution.PointThreadFactories;
+import io.hhplus.tdd.point.history.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.ledger.PointBalanceLedger;
+import io.hhplus.tdd.point.ledger.PointLedgerProperties;
+import io.hhplus.tdd.point.storage.InMemoryPointHistoryRepository;
+import io.hhplus.tdd.point.storage.InMemoryUserPointRepository;
+import io.hhplus.tdd.point.storage.PointStorageProperties;
+import io.hhplus.tdd.point.wal.PointWalProperties;
+import io.hhplus.tdd.point.wal.PointWalRecovery;
+import io.hhplus.tdd.point.wal.PointWriteAheadLog;
+import io.hhplus.tdd.point.wal.WalRecord;
+import io.hhplus.tdd.point.wal.WalReplayHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 충전/사용 기록 로그(WAL) 비용
+ * - append: 8개 스레드가 동시에 기록할 때의 처리량 (fsync 를 켜면 그룹 커밋으로 force 를 묶음)
+ * - recover: 내역 1000만건이 쌓인 로그로 빈 테이블을 다시 채우는 시간
+ *   > 원본 테이블은 호출마다 최대 300ms 를 쉬므로, 복구 자체의 비용만 보려고 지연 없는 대역으로 채움
+ */
+public class PointWalBenchmark {
+
+    private static final int USER_COUNT = 100_000;
+
+    @State(Scope.Benchmark)
+    public static class AppendState {
+
+        @Param({"true", "false"})
+        public boolean fsync;
+
+        private Path directory;
+        private PointWriteAheadLog wal;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            directory = createTempDirectory("point-wal-append");
+            wal = open(directory, fsync);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            wal.close();
+            deleteRecursively(directory);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class RecoveryState {
+
+        @Param({"10000000"})
+        public int historySize;
+
+        private Path directory;
+        private Set<Path> populatedFiles;
+        private PointWriteAheadLog wal;
+        private PointWalRecovery recovery;
+
+        // 로그는 한번만 채우고 (채우는 동안은 fsync 를 끔), 매 측정마다 빈 테이블로 복구함
+        @Setup(Level.Trial)
+        public void populate() {
+            directory = createTempDirectory("point-wal-recovery");
+            PointWriteAheadLog writer = open(directory, false);
+            long[] balances = new long[USER_COUNT + 1];
+            for (int i = 0; i < historySize; i++) {
+                int userId = i % USER_COUNT + 1;
+                boolean use = i % 4 == 3;
+                long amount = 1_000L + i % 1_000;
+                balances[userId] += use ? -amount : amount;
+                writer.append(userId, use ? TransactionType.USE : TransactionType.CHARGE, amount, balances[userId], i);
+            }
+            writer.close();
+            populatedFiles = listFiles(directory);
+        }
+
+        @Setup(Level.Invocation)
+        public void prepare() {
+            PointBalanceLedger ledger = new PointBalanceLedger(
+                    new InMemoryUserPointRepository(), PointLedgerProperties.writeThrough(),
+                    new UserPointCache(PointCacheProperties.disabled()), PointThreadFactories.platform());
+            IndexedPointHistoryRepository repository =
+                    new IndexedPointHistoryRepository(new InMemoryPointHistoryRepository(), List.of());
+            wal = new PointWriteAheadLog(properties(directory, false), PointThreadFactories.platform());
+            recovery = new PointWalRecovery(wal, ledger, repository, PointStorageProperties.memory());
+        }
+
+        // 복구하면서 새로 생긴 세그먼트/스냅샷은 지워서 매 측정이 같은 로그를 읽게 함
+        @TearDown(Level.Invocation)
+        public void reset() {
+            wal.close();
+            for (Path file : listFiles(directory)) {
+                if (!populatedFiles.contains(file)) {
+                    delete(file);
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            deleteRecursively(directory);
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2, time = 2)
+    @Measurement(iterations = 3, time = 5)
+    @Fork(1)
+    public void append(AppendState state) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        state.wal.append(random.nextInt(USER_COUNT) + 1, TransactionType.CHARGE, 1_000L, random.nextLong(1_000_000L),
+                System.currentTimeMillis());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    @Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+    public void recover(RecoveryState state) {
+        state.recovery.recover();
+    }
+
+    private static PointWriteAheadLog open(Path directory, boolean fsync) {
+        PointWriteAheadLog wal = new PointWriteAheadLog(properties(directory, fsync), PointThreadFactories.platform());
+        wal.replay(new WalReplayHandler() {
+            @Override
+            public void onSnapshotBalance(UserPoint balance) {
+            }
+
+            @Override
+            public void onRecord(WalRecord record, boolean coveredBySnapshot) {
+            }
+        });
+        return wal;
+    }
+
+    // 스냅샷은 측정 중에 끼어들지 않도록 주기를 길게 잡음
+    private static PointWalProperties properties(Path directory, boolean fsync) {
+        return new PointWalProperties(true, directory.toString(), 64 * 1024 * 1024, fsync, 3_600_000);
+    }
+
+    private static Path createTempDirectory(String prefix) {
+        try {
+            return Files.createTempDirectory(prefix);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Set<Path> listFiles(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.collect(Collectors.toSet());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteRecursively(Path directory) {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(PointWalBenchmark::delete);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
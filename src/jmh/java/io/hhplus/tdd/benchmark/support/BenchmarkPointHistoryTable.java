@@ -0,0 +1,53 @@
+package io.hhplus.tdd.benchmark.support;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 벤치마크용 PointHistoryTable 대역
+ * 조회는 원본과 똑같이 전체 리스트를 스트림으로 필터링함 (인덱스와 비교하는 기준값)
+ */
+public class BenchmarkPointHistoryTable extends PointHistoryTable {
+
+    private final List<PointHistory> table = new ArrayList<>();
+    private final long maxLatencyMillis;
+    private long cursor = 1;
+
+    public BenchmarkPointHistoryTable(long maxLatencyMillis) {
+        this.maxLatencyMillis = maxLatencyMillis;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        throttle();
+        synchronized (table) {
+            PointHistory pointHistory = new PointHistory(cursor++, userId, amount, type, updateMillis);
+            table.add(pointHistory);
+            return pointHistory;
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        synchronized (table) {
+            return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+        }
+    }
+
+    private void throttle() {
+        if (maxLatencyMillis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextLong(maxLatencyMillis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.hhplus.tdd.benchmark.support;
+
+import io.hhplus.tdd.point.batch.PointBatchProperties;
+import io.hhplus.tdd.point.cache.PointCacheProperties;
+import io.hhplus.tdd.point.cache.UserPointCache;
+import io.hhplus.tdd.point.combine.UserOperationQueues;
+import io.hhplus.tdd.point.execution.PointThreadFactories;
+import io.hhplus.tdd.point.execution.PointWriteConfig;
+import io.hhplus.tdd.point.execution.PointWriteProperties;
+import io.hhplus.tdd.point.fraud.ChargeFraudDetector;
+import io.hhplus.tdd.point.fraud.FraudDetectionProperties;
+import io.hhplus.tdd.point.history.FirstUseRegistry;
+import io.hhplus.tdd.point.history.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.idempotency.IdempotencyProperties;
+import io.hhplus.tdd.point.idempotency.IdempotencyStore;
+import io.hhplus.tdd.point.limit.ChargeLimitProperties;
+import io.hhplus.tdd.point.limit.ChargeLimitTracker;
+import io.hhplus.tdd.point.ledger.PointBalanceLedger;
+import io.hhplus.tdd.point.ledger.PointLedgerProperties;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.wal.PointWriteAheadLog;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 스프링 컨텍스트 없이 기본 설정(application.yml 과 같은 값)으로 PointService 를 조립함
+ * 단, 부정 충전 탐지는 반복 충전 횟수 제한만 끄고(같은 유저를 계속 충전하므로) 중복 금액 검사는 그대로 둠
+ * 일/월 누적 충전 한도도 같은 이유로 풀어두지만, 예약/확인 비용은 그대로 듦
+ */
+public class BenchmarkPointServices implements AutoCloseable {
+
+    // repeatWindowMillis=0 > 반복 횟수는 세지 않고, 최근 10건의 중복 금액 검사 비용은 그대로 듦
+    public static final FraudDetectionProperties BENCHMARK_FRAUD =
+            new FraudDetectionProperties(10_000, 0, 10, 60_000);
+    public static final ChargeLimitProperties BENCHMARK_LIMITS =
+            ChargeLimitProperties.defaults().withCumulativeLimits(Long.MAX_VALUE, Long.MAX_VALUE);
+
+    public final IndexedPointHistoryRepository historyRepository;
+    public final PointService pointService;
+
+    private final PointBalanceLedger ledger;
+    private final ExecutorService batchExecutor;
+    private final ExecutorService historyWriteExecutor;
+
+    public BenchmarkPointServices(BenchmarkStorage storage) {
+        this(storage, PointMetrics.noop());
+    }
+
+    public BenchmarkPointServices(BenchmarkStorage storage, PointMetrics pointMetrics) {
+        this(storage, pointMetrics, PointWriteProperties.overlapped(), PointLedgerProperties.writeThrough());
+    }
+
+    public BenchmarkPointServices(BenchmarkStorage storage, PointMetrics pointMetrics,
+                                  PointWriteProperties writeProperties, PointLedgerProperties ledgerProperties) {
+        PointBatchProperties batchProperties = PointBatchProperties.defaults();
+        FirstUseRegistry firstUseRegistry = new FirstUseRegistry();
+        ChargeLimitTracker chargeLimitTracker = new ChargeLimitTracker(BENCHMARK_LIMITS);
+        ChargeFraudDetector fraudDetector = new ChargeFraudDetector(BENCHMARK_FRAUD);
+        this.ledger = new PointBalanceLedger(storage.userPointRepository(), ledgerProperties,
+                new UserPointCache(PointCacheProperties.defaults()), PointThreadFactories.platform());
+        this.historyRepository = new IndexedPointHistoryRepository(storage.pointHistoryRepository(), List.of(firstUseRegistry, chargeLimitTracker, fraudDetector));
+        this.batchExecutor = Executors.newFixedThreadPool(batchProperties.parallelism());
+        this.historyWriteExecutor = new PointWriteConfig().pointHistoryWriteExecutor(PointThreadFactories.platform(),
+                writeProperties);
+        this.pointService = new PointService(ledger, historyRepository, new UserLockManager(),
+                fraudDetector, firstUseRegistry, batchExecutor, batchProperties,
+                historyWriteExecutor, writeProperties, pointMetrics,
+                PointWriteAheadLog.disabled(), new UserOperationQueues(),
+                new IdempotencyStore(IdempotencyProperties.defaults()), chargeLimitTracker, BENCHMARK_LIMITS);
+    }
+
+    @Override
+    public void close() {
+        batchExecutor.shutdownNow();
+        historyWriteExecutor.shutdownNow();
+        ledger.close();
+    }
+}
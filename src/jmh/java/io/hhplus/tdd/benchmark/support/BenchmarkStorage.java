@@ -0,0 +1,45 @@
+package io.hhplus.tdd.benchmark.support;
+
+import io.hhplus.tdd.point.storage.InMemoryPointHistoryRepository;
+import io.hhplus.tdd.point.storage.InMemoryUserPointRepository;
+import io.hhplus.tdd.point.storage.PointHistoryRepository;
+import io.hhplus.tdd.point.storage.TablePointHistoryRepository;
+import io.hhplus.tdd.point.storage.TableUserPointRepository;
+import io.hhplus.tdd.point.storage.UserPointRepository;
+
+/**
+ * 벤치마크에서 쓰는 저장소 종류 (@Param("storage") 로 고름)
+ * - ZERO_LATENCY: 지연 없는 테이블 대역 > 테이블 지연을 빼고 서비스 자체(락, 검증, 인덱스, 탐지) 비용만 측정
+ * - THROTTLED: 원본 테이블과 같은 랜덤 지연(조회/변경 최대 200ms, 내역 저장 최대 300ms)을 넣은 대역
+ * - IN_MEMORY: 실제 메모리 저장소(point.storage.type=MEMORY)
+ *
+ * 원본 테이블은 HashMap/ArrayList 라서 여러 스레드로 돌리면 깨질 수 있기 때문에 테이블은 스레드 안전한 대역을 씀
+ */
+public enum BenchmarkStorage {
+
+    ZERO_LATENCY(0, 0),
+    THROTTLED(200, 300),
+    IN_MEMORY(-1, -1);
+
+    private final long userPointLatencyMillis;
+    private final long historyLatencyMillis;
+
+    BenchmarkStorage(long userPointLatencyMillis, long historyLatencyMillis) {
+        this.userPointLatencyMillis = userPointLatencyMillis;
+        this.historyLatencyMillis = historyLatencyMillis;
+    }
+
+    public UserPointRepository userPointRepository() {
+        if (this == IN_MEMORY) {
+            return new InMemoryUserPointRepository();
+        }
+        return new TableUserPointRepository(new BenchmarkUserPointTable(userPointLatencyMillis));
+    }
+
+    public PointHistoryRepository pointHistoryRepository() {
+        if (this == IN_MEMORY) {
+            return new InMemoryPointHistoryRepository();
+        }
+        return new TablePointHistoryRepository(new BenchmarkPointHistoryTable(historyLatencyMillis));
+    }
+}
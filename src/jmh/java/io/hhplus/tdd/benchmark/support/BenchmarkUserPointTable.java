@@ -0,0 +1,47 @@
+package io.hhplus.tdd.benchmark.support;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 벤치마크용 UserPointTable 대역 (ConcurrentHashMap + 최대 maxLatencyMillis 랜덤 지연)
+ */
+public class BenchmarkUserPointTable extends UserPointTable {
+
+    private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+    private final long maxLatencyMillis;
+
+    public BenchmarkUserPointTable(long maxLatencyMillis) {
+        this.maxLatencyMillis = maxLatencyMillis;
+    }
+
+    @Override
+    public UserPoint selectById(Long id) {
+        throttle();
+        return table.getOrDefault(id, UserPoint.empty(id));
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        throttle();
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        table.put(id, userPoint);
+        return userPoint;
+    }
+
+    private void throttle() {
+        if (maxLatencyMillis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextLong(maxLatencyMillis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package io.hhplus.tdd;
 
+import io.hhplus.tdd.point.ledger.OptimisticConflictException;
+import io.hhplus.tdd.point.policy.PointPolicyException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -7,6 +9,24 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 
 @RestControllerAdvice
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
+
+    // 정책 위반은 어떤 정책에 걸렸는지 코드로 알려줌 (예: PLC_PNT_001)
+    @ExceptionHandler(value = PointPolicyException.class)
+    public ResponseEntity<ErrorResponse> handlePointPolicyException(PointPolicyException e) {
+        return ResponseEntity.status(400).body(new ErrorResponse(e.policy().name(), e.getMessage()));
+    }
+
+    @ExceptionHandler(value = IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException e) {
+        return ResponseEntity.status(400).body(new ErrorResponse("400", e.getMessage()));
+    }
+
+    // 낙관적 모드에서 재시도를 다 써버린 경우: 요청은 정상이므로 다시 보내면 됨
+    @ExceptionHandler(value = OptimisticConflictException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticConflictException(OptimisticConflictException e) {
+        return ResponseEntity.status(409).body(new ErrorResponse("409", e.getMessage()));
+    }
+
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
         return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 일괄 충전 응답
+ * - 일부가 실패해도 나머지는 그대로 처리되고, 건별 결과는 results 에 요청 순서대로 담김
+ *
+ * @param throughputPerSecond 초당 처리 건수 (성공 + 실패)
+ */
+public record BatchChargeResponse(
+        int total,
+        int succeeded,
+        int failed,
+        long elapsedMillis,
+        double throughputPerSecond,
+        List<BatchChargeResult> results
+) {
+}
@@ -0,0 +1,31 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 일괄 충전 요청 한 건의 처리 결과
+ *
+ * @param index   요청 목록에서의 위치 (0부터)
+ * @param success 충전 성공 여부
+ * @param point   성공 시 충전 후 잔액 (실패 시 null)
+ * @param error   실패 사유 (성공 시 null)
+ * 요청 자체가 null 이었던 건은 userId, amount 가 0
+ */
+public record BatchChargeResult(
+        int index,
+        long userId,
+        long amount,
+        boolean success,
+        Long point,
+        String error
+) {
+
+    public static BatchChargeResult succeeded(int index, ChargeRequest request, UserPoint userPoint) {
+        return new BatchChargeResult(index, request.userId(), request.amount(), true, userPoint.point(), null);
+    }
+
+    public static BatchChargeResult failed(int index, ChargeRequest request, String error) {
+        if (request == null) {
+            return new BatchChargeResult(index, 0L, 0L, false, null, error);
+        }
+        return new BatchChargeResult(index, request.userId(), request.amount(), false, null, error);
+    }
+}
@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 일괄 회수 응답
+ * - 일부가 실패해도 나머지는 그대로 처리되고, 건별 결과는 results 에 요청 순서대로 담김
+ *
+ * @param reversedAmount 실제로 회수한 금액 합계
+ */
+public record BatchReversalResponse(
+        int total,
+        int succeeded,
+        int failed,
+        long reversedAmount,
+        long elapsedMillis,
+        List<ReversalResult> results
+) {
+}
@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 일괄 충전 요청 한 건
+ */
+public record ChargeRequest(
+        long userId,
+        long amount
+) {
+}
@@ -0,0 +1,97 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.history.PointHistoryQuery;
+import io.hhplus.tdd.point.service.PointAsyncService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 포인트 조회/충전/사용 비동기 API (/async/point/**)
+ * - 요청/응답 형식과 검증은 PointController 와 같음
+ * - CompletableFuture 를 돌려주면 스프링이 비동기 요청으로 처리해서, 테이블을 기다리는 동안 톰캣 스레드를 반납함
+ *   > 톰캣 스레드 수(기본 200)보다 많은 요청을 동시에 처리할 수 있음
+ * - 실패한 future 는 스프링이 원래 예외를 꺼내서 ApiControllerAdvice 로 넘기므로 에러 응답도 같음
+ */
+@RestController
+@RequestMapping("/async/point")
+public class PointAsyncController {
+
+    private static final Logger log = LoggerFactory.getLogger(PointAsyncController.class);
+    private final PointAsyncService pointAsyncService;
+
+    public PointAsyncController(PointAsyncService pointAsyncService) {
+        this.pointAsyncService = pointAsyncService;
+    }
+
+    @GetMapping("{id}")
+    public CompletableFuture<UserPoint> point(
+            @PathVariable long id
+    ) {
+        log.info("포인트 조회 요청(비동기): userId={}", id);
+        return pointAsyncService.getPointById(id)
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        log.error("포인트 조회 실패(비동기): userId={}, error={}", id, e.getMessage());
+                    }
+                });
+    }
+
+    @GetMapping("{id}/histories")
+    public CompletableFuture<ResponseEntity<List<PointHistory>>> history(
+            @PathVariable long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "" + PointHistoryQuery.DEFAULT_LIMIT) int limit,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to
+    ) {
+        log.info("포인트 내역 조회 요청(비동기): userId={}, cursor={}, limit={}, type={}, from={}, to={}",
+                id, cursor, limit, type, from, to);
+        return pointAsyncService.getPointHistoryPage(id, new PointHistoryQuery(cursor, limit, type, from, to))
+                .thenApply(PointController::historyResponse)
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        log.error("포인트 내역 조회 실패(비동기): userId={}, error={}", id, e.getMessage());
+                    }
+                });
+    }
+
+    @PatchMapping("{id}/charge")
+    public CompletableFuture<UserPoint> charge(
+            @PathVariable long id,
+            @RequestBody long amount,
+            @RequestHeader(value = PointController.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
+    ) {
+        log.info("포인트 충전 요청(비동기): userId={}, amount={}, idempotencyKey={}", id, amount, idempotencyKey);
+        return pointAsyncService.chargePoint(id, amount, idempotencyKey)
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        log.error("포인트 충전 실패(비동기): userId={}, amount={}, error={}", id, amount, e.getMessage());
+                    } else {
+                        log.info("포인트 충전 성공(비동기): userId={}, afterPoint={}", id, result.point());
+                    }
+                });
+    }
+
+    @PatchMapping("{id}/use")
+    public CompletableFuture<UserPoint> use(
+            @PathVariable long id,
+            @RequestBody long amount,
+            @RequestHeader(value = PointController.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
+    ) {
+        log.info("포인트 사용 요청(비동기): userId={}, amount={}, idempotencyKey={}", id, amount, idempotencyKey);
+        return pointAsyncService.usePoint(id, amount, idempotencyKey)
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        log.error("포인트 사용 실패(비동기): userId={}, amount={}, error={}", id, amount, e.getMessage());
+                    } else {
+                        log.info("포인트 사용 성공(비동기): userId={}, afterPoint={}", id, result.point());
+                    }
+                });
+    }
+}
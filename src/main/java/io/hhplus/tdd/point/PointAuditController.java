@@ -0,0 +1,44 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.audit.AuditReport;
+import io.hhplus.tdd.point.service.PointAuditService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 관리자용 잔액/내역 감사 현황 API
+ */
+@RestController
+@RequestMapping("/admin/point/audit")
+public class PointAuditController {
+
+    private static final Logger log = LoggerFactory.getLogger(PointAuditController.class);
+    private static final int MAX_LIMIT = 1_000;
+
+    private final PointAuditService pointAuditService;
+
+    public PointAuditController(PointAuditService pointAuditService) {
+        this.pointAuditService = pointAuditService;
+    }
+
+    /**
+     * 감사 현황 + 잔액과 내역 합계가 어긋난 유저 목록 (차이가 큰 순으로 최대 limit 명)
+     */
+    @GetMapping
+    public AuditReport report(
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("한번에 조회할 수 있는 유저는 1~" + MAX_LIMIT + "명입니다.");
+        }
+
+        AuditReport report = pointAuditService.report(limit);
+        log.info("감사 현황 조회: enabled={}, checked={}, suspected={}, drifted={}",
+                report.enabled(), report.checkedUsers(), report.suspectedUsers(), report.driftedUsers());
+        return report;
+    }
+}
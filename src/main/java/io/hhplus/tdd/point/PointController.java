@@ -1,10 +1,20 @@
 package io.hhplus.tdd.point;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.hhplus.tdd.point.history.PointHistoryQuery;
 import io.hhplus.tdd.point.service.PointService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
 
 // TODO: @Controller vs @RestController 차이점 학습함
@@ -16,13 +26,18 @@ import java.util.List;
 public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key"; // 비동기 API(PointAsyncController)도 같이 씀
+    static final String NEXT_CURSOR_HEADER = "Next-Cursor";
     private final PointService pointService;
+    // NDJSON 은 한 줄씩 읽어야 해서 스프링 메시지 컨버터 대신 직접 읽음 (설정은 스프링 ObjectMapper 를 그대로 따름)
+    private final ObjectReader chargeRequestReader;
 
     // TODO: 생성자 주입 vs 필드 주입 vs 세터 주입 중에 고민
     // 생성자 주입을 선택한 이유: 1) 불변성 보장 2) 테스트 용이성 3) 필수 의존성 명시
-    public PointController(PointService pointService) {
+    public PointController(PointService pointService, ObjectMapper objectMapper) {
 
         this.pointService = pointService;
+        this.chargeRequestReader = objectMapper.readerFor(ChargeRequest.class);
     }
 
     /**
@@ -47,39 +62,60 @@ public class PointController {
 
     /**
      * 특정 유저의 포인트 충전/이용 내역을 조회하는 기능
-     * TODO: 페이징 처리 필요 (@PageableDefault, Pageable 파라미터)
-     * TODO: 조회 조건 추가 (기간별, 유형별 필터링)
+     * - 응답은 기존처럼 내역 배열이고, 한번에 최대 limit 건만 돌려줌 (기본 100, 최대 1000)
+     * - 남은 내역이 있으면 Next-Cursor 헤더로 다음 cursor 를 줌 (마지막이면 헤더 없음)
+     * - cursor: 이전 응답의 Next-Cursor (없으면 처음부터)
+     * - type: CHARGE / USE / EXPIRE / REFUND / CLAWBACK 필터, from/to: 기간 필터 (epoch millis, from 포함 ~ to 미포함)
      */
     @GetMapping("{id}/histories")
-    public List<PointHistory> history(
-            @PathVariable long id
+    public ResponseEntity<List<PointHistory>> history(
+            @PathVariable long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "" + PointHistoryQuery.DEFAULT_LIMIT) int limit,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to
     ) {
-        log.info("포인트 내역 조회 요청: userId={}", id);
-        
+        log.info("포인트 내역 조회 요청: userId={}, cursor={}, limit={}, type={}, from={}, to={}",
+                id, cursor, limit, type, from, to);
+
         try {
-            List<PointHistory> result = pointService.getPointHistoryById(id);
-            log.info("포인트 내역 조회 성공: userId={}, count={}", id, result.size());
-            return result;
+            PointHistoryPage result = pointService.getPointHistoryPage(id,
+                    new PointHistoryQuery(cursor, limit, type, from, to));
+            log.info("포인트 내역 조회 성공: userId={}, count={}, nextCursor={}",
+                    id, result.histories().size(), result.nextCursor());
+            return historyResponse(result);
         } catch (Exception e) {
             log.error("포인트 내역 조회 실패: userId={}, error={}", id, e.getMessage());
             throw e;
         }
     }
 
+    // 비동기 API(PointAsyncController)도 같은 응답 형태를 씀
+    static ResponseEntity<List<PointHistory>> historyResponse(PointHistoryPage page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor().toString());
+        }
+        return response.body(page.histories());
+    }
+
     /**
      * 특정 유저의 포인트를 충전하는 기능
+     * - Idempotency-Key: 게이트웨이 재시도 등으로 같은 요청이 다시 오면 처음 결과를 그대로 돌려줌 (없으면 매번 충전)
      * TODO: 요청 DTO 클래스 만들어서 validation 추가 (@Valid, @NotNull 등)
      */
     @PatchMapping("{id}/charge")
     //put과 patch 차이 :PUT은 전체 리소스를 교체하는 반면, PATCH는 리소스의 일부를 수정함
     public UserPoint charge(
             @PathVariable long id,
-            @RequestBody long amount  // TODO: DTO로 변경 예정
+            @RequestBody long amount,  // TODO: DTO로 변경 예정
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
     ) {
-        log.info("포인트 충전 요청: userId={}, amount={}", id, amount);
+        log.info("포인트 충전 요청: userId={}, amount={}, idempotencyKey={}", id, amount, idempotencyKey);
         
         try {
-            UserPoint result = pointService.chargePoint(id, amount);
+            UserPoint result = pointService.chargePoint(id, amount, idempotencyKey);
             log.info("포인트 충전 성공: userId={}, beforePoint={}, afterPoint={}", 
                     id, result.point() - amount, result.point());
             return result;
@@ -91,17 +127,19 @@ public class PointController {
 
     /**
      * 특정 유저의 포인트를 사용하는 기능
+     * - Idempotency-Key: 충전과 동일 (같은 키의 재요청은 다시 차감하지 않음)
      * TODO: 사용 목적, 상품 정보 등 추가 정보를 받으면 좋을듯.
      */
     @PatchMapping("{id}/use")
     public UserPoint use(
             @PathVariable long id,
-            @RequestBody long amount  // TODO: 사용 목적 등 추가 정보 포함한 DTO로 변경
+            @RequestBody long amount,  // TODO: 사용 목적 등 추가 정보 포함한 DTO로 변경
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
     ) {
-        log.info("포인트 사용 요청: userId={}, amount={}", id, amount);
+        log.info("포인트 사용 요청: userId={}, amount={}, idempotencyKey={}", id, amount, idempotencyKey);
         
         try {
-            UserPoint result = pointService.usePoint(id, amount);
+            UserPoint result = pointService.usePoint(id, amount, idempotencyKey);
             log.info("포인트 사용 성공: userId={}, beforePoint={}, afterPoint={}", 
                     id, result.point() + amount, result.point());
             return result;
@@ -111,4 +149,50 @@ public class PointController {
         }
     }
 
+    /**
+     * 일괄 충전 (캠페인 지급) - JSON 배열
+     * 일부 건이 실패해도 전체를 중단하지 않고 건별 결과를 돌려줌
+     */
+    @PostMapping(value = "charges:batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public BatchChargeResponse chargeBatch(
+            @RequestBody List<ChargeRequest> requests
+    ) {
+        return chargeBatchInternal(requests);
+    }
+
+    /**
+     * 일괄 충전 (캠페인 지급) - NDJSON (한 줄에 {"userId":..,"amount":..} 하나)
+     * 수십만 건을 한 번에 보낼 때 거대한 JSON 배열을 만들지 않아도 되도록 줄 단위로 받음
+     * 읽으면서 건수를 세고 최대 건수(point.batch.maxEntries)를 넘는 순간 나머지는 읽지 않고 거절함
+     * (내용이 null 인 줄은 그 건만 실패로 돌려줌)
+     */
+    @PostMapping(value = "charges:batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public BatchChargeResponse chargeBatchNdjson(
+            InputStream body
+    ) throws IOException {
+        List<ChargeRequest> requests = new ArrayList<>();
+        try (JsonParser parser = chargeRequestReader.createParser(body)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                requests.add(token == JsonToken.VALUE_NULL ? null : chargeRequestReader.readValue(parser));
+                pointService.requireBatchWithinLimit(requests.size());
+            }
+        }
+        return chargeBatchInternal(requests);
+    }
+
+    private BatchChargeResponse chargeBatchInternal(List<ChargeRequest> requests) {
+        log.info("일괄 충전 요청: count={}", requests == null ? 0 : requests.size());
+
+        try {
+            BatchChargeResponse result = pointService.chargePoints(requests);
+            log.info("일괄 충전 완료: total={}, succeeded={}, failed={}, elapsed={}ms, throughput={}/s",
+                    result.total(), result.succeeded(), result.failed(), result.elapsedMillis(),
+                    String.format("%.1f", result.throughputPerSecond()));
+            return result;
+        } catch (Exception e) {
+            log.error("일괄 충전 실패: error={}", e.getMessage());
+            throw e;
+        }
+    }
 }
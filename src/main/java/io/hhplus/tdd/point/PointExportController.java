@@ -0,0 +1,70 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.export.ExportFormat;
+import io.hhplus.tdd.point.export.ExportSummary;
+import io.hhplus.tdd.point.export.HistoryExportFilter;
+import io.hhplus.tdd.point.service.PointHistoryExportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 전체 내역 내보내기 API (정산 대사용)
+ * 응답은 gzip 파일(point-histories.csv.gz / .ndjson.gz)로, 요청 스레드가 아닌 비동기 스레드에서 흘려보냄
+ */
+@RestController
+@RequestMapping("/point")
+public class PointExportController {
+
+    private static final Logger log = LoggerFactory.getLogger(PointExportController.class);
+    private final PointHistoryExportService pointHistoryExportService;
+
+    public PointExportController(PointHistoryExportService pointHistoryExportService) {
+        this.pointHistoryExportService = pointHistoryExportService;
+    }
+
+    /**
+     * 전체 내역 + 유저별 잔액 대조 결과 내보내기
+     * - format: CSV(기본) / NDJSON
+     * - type, from(포함), to(미포함): 내보낼 내역 조건 (잔액 대조는 조건과 상관없이 전체 내역으로 함)
+     */
+    @GetMapping("histories:export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to
+    ) {
+        log.info("포인트 내역 내보내기 요청: format={}, type={}, from={}, to={}", format, type, from, to);
+        if (from != null && to != null && from > to) {
+            throw new IllegalArgumentException("조회 시작 시각은 종료 시각보다 늦을 수 없습니다.");
+        }
+
+        HistoryExportFilter filter = new HistoryExportFilter(type, from, to);
+        StreamingResponseBody body = out -> {
+            try {
+                ExportSummary summary = pointHistoryExportService.export(filter, format, out);
+                log.info("포인트 내역 내보내기 완료: users={}, scanned={}, exported={}, mismatched={}, elapsed={}ms",
+                        summary.users(), summary.scannedRows(), summary.exportedRows(),
+                        summary.mismatchedUsers(), summary.elapsedMillis());
+            } catch (Exception e) {
+                log.error("포인트 내역 내보내기 실패: error={}", e.getMessage());
+                throw e;
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/gzip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(format.fileName()).build().toString())
+                .body(body);
+    }
+}
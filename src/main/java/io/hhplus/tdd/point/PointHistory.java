@@ -1,10 +1,24 @@
 package io.hhplus.tdd.point;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * @param reversedId 환불/회수 내역이면 되돌린 원래 내역 id, 아니면 0 (0 이면 응답에 싣지 않음)
+ */
 public record PointHistory(
         long id,
         long userId,
         long amount,
         TransactionType type,
-        long updateMillis
+        long updateMillis,
+        @JsonInclude(JsonInclude.Include.NON_DEFAULT) long reversedId
 ) {
+
+    public PointHistory(long id, long userId, long amount, TransactionType type, long updateMillis) {
+        this(id, userId, amount, type, updateMillis, 0L);
+    }
+
+    public PointHistory withReversedId(long reversedId) {
+        return new PointHistory(id, userId, amount, type, updateMillis, reversedId);
+    }
 }
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 포인트 내역 한 페이지
+ * - nextCursor 를 다음 요청의 cursor 로 넘기면 이어서 조회함 (마지막 페이지면 null)
+ * - 필터에 맞는 내역이 드물면 한 페이지에서 훑는 건수가 제한되어, nextCursor 가 있는데 histories 가 limit 보다 적거나 비어있을 수 있음
+ */
+public record PointHistoryPage(
+        List<PointHistory> histories,
+        Long nextCursor
+) {
+}
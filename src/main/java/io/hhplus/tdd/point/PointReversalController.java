@@ -0,0 +1,90 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.service.PointReversalService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 환불/회수 API (원래 내역 id 를 받아서 되돌림)
+ * 기존 PointController 와 같은 /point 아래에 두고, 컨트롤러만 나눠서 기존 API 의 의존성은 그대로 둠
+ */
+@RestController
+@RequestMapping("/point")
+public class PointReversalController {
+
+    private static final Logger log = LoggerFactory.getLogger(PointReversalController.class);
+    private final PointReversalService pointReversalService;
+
+    public PointReversalController(PointReversalService pointReversalService) {
+        this.pointReversalService = pointReversalService;
+    }
+
+    /**
+     * 사용 취소 환불 (PLC_PNT_009) - body: 취소할 사용 내역 id
+     */
+    @PatchMapping("{id}/refund")
+    public UserPoint refund(
+            @PathVariable long id,
+            @RequestBody long historyId
+    ) {
+        log.info("포인트 환불 요청: userId={}, historyId={}", id, historyId);
+
+        try {
+            UserPoint result = pointReversalService.refund(id, historyId);
+            log.info("포인트 환불 성공: userId={}, historyId={}, afterPoint={}", id, historyId, result.point());
+            return result;
+        } catch (Exception e) {
+            log.error("포인트 환불 실패: userId={}, historyId={}, error={}", id, historyId, e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * 충전 회수 (PLC_PNT_002) - body: 취소할 충전 내역 id
+     */
+    @PatchMapping("{id}/clawback")
+    public UserPoint clawback(
+            @PathVariable long id,
+            @RequestBody long historyId
+    ) {
+        log.info("포인트 회수 요청: userId={}, historyId={}", id, historyId);
+
+        try {
+            UserPoint result = pointReversalService.clawback(id, historyId);
+            log.info("포인트 회수 성공: userId={}, historyId={}, afterPoint={}", id, historyId, result.point());
+            return result;
+        } catch (Exception e) {
+            log.error("포인트 회수 실패: userId={}, historyId={}, error={}", id, historyId, e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * 일괄 회수 (부정 충전 사고 대응) - body: 취소할 충전 내역 id 배열
+     * 일부 건이 실패해도 전체를 중단하지 않고 건별 결과를 돌려줌
+     */
+    @PostMapping("clawbacks:batch")
+    public BatchReversalResponse clawbackBatch(
+            @RequestBody List<Long> historyIds
+    ) {
+        log.info("일괄 회수 요청: count={}", historyIds == null ? 0 : historyIds.size());
+
+        try {
+            BatchReversalResponse result = pointReversalService.clawbackAll(historyIds);
+            log.info("일괄 회수 완료: total={}, succeeded={}, failed={}, amount={}, elapsed={}ms",
+                    result.total(), result.succeeded(), result.failed(), result.reversedAmount(), result.elapsedMillis());
+            return result;
+        } catch (Exception e) {
+            log.error("일괄 회수 실패: error={}", e.getMessage());
+            throw e;
+        }
+    }
+}
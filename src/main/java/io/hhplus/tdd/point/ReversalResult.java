@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 일괄 회수 요청 한 건의 처리 결과
+ *
+ * @param index     요청 목록에서의 위치 (0부터)
+ * @param historyId 회수할 원래 충전 내역 id
+ * @param userId    내역의 주인 (내역을 못 찾으면 null)
+ * @param amount    실제로 회수한 금액 (잔액이 모자라면 원래 충전 금액보다 적음, 실패 시 null)
+ * @param point     성공 시 회수 후 잔액 (실패 시 null)
+ * @param error     실패 사유 (성공 시 null)
+ */
+public record ReversalResult(
+        int index,
+        long historyId,
+        Long userId,
+        boolean success,
+        Long amount,
+        Long point,
+        String error
+) {
+
+    public static ReversalResult succeeded(int index, long historyId, long amount, UserPoint userPoint) {
+        return new ReversalResult(index, historyId, userPoint.id(), true, amount, userPoint.point(), null);
+    }
+
+    public static ReversalResult failed(int index, long historyId, Long userId, String error) {
+        return new ReversalResult(index, historyId, userId, false, null, null, error);
+    }
+}
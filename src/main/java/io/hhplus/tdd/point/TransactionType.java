@@ -5,7 +5,22 @@ package io.hhplus.tdd.point;
  * 포인트 트랜잭션 종류
  * - CHARGE : 충전
  * - USE : 사용
+ * - EXPIRE : 유효기간이 지나서 소멸 (PLC_PNT_006)
+ * - REFUND : 사용 취소로 되돌려준 포인트 (PLC_PNT_009)
+ * - CLAWBACK : 부정 충전 등으로 충전을 취소하고 회수한 포인트 (PLC_PNT_002)
+ *
+ * 로그/파일/메모리 저장소가 ordinal 을 그대로 저장하므로 새 종류는 항상 맨 뒤에 추가할 것
  */
 public enum TransactionType {
-    CHARGE, USE
-}
\ No newline at end of file
+    CHARGE, USE, EXPIRE, REFUND, CLAWBACK;
+
+    /**
+     * 잔액 기준으로 부호를 붙인 금액 (충전/환불은 +, 사용/소멸/회수는 -)
+     */
+    public long signedAmount(long amount) {
+        return switch (this) {
+            case CHARGE, REFUND -> amount;
+            case USE, EXPIRE, CLAWBACK -> -amount;
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package io.hhplus.tdd.point.audit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 잔액/내역 정합성 감사 설정 (application.yml 의 point.audit.*)
+ *
+ * @param enabled          true 면 유저별 내역 합계를 증분으로 유지하고 백그라운드에서 잔액과 계속 대조함
+ * @param intervalMillis   감사 주기 (한 주기가 끝나고 다음 주기까지 최소 이만큼 쉼)
+ * @param cpuBudgetPercent 감사 스레드가 쓸 수 있는 CPU 시간 비율 (코어 하나 기준, 1~100)
+ * @param maxUsersPerRound 한 주기에 대조할 최대 유저 수 (남은 유저는 다음 주기에 이어서 확인)
+ */
+@ConfigurationProperties("point.audit")
+public record AuditProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1000") long intervalMillis,
+        @DefaultValue("5") int cpuBudgetPercent,
+        @DefaultValue("1000") int maxUsersPerRound
+) {
+
+    public AuditProperties {
+        if (intervalMillis <= 0 || maxUsersPerRound <= 0) {
+            throw new IllegalArgumentException("감사 주기와 주기당 유저 수는 0보다 커야 합니다.");
+        }
+        if (cpuBudgetPercent < 1 || cpuBudgetPercent > 100) {
+            throw new IllegalArgumentException("감사 CPU 예산은 1~100% 사이여야 합니다.");
+        }
+    }
+
+    public static AuditProperties disabled() {
+        return new AuditProperties(false, 1_000, 5, 1_000);
+    }
+
+    public static AuditProperties every(long intervalMillis, int maxUsersPerRound) {
+        return new AuditProperties(true, intervalMillis, 5, maxUsersPerRound);
+    }
+
+    /**
+     * 한 주기에 쓸 수 있는 CPU 시간 (주기 x 예산 비율)
+     */
+    public long roundBudgetNanos() {
+        return intervalMillis * 1_000_000L / 100 * cpuBudgetPercent;
+    }
+}
@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.audit;
+
+import java.util.List;
+
+/**
+ * 감사 현황 (관리자 API 응답)
+ *
+ * @param enabled          감사 동작 여부
+ * @param cpuBudgetPercent 감사 스레드 CPU 예산
+ * @param trackedUsers     내역 합계를 들고 있는 유저 수
+ * @param changedUsers     합계가 바뀌어서 대조를 기다리는 유저 수
+ * @param checkedUsers     기동 후 대조한 누적 유저 수
+ * @param suspectedUsers   한번 어긋나서 다음 주기에 다시 확인할 유저 수
+ * @param driftedUsers     어긋난 것으로 확정된 유저 수
+ * @param drifts           어긋난 유저 목록 (차이가 큰 순, 최대 limit 명)
+ */
+public record AuditReport(
+        boolean enabled,
+        int cpuBudgetPercent,
+        int trackedUsers,
+        int changedUsers,
+        long checkedUsers,
+        int suspectedUsers,
+        int driftedUsers,
+        List<BalanceDrift> drifts
+) {
+}
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point.audit;
+
+/**
+ * 감사 한 주기의 결과
+ *
+ * @param checkedUsers  대조한 유저 수
+ * @param detectedUsers 이번 주기에 새로 어긋난 것으로 확정한 유저 수
+ * @param resolvedUsers 어긋나 있다가 다시 맞아진 유저 수
+ * @param cpuNanos      이번 주기에 쓴 CPU 시간
+ */
+public record AuditRoundResult(int checkedUsers, int detectedUsers, int resolvedUsers, long cpuNanos) {
+
+    public static final AuditRoundResult EMPTY = new AuditRoundResult(0, 0, 0, 0);
+}
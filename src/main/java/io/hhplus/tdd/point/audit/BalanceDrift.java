@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point.audit;
+
+/**
+ * 잔액과 내역 합계가 어긋난 유저
+ *
+ * @param userId         유저 id
+ * @param historySum     내역으로 계산한 잔액
+ * @param balance        잔액 원장의 잔액
+ * @param detectedMillis 처음 어긋난 것으로 확정한 시각
+ */
+public record BalanceDrift(long userId, long historySum, long balance, long detectedMillis) {
+
+    /**
+     * 잔액 - 내역 합계 (양수면 내역 없이 늘어난 잔액, 음수면 잔액에 반영되지 않은 내역)
+     */
+    public long delta() {
+        return balance - historySum;
+    }
+}
@@ -0,0 +1,91 @@
+package io.hhplus.tdd.point.audit;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.history.PointHistoryListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 유저별 내역 합계 (충전/환불 +, 사용/소멸/회수 -)
+ * - 내역이 저장될 때마다 합계에 더하기만 함 > 내역 한 건당 O(1), 대조할 때 내역을 다시 훑지 않음
+ * - 합계가 바뀐 유저는 변경 대기열에 한번만 넣어서, 감사(PointAuditService)가 최근에 바뀐 유저부터 보게 함
+ * - 기동 시에는 PointHistoryWarmup 이 전체 내역으로 다시 만듦
+ *
+ * 메모리는 내역이 있는 유저 수에 비례함 (유저당 합계 하나)
+ * point.audit.enabled=false 면 아무것도 쌓지 않음
+ */
+@Component
+public class HistorySumBook implements PointHistoryListener {
+
+    private final AuditProperties properties;
+    private final ConcurrentHashMap<Long, UserSum> sums = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Long> changed = new ConcurrentLinkedQueue<>();
+
+    public HistorySumBook(AuditProperties properties) {
+        this.properties = properties;
+    }
+
+    public long historySum(long userId) {
+        UserSum sum = sums.get(userId);
+        return sum == null ? 0 : sum.amount.get();
+    }
+
+    /**
+     * 마지막으로 꺼낸 뒤 합계가 바뀐 유저를 하나 꺼냄 (없으면 null)
+     * 꺼낸 뒤에 다시 바뀌면 대기열에 다시 들어감
+     */
+    public Long pollChanged() {
+        Long userId = changed.poll();
+        if (userId != null) {
+            UserSum sum = sums.get(userId);
+            if (sum != null) {
+                sum.queued.set(false);
+            }
+        }
+        return userId;
+    }
+
+    /**
+     * 합계를 가진 유저 id 목록 (복사하지 않은 읽기 전용 뷰)
+     */
+    public Collection<Long> userIds() {
+        return Collections.unmodifiableSet(sums.keySet());
+    }
+
+    public int trackedUsers() {
+        return sums.size();
+    }
+
+    public int changedUsers() {
+        return changed.size();
+    }
+
+    @Override
+    public void onRecorded(PointHistory history) {
+        if (!properties.enabled()) {
+            return;
+        }
+        UserSum sum = sums.computeIfAbsent(history.userId(), id -> new UserSum());
+        sum.amount.addAndGet(history.type().signedAmount(history.amount()));
+        if (sum.queued.compareAndSet(false, true)) {
+            changed.add(history.userId());
+        }
+    }
+
+    @Override
+    public void reset() {
+        sums.clear();
+        changed.clear();
+    }
+
+    private static final class UserSum {
+        private final AtomicLong amount = new AtomicLong();
+        private final AtomicBoolean queued = new AtomicBoolean();
+    }
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.batch;
+
+import io.hhplus.tdd.point.execution.PointThreadFactories;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class PointBatchConfig {
+
+    /**
+     * 일괄 처리 전용 스레드 풀
+     * - 요청 스레드(톰캣)와 분리해서, 대량 처리가 일반 API 처리 스레드를 다 잡아먹지 않게 함
+     * - 스레드 수가 곧 동시에 처리되는 유저 수의 상한 (가상 스레드 모드에서도 고정 개수로 제한함)
+     * - 컨텍스트 종료 시 ExecutorService 의 shutdown 이 자동으로 호출됨
+     */
+    @Bean
+    public ExecutorService pointBatchExecutor(PointBatchProperties properties, PointThreadFactories threadFactories) {
+        return Executors.newFixedThreadPool(properties.parallelism(), threadFactories.create("point-batch"));
+    }
+}
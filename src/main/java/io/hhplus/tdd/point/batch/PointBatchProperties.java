@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.batch;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 일괄 처리 설정 (application.yml 의 point.batch.*)
+ *
+ * @param parallelism 동시에 처리하는 유저 수 (일괄 처리 전용 스레드 수)
+ * @param maxEntries  한 요청에 담을 수 있는 최대 건수
+ */
+@ConfigurationProperties("point.batch")
+public record PointBatchProperties(
+        @DefaultValue("16") int parallelism,
+        @DefaultValue("500000") int maxEntries
+) {
+
+    public static PointBatchProperties defaults() {
+        return new PointBatchProperties(16, 500_000);
+    }
+}
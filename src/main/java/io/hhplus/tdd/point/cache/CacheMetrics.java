@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.cache;
+
+/**
+ * 잔액 조회 캐시 상태 스냅샷
+ *
+ * @param size          현재 캐시에 담긴 유저 수
+ * @param hitCount      캐시에서 바로 응답한 횟수
+ * @param missCount     테이블을 조회한 횟수
+ * @param evictionCount 크기 제한 때문에 버린 횟수
+ */
+public record CacheMetrics(
+        long size,
+        long hitCount,
+        long missCount,
+        long evictionCount
+) {
+
+    public double hitRate() {
+        long total = hitCount + missCount;
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+}
@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 잔액 조회 캐시 설정 (application.yml 의 point.cache.*)
+ *
+ * @param enabled     false 면 캐시 없이 매번 테이블을 조회함
+ * @param maximumSize 캐시에 담아두는 최대 유저 수 (넘으면 가장 오래 조회되지 않은 유저부터 버림)
+ */
+@ConfigurationProperties("point.cache")
+public record PointCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") int maximumSize
+) {
+
+    public static PointCacheProperties defaults() {
+        return new PointCacheProperties(true, 100_000);
+    }
+
+    public static PointCacheProperties disabled() {
+        return new PointCacheProperties(false, 0);
+    }
+}
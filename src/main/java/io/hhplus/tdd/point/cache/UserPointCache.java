@@ -0,0 +1,143 @@
+package io.hhplus.tdd.point.cache;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+/**
+ * 유저 잔액 read-through 캐시 (크기 제한 LRU)
+ * - 조회: 캐시에 있으면 바로 응답, 없으면 loader(테이블 조회)로 읽어서 담아둠
+ * - 변경: 테이블에 쓴 값을 그대로 캐시에 덮어씀 (write-through)
+ *   > 잔액 변경은 유저 락 안에서 테이블 반영 후 캐시까지 바꾸고 반환하므로, 변경이 끝난 뒤의 조회는 항상 새 값을 봄
+ * - 유저를 세그먼트로 나눠서 세그먼트마다 LinkedHashMap(접근 순서) 하나씩 두고 락도 따로 잡음
+ *   > 세그먼트 락 안에서는 메모리 연산만 하고, 테이블 조회(최대 300ms)는 락 밖에서 함
+ *
+ * 조회 중에 같은 세그먼트에 변경이 들어오면 읽어온 값은 캐시에 담지 않음
+ * > 변경 전 값을 읽어온 조회가 변경 후에 캐시를 덮어써서 오래된 잔액이 남는 것을 막음
+ */
+@Component
+public class UserPointCache {
+
+    private static final int SEGMENT_COUNT = 64;
+
+    private final boolean enabled;
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public UserPointCache(PointCacheProperties properties) {
+        this.enabled = properties.enabled();
+        int segmentCapacity = Math.max(1, properties.maximumSize() / SEGMENT_COUNT);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+    }
+
+    public UserPoint get(long userId, LongFunction<UserPoint> loader) {
+        if (!enabled) {
+            return loader.apply(userId);
+        }
+
+        Segment segment = segmentFor(userId);
+        long writeSequence;
+        synchronized (segment) {
+            UserPoint cached = segment.entries.get(userId);
+            if (cached != null) {
+                hitCount.increment();
+                segment.entries.putLast(userId, cached);
+                return cached;
+            }
+            writeSequence = segment.writeSequence;
+        }
+
+        missCount.increment();
+        UserPoint loaded = loader.apply(userId);
+        synchronized (segment) {
+            if (segment.writeSequence == writeSequence) {
+                segment.entries.putIfAbsent(userId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 캐시에 있으면 그 값을, 없으면 null 을 돌려줌
+     * 읽어오지도 않고 LRU 순서와 hit/miss 횟수도 건드리지 않음 (전체를 훑는 작업이 캐시를 밀어내지 않도록)
+     */
+    public UserPoint peek(long userId) {
+        if (!enabled) {
+            return null;
+        }
+        Segment segment = segmentFor(userId);
+        synchronized (segment) {
+            return segment.entries.get(userId);
+        }
+    }
+
+    /**
+     * 테이블에 반영된 최신 잔액으로 캐시를 덮어씀
+     */
+    public void put(UserPoint userPoint) {
+        if (!enabled) {
+            return;
+        }
+        Segment segment = segmentFor(userPoint.id());
+        synchronized (segment) {
+            segment.writeSequence++;
+            segment.entries.putLast(userPoint.id(), userPoint);
+        }
+    }
+
+    public void invalidate(long userId) {
+        if (!enabled) {
+            return;
+        }
+        Segment segment = segmentFor(userId);
+        synchronized (segment) {
+            segment.writeSequence++;
+            segment.entries.remove(userId);
+        }
+    }
+
+    public CacheMetrics metrics() {
+        long size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.entries.size();
+            }
+        }
+        return new CacheMetrics(size, hitCount.sum(), missCount.sum(), evictionCount.sum());
+    }
+
+    private Segment segmentFor(long userId) {
+        long hash = userId * 0x9E3779B97F4A7C15L;
+        return segments[(int) (hash >>> 58)];
+    }
+
+    private final class Segment {
+
+        // 넣은 순서로 두고, 조회/변경할 때 putLast 로 맨 뒤로 옮겨서 LRU 를 만듦 (peek 은 순서를 안 바꾸도록)
+        private final LinkedHashMap<Long, UserPoint> entries;
+        // 이 세그먼트에 변경이 들어올 때마다 올라감 (조회 중에 변경이 있었는지 확인용)
+        private long writeSequence;
+
+        private Segment(int capacity) {
+            this.entries = new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, UserPoint> eldest) {
+                    if (size() > capacity) {
+                        evictionCount.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+    }
+}
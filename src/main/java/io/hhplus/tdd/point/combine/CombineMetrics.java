@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point.combine;
+
+/**
+ * 유저별 요청 묶음 처리 상태
+ *
+ * @param pendingUsers   처리를 기다리는 요청이 남아있는 유저 수
+ * @param groupCount     지금까지 처리한 묶음 수 (잔액 조회/변경 횟수와 같음)
+ * @param operationCount 지금까지 묶음으로 처리한 요청 수
+ */
+public record CombineMetrics(
+        int pendingUsers,
+        long groupCount,
+        long operationCount
+) {
+
+    public double averageGroupSize() {
+        return groupCount == 0 ? 0.0 : (double) operationCount / groupCount;
+    }
+}
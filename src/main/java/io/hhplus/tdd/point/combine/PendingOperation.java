@@ -0,0 +1,64 @@
+package io.hhplus.tdd.point.combine;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 유저 큐에 들어가서 처리를 기다리는 충전/사용 한 건
+ * 결과(또는 예외)는 유저 락을 잡은 스레드가 채우고, 요청한 스레드는 자기 건의 결과만 받아감
+ */
+public final class PendingOperation {
+
+    private final long userId;
+    private final TransactionType type;
+    private final long amount;
+
+    private volatile boolean done;
+    private UserPoint result;
+    private RuntimeException error;
+
+    PendingOperation(long userId, TransactionType type, long amount) {
+        this.userId = userId;
+        this.type = type;
+        this.amount = amount;
+    }
+
+    public long userId() {
+        return userId;
+    }
+
+    public TransactionType type() {
+        return type;
+    }
+
+    public long amount() {
+        return amount;
+    }
+
+    public boolean isDone() {
+        return done;
+    }
+
+    public void complete(UserPoint result) {
+        this.result = result;
+        this.done = true;
+    }
+
+    public void fail(RuntimeException error) {
+        this.error = error;
+        this.done = true;
+    }
+
+    /**
+     * 처리 결과를 돌려주거나, 실패했으면 처리 중에 난 예외를 그대로 던짐
+     */
+    public UserPoint result() {
+        if (!done) {
+            throw new IllegalStateException("아직 처리되지 않은 요청입니다.");
+        }
+        if (error != null) {
+            throw error;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,70 @@
+package io.hhplus.tdd.point.combine;
+
+import io.hhplus.tdd.point.TransactionType;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 유저별 충전/사용 대기열
+ * - 같은 유저에게 요청이 몰리면 (게임 보상, 장바구니 결제 등) 유저 락을 기다리는 동안 요청이 큐에 쌓이고,
+ *   락을 잡은 스레드가 쌓인 요청을 한번에 꺼내서 잔액 조회/변경 한번으로 처리함 (PointService 참고)
+ * - 큐 생성/추가/비우기는 모두 ConcurrentHashMap 의 키 단위 compute 안에서 하므로,
+ *   빈 큐는 바로 맵에서 빠지고 추가와 제거가 엇갈려 요청이 사라지는 일이 없음
+ */
+@Component
+public class UserOperationQueues {
+
+    private final ConcurrentHashMap<Long, ArrayDeque<PendingOperation>> queues = new ConcurrentHashMap<>();
+
+    private final LongAdder groupCount = new LongAdder();
+    private final LongAdder operationCount = new LongAdder();
+
+    public PendingOperation enqueue(long userId, TransactionType type, long amount) {
+        PendingOperation operation = new PendingOperation(userId, type, amount);
+        queues.compute(userId, (id, queue) -> {
+            ArrayDeque<PendingOperation> target = queue == null ? new ArrayDeque<>() : queue;
+            target.addLast(operation);
+            return target;
+        });
+        return operation;
+    }
+
+    /**
+     * 해당 유저 큐에서 먼저 들어온 순서대로 최대 maxSize 건을 꺼냄 (유저 락 안에서 호출)
+     */
+    public List<PendingOperation> drain(long userId, int maxSize) {
+        List<PendingOperation> group = new ArrayList<>();
+        queues.computeIfPresent(userId, (id, queue) -> {
+            while (group.size() < maxSize && !queue.isEmpty()) {
+                group.add(queue.pollFirst());
+            }
+            return queue.isEmpty() ? null : queue;
+        });
+        if (!group.isEmpty()) {
+            groupCount.increment();
+            operationCount.add(group.size());
+        }
+        return group;
+    }
+
+    /**
+     * 해당 유저 큐에 처리를 기다리는 요청 수
+     */
+    public int pendingCount(long userId) {
+        int[] count = {0};
+        queues.computeIfPresent(userId, (id, queue) -> {
+            count[0] = queue.size();
+            return queue;
+        });
+        return count[0];
+    }
+
+    public CombineMetrics metrics() {
+        return new CombineMetrics(queues.size(), groupCount.sum(), operationCount.sum());
+    }
+}
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point.execution;
+
+/**
+ * 같은 유저의 충전/사용이 겹칠 때 잔액 갱신 손실을 막는 방식 (point.write.concurrency)
+ * - PESSIMISTIC: 유저 락을 잡고 조회 ~ 저장을 한번에 처리함 (락을 기다리는 요청은 묶어서 처리)
+ * - OPTIMISTIC: 락 없이 버전이 붙은 잔액을 읽고, 쓸 때 버전이 그대로일 때만 반영함 (다르면 다시 읽어서 재시도)
+ *   > 유저가 많고 같은 유저끼리 거의 겹치지 않으면 락을 잡고 놓는 비용과 줄서기가 없어서 유리함
+ *   > 같은 유저에게 몰리면 재시도가 늘어나서 PESSIMISTIC 보다 불리함
+ */
+public enum ConcurrencyMode {
+    PESSIMISTIC,
+    OPTIMISTIC
+}
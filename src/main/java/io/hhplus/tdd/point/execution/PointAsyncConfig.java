@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.execution;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class PointAsyncConfig {
+
+    /**
+     * 비동기 API(PointAsyncService)가 테이블 호출을 대신 기다리는 실행기
+     * - 요청마다 가상 스레드를 하나씩 만듦 (spring.threads.virtual.enabled 와 관계없이)
+     *   > 테이블 호출이 sleep 으로 블로킹되는 동안 캐리어 스레드를 반납하므로, 기다리는 요청 수만큼 OS 스레드가 필요하지 않음
+     *   > 플랫폼 스레드 풀로 받으면 톰캣 스레드 대신 풀 스레드가 막힐 뿐이라 동시 처리량이 늘지 않음
+     */
+    @Bean
+    public ExecutorService pointAsyncExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("point-async-", 1).factory());
+    }
+}
@@ -0,0 +1,38 @@
+package io.hhplus.tdd.point.execution;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 포인트 서비스가 직접 만드는 스레드(일괄 처리, 원장 반영 등)의 종류를 한 곳에서 정함
+ * - spring.threads.virtual.enabled=true 면 톰캣 요청 처리와 함께 이쪽 스레드도 가상 스레드로 만듦
+ *   > 테이블 호출은 sleep 으로 최대 300ms 블로킹되는데, 가상 스레드는 블로킹 동안 캐리어 스레드를 반납함
+ * - 가상 스레드가 캐리어에 고정(pinning)되지 않도록, 블로킹 호출을 감싸는 락은 synchronized 대신 ReentrantLock 을 씀
+ *   (UserLockManager 참고, synchronized 블록 안에서는 메모리 연산만 함)
+ */
+@Component
+public class PointThreadFactories {
+
+    private final boolean virtualThreads;
+
+    public PointThreadFactories(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    public static PointThreadFactories platform() {
+        return new PointThreadFactories(false);
+    }
+
+    public boolean virtualThreads() {
+        return virtualThreads;
+    }
+
+    public ThreadFactory create(String prefix) {
+        if (virtualThreads) {
+            return Thread.ofVirtual().name(prefix + "-", 1).factory();
+        }
+        return Thread.ofPlatform().name(prefix + "-", 1).daemon(true).factory();
+    }
+}
@@ -0,0 +1,35 @@
+package io.hhplus.tdd.point.execution;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class PointWriteConfig {
+
+    private static final long IDLE_SECONDS = 60L;
+
+    /**
+     * 내역 저장을 잔액 변경과 겹쳐서 보내기 위한 스레드 풀
+     * - 유저 락을 잡은 요청이 묶음 전체의 내역 저장을 작업 하나로 넘기고 끝날 때까지 기다리므로 (묶음 크기와 상관없이 한 개)
+     *   필요한 스레드 수는 동시에 락을 잡고 있는 유저 수, 즉 동시 요청 수를 넘지 않음
+     * - 플랫폼 스레드는 point.write.max-history-writers 까지만 만들고, 큐에 쌓지 않음
+     *   > 큐에서 기다리면 겹치는 효과가 사라지므로, 다 쓰고 있으면 넘긴 요청 스레드가 직접 저장함 (CallerRunsPolicy)
+     * - 가상 스레드 모드에서는 작업마다 가상 스레드를 새로 만듦 (블로킹 동안 캐리어를 반납하므로 수를 막을 필요가 없음)
+     */
+    @Bean
+    public ExecutorService pointHistoryWriteExecutor(PointThreadFactories threadFactories,
+                                                     PointWriteProperties pointWriteProperties) {
+        if (threadFactories.virtualThreads()) {
+            return Executors.newThreadPerTaskExecutor(threadFactories.create("point-history-write"));
+        }
+        return new ThreadPoolExecutor(0, pointWriteProperties.maxHistoryWriters(), IDLE_SECONDS, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), threadFactories.create("point-history-write"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+}
@@ -0,0 +1,66 @@
+package io.hhplus.tdd.point.execution;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 충전/사용 저장 방식 설정 (application.yml 의 point.write.*)
+ *
+ * @param overlapHistory        true 면 잔액 변경과 내역 저장을 동시에 보내고 둘 다 끝날 때까지 기다림
+ *                              false 면 지금처럼 잔액 변경이 끝난 다음에 내역을 저장함
+ *                              (어느 쪽이든 한 묶음의 내역은 요청 순서대로 한 건씩 저장해서 내역 id 순서가 요청 순서와 같음)
+ * @param maxGroupSize          같은 유저에게 몰린 충전/사용을 한번에 묶어서 처리하는 최대 건수 (1 이면 한 건씩 처리)
+ *                              묶음이 커질수록 락을 잡은 요청이 다른 요청을 대신 처리하느라 늦게 끝나므로 적당히 제한함
+ * @param concurrency           같은 유저의 동시 요청을 다루는 방식 (PESSIMISTIC: 유저 락 / OPTIMISTIC: 버전 비교 후 재시도)
+ *                              OPTIMISTIC 은 write-behind 원장에서만 쓸 수 있음 (overlapHistory, maxGroupSize 는 쓰지 않음)
+ * @param maxOptimisticAttempts OPTIMISTIC 에서 한 요청이 버전 충돌로 다시 시도하는 최대 횟수
+ * @param maxHistoryWriters     overlapHistory 에서 내역 저장을 맡는 플랫폼 스레드 최대 수 (가상 스레드 모드에서는 쓰지 않음)
+ *                              다 쓰고 있으면 락을 잡은 요청이 내역을 직접 저장함 (그 묶음만 overlapHistory=false 처럼 동작)
+ */
+@ConfigurationProperties("point.write")
+public record PointWriteProperties(
+        @DefaultValue("true") boolean overlapHistory,
+        @DefaultValue("64") int maxGroupSize,
+        @DefaultValue("PESSIMISTIC") ConcurrencyMode concurrency,
+        @DefaultValue("16") int maxOptimisticAttempts,
+        @DefaultValue("200") int maxHistoryWriters
+) {
+
+    private static final int DEFAULT_MAX_GROUP_SIZE = 64;
+    private static final int DEFAULT_MAX_OPTIMISTIC_ATTEMPTS = 16;
+    private static final int DEFAULT_MAX_HISTORY_WRITERS = 200;
+
+    public static PointWriteProperties overlapped() {
+        return new PointWriteProperties(true, DEFAULT_MAX_GROUP_SIZE, ConcurrencyMode.PESSIMISTIC,
+                DEFAULT_MAX_OPTIMISTIC_ATTEMPTS, DEFAULT_MAX_HISTORY_WRITERS);
+    }
+
+    public static PointWriteProperties sequential() {
+        return new PointWriteProperties(false, DEFAULT_MAX_GROUP_SIZE, ConcurrencyMode.PESSIMISTIC,
+                DEFAULT_MAX_OPTIMISTIC_ATTEMPTS, DEFAULT_MAX_HISTORY_WRITERS);
+    }
+
+    public static PointWriteProperties optimistic() {
+        return new PointWriteProperties(true, DEFAULT_MAX_GROUP_SIZE, ConcurrencyMode.OPTIMISTIC,
+                DEFAULT_MAX_OPTIMISTIC_ATTEMPTS, DEFAULT_MAX_HISTORY_WRITERS);
+    }
+
+    public PointWriteProperties withMaxGroupSize(int maxGroupSize) {
+        return new PointWriteProperties(overlapHistory, maxGroupSize, concurrency, maxOptimisticAttempts,
+                maxHistoryWriters);
+    }
+
+    public PointWriteProperties withMaxOptimisticAttempts(int maxOptimisticAttempts) {
+        return new PointWriteProperties(overlapHistory, maxGroupSize, concurrency, maxOptimisticAttempts,
+                maxHistoryWriters);
+    }
+
+    public PointWriteProperties withMaxHistoryWriters(int maxHistoryWriters) {
+        return new PointWriteProperties(overlapHistory, maxGroupSize, concurrency, maxOptimisticAttempts,
+                maxHistoryWriters);
+    }
+
+    public boolean optimisticConcurrency() {
+        return concurrency == ConcurrencyMode.OPTIMISTIC;
+    }
+}
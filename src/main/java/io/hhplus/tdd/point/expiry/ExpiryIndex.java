@@ -0,0 +1,130 @@
+package io.hhplus.tdd.point.expiry;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.LongConsumer;
+
+/**
+ * 만료 시각 순 인덱스 (tick 단위 칸 -> 그 칸에 가장 먼저 만료되는 충전 건이 있는 userId 들)
+ * - 유저마다 칸 하나에만 들어감 (남은 충전 건 중 가장 이른 만료 시각의 칸)
+ *   > 인덱스 크기는 충전 건 수가 아니라 충전 건이 남은 유저 수에 비례함
+ *   > 가장 이른 건이 다 쓰이거나 소멸되면 다음 건의 칸으로 옮기고(schedule), 다 쓰면 뺌(cancel)
+ * - 확인할 때는 지금까지 지난 칸만 앞에서부터 꺼냄 > 소멸 확인 비용은 실제로 만료된 유저 수에 비례함
+ * - 칸은 만료 시각을 tick 단위로 올림한 번호라서, 칸이 지났으면 그 유저의 가장 이른 건은 만료됨
+ *
+ * 같은 유저의 schedule/cancel 은 동시에 부르지 않아야 함 (PointLotBook 이 유저별 compute 안에서 부름)
+ */
+final class ExpiryIndex {
+
+    private final long tickMillis;
+    private final ConcurrentSkipListMap<Long, TickBucket> buckets = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<Long, Long> scheduledTicks = new ConcurrentHashMap<>();
+
+    ExpiryIndex(long tickMillis) {
+        this.tickMillis = tickMillis;
+    }
+
+    /**
+     * 유저를 expiresAtMillis 의 칸으로 옮김 (이미 그 칸이면 그대로)
+     */
+    void schedule(long userId, long expiresAtMillis) {
+        long tick = Math.floorDiv(expiresAtMillis + tickMillis - 1, tickMillis);
+        Long previous = scheduledTicks.put(userId, tick);
+        if (previous != null) {
+            if (previous == tick) {
+                return;
+            }
+            removeFromBucket(previous, userId);
+        }
+        // 꺼내는 중이거나 비워서 닫힌 칸에는 더 못 넣으므로(closed) 새 칸을 만들어서 다시 넣음
+        while (!buckets.computeIfAbsent(tick, ignored -> new TickBucket()).add(userId)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    void cancel(long userId) {
+        Long previous = scheduledTicks.remove(userId);
+        if (previous != null) {
+            removeFromBucket(previous, userId);
+        }
+    }
+
+    /**
+     * now 까지 지난 칸을 앞에서부터 꺼내서 userId 를 action 에 넘기고, 넘긴 수를 돌려줌
+     * - 칸 단위로 꺼내므로 maxUsers 를 넘긴 칸까지는 끝까지 넘김
+     * - 꺼낸 유저는 인덱스에서 빠짐 > 소멸 내역이 저장되면 PointLotBook 이 다음 건의 칸에 다시 넣음
+     */
+    int pollDue(long now, int maxUsers, LongConsumer action) {
+        int polled = 0;
+        while (polled < maxUsers) {
+            Map.Entry<Long, TickBucket> first = buckets.firstEntry();
+            if (first == null || first.getKey() * tickMillis > now) {
+                break;
+            }
+            if (!buckets.remove(first.getKey(), first.getValue())) {
+                continue;
+            }
+            for (long userId : first.getValue().close()) {
+                // 닫히기 직전에 다른 칸으로 옮겨진 유저는 건너뜀
+                if (scheduledTicks.remove(userId, first.getKey())) {
+                    action.accept(userId);
+                    polled++;
+                }
+            }
+        }
+        return polled;
+    }
+
+    int bucketCount() {
+        return buckets.size();
+    }
+
+    int scheduledUserCount() {
+        return scheduledTicks.size();
+    }
+
+    void clear() {
+        buckets.clear();
+        scheduledTicks.clear();
+    }
+
+    private void removeFromBucket(long tick, long userId) {
+        TickBucket bucket = buckets.get(tick);
+        if (bucket != null && bucket.remove(userId)) {
+            buckets.remove(tick, bucket);
+        }
+    }
+
+    private static final class TickBucket {
+
+        private final Set<Long> userIds = new HashSet<>();
+        private boolean closed;
+
+        synchronized boolean add(long userId) {
+            if (closed) {
+                return false;
+            }
+            userIds.add(userId);
+            return true;
+        }
+
+        /**
+         * userId 를 빼고, 칸이 비었으면 닫아서 true 를 돌려줌 (닫힌 칸은 인덱스에서 지움)
+         */
+        synchronized boolean remove(long userId) {
+            if (closed || !userIds.remove(userId) || !userIds.isEmpty()) {
+                return false;
+            }
+            closed = true;
+            return true;
+        }
+
+        synchronized long[] close() {
+            closed = true;
+            return userIds.stream().mapToLong(Long::longValue).toArray();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.hhplus.tdd.point.expiry;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * PLC_PNT_006 포인트 소멸 설정 (application.yml 의 point.expiry.*)
+ *
+ * @param enabled          true 면 충전 건(lot)별 유효기간을 추적하고 지난 금액을 소멸시킴
+ * @param lifetimeMillis   충전 후 소멸까지의 기간
+ * @param tickMillis       소멸 확인 주기 (같은 주기 안에 만료되는 충전 건은 한 칸에 모아서 한번에 처리함)
+ * @param parallelism      한번에 소멸 처리하는 유저 수 (유저마다 테이블 호출이 있어서 나눠서 씀)
+ * @param maxUsersPerSweep 한 주기에 처리할 최대 유저 수 (남은 유저는 다음 주기에 이어서 처리)
+ */
+@ConfigurationProperties("point.expiry")
+public record ExpiryProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("31536000000") long lifetimeMillis,
+        @DefaultValue("1000") long tickMillis,
+        @DefaultValue("4") int parallelism,
+        @DefaultValue("10000") int maxUsersPerSweep
+) {
+
+    public ExpiryProperties {
+        if (lifetimeMillis <= 0 || tickMillis <= 0 || parallelism <= 0 || maxUsersPerSweep <= 0) {
+            throw new IllegalArgumentException("소멸 설정 값은 0보다 커야 합니다.");
+        }
+    }
+
+    public static ExpiryProperties disabled() {
+        return new ExpiryProperties(false, 31_536_000_000L, 1_000, 4, 10_000);
+    }
+
+    public static ExpiryProperties after(long lifetimeMillis, long tickMillis) {
+        return new ExpiryProperties(true, lifetimeMillis, tickMillis, 4, 10_000);
+    }
+}
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point.expiry;
+
+/**
+ * 소멸 확인 한번의 결과
+ *
+ * @param checkedUsers  만료 칸에서 꺼내서 확인한 유저 수 (같은 유저가 여러번 들어있으면 중복 포함)
+ * @param expiredUsers  실제로 소멸 내역을 남긴 유저 수
+ * @param expiredAmount 소멸된 포인트 합계
+ * @param failedUsers   소멸 처리에 실패해서 다음 주기로 미룬 유저 수
+ */
+public record ExpirySweepResult(int checkedUsers, int expiredUsers, long expiredAmount, int failedUsers) {
+
+    public static final ExpirySweepResult EMPTY = new ExpirySweepResult(0, 0, 0, 0);
+}
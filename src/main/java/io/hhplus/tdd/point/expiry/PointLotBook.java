@@ -0,0 +1,145 @@
+package io.hhplus.tdd.point.expiry;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.history.PointHistoryListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+
+/**
+ * PLC_PNT_006: 유저별 충전 건(lot)과 만료 시각
+ * - UserPoint 는 잔액 하나뿐이라 "어느 충전분이 언제 만료되는지" 를 알려면 전체 내역을 다시 훑어야 함
+ * - 내역이 저장될 때마다 충전 건을 쌓고(CHARGE, REFUND), 사용/소멸(USE, EXPIRE)은 오래된 건부터 차감해서 증분으로 유지함
+ *   > 회수(CLAWBACK)는 되돌린 충전 건(PointHistory.reversedId)에서 먼저 차감함 (남은 다른 충전 건의 만료 시각이 그대로 남음)
+ *   > 환불된 포인트는 환불 시각부터 다시 유효기간을 셈
+ *   > 충전 건 목록은 내역만으로 정해지므로 기동 시에는 PointHistoryWarmup 이 전체 내역으로 다시 만듦
+ * - 유저마다 가장 먼저 만료되는 충전 건 하나만 만료 시각 순 인덱스(ExpiryIndex)에 넣어서, 소멸 확인은 만료된 건을 가진 유저만 봄
+ *   > 목록이 바뀔 때마다 같은 compute 안에서 인덱스 칸도 옮김 (가장 이른 건이 바뀔 때만 실제로 옮겨짐)
+ *
+ * 메모리는 아직 남아있는 충전 건 수에 비례함 (다 쓰거나 소멸된 유저는 목록과 인덱스에서 지움)
+ * point.expiry.enabled=false 면 아무것도 쌓지 않음
+ */
+@Component
+public class PointLotBook implements PointHistoryListener {
+
+    private final ExpiryProperties properties;
+    private final ConcurrentHashMap<Long, UserLots> lots = new ConcurrentHashMap<>();
+    private final ExpiryIndex expiryIndex;
+
+    public PointLotBook(ExpiryProperties properties) {
+        this.properties = properties;
+        this.expiryIndex = new ExpiryIndex(properties.tickMillis());
+    }
+
+    public boolean enabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * now 기준으로 만료된 충전 건의 남은 금액 합계
+     */
+    public long expiredAmount(long userId, long now) {
+        UserLots userLots = lots.get(userId);
+        return userLots == null ? 0 : userLots.expiredAmount(now);
+    }
+
+    public long remainingAmount(long userId) {
+        UserLots userLots = lots.get(userId);
+        return userLots == null ? 0 : userLots.total();
+    }
+
+    public int lotCount(long userId) {
+        UserLots userLots = lots.get(userId);
+        return userLots == null ? 0 : userLots.size();
+    }
+
+    /**
+     * 잔액이 없어서 소멸시키지 못한 만료 금액을 목록에서만 버림 (내역 없이 생긴 잔액 차이)
+     */
+    public void discard(long userId, long amount) {
+        consume(userId, amount);
+    }
+
+    /**
+     * now 까지 만료된 충전 건을 가진 유저를 최대 maxUsers 명 남짓 꺼냄 (ExpiryIndex.pollDue)
+     */
+    public int pollDueUsers(long now, int maxUsers, LongConsumer action) {
+        return expiryIndex.pollDue(now, maxUsers, action);
+    }
+
+    /**
+     * 소멸 처리에 실패한 유저를 at 시각에 다시 확인하도록 인덱스에 넣음 (남은 충전 건이 없으면 넣지 않음)
+     */
+    public void retryAt(long userId, long at) {
+        lots.computeIfPresent(userId, (id, userLots) -> {
+            expiryIndex.schedule(id, at);
+            return userLots;
+        });
+    }
+
+    /**
+     * 인덱스에서 꺼냈지만 소멸할 금액이 없던 유저를 가장 이른 충전 건의 칸에 다시 넣음
+     */
+    public void reschedule(long userId) {
+        lots.computeIfPresent(userId, (id, userLots) -> {
+            expiryIndex.schedule(id, userLots.earliestExpiresAt());
+            return userLots;
+        });
+    }
+
+    public int pendingTickCount() {
+        return expiryIndex.bucketCount();
+    }
+
+    public int scheduledUserCount() {
+        return expiryIndex.scheduledUserCount();
+    }
+
+    @Override
+    public void onRecorded(PointHistory history) {
+        if (!properties.enabled()) {
+            return;
+        }
+        if (history.type() == TransactionType.CHARGE || history.type() == TransactionType.REFUND) {
+            long expiresAt = history.updateMillis() + properties.lifetimeMillis();
+            // compute 안에서 쌓아야 다 써서 지워지는 것과 겹쳐도 방금 쌓은 건이 같이 지워지지 않음
+            lots.compute(history.userId(), (id, userLots) -> {
+                UserLots target = userLots == null ? new UserLots() : userLots;
+                target.add(history.id(), history.amount(), expiresAt);
+                expiryIndex.schedule(id, target.earliestExpiresAt());
+                return target;
+            });
+        } else if (history.type() == TransactionType.CLAWBACK && history.reversedId() != 0) {
+            consumeLot(history.userId(), history.reversedId(), history.amount());
+        } else {
+            consume(history.userId(), history.amount());
+        }
+    }
+
+    @Override
+    public void reset() {
+        lots.clear();
+        expiryIndex.clear();
+    }
+
+    private void consume(long userId, long amount) {
+        consumeLot(userId, 0, amount);
+    }
+
+    /**
+     * historyId 가 0 이면 가장 오래된 건부터, 아니면 그 충전 건부터 차감함
+     */
+    private void consumeLot(long userId, long historyId, long amount) {
+        lots.computeIfPresent(userId, (id, userLots) -> {
+            int left = historyId == 0 ? userLots.consume(amount) : userLots.consumeLot(historyId, amount);
+            if (left == 0) {
+                expiryIndex.cancel(id);
+                return null;
+            }
+            expiryIndex.schedule(id, userLots.earliestExpiresAt());
+            return userLots;
+        });
+    }
+}
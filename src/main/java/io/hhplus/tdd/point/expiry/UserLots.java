@@ -0,0 +1,139 @@
+package io.hhplus.tdd.point.expiry;
+
+/**
+ * 한 유저의 아직 남아있는 충전 건(lot) 목록 (만료 시각 순서로 쌓이는 링 버퍼)
+ * - 충전 건마다 (만료 시각, 남은 금액, 내역 id) 세 칸만 씀 > 객체를 건마다 만들지 않음
+ * - 사용/소멸은 항상 가장 오래된 건부터 차감함 (FIFO) > 먼저 만료될 건이 먼저 빠짐
+ * - 회수는 되돌린 충전 건을 내역 id 로 찾아서 그 건부터 차감함 (consumeLot)
+ * - 만료 시각은 충전 시각 + 고정 기간이라 보통은 맨 뒤에 붙고, 시계가 뒤로 가는 등 앞 건보다 이르면 제자리를 찾아 끼워넣음
+ *   > 버퍼 안에서 항상 만료 시각 오름차순이므로 만료 금액은 앞에서부터 만료 안 된 건을 만날 때까지만 더함
+ */
+final class UserLots {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private long[] expiresAt = new long[INITIAL_CAPACITY];
+    private long[] remaining = new long[INITIAL_CAPACITY];
+    private long[] historyIds = new long[INITIAL_CAPACITY];
+    private int head;
+    private int size;
+
+    synchronized void add(long historyId, long amount, long expiresAtMillis) {
+        if (size == expiresAt.length) {
+            grow();
+        }
+        int position = size;
+        while (position > 0 && expiresAt[(head + position - 1) % expiresAt.length] > expiresAtMillis) {
+            int from = (head + position - 1) % expiresAt.length;
+            int to = (head + position) % expiresAt.length;
+            expiresAt[to] = expiresAt[from];
+            remaining[to] = remaining[from];
+            historyIds[to] = historyIds[from];
+            position--;
+        }
+        int index = (head + position) % expiresAt.length;
+        expiresAt[index] = expiresAtMillis;
+        remaining[index] = amount;
+        historyIds[index] = historyId;
+        size++;
+    }
+
+    /**
+     * 내역 id 가 historyId 인 충전 건에서 먼저 차감하고, 모자라면 (이미 일부 썼으면) 나머지는 가장 오래된 건부터 차감함
+     * 그 건이 이미 다 쓰여서 없으면 consume 과 같음
+     */
+    synchronized int consumeLot(long historyId, long amount) {
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) % expiresAt.length;
+            if (historyIds[index] != historyId) {
+                continue;
+            }
+            long taken = Math.min(amount, remaining[index]);
+            remaining[index] -= taken;
+            if (remaining[index] == 0) {
+                removeAt(i);
+            }
+            return consume(amount - taken);
+        }
+        return consume(amount);
+    }
+
+    /**
+     * 가장 오래된 건부터 amount 만큼 차감하고, 남은 건수를 돌려줌
+     * 남은 금액보다 많이 차감하려고 하면 있는 만큼만 차감함 (추적 전부터 있던 잔액)
+     */
+    synchronized int consume(long amount) {
+        long left = amount;
+        while (left > 0 && size > 0) {
+            long taken = Math.min(left, remaining[head]);
+            remaining[head] -= taken;
+            left -= taken;
+            if (remaining[head] == 0) {
+                head = (head + 1) % expiresAt.length;
+                size--;
+            }
+        }
+        return size;
+    }
+
+    synchronized long expiredAmount(long now) {
+        long expired = 0;
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) % expiresAt.length;
+            if (expiresAt[index] > now) {
+                break;
+            }
+            expired += remaining[index];
+        }
+        return expired;
+    }
+
+    /**
+     * 가장 먼저 만료되는 건의 만료 시각 (남은 건이 있을 때만 부름)
+     */
+    synchronized long earliestExpiresAt() {
+        return expiresAt[head];
+    }
+
+    synchronized long total() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += remaining[(head + i) % expiresAt.length];
+        }
+        return total;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 앞에서 position 번째 건을 빼고 뒤의 건을 한 칸씩 당김 (만료 시각 순서 유지)
+     */
+    private void removeAt(int position) {
+        for (int i = position; i < size - 1; i++) {
+            int to = (head + i) % expiresAt.length;
+            int from = (head + i + 1) % expiresAt.length;
+            expiresAt[to] = expiresAt[from];
+            remaining[to] = remaining[from];
+            historyIds[to] = historyIds[from];
+        }
+        size--;
+    }
+
+    private void grow() {
+        long[] grownExpiresAt = new long[expiresAt.length * 2];
+        long[] grownRemaining = new long[remaining.length * 2];
+        long[] grownHistoryIds = new long[historyIds.length * 2];
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) % expiresAt.length;
+            grownExpiresAt[i] = expiresAt[index];
+            grownRemaining[i] = remaining[index];
+            grownHistoryIds[i] = historyIds[index];
+        }
+        expiresAt = grownExpiresAt;
+        remaining = grownRemaining;
+        historyIds = grownHistoryIds;
+        head = 0;
+    }
+}
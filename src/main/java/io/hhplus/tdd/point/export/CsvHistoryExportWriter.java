@@ -0,0 +1,46 @@
+package io.hhplus.tdd.point.export;
+
+import io.hhplus.tdd.point.PointHistory;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * CSV 형식 (값이 모두 숫자/enum 이름이라 따옴표 처리는 하지 않음)
+ * 해당 없는 컬럼은 비워둠
+ */
+class CsvHistoryExportWriter implements HistoryExportWriter {
+
+    static final String HEADER = "record,id,userId,type,amount,updateMillis,historyCount,historySum,balance,matched,users,scannedRows,exportedRows,mismatchedUsers,elapsedMillis";
+
+    private final Writer out;
+
+    CsvHistoryExportWriter(Writer out) {
+        this.out = out;
+    }
+
+    @Override
+    public void writeHeader() throws IOException {
+        out.write(HEADER);
+        out.write('\n');
+    }
+
+    @Override
+    public void writeHistory(PointHistory history) throws IOException {
+        out.write("history," + history.id() + ',' + history.userId() + ',' + history.type() + ','
+                + history.amount() + ',' + history.updateMillis() + ",,,,,,,,,\n");
+    }
+
+    @Override
+    public void writeChecksum(UserChecksum checksum) throws IOException {
+        out.write("checksum,," + checksum.userId() + ",,,," + checksum.historyCount() + ',' + checksum.historySum() + ','
+                + checksum.balance() + ',' + checksum.matched() + ",,,,,\n");
+    }
+
+    @Override
+    public void writeSummary(ExportSummary summary) throws IOException {
+        out.write("summary,,,,,,,,,," + summary.users() + ',' + summary.scannedRows() + ','
+                + summary.exportedRows() + ',' + summary.mismatchedUsers() + ','
+                + summary.elapsedMillis() + '\n');
+    }
+}
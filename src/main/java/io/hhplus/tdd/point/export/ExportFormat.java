@@ -0,0 +1,36 @@
+package io.hhplus.tdd.point.export;
+
+import java.io.Writer;
+
+/**
+ * 내역 내보내기 파일 형식
+ * - CSV : 첫 줄은 컬럼명, 한 줄에 한 건
+ * - NDJSON : 한 줄에 JSON 객체 하나
+ */
+public enum ExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String fileName() {
+        return "point-histories." + extension + ".gz";
+    }
+
+    public HistoryExportWriter writer(Writer out) {
+        return switch (this) {
+            case CSV -> new CsvHistoryExportWriter(out);
+            case NDJSON -> new NdjsonHistoryExportWriter(out);
+        };
+    }
+}
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point.export;
+
+/**
+ * 내보내기 한번의 결과 (파일 마지막 줄에도 같은 내용을 남김)
+ *
+ * @param users           대조한 유저 수 (내역 없이 잔액만 있는 유저 포함)
+ * @param scannedRows     훑은 전체 내역 건수
+ * @param exportedRows    조건에 맞아서 파일에 쓴 내역 건수
+ * @param mismatchedUsers 잔액과 내역 합계가 다른 유저 수
+ * @param elapsedMillis   걸린 시간
+ */
+public record ExportSummary(long users, long scannedRows, long exportedRows, long mismatchedUsers, long elapsedMillis) {
+}
@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.export;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 내보낼 내역 조건 (체크섬은 조건과 상관없이 유저의 전체 내역으로 계산함)
+ *
+ * @param type       거래 유형 필터 (null 이면 전체)
+ * @param fromMillis 이 시각 이후 내역만 (포함, null 이면 제한 없음)
+ * @param toMillis   이 시각 이전 내역만 (미포함, null 이면 제한 없음)
+ */
+public record HistoryExportFilter(
+        TransactionType type,
+        Long fromMillis,
+        Long toMillis
+) {
+
+    public static final HistoryExportFilter ALL = new HistoryExportFilter(null, null, null);
+
+    public boolean matches(PointHistory history) {
+        return (type == null || history.type() == type)
+                && (fromMillis == null || history.updateMillis() >= fromMillis)
+                && (toMillis == null || history.updateMillis() < toMillis);
+    }
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.export;
+
+import io.hhplus.tdd.point.PointHistory;
+
+import java.io.IOException;
+
+/**
+ * 내보내기 파일에 한 줄씩 씀
+ * 한 파일 안에 세 종류의 줄이 섞여 있고 record 값으로 구분함
+ * - history : 조건에 맞는 내역 한 건
+ * - checksum : 유저 한 명의 내역을 다 쓴 뒤 그 유저의 잔액 대조 결과
+ * - summary : 파일 마지막 줄, 전체 건수와 불일치 유저 수
+ */
+public interface HistoryExportWriter {
+
+    void writeHeader() throws IOException;
+
+    void writeHistory(PointHistory history) throws IOException;
+
+    void writeChecksum(UserChecksum checksum) throws IOException;
+
+    void writeSummary(ExportSummary summary) throws IOException;
+}
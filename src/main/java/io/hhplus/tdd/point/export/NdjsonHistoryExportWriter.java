@@ -0,0 +1,45 @@
+package io.hhplus.tdd.point.export;
+
+import io.hhplus.tdd.point.PointHistory;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * NDJSON 형식
+ * 값이 모두 숫자/enum 이름이라 ObjectMapper 를 거치지 않고 바로 씀 (건마다 객체를 만들지 않음)
+ */
+class NdjsonHistoryExportWriter implements HistoryExportWriter {
+
+    private final Writer out;
+
+    NdjsonHistoryExportWriter(Writer out) {
+        this.out = out;
+    }
+
+    @Override
+    public void writeHeader() {
+        // NDJSON 은 헤더 줄이 없음
+    }
+
+    @Override
+    public void writeHistory(PointHistory history) throws IOException {
+        out.write("{\"record\":\"history\",\"id\":" + history.id() + ",\"userId\":" + history.userId()
+                + ",\"type\":\"" + history.type() + "\",\"amount\":" + history.amount()
+                + ",\"updateMillis\":" + history.updateMillis() + "}\n");
+    }
+
+    @Override
+    public void writeChecksum(UserChecksum checksum) throws IOException {
+        out.write("{\"record\":\"checksum\",\"userId\":" + checksum.userId()
+                + ",\"historyCount\":" + checksum.historyCount() + ",\"historySum\":" + checksum.historySum()
+                + ",\"balance\":" + checksum.balance() + ",\"matched\":" + checksum.matched() + "}\n");
+    }
+
+    @Override
+    public void writeSummary(ExportSummary summary) throws IOException {
+        out.write("{\"record\":\"summary\",\"users\":" + summary.users() + ",\"scannedRows\":" + summary.scannedRows()
+                + ",\"exportedRows\":" + summary.exportedRows() + ",\"mismatchedUsers\":" + summary.mismatchedUsers()
+                + ",\"elapsedMillis\":" + summary.elapsedMillis() + "}\n");
+    }
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point.export;
+
+/**
+ * 유저 한 명의 잔액 대조 결과
+ *
+ * @param userId       유저 id
+ * @param historyCount 대조에 쓴 전체 내역 건수 (필터와 무관)
+ * @param historySum   내역으로 계산한 잔액 (충전/환불 +, 사용/소멸/회수 -)
+ * @param balance      같은 시점 잔액 원장의 잔액
+ */
+public record UserChecksum(long userId, int historyCount, long historySum, long balance) {
+
+    public boolean matched() {
+        return historySum == balance;
+    }
+}
@@ -0,0 +1,96 @@
+package io.hhplus.tdd.point.fraud;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.history.PointHistoryListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PLC_PNT_001 부정 충전 탐지기
+ * - 기존에는 충전할 때마다 유저 전체 내역을 다시 읽어서 10초 내 같은 금액이 있는지 선형 탐색했음
+ * - 유저별로 최근 충전만 담은 링 버퍼(ChargeWindow)를 두고 거기서만 확인함 > 내역 테이블을 읽지 않음
+ * - 검사 비용은 링 버퍼 크기(maxChargesPerWindow)로 상한이 정해져 있음
+ * - 일정 시간 충전이 없던 유저의 버퍼는 주기적으로 정리해서, 메모리는 "최근에 충전한 유저 수" 에 비례함
+ * - 기동 시에는 PointHistoryWarmup 이 흘려보내는 내역 중 탐지 구간 안의 CHARGE 만 다시 남김 > 재시작 직후에도 같은 금액 재충전을 잡음
+ *   > 평소에는 check 직후 record 로 먼저 남기므로, 뒤따라 저장된 같은 (시각, 금액) 내역은 다시 남기지 않음
+ *
+ * check 와 record 사이에 같은 유저의 다른 충전이 끼어들지 않는 것은 PointService 의 유저 락이 보장함
+ * (낙관적 모드에서는 두 호출을 원장의 compareAndUpdate 안에서 같이 실행해서 보장함)
+ */
+@Component
+public class ChargeFraudDetector implements PointHistoryListener {
+
+    private final FraudDetectionProperties properties;
+    private final ConcurrentHashMap<Long, ChargeWindow> windows = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweepMillis = new AtomicLong();
+
+    public ChargeFraudDetector(FraudDetectionProperties properties) {
+        this.properties = properties;
+    }
+
+    public FraudSignal check(long userId, long amount, long now) {
+        ChargeWindow window = windows.get(userId);
+        return window == null ? FraudSignal.NONE : window.check(amount, now, properties);
+    }
+
+    /**
+     * 충전이 성공한 뒤에 호출해서 기록을 남김
+     */
+    public void record(long userId, long amount, long now) {
+        // compute 안에서 기록해야 정리(sweep)와 겹쳐도 방금 남긴 기록이 같이 지워지지 않음
+        windows.compute(userId, (id, window) -> {
+            ChargeWindow target = window == null ? new ChargeWindow(properties.windowCapacity()) : window;
+            target.record(amount, now);
+            return target;
+        });
+        sweepIfDue(now);
+    }
+
+    /**
+     * record 로 남긴 충전이 끝내 반영되지 않았을 때 (낙관적 모드에서 내역 저장 실패) 그 기록을 지움
+     * > 남겨두면 같은 금액 재시도가 부정 충전으로 막힘
+     */
+    public void forget(long userId, long amount, long now) {
+        ChargeWindow window = windows.get(userId);
+        if (window != null) {
+            window.remove(amount, now);
+        }
+    }
+
+    @Override
+    public void onRecorded(PointHistory history) {
+        if (history.type() != TransactionType.CHARGE
+                || System.currentTimeMillis() - history.updateMillis() >= properties.retentionMillis()) {
+            return;
+        }
+        windows.compute(history.userId(), (id, window) -> {
+            ChargeWindow target = window == null ? new ChargeWindow(properties.windowCapacity()) : window;
+            target.recordIfAbsent(history.amount(), history.updateMillis());
+            return target;
+        });
+    }
+
+    @Override
+    public void reset() {
+        windows.clear();
+    }
+
+    public int activeUserCount() {
+        return windows.size();
+    }
+
+    // 정리 주기가 지났을 때 한 스레드만 정리를 수행함 (CAS 에 성공한 스레드)
+    private void sweepIfDue(long now) {
+        long last = lastSweepMillis.get();
+        if (now - last < properties.sweepIntervalMillis() || !lastSweepMillis.compareAndSet(last, now)) {
+            return;
+        }
+        for (Long userId : windows.keySet()) {
+            windows.computeIfPresent(userId,
+                    (id, window) -> window.isIdle(now, properties.retentionMillis()) ? null : window);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.hhplus.tdd.point.fraud;
+
+/**
+ * 한 유저의 최근 충전 기록 (고정 크기 링 버퍼)
+ * - 가장 최근 N 건의 (시각, 금액) 만 기억하므로 유저당 메모리는 항상 일정함
+ * - 오래된 기록은 새 기록이 덮어쓰면서 자연스럽게 사라짐
+ */
+final class ChargeWindow {
+
+    private final long[] timestamps;
+    private final long[] amounts;
+    private int next;  // 다음에 쓸 위치
+    private int count; // 채워진 칸 수 (최대 capacity)
+
+    ChargeWindow(int capacity) {
+        this.timestamps = new long[capacity];
+        this.amounts = new long[capacity];
+    }
+
+    /**
+     * 최신 기록부터 거꾸로 훑으면서 구간을 벗어나면 바로 멈춤 > 최대 capacity 번만 봄
+     */
+    synchronized FraudSignal check(long amount, long now, FraudDetectionProperties properties) {
+        int capacity = timestamps.length;
+        int chargesInWindow = 0;
+        for (int i = 1; i <= count; i++) {
+            int index = (next - i + capacity) % capacity;
+            long elapsed = now - timestamps[index];
+            if (elapsed >= properties.retentionMillis()) {
+                break;
+            }
+            if (amounts[index] == amount && elapsed < properties.duplicateWindowMillis()) {
+                return FraudSignal.DUPLICATE_AMOUNT;
+            }
+            if (elapsed < properties.repeatWindowMillis()) {
+                chargesInWindow++;
+            }
+        }
+        return chargesInWindow >= properties.maxChargesPerWindow()
+                ? FraudSignal.TOO_MANY_CHARGES
+                : FraudSignal.NONE;
+    }
+
+    synchronized void record(long amount, long now) {
+        timestamps[next] = now;
+        amounts[next] = amount;
+        next = (next + 1) % timestamps.length;
+        count = Math.min(count + 1, timestamps.length);
+    }
+
+    /**
+     * 같은 (시각, 금액) 기록이 없을 때만 남김 (이미 record 로 남긴 충전의 내역이 다시 들어오는 경우)
+     */
+    synchronized void recordIfAbsent(long amount, long now) {
+        int capacity = timestamps.length;
+        for (int i = 1; i <= count; i++) {
+            int index = (next - i + capacity) % capacity;
+            if (timestamps[index] == now && amounts[index] == amount) {
+                return;
+            }
+        }
+        record(amount, now);
+    }
+
+    /**
+     * 같은 (시각, 금액) 기록 중 가장 최근 것 하나를 지우고, 그 뒤의 기록을 한칸씩 당김
+     */
+    synchronized void remove(long amount, long now) {
+        int capacity = timestamps.length;
+        for (int i = 1; i <= count; i++) {
+            int index = (next - i + capacity) % capacity;
+            if (timestamps[index] == now && amounts[index] == amount) {
+                for (int j = i - 1; j >= 1; j--) {
+                    int from = (next - j + capacity) % capacity;
+                    int to = (from - 1 + capacity) % capacity;
+                    timestamps[to] = timestamps[from];
+                    amounts[to] = amounts[from];
+                }
+                next = (next - 1 + capacity) % capacity;
+                count--;
+                return;
+            }
+        }
+    }
+
+    synchronized boolean isIdle(long now, long retentionMillis) {
+        if (count == 0) {
+            return true;
+        }
+        int latest = (next - 1 + timestamps.length) % timestamps.length;
+        return now - timestamps[latest] >= retentionMillis;
+    }
+}
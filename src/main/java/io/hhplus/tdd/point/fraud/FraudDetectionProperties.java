@@ -0,0 +1,37 @@
+package io.hhplus.tdd.point.fraud;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * PLC_PNT_001 부정 충전 탐지 설정 (application.yml 의 point.fraud.*)
+ *
+ * @param duplicateWindowMillis 이 시간 안에 같은 금액이 다시 충전되면 중복 충전으로 판단
+ * @param repeatWindowMillis    반복 충전 횟수를 세는 구간
+ * @param maxChargesPerWindow   repeatWindowMillis 안에 허용하는 최대 충전 횟수
+ * @param sweepIntervalMillis   충전이 끊긴 유저의 탐지 상태를 정리하는 주기
+ */
+@ConfigurationProperties("point.fraud")
+public record FraudDetectionProperties(
+        @DefaultValue("10000") long duplicateWindowMillis,
+        @DefaultValue("60000") long repeatWindowMillis,
+        @DefaultValue("10") int maxChargesPerWindow,
+        @DefaultValue("60000") long sweepIntervalMillis
+) {
+
+    public static FraudDetectionProperties defaults() {
+        return new FraudDetectionProperties(10_000, 60_000, 10, 60_000);
+    }
+
+    /**
+     * 유저당 기억해야 하는 최근 충전 건수
+     * 반복 충전 횟수 기준만큼만 기억하면 되고, 중복 금액 구간이 더 길면 그 구간도 덮을 수 있어야 함
+     */
+    int windowCapacity() {
+        return Math.max(1, maxChargesPerWindow);
+    }
+
+    long retentionMillis() {
+        return Math.max(duplicateWindowMillis, repeatWindowMillis);
+    }
+}
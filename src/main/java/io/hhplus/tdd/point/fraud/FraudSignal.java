@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.fraud;
+
+/**
+ * 부정 충전 탐지 결과
+ * - NONE : 정상
+ * - DUPLICATE_AMOUNT : 짧은 시간 안에 같은 금액 재충전
+ * - TOO_MANY_CHARGES : 구간 내 충전 횟수 초과
+ */
+public enum FraudSignal {
+    NONE, DUPLICATE_AMOUNT, TOO_MANY_CHARGES
+}
@@ -0,0 +1,36 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.springframework.stereotype.Component;
+
+/**
+ * PLC_PNT_005: 포인트를 한번이라도 사용한 유저 목록
+ * - "최초 사용자인가" 는 유저당 딱 한번 true -> false 로 바뀌는 값이라 전체 내역을 매번 볼 필요가 없음
+ * - USE 내역이 저장될 때 비트를 켜고, 확인은 비트 하나만 봄
+ */
+@Component
+public class FirstUseRegistry implements PointHistoryListener {
+
+    private final UserBitmap usedUsers = new UserBitmap();
+
+    public boolean hasUsed(long userId) {
+        return usedUsers.contains(userId);
+    }
+
+    public long usedUserCount() {
+        return usedUsers.cardinality();
+    }
+
+    @Override
+    public void onRecorded(PointHistory history) {
+        if (history.type() == TransactionType.USE) {
+            usedUsers.add(history.userId());
+        }
+    }
+
+    @Override
+    public void reset() {
+        usedUsers.clear();
+    }
+}
@@ -0,0 +1,68 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.point.PointHistory;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 내역 id -> 내역 인덱스 (O(1) 조회)
+ * - id 로 행을 읽지 못하는 저장소(TABLE)에서만 씀 > 메모리/파일 저장소는 저장소에서 바로 읽음
+ * - 저장소는 id 를 1부터 빈틈없이 매기므로 해시맵 대신 id 를 위치로 쓰는 배열에 넣음
+ *   > 한 건당 참조 하나만 더 듦 (내역 객체는 테이블이 들고 있는 것을 같이 씀)
+ * - 고정 크기 묶음(chunk)을 하나씩 늘려서, 커질 때 전체를 복사하지 않음 (묶음 목록만 복사)
+ * - 동시 insert 로 id 가 순서대로 안 들어와도 각자 자기 칸에만 씀
+ */
+final class HistoryIdIndex {
+
+    private static final int CHUNK_BITS = 14;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private volatile AtomicReferenceArray<PointHistory>[] chunks = newChunks(4);
+
+    void put(PointHistory history) {
+        long position = history.id() - 1;
+        if (position < 0) {
+            return;
+        }
+        int chunkIndex = (int) (position >>> CHUNK_BITS);
+        chunkFor(chunkIndex).set((int) (position & CHUNK_MASK), history);
+    }
+
+    PointHistory get(long id) {
+        long position = id - 1;
+        if (position < 0) {
+            return null;
+        }
+        AtomicReferenceArray<PointHistory>[] current = chunks;
+        long chunkIndex = position >>> CHUNK_BITS;
+        if (chunkIndex >= current.length || current[(int) chunkIndex] == null) {
+            return null;
+        }
+        return current[(int) chunkIndex].get((int) (position & CHUNK_MASK));
+    }
+
+    private AtomicReferenceArray<PointHistory> chunkFor(int chunkIndex) {
+        AtomicReferenceArray<PointHistory>[] current = chunks;
+        if (chunkIndex < current.length && current[chunkIndex] != null) {
+            return current[chunkIndex];
+        }
+        synchronized (this) {
+            current = chunks;
+            if (chunkIndex >= current.length) {
+                current = Arrays.copyOf(current, Math.max(current.length * 2, chunkIndex + 1));
+            }
+            if (current[chunkIndex] == null) {
+                current[chunkIndex] = new AtomicReferenceArray<>(CHUNK_SIZE);
+            }
+            chunks = current;
+            return current[chunkIndex];
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static AtomicReferenceArray<PointHistory>[] newChunks(int length) {
+        return (AtomicReferenceArray<PointHistory>[]) new AtomicReferenceArray[length];
+    }
+}
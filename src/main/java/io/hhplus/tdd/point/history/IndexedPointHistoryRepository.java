@@ -0,0 +1,137 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.storage.PointHistoryRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * 내역 저장소(PointHistoryRepository) 앞단의 유저별 인덱스
+ * - PointHistoryTable.selectAllByUserId 는 매번 전체 내역을 스트림으로 훑어서 O(전체 내역) 임
+ * - 테이블은 변경할 수 없으므로, insert 할 때 userId -> 내역 묶음(UserHistorySegment) 인덱스를 같이 쌓아두고
+ *   조회는 인덱스에서 O(해당 유저 내역) 으로 처리함
+ *
+ * 생성할 때 저장소에 이미 있는 내역(파일 저장소)을 인덱스에 먼저 올리고,
+ * 그 뒤의 내역 insert 가 모두 이 클래스를 거치면 인덱스와 저장소는 항상 같음
+ * (저장소에 직접 insert 하면 인덱스에 반영되지 않으니 주의)
+ * 저장된 내역은 PointHistoryListener 들에게 바로 전달됨
+ *
+ * 인덱스는 내역 id 만 들고, PointHistory 는 읽을 때 id 로 만듦
+ * - 저장소가 id 로 행을 읽을 수 있으면(메모리/파일, readsById) 저장소에서 바로 읽음 > 인덱스는 한 건당 id 8바이트만 씀
+ * - 아니면(TABLE) id -> 내역 인덱스(HistoryIdIndex)에 테이블이 돌려준 객체의 참조를 같이 담아서 읽음
+ * 환불/회수가 원래 내역을 찾는 findById 도 같은 방법으로 O(1)
+ */
+@Component
+public class IndexedPointHistoryRepository {
+
+    private final PointHistoryRepository pointHistoryTable;
+    private final List<PointHistoryListener> listeners;
+    private final ConcurrentHashMap<Long, UserHistorySegment> segments = new ConcurrentHashMap<>();
+    private final HistoryIdIndex idIndex;
+    private final LongFunction<PointHistory> rows;
+
+    public IndexedPointHistoryRepository(PointHistoryRepository pointHistoryTable, List<PointHistoryListener> listeners) {
+        this.pointHistoryTable = pointHistoryTable;
+        this.listeners = listeners;
+        if (pointHistoryTable.readsById()) {
+            this.idIndex = null;
+            this.rows = pointHistoryTable::findById;
+        } else {
+            this.idIndex = new HistoryIdIndex();
+            this.rows = idIndex::get;
+        }
+        // 리스너 상태는 PointHistoryWarmup 이 전체 내역으로 다시 만들기 때문에 여기서는 인덱스만 채움
+        pointHistoryTable.forEachStored(this::index);
+    }
+
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        return record(pointHistoryTable.insert(userId, amount, type, updateMillis));
+    }
+
+    /**
+     * 환불/회수 내역을 되돌린 원래 내역 id 와 같이 저장함
+     */
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis, long reversedId) {
+        return record(pointHistoryTable.insert(userId, amount, type, updateMillis, reversedId));
+    }
+
+    public Optional<PointHistory> findById(long id) {
+        return Optional.ofNullable(rows.apply(id));
+    }
+
+    public List<PointHistory> selectAllByUserId(long userId) {
+        UserHistorySegment segment = segments.get(userId);
+        return segment == null ? List.of() : segment.snapshot(rows);
+    }
+
+    /**
+     * 유저 인덱스 안에서 커서/필터/개수 조건으로 한 페이지만 조회함
+     */
+    public PointHistoryPage findByUserId(long userId, PointHistoryQuery query) {
+        UserHistorySegment segment = segments.get(userId);
+        return segment == null ? new PointHistoryPage(List.of(), null) : segment.page(query, rows);
+    }
+
+    /**
+     * 내역이 그 유저의 몇 번째 내역인지 (0부터, 없으면 -1)
+     * 로그(WAL)는 재시작하면 바뀌는 내역 id 대신 이 위치로 원래 내역을 가리킴 (유저 안에서의 순서는 복구 후에도 같음)
+     */
+    public int positionOf(long userId, long historyId) {
+        UserHistorySegment segment = segments.get(userId);
+        return segment == null ? -1 : segment.indexOf(historyId);
+    }
+
+    /**
+     * 그 유저의 position 번째 (0부터) 내역 id, 없으면 0
+     */
+    public long idAt(long userId, int position) {
+        UserHistorySegment segment = segments.get(userId);
+        return segment == null ? 0L : segment.idAt(position);
+    }
+
+    public int countByUserId(long userId) {
+        UserHistorySegment segment = segments.get(userId);
+        return segment == null ? 0 : segment.size();
+    }
+
+    /**
+     * 내역이 있는 유저 id 목록 (복사하지 않은 읽기 전용 뷰, 훑는 도중 추가된 유저는 보일 수도 안 보일 수도 있음)
+     */
+    public Collection<Long> userIds() {
+        return Collections.unmodifiableSet(segments.keySet());
+    }
+
+    /**
+     * 저장된 모든 내역을 한번씩 훑음 (유저 단위로 묶여서, 유저 안에서는 id 오름차순)
+     */
+    public void forEach(Consumer<PointHistory> action) {
+        for (UserHistorySegment segment : segments.values()) {
+            segment.forEach(rows, action);
+        }
+    }
+
+    private PointHistory record(PointHistory history) {
+        index(history);
+        for (PointHistoryListener listener : listeners) {
+            listener.onRecorded(history);
+        }
+        return history;
+    }
+
+    // id 인덱스를 먼저 채워야, 유저 인덱스에서 id 를 본 스레드가 항상 내역을 읽을 수 있음
+    private void index(PointHistory history) {
+        if (idIndex != null) {
+            idIndex.put(history);
+        }
+        segments.computeIfAbsent(history.userId(), id -> new UserHistorySegment()).append(history.id());
+    }
+}
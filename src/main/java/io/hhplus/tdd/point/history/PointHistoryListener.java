@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.point.PointHistory;
+
+/**
+ * 포인트 내역이 저장될 때마다 알림을 받는 쪽
+ * - 내역에서 파생되는 상태(최초 사용 여부 등)를 매번 내역을 다시 읽지 않고 증분으로 유지하기 위해 사용
+ * - 기동 시에는 PointHistoryWarmup 이 reset() 후 기존 내역 전체를 한번 흘려보내서 상태를 다시 만듦
+ * - 같은 유저의 내역은 저장된 순서(= 요청 처리 순서, id 오름차순)대로 받음
+ *   > 같은 유저의 저장은 유저 락 안에서 한 스레드가 순서대로 하므로 (PointService.writeGroup) 사용이 그 앞의 충전보다 먼저 오지 않음
+ */
+public interface PointHistoryListener {
+
+    void onRecorded(PointHistory history);
+
+    /**
+     * 기동 시 재구성 전에 호출됨
+     */
+    default void reset() {
+    }
+}
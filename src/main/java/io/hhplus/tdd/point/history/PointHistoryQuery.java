@@ -0,0 +1,33 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 포인트 내역 페이지 조회 조건
+ *
+ * @param cursor     이전 페이지의 마지막 내역 id (이 id 보다 큰 내역부터 조회, null 이면 처음부터)
+ * @param limit      한 페이지 최대 건수
+ * @param type       거래 유형 필터 (null 이면 전체)
+ * @param fromMillis 이 시각 이후 내역만 (포함, null 이면 제한 없음)
+ * @param toMillis   이 시각 이전 내역만 (미포함, null 이면 제한 없음)
+ */
+public record PointHistoryQuery(
+        Long cursor,
+        int limit,
+        TransactionType type,
+        Long fromMillis,
+        Long toMillis
+) {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1_000;
+    // 필터에 맞는 내역이 드물 때 한 페이지에서 훑는 최대 건수 (조회 한번의 비용 상한)
+    public static final int MAX_SCANNED = 10_000;
+
+    boolean matches(PointHistory history) {
+        return (type == null || history.type() == type)
+                && (fromMillis == null || history.updateMillis() >= fromMillis)
+                && (toMillis == null || history.updateMillis() < toMillis);
+    }
+}
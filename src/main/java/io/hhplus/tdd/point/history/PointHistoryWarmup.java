@@ -0,0 +1,44 @@
+package io.hhplus.tdd.point.history;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 기동 시 내역에서 파생되는 상태를 다시 만드는 작업
+ * - 내역 전체를 딱 한번 훑으면서 모든 PointHistoryListener 에게 흘려보냄
+ * - 모든 빈이 만들어진 직후(웹 서버가 요청을 받기 전)에 실행되므로, 재구성 중에 요청이 끼어들지 않음
+ */
+@Component
+public class PointHistoryWarmup implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryWarmup.class);
+
+    private final IndexedPointHistoryRepository pointHistoryRepository;
+    private final List<PointHistoryListener> listeners;
+
+    public PointHistoryWarmup(IndexedPointHistoryRepository pointHistoryRepository,
+                              List<PointHistoryListener> listeners) {
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.listeners = listeners;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.currentTimeMillis();
+        listeners.forEach(PointHistoryListener::reset);
+
+        long[] rows = {0};
+        pointHistoryRepository.forEach(history -> {
+            rows[0]++;
+            for (PointHistoryListener listener : listeners) {
+                listener.onRecorded(history);
+            }
+        });
+        log.info("포인트 내역 기반 상태 재구성 완료: rows={}, listeners={}, elapsed={}ms",
+                rows[0], listeners.size(), System.currentTimeMillis() - start);
+    }
+}
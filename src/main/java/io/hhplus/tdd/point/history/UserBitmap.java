@@ -0,0 +1,55 @@
+package io.hhplus.tdd.point.history;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * userId 집합을 비트로 저장하는 비트맵 (roaring bitmap 처럼 상위 비트로 구간을 나눔)
+ * - userId 상위 48비트 = 구간(container) 번호, 하위 16비트 = 구간 안의 비트 위치
+ * - 구간은 처음 쓰일 때만 만들어짐 (구간당 65,536 비트 = 8KB)
+ * - 조회는 맵 조회 한번 + 비트 확인 한번이고 락을 잡지 않음
+ *
+ * userId 는 보통 연속으로 발급되므로 배열 컨테이너 없이 비트맵 컨테이너만 사용함
+ */
+public class UserBitmap {
+
+    private static final int CONTAINER_BITS = 16;
+    private static final int WORDS_PER_CONTAINER = (1 << CONTAINER_BITS) / Long.SIZE;
+
+    private final ConcurrentHashMap<Long, AtomicLongArray> containers = new ConcurrentHashMap<>();
+
+    public boolean contains(long userId) {
+        AtomicLongArray container = containers.get(userId >>> CONTAINER_BITS);
+        if (container == null) {
+            return false;
+        }
+        int bit = (int) (userId & 0xFFFF);
+        return (container.get(bit >>> 6) & (1L << bit)) != 0;
+    }
+
+    /**
+     * @return 새로 추가됐으면 true, 이미 있었으면 false
+     */
+    public boolean add(long userId) {
+        AtomicLongArray container = containers.computeIfAbsent(userId >>> CONTAINER_BITS,
+                key -> new AtomicLongArray(WORDS_PER_CONTAINER));
+        int bit = (int) (userId & 0xFFFF);
+        long mask = 1L << bit;
+        long previous = container.getAndAccumulate(bit >>> 6, mask, (current, m) -> current | m);
+        return (previous & mask) == 0;
+    }
+
+    public long cardinality() {
+        long count = 0;
+        for (AtomicLongArray container : containers.values()) {
+            for (int i = 0; i < container.length(); i++) {
+                count += Long.bitCount(container.get(i));
+            }
+        }
+        return count;
+    }
+
+    public void clear() {
+        containers.clear();
+    }
+}
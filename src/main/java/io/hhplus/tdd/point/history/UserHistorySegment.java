@@ -0,0 +1,131 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * 한 유저의 포인트 내역 id 묶음 (id 오름차순, 추가만 가능)
+ * - 내역 객체는 들고 있지 않고 id(long) 만 담음 > 한 건당 8바이트
+ *   > PointHistory 는 읽을 때 rows(id -> 내역)로 만들어서 돌려줌
+ * - 쓰기는 락 안에서 한 스레드씩, 읽기는 락 없이 volatile 로 공개된 배열/크기를 읽음
+ * - ids 를 먼저 쓰고 size 를 나중에 쓰기 때문에, size 를 읽은 시점의 앞부분은 항상 채워져 있음
+ */
+final class UserHistorySegment {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private volatile long[] ids = new long[INITIAL_CAPACITY];
+    private volatile int size;
+
+    synchronized void append(long id) {
+        long[] current = ids;
+        int n = size;
+
+        // 같은 유저의 insert 는 유저 락 안에서 순서대로 들어오므로 보통은 맨 뒤에 붙이면 됨
+        if (n == 0 || current[n - 1] < id) {
+            long[] target = n == current.length ? Arrays.copyOf(current, n * 2) : current;
+            target[n] = id;
+            ids = target;
+            size = n + 1;
+            return;
+        }
+
+        // 순서가 뒤바뀐 경우: 읽는 중인 스레드가 있을 수 있으므로 제자리에서 밀지 않고 새 배열을 만들어 교체
+        int position = insertionPoint(current, n, id);
+        long[] copy = new long[Math.max(current.length, n + 1)];
+        System.arraycopy(current, 0, copy, 0, position);
+        copy[position] = id;
+        System.arraycopy(current, position, copy, position + 1, n - position);
+        ids = copy;
+        size = n + 1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * id 의 위치 (없으면 -1)
+     */
+    int indexOf(long id) {
+        int n = size;
+        long[] current = ids;
+        int position = insertionPoint(current, n, id);
+        return position < n && current[position] == id ? position : -1;
+    }
+
+    /**
+     * position 번째 id (범위를 벗어나면 0)
+     */
+    long idAt(int position) {
+        int n = size;
+        long[] current = ids;
+        return position >= 0 && position < n ? current[position] : 0L;
+    }
+
+    List<PointHistory> snapshot(LongFunction<PointHistory> rows) {
+        int n = size;
+        long[] current = ids;
+        PointHistory[] histories = new PointHistory[n];
+        for (int i = 0; i < n; i++) {
+            histories[i] = rows.apply(current[i]);
+        }
+        return Collections.unmodifiableList(Arrays.asList(histories));
+    }
+
+    void forEach(LongFunction<PointHistory> rows, Consumer<PointHistory> action) {
+        int n = size;
+        long[] current = ids;
+        for (int i = 0; i < n; i++) {
+            action.accept(rows.apply(current[i]));
+        }
+    }
+
+    /**
+     * cursor 다음 위치를 이진 탐색으로 찾고, 거기서부터 조건에 맞는 내역을 limit 건까지만 모음
+     * > 전체를 복사하지 않고 id 배열을 그대로 훑으므로 메모리는 페이지 크기만큼만 씀
+     * 조건에 맞는 내역이 드물어도 한 페이지에서는 MAX_SCANNED 건까지만 훑음
+     * > 다 못 훑었으면 그때까지 모은 내역(limit 보다 적거나 없을 수 있음)과 마지막으로 본 id 를 다음 커서로 줌
+     */
+    PointHistoryPage page(PointHistoryQuery query, LongFunction<PointHistory> rows) {
+        int n = size;
+        long[] current = ids;
+        int start = query.cursor() == null ? 0 : insertionPoint(current, n, query.cursor() + 1);
+        int end = (int) Math.min(n, (long) start + PointHistoryQuery.MAX_SCANNED);
+
+        List<PointHistory> histories = new ArrayList<>(Math.min(query.limit(), end - start));
+        for (int i = start; i < end; i++) {
+            PointHistory history = rows.apply(current[i]);
+            if (!query.matches(history)) {
+                continue;
+            }
+            if (histories.size() == query.limit()) {
+                // 조건에 맞는 내역이 더 남아있을 때만 다음 커서를 줌
+                return new PointHistoryPage(histories, histories.get(histories.size() - 1).id());
+            }
+            histories.add(history);
+        }
+        return new PointHistoryPage(histories, end < n ? current[end - 1] : null);
+    }
+
+    private static int insertionPoint(long[] array, int length, long id) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (array[mid] < id) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
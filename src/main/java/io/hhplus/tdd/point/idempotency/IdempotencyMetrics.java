@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point.idempotency;
+
+/**
+ * 멱등 키 저장소 상태
+ *
+ * @param size          기억하고 있는 키 수 (처리중 포함)
+ * @param replayCount   이미 끝난 요청의 결과를 그대로 돌려준 횟수
+ * @param waitCount     같은 키로 처리중인 요청이 끝나기를 기다린 횟수
+ * @param evictionCount ttl 전에 최대 키 수 때문에 잊은 키 수
+ */
+public record IdempotencyMetrics(
+        int size,
+        long replayCount,
+        long waitCount,
+        long evictionCount
+) {
+}
@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 충전/사용 멱등 키 설정 (application.yml 의 point.idempotency.*)
+ *
+ * @param enabled      false 면 Idempotency-Key 헤더를 무시하고 매번 처리함
+ * @param ttlMillis    처리 결과를 기억하는 시간 (게이트웨이 재시도 간격보다 넉넉하게)
+ * @param maximumKeys  동시에 기억하는 최대 키 수 (넘으면 오래된 키부터 잊음 > 초당 요청 수 x ttl 보다 크게 잡아야 함)
+ * @param maxKeyLength 키 최대 길이 (키 하나당 메모리 상한을 정하기 위함)
+ */
+@ConfigurationProperties("point.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("600000") long ttlMillis,
+        @DefaultValue("100000") int maximumKeys,
+        @DefaultValue("64") int maxKeyLength
+) {
+
+    public static IdempotencyProperties defaults() {
+        return new IdempotencyProperties(true, 600_000, 100_000, 64);
+    }
+}
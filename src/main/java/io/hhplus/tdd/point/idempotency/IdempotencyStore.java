@@ -0,0 +1,193 @@
+package io.hhplus.tdd.point.idempotency;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 충전/사용 멱등 키 저장소 (PLC_PNT_010 중복 지급 방지)
+ * - 게이트웨이가 같은 요청을 재시도하면 Idempotency-Key 가 같으므로, 처음 처리한 결과를 그대로 돌려주고 테이블은 건드리지 않음
+ * - 같은 키로 동시에 들어온 요청은 두번 처리하지 않고 먼저 들어온 요청의 결과를 기다림
+ * - 실패한 요청은 결과를 남기지 않음 (기다리던 요청은 같은 예외를 받고, 이후 재시도는 다시 처리됨)
+ *
+ * 메모리 상한
+ * - 키는 (유저, 충전/사용, 키 문자열) 로 구분하고 키 길이는 maxKeyLength 로 제한함
+ * - 키 하나당 키 + 결과(UserPoint) + 맵/큐 노드 정도만 들고 있음 (64자 키 기준 약 300바이트)
+ * - ttl 이 모두 같으므로 들어온 순서가 곧 만료 순서 > 큐 앞에서부터 만료된 키만 꺼내면 되고 전체를 훑지 않음
+ * - maximumKeys 를 넘으면 ttl 이 남았어도 가장 오래된 키부터 잊음 (잊은 키는 metrics 의 evictionCount 로 확인)
+ * - 실패한 요청의 키는 큐에서도 바로 뺌 (방금 넣은 키라 뒤에서부터 찾음)
+ * - 큐의 size() 는 전체를 세므로 쓰지 않고 건수를 따로 셈 (queuedCount)
+ */
+@Component
+public class IdempotencyStore {
+
+    private final IdempotencyProperties properties;
+    private final LongSupplier clock;
+
+    private final ConcurrentHashMap<IdempotencyKey, Execution> executions = new ConcurrentHashMap<>();
+    // 만료/초과 정리용 (들어온 순서)
+    private final ConcurrentLinkedDeque<Execution> insertionOrder = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger queuedCount = new AtomicInteger();
+
+    private final LongAdder replayCount = new LongAdder();
+    private final LongAdder waitCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    @Autowired
+    public IdempotencyStore(IdempotencyProperties properties) {
+        this(properties, System::currentTimeMillis);
+    }
+
+    IdempotencyStore(IdempotencyProperties properties, LongSupplier clock) {
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * 키가 없으면 action 을 그대로 실행하고, 키가 있으면 같은 키의 요청이 한번만 처리되도록 실행함
+     * 같은 키로 금액이 다른 요청이 오면 재시도가 아니므로 거절함
+     */
+    public UserPoint execute(long userId, TransactionType type, long amount, String key, Supplier<UserPoint> action) {
+        if (!properties.enabled() || key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > properties.maxKeyLength()) {
+            throw new IllegalArgumentException("Idempotency-Key 는 1~" + properties.maxKeyLength() + "자여야 합니다.");
+        }
+
+        long now = clock.getAsLong();
+        evictExpired(now);
+
+        IdempotencyKey id = new IdempotencyKey(userId, type, key);
+        Execution created = new Execution(id, amount, now + properties.ttlMillis());
+        Execution existing = register(id, created, now);
+        if (existing == null) {
+            insertionOrder.addLast(created);
+            queuedCount.incrementAndGet();
+            evictOverflow();
+            return run(created, action);
+        }
+
+        if (existing.amount != amount) {
+            throw new IllegalArgumentException("같은 Idempotency-Key 로 다른 금액을 요청할 수 없습니다.");
+        }
+        if (existing.result.isDone()) {
+            replayCount.increment();
+        } else {
+            waitCount.increment();
+        }
+        return await(existing);
+    }
+
+    public IdempotencyMetrics metrics() {
+        return new IdempotencyMetrics(executions.size(), replayCount.sum(), waitCount.sum(), evictionCount.sum());
+    }
+
+    // 등록에 성공하면 null, 이미 살아있는 실행이 있으면 그 실행을 반환함 (만료된 실행은 새 실행으로 교체)
+    private Execution register(IdempotencyKey id, Execution created, long now) {
+        while (true) {
+            Execution existing = executions.putIfAbsent(id, created);
+            if (existing == null) {
+                return null;
+            }
+            if (!existing.isExpired(now)) {
+                return existing;
+            }
+            if (executions.replace(id, existing, created)) {
+                return null;
+            }
+        }
+    }
+
+    private UserPoint run(Execution execution, Supplier<UserPoint> action) {
+        try {
+            UserPoint result = action.get();
+            execution.result.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            executions.remove(execution.id, execution);
+            execution.result.completeExceptionally(e);
+            if (insertionOrder.removeLastOccurrence(execution)) {
+                queuedCount.decrementAndGet();
+            }
+            throw e;
+        }
+    }
+
+    private static UserPoint await(Execution execution) {
+        try {
+            return execution.result.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private void evictExpired(long now) {
+        Execution head;
+        while ((head = insertionOrder.peek()) != null && head.isExpired(now)) {
+            if (insertionOrder.removeFirstOccurrence(head)) {
+                queuedCount.decrementAndGet();
+                executions.remove(head.id, head);
+            }
+        }
+    }
+
+    // 처리중인 실행은 기다리는 요청이 있을 수 있으므로 잊지 않고 뒤로 돌림
+    private void evictOverflow() {
+        if (executions.size() <= properties.maximumKeys()) {
+            return;
+        }
+        int attempts = queuedCount.get();
+        while (executions.size() > properties.maximumKeys() && attempts-- > 0) {
+            Execution oldest = insertionOrder.pollFirst();
+            if (oldest == null) {
+                return;
+            }
+            if (!oldest.result.isDone()) {
+                insertionOrder.addLast(oldest);
+                continue;
+            }
+            queuedCount.decrementAndGet();
+            if (executions.remove(oldest.id, oldest)) {
+                evictionCount.increment();
+            }
+        }
+    }
+
+    // 만료/초과 정리를 기다리는 키 수 (테스트용)
+    int queuedCount() {
+        return queuedCount.get();
+    }
+
+    private record IdempotencyKey(long userId, TransactionType type, String key) {
+    }
+
+    private static final class Execution {
+
+        private final IdempotencyKey id;
+        private final long amount;
+        private final long expiresAtMillis;
+        private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+
+        private Execution(IdempotencyKey id, long amount, long expiresAtMillis) {
+            this.id = id;
+            this.amount = amount;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        // 처리중인 실행은 만료시키지 않음
+        private boolean isExpired(long now) {
+            return now >= expiresAtMillis && result.isDone();
+        }
+    }
+}
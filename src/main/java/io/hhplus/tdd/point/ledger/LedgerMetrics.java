@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point.ledger;
+
+/**
+ * 잔액 원장 상태 스냅샷
+ *
+ * @param backlog             테이블에 아직 반영되지 않은 유저 수
+ * @param flushLagMillis      반영 대기중인 변경 중 가장 오래된 것의 대기 시간
+ * @param flushedCount        지금까지 테이블에 반영한 횟수
+ * @param coalescedCount      반영 전에 덮어써져서 테이블 호출을 아낀 횟수
+ * @param failedCount         테이블 반영에 실패해서 다시 대기열로 돌아간 횟수
+ */
+public record LedgerMetrics(
+        long backlog,
+        long flushLagMillis,
+        long flushedCount,
+        long coalescedCount,
+        long failedCount
+) {
+}
@@ -0,0 +1,185 @@
+package io.hhplus.tdd.point.ledger;
+
+import java.util.function.BiConsumer;
+import java.util.function.LongFunction;
+
+/**
+ * long 키 전용 동시성 해시맵 (open addressing + 선형 탐사)
+ * - HashMap&lt;Long, V&gt; 처럼 키를 박싱하지 않고 long[] 에 그대로 저장함
+ * - 전체를 세그먼트로 나눠서 세그먼트 단위로만 락을 잡음 (다른 세그먼트끼리는 경합 없음)
+ * - 삭제는 지원하지 않음 (잔액 원장은 한번 들어온 유저를 지우지 않음)
+ *
+ * 세그먼트 락 안에서는 배열 접근만 하므로 블로킹 호출이 끼어들 일이 없음
+ */
+public class LongKeyMap<V> {
+
+    private static final int SEGMENT_COUNT = 64;
+    private static final int INITIAL_SEGMENT_CAPACITY = 16;
+
+    private final Segment<V>[] segments;
+
+    @SuppressWarnings("unchecked")
+    public LongKeyMap() {
+        segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment<>();
+        }
+    }
+
+    public V get(long key) {
+        long hash = mix(key);
+        return segmentFor(hash).get(key, hash);
+    }
+
+    public V put(long key, V value) {
+        long hash = mix(key);
+        return segmentFor(hash).put(key, hash, value, false);
+    }
+
+    /**
+     * 키가 없을 때만 저장하고, 최종적으로 맵에 들어있는 값을 돌려줌
+     */
+    public V putIfAbsent(long key, V value) {
+        long hash = mix(key);
+        V previous = segmentFor(hash).put(key, hash, value, true);
+        return previous == null ? value : previous;
+    }
+
+    /**
+     * 키가 없으면 loader 로 값을 만들어 저장함
+     * loader 는 세그먼트 락 밖에서 실행되므로, 느린 조회가 다른 키를 막지 않음
+     * (대신 동시에 같은 키를 처음 읽으면 loader 가 두 번 불릴 수 있고, 먼저 저장된 값이 이김)
+     */
+    public V computeIfAbsent(long key, LongFunction<V> loader) {
+        V existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+        return putIfAbsent(key, loader.apply(key));
+    }
+
+    /**
+     * 지금 값이 expected(같은 객체)일 때만 update 로 바꾸고, 바꿨는지 돌려줌
+     * beforeReplace 는 세그먼트 락 안에서 바꾸기 직전에 실행되고, 예외를 던지면 바꾸지 않고 그대로 전파함
+     * (같은 세그먼트의 다른 키도 막으므로 메모리 연산만 넣을 것)
+     */
+    public boolean replace(long key, V expected, V update, Runnable beforeReplace) {
+        long hash = mix(key);
+        return segmentFor(hash).replace(key, hash, expected, update, beforeReplace);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public void forEach(BiConsumer<Long, V> action) {
+        for (Segment<V> segment : segments) {
+            segment.forEach(action);
+        }
+    }
+
+    private Segment<V> segmentFor(long hash) {
+        return segments[(int) (hash >>> 58)]; // 상위 6비트 = 64개 세그먼트
+    }
+
+    // MurmurHash3 fmix64: 연속된 userId 가 한 구간에 몰리지 않도록 비트를 섞음
+    private static long mix(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static final class Segment<V> {
+        private long[] keys = new long[INITIAL_SEGMENT_CAPACITY];
+        private Object[] values = new Object[INITIAL_SEGMENT_CAPACITY];
+        private int size;
+
+        @SuppressWarnings("unchecked")
+        synchronized V get(long key, long hash) {
+            int mask = keys.length - 1;
+            for (int i = (int) hash & mask; values[i] != null; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return (V) values[i];
+                }
+            }
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized V put(long key, long hash, V value, boolean onlyIfAbsent) {
+            int mask = keys.length - 1;
+            int i = (int) hash & mask;
+            for (; values[i] != null; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    V previous = (V) values[i];
+                    if (!onlyIfAbsent) {
+                        values[i] = value;
+                    }
+                    return previous;
+                }
+            }
+            keys[i] = key;
+            values[i] = value;
+            // 적재율 0.5 를 넘으면 두 배로 늘림 (선형 탐사는 빈칸이 충분해야 빠름)
+            if (++size * 2 > keys.length) {
+                resize();
+            }
+            return null;
+        }
+
+        synchronized boolean replace(long key, long hash, V expected, V update, Runnable beforeReplace) {
+            int mask = keys.length - 1;
+            for (int i = (int) hash & mask; values[i] != null; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    if (values[i] != expected) {
+                        return false;
+                    }
+                    beforeReplace.run();
+                    values[i] = update;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized void forEach(BiConsumer<Long, V> action) {
+            for (int i = 0; i < keys.length; i++) {
+                if (values[i] != null) {
+                    action.accept(keys[i], (V) values[i]);
+                }
+            }
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            Object[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new Object[oldValues.length * 2];
+            int mask = keys.length - 1;
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldValues[j] == null) {
+                    continue;
+                }
+                int i = (int) mix(oldKeys[j]) & mask;
+                while (values[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point.ledger;
+
+/**
+ * 낙관적 모드에서 정해진 횟수만큼 다시 시도해도 매번 다른 요청이 먼저 잔액을 바꿔서 반영하지 못했을 때
+ * 요청 자체는 잘못이 없으므로 클라이언트가 다시 보내면 됨 (409)
+ */
+public class OptimisticConflictException extends RuntimeException {
+
+    public OptimisticConflictException(long userId, int attempts) {
+        super("동시에 들어온 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요. (userId=" + userId
+                + ", attempts=" + attempts + ")");
+    }
+}
@@ -0,0 +1,295 @@
+package io.hhplus.tdd.point.ledger;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.cache.UserPointCache;
+import io.hhplus.tdd.point.execution.PointThreadFactories;
+import io.hhplus.tdd.point.storage.UserPointRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+
+/**
+ * 유저 잔액 원장
+ * - write-through(기본): 지금처럼 잔액 저장소(UserPointRepository, 기본은 UserPointTable)에 바로 씀
+ *   > 조회는 UserPointCache 를 거치고, 테이블에 쓴 값은 캐시에도 바로 덮어씀
+ * - write-behind: 메모리 원장이 잔액의 기준이 되고, 테이블에는 백그라운드 스레드가 최신값만 모아서 반영함
+ *   > 요청 스레드는 테이블 지연(최대 300ms)을 기다리지 않음
+ *   > 같은 유저가 반영 주기 안에 여러번 바뀌면 마지막 값 한번만 테이블에 씀
+ *   > 반영 스레드는 flushThreads 개, 저장소가 한 건씩만 쓸 수 있으면(TABLE, concurrentWrites=false) 하나만 씀
+ *
+ * 같은 유저의 읽기-수정-쓰기 순서는 호출하는 쪽(PointService 의 유저 락)에서 보장한다고 가정함
+ * 락 없이 쓰는 경우(낙관적 모드)는 write-behind 원장의 버전(VersionedPoint)으로 compareAndUpdate 함
+ */
+@Component
+public class PointBalanceLedger {
+
+    private static final Logger log = LoggerFactory.getLogger(PointBalanceLedger.class);
+    private static final int MAX_DRAIN_ROUNDS = 3;
+
+    private final UserPointRepository userPointTable;
+    private final PointLedgerProperties properties;
+    private final UserPointCache userPointCache;
+
+    private final LongKeyMap<VersionedPoint> balances = new LongKeyMap<>();
+    // userId -> 테이블에 반영되지 않은 첫 변경 시각 (flush lag 계산용)
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+
+    private final LongAdder flushedCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService flushExecutor;
+
+    public PointBalanceLedger(UserPointRepository userPointTable, PointLedgerProperties properties,
+                              UserPointCache userPointCache, PointThreadFactories threadFactories) {
+        this.userPointTable = userPointTable;
+        this.properties = properties;
+        this.userPointCache = userPointCache;
+
+        if (properties.writeBehind()) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactories.create("point-ledger-scheduler"));
+            int flushThreads = userPointTable.concurrentWrites() ? properties.flushThreads() : 1;
+            this.flushExecutor = Executors.newFixedThreadPool(flushThreads,
+                    threadFactories.create("point-ledger-flush"));
+            scheduler.scheduleWithFixedDelay(this::flushQuietly,
+                    properties.flushIntervalMillis(), properties.flushIntervalMillis(), TimeUnit.MILLISECONDS);
+        } else {
+            this.scheduler = null;
+            this.flushExecutor = null;
+        }
+    }
+
+    /**
+     * 현재 잔액 조회
+     * write-through 모드에서는 캐시에 없을 때만 테이블을 읽음
+     * write-behind 모드에서 처음 보는 유저는 테이블에서 한번만 읽어서 원장에 올림 (원장이 전체 잔액을 들고 있어서 캐시는 쓰지 않음)
+     */
+    public UserPoint get(long userId) {
+        if (!properties.writeBehind()) {
+            return userPointCache.get(userId, userPointTable::selectById);
+        }
+        return versioned(userId).userPoint();
+    }
+
+    /**
+     * 전체 유저를 훑는 작업(내역 내보내기, 잔액 감사)용 잔액 조회
+     * - write-through: 캐시에 있으면 LRU 순서를 건드리지 않고 그 값을 쓰고, 없으면 테이블을 읽되 캐시에 담지 않음
+     *   > 한번씩만 보는 유저들로 캐시의 자주 쓰는 유저가 밀려나지 않고, 캐시에 있는 유저는 테이블 호출도 없음
+     * - write-behind: 원장에 있으면 그 값, 없으면 테이블을 읽되 원장에 올리지 않음
+     */
+    public UserPoint getUncached(long userId) {
+        if (!properties.writeBehind()) {
+            UserPoint cached = userPointCache.peek(userId);
+            return cached != null ? cached : userPointTable.selectById(userId);
+        }
+        VersionedPoint current = balances.get(userId);
+        return current != null ? current.userPoint() : userPointTable.selectById(userId);
+    }
+
+    /**
+     * 잔액이 있을 수 있는 유저 id 를 훑음 (전체 유저를 대조하는 작업용)
+     * write-behind 에서는 아직 테이블에 반영되지 않은 원장의 유저도 훑으므로 같은 유저가 두 번 나올 수 있음
+     */
+    public void forEachUserId(LongConsumer action) {
+        if (properties.writeBehind()) {
+            balances.forEach((id, point) -> action.accept(id));
+        }
+        userPointTable.forEachUserId(action);
+    }
+
+    /**
+     * 버전이 붙은 현재 잔액 조회 (write-behind 모드에서만 씀)
+     */
+    public VersionedPoint getVersioned(long userId) {
+        requireWriteBehind();
+        return versioned(userId);
+    }
+
+    /**
+     * 잔액 변경
+     * write-behind 모드에서는 원장만 바꾸고 바로 반환함 (테이블 반영은 flush 에서)
+     */
+    public UserPoint update(long userId, long point) {
+        if (!properties.writeBehind()) {
+            UserPoint updated = userPointTable.insertOrUpdate(userId, point);
+            userPointCache.put(updated);
+            return updated;
+        }
+
+        UserPoint updated = new UserPoint(userId, point, System.currentTimeMillis());
+        VersionedPoint current = balances.get(userId);
+        balances.put(userId, current == null ? VersionedPoint.initial(updated) : current.next(updated));
+        markPending(updated);
+        return updated;
+    }
+
+    /**
+     * expected 를 읽은 뒤로 잔액이 바뀌지 않았을 때만 point 로 바꾸고 (버전 + 1) 바뀐 잔액을 돌려줌
+     * 그 사이 다른 요청이 먼저 바꿨으면 아무것도 하지 않고 null 을 돌려줌 > 호출한 쪽에서 다시 읽고 재시도
+     * beforeUpdate 는 바꾸기 직전에 원장 락 안에서 실행되고, 예외를 던지면 바꾸지 않음 (메모리 연산만 넣을 것)
+     */
+    public UserPoint compareAndUpdate(VersionedPoint expected, long point, Runnable beforeUpdate) {
+        requireWriteBehind();
+        long userId = expected.userPoint().id();
+        UserPoint updated = new UserPoint(userId, point, System.currentTimeMillis());
+        if (!balances.replace(userId, expected, expected.next(updated), beforeUpdate)) {
+            return null;
+        }
+        markPending(updated);
+        return updated;
+    }
+
+    /**
+     * 이미 반영한 변경을 되돌림 (낙관적 모드에서 내역 저장이 실패했을 때)
+     * - 정책 검증 없이 성공할 때까지 재시도함 (이미 반영된 금액을 빼는 것이므로 포기하면 잔액이 틀어짐), 충돌할 때마다 onConflict 실행
+     * - 되돌리기 전에 다른 요청이 그 금액을 써버렸으면 회수(clawback)처럼 남은 잔액까지만 빼고 모자란 금액을 경고로 남김
+     */
+    public UserPoint revert(long userId, long delta, Runnable onConflict) {
+        while (true) {
+            VersionedPoint current = getVersioned(userId);
+            long reverted = Math.max(current.point() + delta, 0L);
+            UserPoint updated = compareAndUpdate(current, reverted, () -> {
+            });
+            if (updated != null) {
+                if (reverted != current.point() + delta) {
+                    log.warn("내역 저장 실패로 반영한 금액을 되돌리는 중 이미 사용된 금액이 있어 잔액을 0 으로 맞춥니다: userId={}, shortfall={}",
+                            userId, -(current.point() + delta));
+                }
+                return updated;
+            }
+            onConflict.run();
+        }
+    }
+
+    public boolean writeBehind() {
+        return properties.writeBehind();
+    }
+
+    /**
+     * 대기중인 변경을 최대 flushBatchSize 명분 테이블에 반영하고, 반영한 유저 수를 반환함
+     */
+    public int flush() {
+        return flush(properties.flushBatchSize());
+    }
+
+    public LedgerMetrics metrics() {
+        long now = System.currentTimeMillis();
+        long oldest = pending.values().stream().mapToLong(Long::longValue).min().orElse(now);
+        return new LedgerMetrics(
+                pending.size(),
+                now - oldest,
+                flushedCount.sum(),
+                coalescedCount.sum(),
+                failedCount.sum()
+        );
+    }
+
+    /**
+     * 종료 시 남아있는 변경을 모두 테이블에 반영함
+     * 반영이 계속 실패하는 경우를 대비해서 정해진 횟수만큼만 재시도함
+     */
+    @PreDestroy
+    public void close() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(properties.flushIntervalMillis() * 10, TimeUnit.MILLISECONDS);
+            for (int round = 0; round < MAX_DRAIN_ROUNDS && !pending.isEmpty(); round++) {
+                flush(Integer.MAX_VALUE);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            flushExecutor.shutdown();
+        }
+
+        if (!pending.isEmpty()) {
+            log.error("종료 전에 테이블에 반영하지 못한 잔액이 있습니다: {}명", pending.size());
+        }
+    }
+
+    private VersionedPoint versioned(long userId) {
+        return balances.computeIfAbsent(userId, id -> VersionedPoint.initial(userPointTable.selectById(id)));
+    }
+
+    private void markPending(UserPoint updated) {
+        if (pending.putIfAbsent(updated.id(), updated.updateMillis()) != null) {
+            coalescedCount.increment();
+        }
+    }
+
+    private void requireWriteBehind() {
+        if (!properties.writeBehind()) {
+            throw new IllegalStateException("버전이 붙은 잔액은 write-behind 원장(point.ledger.write-behind=true)에서만 쓸 수 있습니다.");
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("잔액 원장 반영 중 오류: {}", e.getMessage());
+        }
+    }
+
+    private int flush(int limit) {
+        List<Long> batch = new ArrayList<>();
+        for (Long userId : pending.keySet()) {
+            if (batch.size() >= limit) {
+                break;
+            }
+            batch.add(userId);
+        }
+
+        List<Future<?>> futures = new ArrayList<>(batch.size());
+        for (Long userId : batch) {
+            futures.add(flushExecutor.submit(() -> flushOne(userId)));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                log.warn("잔액 원장 반영 작업 실패: {}", e.getCause().getMessage());
+            }
+        }
+        return batch.size();
+    }
+
+    // 대기열에서 먼저 빼고 최신값을 읽음
+    // > 그 사이에 들어온 변경은 다시 대기열에 들어가므로 다음 주기에 최신값으로 한번 더 반영됨
+    private void flushOne(long userId) {
+        Long since = pending.remove(userId);
+        if (since == null) {
+            return;
+        }
+
+        VersionedPoint latest = balances.get(userId);
+        try {
+            userPointTable.insertOrUpdate(userId, latest.point());
+            flushedCount.increment();
+        } catch (RuntimeException e) {
+            failedCount.increment();
+            pending.putIfAbsent(userId, since);
+            log.warn("잔액 테이블 반영 실패: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+}
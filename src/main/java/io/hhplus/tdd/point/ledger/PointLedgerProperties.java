@@ -0,0 +1,29 @@
+package io.hhplus.tdd.point.ledger;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 잔액 원장 설정 (application.yml 의 point.ledger.*)
+ *
+ * @param writeBehind         true 면 잔액은 메모리 원장이 기준이 되고, 테이블에는 백그라운드로 반영함
+ * @param flushIntervalMillis 백그라운드 반영 주기
+ * @param flushBatchSize      한 주기에 테이블에 반영할 최대 유저 수
+ * @param flushThreads        테이블 반영에 쓰는 스레드 수 (저장소 호출이 느려서 여러개로 나눠서 씀, TABLE 저장소는 항상 1)
+ */
+@ConfigurationProperties("point.ledger")
+public record PointLedgerProperties(
+        @DefaultValue("false") boolean writeBehind,
+        @DefaultValue("100") long flushIntervalMillis,
+        @DefaultValue("500") int flushBatchSize,
+        @DefaultValue("4") int flushThreads
+) {
+
+    public static PointLedgerProperties writeThrough() {
+        return new PointLedgerProperties(false, 100, 500, 4);
+    }
+
+    public static PointLedgerProperties writeBehindEvery(long flushIntervalMillis) {
+        return new PointLedgerProperties(true, flushIntervalMillis, 500, 4);
+    }
+}
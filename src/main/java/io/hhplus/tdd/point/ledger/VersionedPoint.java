@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.ledger;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 버전이 붙은 잔액 (write-behind 원장이 유저별로 들고 있는 값)
+ * 잔액이 바뀔 때마다 버전이 1씩 올라감 > 낙관적 모드에서 읽은 뒤에 다른 요청이 잔액을 바꿨는지 확인하는 데 씀
+ *
+ * @param userPoint 잔액
+ * @param version   원장에 처음 올라왔을 때 0
+ */
+public record VersionedPoint(UserPoint userPoint, long version) {
+
+    static VersionedPoint initial(UserPoint userPoint) {
+        return new VersionedPoint(userPoint, 0);
+    }
+
+    VersionedPoint next(UserPoint updated) {
+        return new VersionedPoint(updated, version + 1);
+    }
+
+    public long point() {
+        return userPoint.point();
+    }
+}
@@ -0,0 +1,42 @@
+package io.hhplus.tdd.point.limit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.ZoneId;
+
+/**
+ * 충전 한도 설정 (application.yml 의 point.charge-limit.*)
+ *
+ * @param perCharge  PLC_PNT_008: 1회 최대 충전 금액
+ * @param daily      PLC_PNT_008: 하루 누적 최대 충전 금액
+ * @param monthly    PLC_PNT_008: 한달 누적 최대 충전 금액
+ * @param maxBalance 최대 보유 포인트
+ * @param zone       하루/한달 경계를 자르는 기준 시간대
+ */
+@ConfigurationProperties("point.charge-limit")
+public record ChargeLimitProperties(
+        @DefaultValue("1000000") long perCharge,
+        @DefaultValue("3000000") long daily,
+        @DefaultValue("10000000") long monthly,
+        @DefaultValue("5000000") long maxBalance,
+        @DefaultValue("Asia/Seoul") ZoneId zone
+) {
+
+    public ChargeLimitProperties {
+        if (perCharge <= 0 || daily <= 0 || monthly <= 0 || maxBalance <= 0) {
+            throw new IllegalArgumentException("충전 한도는 0보다 커야 합니다.");
+        }
+    }
+
+    public static ChargeLimitProperties defaults() {
+        return new ChargeLimitProperties(1_000_000, 3_000_000, 10_000_000, 5_000_000, ZoneId.of("Asia/Seoul"));
+    }
+
+    /**
+     * 누적 한도만 바꾼 설정 (부하 테스트에서 Long.MAX_VALUE 로 풀어두는 용도)
+     */
+    public ChargeLimitProperties withCumulativeLimits(long daily, long monthly) {
+        return new ChargeLimitProperties(perCharge, daily, monthly, maxBalance, zone);
+    }
+}
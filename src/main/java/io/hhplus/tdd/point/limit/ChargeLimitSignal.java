@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.limit;
+
+/**
+ * 누적 충전 한도 확인 결과
+ * - NONE : 한도 안 (금액을 예약함)
+ * - DAILY_LIMIT : 하루 누적 한도 초과
+ * - MONTHLY_LIMIT : 한달 누적 한도 초과
+ */
+public enum ChargeLimitSignal {
+    NONE, DAILY_LIMIT, MONTHLY_LIMIT
+}
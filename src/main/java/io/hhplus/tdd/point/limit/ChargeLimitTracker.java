@@ -0,0 +1,78 @@
+package io.hhplus.tdd.point.limit;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.history.PointHistoryListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PLC_PNT_008 누적 충전 한도 (일/월)
+ * - 충전할 때마다 내역을 다시 읽어서 오늘/이번달 충전 합계를 구하면 O(유저 내역) 이므로
+ *   유저별 오늘/이번달 합계(ChargeTotals)를 CHARGE 내역이 저장될 때마다 증분으로 더해두고 확인은 O(1) 로 함
+ * - 기동 시에는 PointHistoryWarmup 이 전체 내역을 흘려보내서 합계를 다시 만듦
+ * - 한도 확인을 통과한 금액은 내역이 저장될 때까지 예약으로 잡아둠
+ *   > 같은 묶음 안의 충전, 락 없이 동시에 들어온 충전(낙관적 모드)이 서로를 못 보고 같이 통과하지 않음
+ *   > 예약했는데 충전이 실패하면 release 로 돌려놔야 함
+ *
+ * 메모리는 한번이라도 충전한 유저 수에 비례함 (유저당 ChargeTotals 하나)
+ */
+@Component
+public class ChargeLimitTracker implements PointHistoryListener {
+
+    private final ChargeLimitProperties properties;
+    private final ConcurrentHashMap<Long, ChargeTotals> totals = new ConcurrentHashMap<>();
+
+    public ChargeLimitTracker(ChargeLimitProperties properties) {
+        this.properties = properties;
+    }
+
+    public ChargeLimitSignal reserve(long userId, long amount, long now) {
+        LocalDate date = localDate(now);
+        return totals.computeIfAbsent(userId, id -> new ChargeTotals())
+                .reserve(date.toEpochDay(), monthIndex(date), amount, properties);
+    }
+
+    public void release(long userId, long amount) {
+        ChargeTotals userTotals = totals.get(userId);
+        if (userTotals != null) {
+            userTotals.release(amount);
+        }
+    }
+
+    public long dailyCharged(long userId, long now) {
+        ChargeTotals userTotals = totals.get(userId);
+        return userTotals == null ? 0 : userTotals.dayAmount(localDate(now).toEpochDay());
+    }
+
+    public long monthlyCharged(long userId, long now) {
+        ChargeTotals userTotals = totals.get(userId);
+        return userTotals == null ? 0 : userTotals.monthAmount(monthIndex(localDate(now)));
+    }
+
+    @Override
+    public void onRecorded(PointHistory history) {
+        if (history.type() != TransactionType.CHARGE) {
+            return;
+        }
+        LocalDate date = localDate(history.updateMillis());
+        totals.computeIfAbsent(history.userId(), id -> new ChargeTotals())
+                .record(date.toEpochDay(), monthIndex(date), history.amount());
+    }
+
+    @Override
+    public void reset() {
+        totals.clear();
+    }
+
+    private LocalDate localDate(long millis) {
+        return Instant.ofEpochMilli(millis).atZone(properties.zone()).toLocalDate();
+    }
+
+    private static long monthIndex(LocalDate date) {
+        return date.getYear() * 12L + date.getMonthValue() - 1;
+    }
+}
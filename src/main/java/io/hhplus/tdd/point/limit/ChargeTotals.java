@@ -0,0 +1,66 @@
+package io.hhplus.tdd.point.limit;
+
+/**
+ * 한 유저의 누적 충전 금액 (오늘 버킷 1개 + 이번달 버킷 1개 + 처리중 예약 금액)
+ * - 버킷은 날짜/월 번호와 합계만 들고 있고, 더 최신 날짜/월의 충전이 들어오면 0부터 다시 셈
+ *   > 유저당 메모리가 항상 일정하고, 확인은 비교 두번으로 끝남
+ * - 지난 날짜의 충전이 늦게 들어오면(기동 시 재구성 순서, 동시 저장) 오늘 버킷에는 안 넣고 같은 달이면 월 버킷에만 더함
+ * - reserved 는 한도 확인을 통과했지만 아직 내역이 저장되지 않은 금액 (내역이 저장되거나 실패하면 빠짐)
+ */
+final class ChargeTotals {
+
+    private long day = Long.MIN_VALUE;
+    private long dayAmount;
+    private long month = Long.MIN_VALUE;
+    private long monthAmount;
+    private long reserved;
+
+    /**
+     * 한도 안이면 금액을 예약하고 NONE, 넘으면 예약하지 않고 넘은 한도를 돌려줌
+     * limit - used 로 비교해서 한도를 Long.MAX_VALUE 로 풀어도 넘치지 않음
+     */
+    synchronized ChargeLimitSignal reserve(long day, long month, long amount, ChargeLimitProperties properties) {
+        if (amount > properties.daily() - (dayAmount(day) + reserved)) {
+            return ChargeLimitSignal.DAILY_LIMIT;
+        }
+        if (amount > properties.monthly() - (monthAmount(month) + reserved)) {
+            return ChargeLimitSignal.MONTHLY_LIMIT;
+        }
+        reserved += amount;
+        return ChargeLimitSignal.NONE;
+    }
+
+    /**
+     * 저장된 충전 내역을 버킷에 더하고 예약에서 뺌
+     * 기동 시 재구성할 때는 예약이 없으므로 0 아래로 내려가지 않게 막음
+     */
+    synchronized void record(long day, long month, long amount) {
+        if (month > this.month) {
+            this.month = month;
+            monthAmount = 0;
+        }
+        if (month == this.month) {
+            monthAmount += amount;
+        }
+        if (day > this.day) {
+            this.day = day;
+            dayAmount = 0;
+        }
+        if (day == this.day) {
+            dayAmount += amount;
+        }
+        reserved = Math.max(0, reserved - amount);
+    }
+
+    synchronized void release(long amount) {
+        reserved = Math.max(0, reserved - amount);
+    }
+
+    synchronized long dayAmount(long day) {
+        return day == this.day ? dayAmount : 0;
+    }
+
+    synchronized long monthAmount(long month) {
+        return month == this.month ? monthAmount : 0;
+    }
+}
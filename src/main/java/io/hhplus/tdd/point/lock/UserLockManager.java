@@ -0,0 +1,61 @@
+package io.hhplus.tdd.point.lock;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 유저 단위 락 관리자
+ * - 같은 유저에 대한 충전/사용은 하나씩 순서대로(FIFO) 처리
+ * - 다른 유저끼리는 서로 기다리지 않고 병렬로 처리
+ * - 아무도 쓰지 않는 락은 바로 맵에서 제거해서 유저 수만큼 락이 쌓이지 않도록 함
+ *
+ * synchronized 대신 ReentrantLock 을 쓴 이유: 공정(fair) 모드로 먼저 온 요청이 먼저 처리되게 하기 위함
+ */
+@Component
+public class UserLockManager {
+
+    private final ConcurrentHashMap<Long, LockEntry> locks = new ConcurrentHashMap<>();
+
+    /**
+     * 해당 유저의 락을 잡은 상태에서 action 을 실행함
+     */
+    public <T> T executeWithLock(long userId, Supplier<T> action) {
+        LockEntry entry = acquireEntry(userId);
+        entry.lock.lock();
+        try {
+            return action.get();
+        } finally {
+            entry.lock.unlock();
+            releaseEntry(userId);
+        }
+    }
+
+    /**
+     * 현재 맵에 남아있는 락 개수 (대기중이거나 실행중인 유저 수)
+     */
+    public int activeLockCount() {
+        return locks.size();
+    }
+
+    // compute 는 키 단위로 원자적으로 실행되므로 holders 증감이 꼬이지 않음
+    private LockEntry acquireEntry(long userId) {
+        return locks.compute(userId, (id, entry) -> {
+            LockEntry target = entry == null ? new LockEntry() : entry;
+            target.holders++;
+            return target;
+        });
+    }
+
+    // 마지막 사용자가 빠져나가면 null 을 반환해서 엔트리를 제거함
+    private void releaseEntry(long userId) {
+        locks.computeIfPresent(userId, (id, entry) -> --entry.holders == 0 ? null : entry);
+    }
+
+    private static final class LockEntry {
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private int holders; // compute 안에서만 변경됨
+    }
+}
@@ -0,0 +1,202 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.point.policy.PointPolicy;
+import io.hhplus.tdd.point.policy.PointPolicyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 포인트 서비스 지표 (/actuator/prometheus 로 노출)
+ * - point.operation{operation, outcome}: 요청 단위 처리 시간 (success / rejected(정책 위반) / error)
+ * - point.requests.in_flight{operation}: 처리중인 요청 수
+ * - point.table{table, call}: 테이블 호출 시간
+ * - point.lock.wait: 유저 락을 얻기까지 기다린 시간
+ * - point.fraud.check: PLC_PNT_001 검사 시간
+ * - point.policy.rejected{policy}: 정책별 거절 횟수
+ * - point.optimistic.conflicts: 낙관적 모드에서 버전 충돌로 다시 시도한 횟수
+ * - point.expired.amount: PLC_PNT_006 으로 소멸된 포인트 합계
+ * - point.audit.checked / point.audit.drift.detected: 잔액/내역 감사로 대조한 유저 수, 새로 어긋난 유저 수
+ * - point.audit.drifted_users: 지금 어긋나 있는 유저 수
+ * - point.audit.round.cpu: 감사 한 주기에 쓴 CPU 시간
+ *
+ * 원장 등 구성 요소의 상태 지표는 PointStateMeters 가 따로 붙임
+ *
+ * 요청마다 지표를 이름/태그로 찾지 않도록 생성할 때 전부 만들어두고 enum 으로 바로 꺼내 씀
+ * (핫패스에서 드는 비용은 nanoTime 두번 + 기록 한번)
+ */
+@Component
+public class PointMetrics {
+
+    private final Map<PointOperation, OperationMeters> operations = new EnumMap<>(PointOperation.class);
+    private final Map<TableCall, Timer> tableTimers = new EnumMap<>(TableCall.class);
+    private final Map<PointPolicy, Counter> rejections = new EnumMap<>(PointPolicy.class);
+    private final Timer lockWaitTimer;
+    private final Timer fraudCheckTimer;
+    private final Counter optimisticConflicts;
+    private final Counter expiredAmount;
+    private final Counter auditChecked;
+    private final Counter driftDetected;
+    private final AtomicInteger driftedUsers = new AtomicInteger();
+    private final Timer auditRoundCpu;
+
+    public PointMetrics(MeterRegistry registry) {
+        for (PointOperation operation : PointOperation.values()) {
+            operations.put(operation, new OperationMeters(registry, operation));
+        }
+        for (TableCall tableCall : TableCall.values()) {
+            tableTimers.put(tableCall, Timer.builder("point.table")
+                    .description("테이블 호출 시간")
+                    .tag("table", tableCall.table())
+                    .tag("call", tableCall.call())
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+        for (PointPolicy policy : PointPolicy.values()) {
+            rejections.put(policy, Counter.builder("point.policy.rejected")
+                    .description("정책 위반으로 거절한 요청 수")
+                    .tag("policy", policy.name())
+                    .register(registry));
+        }
+        this.lockWaitTimer = Timer.builder("point.lock.wait")
+                .description("유저 락 대기 시간")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.fraudCheckTimer = Timer.builder("point.fraud.check")
+                .description("PLC_PNT_001 부정 충전 검사 시간")
+                .register(registry);
+        this.optimisticConflicts = Counter.builder("point.optimistic.conflicts")
+                .description("낙관적 모드에서 버전 충돌로 다시 시도한 횟수")
+                .register(registry);
+        this.expiredAmount = Counter.builder("point.expired.amount")
+                .description("유효기간이 지나서 소멸된 포인트 합계")
+                .register(registry);
+        this.auditChecked = Counter.builder("point.audit.checked")
+                .description("잔액/내역 감사로 대조한 유저 수")
+                .register(registry);
+        this.driftDetected = Counter.builder("point.audit.drift.detected")
+                .description("잔액과 내역 합계가 어긋난 것으로 새로 확정한 유저 수")
+                .register(registry);
+        Gauge.builder("point.audit.drifted_users", driftedUsers, AtomicInteger::get)
+                .description("지금 잔액과 내역 합계가 어긋나 있는 유저 수")
+                .register(registry);
+        this.auditRoundCpu = Timer.builder("point.audit.round.cpu")
+                .description("감사 한 주기에 쓴 CPU 시간")
+                .register(registry);
+    }
+
+    /**
+     * 아무 곳에도 기록하지 않는 지표 (레지스트리가 없는 단위 테스트/벤치마크용)
+     */
+    public static PointMetrics noop() {
+        return new PointMetrics(new CompositeMeterRegistry());
+    }
+
+    /**
+     * 요청 하나를 처리하는 동안의 시간과 처리중 요청 수를 기록하고, 정책 위반이면 거절 횟수도 올림
+     */
+    public <T> T record(PointOperation operation, Supplier<T> action) {
+        OperationMeters meters = operations.get(operation);
+        meters.inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        Timer outcome = meters.error;
+        try {
+            T result = action.get();
+            outcome = meters.success;
+            return result;
+        } catch (PointPolicyException e) {
+            outcome = meters.rejected;
+            rejected(e.policy());
+            throw e;
+        } catch (IllegalArgumentException e) {
+            outcome = meters.rejected;
+            throw e;
+        } finally {
+            outcome.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            meters.inFlight.decrementAndGet();
+        }
+    }
+
+    public <T> T recordTable(TableCall tableCall, Supplier<T> call) {
+        long start = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            tableTimers.get(tableCall).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public <T> T recordFraudCheck(Supplier<T> check) {
+        long start = System.nanoTime();
+        try {
+            return check.get();
+        } finally {
+            fraudCheckTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void recordLockWait(long waitNanos) {
+        lockWaitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void optimisticConflict() {
+        optimisticConflicts.increment();
+    }
+
+    public void expired(long amount) {
+        expiredAmount.increment(amount);
+    }
+
+    /**
+     * 감사 한 주기의 결과를 기록함
+     */
+    public void audited(int checkedUsers, int detectedUsers, int currentDriftedUsers, long cpuNanos) {
+        auditChecked.increment(checkedUsers);
+        driftDetected.increment(detectedUsers);
+        driftedUsers.set(currentDriftedUsers);
+        auditRoundCpu.record(cpuNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 예외로 끝나지 않는 거절(일괄 처리 결과에 담기는 거절 등)을 기록할 때 직접 호출함
+     */
+    public void rejected(PointPolicy policy) {
+        rejections.get(policy).increment();
+    }
+
+    private static final class OperationMeters {
+
+        private final Timer success;
+        private final Timer rejected;
+        private final Timer error;
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private OperationMeters(MeterRegistry registry, PointOperation operation) {
+            this.success = timer(registry, operation, "success");
+            this.rejected = timer(registry, operation, "rejected");
+            this.error = timer(registry, operation, "error");
+            Gauge.builder("point.requests.in_flight", inFlight, AtomicInteger::get)
+                    .description("처리중인 요청 수")
+                    .tag("operation", operation.tagValue())
+                    .register(registry);
+        }
+
+        private static Timer timer(MeterRegistry registry, PointOperation operation, String outcome) {
+            return Timer.builder("point.operation")
+                    .description("요청 처리 시간")
+                    .tag("operation", operation.tagValue())
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+    }
+}
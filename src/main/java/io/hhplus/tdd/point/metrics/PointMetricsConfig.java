@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.point.storage.PointHistoryRepository;
+import io.hhplus.tdd.point.storage.UserPointRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+public class PointMetricsConfig {
+
+    /**
+     * 저장소를 주입받는 곳(원장, 내역 인덱스)에는 시간을 재는 감싸개를 대신 넣어줌
+     * 실제 저장소 빈(PointStorageConfig)은 이름으로 골라서 감싸개 안쪽에만 넣음
+     */
+    @Bean
+    @Primary
+    public UserPointRepository timedUserPointRepository(
+            @Qualifier("userPointStorage") UserPointRepository userPointStorage, PointMetrics pointMetrics) {
+        return new TimedUserPointRepository(userPointStorage, pointMetrics);
+    }
+
+    @Bean
+    @Primary
+    public PointHistoryRepository timedPointHistoryRepository(
+            @Qualifier("pointHistoryStorage") PointHistoryRepository pointHistoryStorage, PointMetrics pointMetrics) {
+        return new TimedPointHistoryRepository(pointHistoryStorage, pointMetrics);
+    }
+}
@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.metrics;
+
+/**
+ * 요청 단위로 시간을 재는 서비스 동작 (point.operation 지표의 operation 태그)
+ */
+public enum PointOperation {
+
+    GET("get"),
+    HISTORY("history"),
+    CHARGE("charge"),
+    USE("use"),
+    BATCH_CHARGE("batch_charge"),
+    EXPIRE("expire"),
+    REFUND("refund"),
+    CLAWBACK("clawback"),
+    BATCH_CLAWBACK("batch_clawback");
+
+    private final String tagValue;
+
+    PointOperation(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    public String tagValue() {
+        return tagValue;
+    }
+}
@@ -0,0 +1,134 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.point.cache.UserPointCache;
+import io.hhplus.tdd.point.combine.UserOperationQueues;
+import io.hhplus.tdd.point.idempotency.IdempotencyStore;
+import io.hhplus.tdd.point.ledger.PointBalanceLedger;
+import io.hhplus.tdd.point.wal.PointWriteAheadLog;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 구성 요소 상태 지표 (/actuator/prometheus 로 노출)
+ * - point.ledger.backlog: 잔액 원장에서 테이블에 아직 반영되지 않은 유저 수 (write-behind)
+ * - point.ledger.flush_lag: 반영 대기중인 변경 중 가장 오래된 것의 대기 시간
+ * - point.ledger.flushed / point.ledger.coalesced / point.ledger.flush_failures: 테이블 반영, 덮어써서 아낀 반영, 실패한 반영 횟수
+ * - point.cache.requests{result=hit|miss}: 잔액 캐시에서 바로 응답한 횟수 / 테이블을 조회한 횟수
+ * - point.cache.evictions / point.cache.size: 크기 제한 때문에 버린 횟수, 지금 캐시에 담긴 유저 수
+ * - point.idempotency.keys: 기억하고 있는 멱등 키 수 (처리중 포함)
+ * - point.idempotency.replays / point.idempotency.waits / point.idempotency.evictions: 결과를 그대로 돌려준 횟수, 처리중인 같은 키를 기다린 횟수, ttl 전에 잊은 키 수
+ * - point.wal.appends / point.wal.syncs: 로그 기록 건수, 디스크 반영(force) 횟수
+ * - point.wal.unsynced / point.wal.unsnapshotted: 기록했지만 디스크 반영이 확인되지 않은 건수, 마지막 스냅샷 뒤로 쌓인 건수
+ * - point.combine.pending_users: 처리를 기다리는 요청이 남아있는 유저 수
+ * - point.combine.groups / point.combine.operations: 처리한 묶음 수, 묶음으로 처리한 요청 수 (나누면 평균 묶음 크기)
+ *
+ * 요청마다 기록하지 않고, 수집할 때 각 구성 요소의 metrics() 스냅샷을 읽음
+ * PointMetrics 는 원장/저장소 쪽에서 주입받아 쓰므로 거꾸로 원장을 주입받으면 순환 참조가 됨
+ * > 상태 지표는 MeterBinder 로 따로 두고, Spring Boot 가 기동할 때 레지스트리에 붙임
+ * 게이지는 대상을 약하게 참조해서 대상이 수거되면 NaN 이 되므로 강하게 참조함 (대상은 모두 앱과 수명이 같음)
+ */
+@Component
+public class PointStateMeters implements MeterBinder {
+
+    private final PointBalanceLedger pointBalanceLedger;
+    private final UserPointCache userPointCache;
+    private final IdempotencyStore idempotencyStore;
+    private final PointWriteAheadLog pointWriteAheadLog;
+    private final UserOperationQueues userOperationQueues;
+
+    public PointStateMeters(PointBalanceLedger pointBalanceLedger, UserPointCache userPointCache,
+                            IdempotencyStore idempotencyStore, PointWriteAheadLog pointWriteAheadLog,
+                            UserOperationQueues userOperationQueues) {
+        this.pointBalanceLedger = pointBalanceLedger;
+        this.userPointCache = userPointCache;
+        this.idempotencyStore = idempotencyStore;
+        this.pointWriteAheadLog = pointWriteAheadLog;
+        this.userOperationQueues = userOperationQueues;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("point.ledger.backlog", pointBalanceLedger, ledger -> ledger.metrics().backlog())
+                .description("테이블에 아직 반영되지 않은 유저 수")
+                .strongReference(true)
+                .register(registry);
+        TimeGauge.builder("point.ledger.flush_lag", pointBalanceLedger, TimeUnit.MILLISECONDS,
+                        ledger -> ledger.metrics().flushLagMillis())
+                .description("반영 대기중인 변경 중 가장 오래된 것의 대기 시간")
+                .strongReference(true)
+                .register(registry);
+        FunctionCounter.builder("point.ledger.flushed", pointBalanceLedger, ledger -> ledger.metrics().flushedCount())
+                .description("테이블에 반영한 횟수")
+                .register(registry);
+        FunctionCounter.builder("point.ledger.coalesced", pointBalanceLedger, ledger -> ledger.metrics().coalescedCount())
+                .description("반영 전에 덮어써져서 테이블 호출을 아낀 횟수")
+                .register(registry);
+        FunctionCounter.builder("point.ledger.flush_failures", pointBalanceLedger, ledger -> ledger.metrics().failedCount())
+                .description("테이블 반영에 실패해서 다시 대기열로 돌아간 횟수")
+                .register(registry);
+
+        FunctionCounter.builder("point.cache.requests", userPointCache, cache -> cache.metrics().hitCount())
+                .description("잔액 캐시 조회 수")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("point.cache.requests", userPointCache, cache -> cache.metrics().missCount())
+                .description("잔액 캐시 조회 수")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("point.cache.evictions", userPointCache, cache -> cache.metrics().evictionCount())
+                .description("크기 제한 때문에 캐시에서 버린 횟수")
+                .register(registry);
+        Gauge.builder("point.cache.size", userPointCache, cache -> cache.metrics().size())
+                .description("캐시에 담긴 유저 수")
+                .strongReference(true)
+                .register(registry);
+
+        Gauge.builder("point.idempotency.keys", idempotencyStore, store -> store.metrics().size())
+                .description("기억하고 있는 멱등 키 수 (처리중 포함)")
+                .strongReference(true)
+                .register(registry);
+        FunctionCounter.builder("point.idempotency.replays", idempotencyStore, store -> store.metrics().replayCount())
+                .description("이미 끝난 요청의 결과를 그대로 돌려준 횟수")
+                .register(registry);
+        FunctionCounter.builder("point.idempotency.waits", idempotencyStore, store -> store.metrics().waitCount())
+                .description("같은 키로 처리중인 요청이 끝나기를 기다린 횟수")
+                .register(registry);
+        FunctionCounter.builder("point.idempotency.evictions", idempotencyStore, store -> store.metrics().evictionCount())
+                .description("ttl 전에 최대 키 수 때문에 잊은 키 수")
+                .register(registry);
+
+        FunctionCounter.builder("point.wal.appends", pointWriteAheadLog, wal -> wal.metrics().appendCount())
+                .description("로그에 기록한 건수")
+                .register(registry);
+        FunctionCounter.builder("point.wal.syncs", pointWriteAheadLog, wal -> wal.metrics().syncCount())
+                .description("로그를 디스크에 반영(force)한 횟수")
+                .register(registry);
+        Gauge.builder("point.wal.unsynced", pointWriteAheadLog,
+                        wal -> wal.metrics().lastSequence() - wal.metrics().durableSequence())
+                .description("기록했지만 디스크 반영이 확인되지 않은 건수")
+                .strongReference(true)
+                .register(registry);
+        Gauge.builder("point.wal.unsnapshotted", pointWriteAheadLog,
+                        wal -> wal.metrics().lastSequence() - wal.metrics().snapshotSequence())
+                .description("마지막 잔액 스냅샷 뒤로 쌓인 건수 (재시작할 때 다시 읽을 건수)")
+                .strongReference(true)
+                .register(registry);
+
+        Gauge.builder("point.combine.pending_users", userOperationQueues, queues -> queues.metrics().pendingUsers())
+                .description("처리를 기다리는 요청이 남아있는 유저 수")
+                .strongReference(true)
+                .register(registry);
+        FunctionCounter.builder("point.combine.groups", userOperationQueues, queues -> queues.metrics().groupCount())
+                .description("처리한 요청 묶음 수")
+                .register(registry);
+        FunctionCounter.builder("point.combine.operations", userOperationQueues, queues -> queues.metrics().operationCount())
+                .description("묶음으로 처리한 요청 수")
+                .register(registry);
+    }
+}
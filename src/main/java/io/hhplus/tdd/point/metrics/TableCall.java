@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point.metrics;
+
+/**
+ * 시간을 재는 테이블 호출 (point.table 지표의 table/call 태그)
+ */
+public enum TableCall {
+
+    USER_POINT_SELECT("user_point", "select"),
+    USER_POINT_UPSERT("user_point", "upsert"),
+    POINT_HISTORY_INSERT("point_history", "insert"),
+    POINT_HISTORY_SELECT("point_history", "select");
+
+    private final String table;
+    private final String call;
+
+    TableCall(String table, String call) {
+        this.table = table;
+        this.call = call;
+    }
+
+    public String table() {
+        return table;
+    }
+
+    public String call() {
+        return call;
+    }
+}
@@ -0,0 +1,45 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.storage.PointHistoryRepository;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 내역 저장소 호출 시간을 재는 감싸개 (TimedUserPointRepository 와 같은 방식)
+ * 기동 시 한번만 부르는 forEachStored 는 재지 않음
+ */
+public class TimedPointHistoryRepository implements PointHistoryRepository {
+
+    private final PointHistoryRepository delegate;
+    private final PointMetrics pointMetrics;
+
+    public TimedPointHistoryRepository(PointHistoryRepository delegate, PointMetrics pointMetrics) {
+        this.delegate = delegate;
+        this.pointMetrics = pointMetrics;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        return pointMetrics.recordTable(TableCall.POINT_HISTORY_INSERT,
+                () -> delegate.insert(userId, amount, type, updateMillis));
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis, long reversedId) {
+        return pointMetrics.recordTable(TableCall.POINT_HISTORY_INSERT,
+                () -> delegate.insert(userId, amount, type, updateMillis, reversedId));
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return pointMetrics.recordTable(TableCall.POINT_HISTORY_SELECT, () -> delegate.selectAllByUserId(userId));
+    }
+
+    @Override
+    public void forEachStored(Consumer<PointHistory> action) {
+        delegate.forEachStored(action);
+    }
+}
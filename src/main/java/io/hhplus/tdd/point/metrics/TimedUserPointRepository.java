@@ -0,0 +1,41 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.storage.UserPointRepository;
+
+import java.util.function.LongConsumer;
+
+/**
+ * 잔액 저장소 호출 시간을 재는 감싸개
+ * 어떤 저장소(테이블/메모리/파일)든 같은 지표 이름(point.table.latency)으로 잼
+ */
+public class TimedUserPointRepository implements UserPointRepository {
+
+    private final UserPointRepository delegate;
+    private final PointMetrics pointMetrics;
+
+    public TimedUserPointRepository(UserPointRepository delegate, PointMetrics pointMetrics) {
+        this.delegate = delegate;
+        this.pointMetrics = pointMetrics;
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        return pointMetrics.recordTable(TableCall.USER_POINT_SELECT, () -> delegate.selectById(id));
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        return pointMetrics.recordTable(TableCall.USER_POINT_UPSERT, () -> delegate.insertOrUpdate(id, amount));
+    }
+
+    @Override
+    public void forEachUserId(LongConsumer action) {
+        delegate.forEachUserId(action);
+    }
+
+    @Override
+    public boolean concurrentWrites() {
+        return delegate.concurrentWrites();
+    }
+}
@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point.policy;
+
+/**
+ * 포인트 정책 코드 (POLICY_charge_policydefinition 기준 + 서비스에서 추가한 제한)
+ * 정책 위반으로 요청을 거절할 때 응답 코드와 거절 횟수 지표의 policy 태그로 씀
+ */
+public enum PointPolicy {
+
+    PLC_PNT_001("부정 충전 차단"),
+    PLC_PNT_002("부정 충전 회수"),
+    PLC_PNT_003("고액 사용 본인 인증"),
+    PLC_PNT_004("1회 사용 한도"),
+    PLC_PNT_008("충전 한도 (1회/일/월)"),
+    PLC_PNT_009("사용 취소 환불"),
+    PLC_PNT_010("일괄 지급 중복 차단"),
+    MAX_BALANCE("최대 보유 포인트"),
+    INSUFFICIENT_BALANCE("잔액 부족");
+
+    private final String description;
+
+    PointPolicy(String description) {
+        this.description = description;
+    }
+
+    public String description() {
+        return description;
+    }
+}
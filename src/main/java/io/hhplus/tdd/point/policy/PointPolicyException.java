@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point.policy;
+
+/**
+ * 정책 위반으로 요청을 거절할 때 던지는 예외
+ * 기존 호출부가 IllegalArgumentException 으로 잡고 있어서 그대로 상속하고, 어떤 정책인지만 같이 들고 다님
+ */
+public class PointPolicyException extends IllegalArgumentException {
+
+    private final PointPolicy policy;
+
+    public PointPolicyException(PointPolicy policy, String message) {
+        super(message);
+        this.policy = policy;
+    }
+
+    public PointPolicy policy() {
+        return policy;
+    }
+}
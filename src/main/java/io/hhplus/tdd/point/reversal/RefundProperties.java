@@ -0,0 +1,51 @@
+package io.hhplus.tdd.point.reversal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * PLC_PNT_009 사용 취소 환불 구간 (application.yml 의 point.refund.*)
+ * - 사용 후 fullRefundWithinMillis 이내: 사용 금액 전액 환불
+ * - fullRefundWithinMillis 초과 ~ partialRefundWithinMillis 이내: 사용 금액의 partialRefundPercent% 환불
+ * - partialRefundWithinMillis 초과: 사용 금액의 lateRefundPercent% 환불
+ * (비율 환불은 원 단위 버림)
+ *
+ * @param fullRefundWithinMillis    전액 환불 기간 (기본 30일)
+ * @param partialRefundWithinMillis 부분 환불 기간, 지나면 lateRefundPercent 를 적용 (기본 90일)
+ * @param partialRefundPercent      30일 초과 환불 비율 (기본 50)
+ * @param lateRefundPercent         90일 초과 환불 비율 (기본 10)
+ */
+@ConfigurationProperties("point.refund")
+public record RefundProperties(
+        @DefaultValue("2592000000") long fullRefundWithinMillis,
+        @DefaultValue("7776000000") long partialRefundWithinMillis,
+        @DefaultValue("50") int partialRefundPercent,
+        @DefaultValue("10") int lateRefundPercent
+) {
+
+    public RefundProperties {
+        if (fullRefundWithinMillis < 0 || partialRefundWithinMillis < fullRefundWithinMillis) {
+            throw new IllegalArgumentException("부분 환불 기간은 전액 환불 기간보다 짧을 수 없습니다.");
+        }
+        if (partialRefundPercent < 0 || partialRefundPercent > 100 || lateRefundPercent < 0 || lateRefundPercent > 100) {
+            throw new IllegalArgumentException("환불 비율은 0~100 사이여야 합니다.");
+        }
+    }
+
+    public static RefundProperties defaults() {
+        return new RefundProperties(2_592_000_000L, 7_776_000_000L, 50, 10);
+    }
+
+    /**
+     * 사용 후 elapsedMillis 가 지났을 때 환불할 금액
+     */
+    public long refundableAmount(long usedAmount, long elapsedMillis) {
+        if (elapsedMillis <= fullRefundWithinMillis) {
+            return usedAmount;
+        }
+        if (elapsedMillis <= partialRefundWithinMillis) {
+            return usedAmount * partialRefundPercent / 100;
+        }
+        return usedAmount * lateRefundPercent / 100;
+    }
+}
@@ -0,0 +1,55 @@
+package io.hhplus.tdd.point.reversal;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.history.PointHistoryListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이미 환불/회수한 원래 내역 id 목록
+ * - 같은 내역을 두번 되돌리지 않도록, 처리 전에 먼저 선점(markReversed)하고 실패하면 돌려놓음(release)
+ *   > 다른 유저/배치가 같은 내역을 동시에 되돌려도 한 건만 통과함
+ * - 환불/회수는 사고 대응 등으로 드물게 일어나서 id 집합만 들고 있음
+ *
+ * 환불/회수 내역은 원래 내역 id(PointHistory.reversedId)를 같이 저장하므로,
+ * 기동 시 PointHistoryWarmup 이 흘려보내는 내역으로 목록을 다시 만듦
+ * > 파일 저장소는 행에, 로그(WAL)로 다시 채우는 경우는 로그 기록에 원래 내역을 남김
+ */
+@Component
+public class ReversalRegistry implements PointHistoryListener {
+
+    private final Set<Long> reversedHistoryIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @return 처음 선점했으면 true, 이미 되돌린(되돌리는 중인) 내역이면 false
+     */
+    public boolean markReversed(long historyId) {
+        return reversedHistoryIds.add(historyId);
+    }
+
+    public void release(long historyId) {
+        reversedHistoryIds.remove(historyId);
+    }
+
+    public boolean isReversed(long historyId) {
+        return reversedHistoryIds.contains(historyId);
+    }
+
+    public int size() {
+        return reversedHistoryIds.size();
+    }
+
+    @Override
+    public void onRecorded(PointHistory history) {
+        if (history.reversedId() != 0) {
+            reversedHistoryIds.add(history.reversedId());
+        }
+    }
+
+    @Override
+    public void reset() {
+        reversedHistoryIds.clear();
+    }
+}
@@ -0,0 +1,47 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.history.PointHistoryQuery;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * PointService 의 비동기 버전 (조회/충전/사용/내역)
+ * - 호출한 스레드(톰캣 요청 스레드)는 작업을 넘기고 바로 돌아가고, 테이블 호출은 pointAsyncExecutor 의 가상 스레드가 기다림
+ * - 검증, 정책, 동시성 제어는 PointService 를 그대로 호출하므로 동기 API 와 결과가 같음
+ *   > 실패는 예외를 던지지 않고 실패한 CompletableFuture 로 돌려줌 (원래 예외가 그대로 담김)
+ */
+@Service
+public class PointAsyncService {
+
+    private final PointService pointService;
+    private final ExecutorService pointAsyncExecutor;
+
+    public PointAsyncService(PointService pointService,
+                             @Qualifier("pointAsyncExecutor") ExecutorService pointAsyncExecutor) {
+        this.pointService = pointService;
+        this.pointAsyncExecutor = pointAsyncExecutor;
+    }
+
+    public CompletableFuture<UserPoint> getPointById(Long userId) {
+        return CompletableFuture.supplyAsync(() -> pointService.getPointById(userId), pointAsyncExecutor);
+    }
+
+    public CompletableFuture<PointHistoryPage> getPointHistoryPage(Long userId, PointHistoryQuery query) {
+        return CompletableFuture.supplyAsync(() -> pointService.getPointHistoryPage(userId, query), pointAsyncExecutor);
+    }
+
+    public CompletableFuture<UserPoint> chargePoint(Long userId, Long amount, String idempotencyKey) {
+        return CompletableFuture.supplyAsync(() -> pointService.chargePoint(userId, amount, idempotencyKey),
+                pointAsyncExecutor);
+    }
+
+    public CompletableFuture<UserPoint> usePoint(Long userId, Long amount, String idempotencyKey) {
+        return CompletableFuture.supplyAsync(() -> pointService.usePoint(userId, amount, idempotencyKey),
+                pointAsyncExecutor);
+    }
+}
@@ -0,0 +1,285 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.audit.AuditProperties;
+import io.hhplus.tdd.point.audit.AuditReport;
+import io.hhplus.tdd.point.audit.AuditRoundResult;
+import io.hhplus.tdd.point.audit.BalanceDrift;
+import io.hhplus.tdd.point.audit.HistorySumBook;
+import io.hhplus.tdd.point.execution.PointThreadFactories;
+import io.hhplus.tdd.point.ledger.PointBalanceLedger;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 잔액/내역 정합성 감사
+ * - 충전/사용은 잔액 변경과 내역 저장이 따로라서, 그 사이에 죽거나 예외가 나면 둘이 어긋난 채로 남을 수 있음
+ * - 내역 합계는 HistorySumBook 이 증분으로 들고 있으므로, 감사는 유저마다 합계 하나와 잔액 하나만 비교함
+ * - 한 주기에 다음 순서로 최대 maxUsersPerRound 명을 대조함
+ *   1. 지난 주기에 한번 어긋났던 유저 (다시 확인)
+ *   2. 지난 주기 뒤로 내역이 쌓인 유저
+ *   3. 남은 몫으로 전체 유저를 돌아가며 (내역 없이 잔액만 바뀐 경우는 2번에 안 걸리므로)
+ *
+ * 유저 락을 잡지 않고 읽기 때문에 처리중인 요청이 있으면 잠깐 어긋나 보일 수 있음
+ * > 다음 주기에 같은 차이로 또 어긋나야 확정함 (진짜 어긋남은 이후 요청이 와도 차이가 그대로 남음)
+ * 내역이 한 건도 없는 유저는 합계가 없어서 감사 대상에 들어가지 않음
+ * 잔액은 캐시를 채우지 않는 PointBalanceLedger.getUncached 로 읽음 > 전체 유저를 돌아가며 봐도 잔액 캐시가 밀려나지 않음
+ *
+ * CPU 예산: 한 주기에 쓴 CPU 시간이 주기 x 예산을 넘으면 그 주기를 끝내고,
+ * 다음 주기까지는 쓴 CPU 시간이 예산 비율이 되도록 쉬었다가 시작함 (최소 intervalMillis)
+ */
+@Service
+public class PointAuditService {
+
+    private static final Logger log = LoggerFactory.getLogger(PointAuditService.class);
+    private static final int BUDGET_CHECK_EVERY_USERS = 32;
+
+    private final PointBalanceLedger pointBalanceLedger;
+    private final HistorySumBook historySumBook;
+    private final PointMetrics pointMetrics;
+    private final AuditProperties properties;
+
+    // 주기는 한번에 하나만 돌고(roundLock), 관리자 API 는 읽기만 함
+    // 주기 안에서 테이블을 읽을 수 있어서 synchronized 대신 ReentrantLock 을 씀 (PointThreadFactories 참고)
+    private final ReentrantLock roundLock = new ReentrantLock();
+    private final ConcurrentHashMap<Long, Suspect> suspects = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, BalanceDrift> drifts = new ConcurrentHashMap<>();
+    private final LongAdder checkedUsers = new LongAdder();
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private Iterator<Long> cursor;
+    private long round;
+
+    private final ScheduledExecutorService scheduler;
+
+    public PointAuditService(PointBalanceLedger pointBalanceLedger, HistorySumBook historySumBook,
+                             PointMetrics pointMetrics, AuditProperties properties,
+                             PointThreadFactories threadFactories) {
+        this.pointBalanceLedger = pointBalanceLedger;
+        this.historySumBook = historySumBook;
+        this.pointMetrics = pointMetrics;
+        this.properties = properties;
+
+        if (!properties.enabled()) {
+            this.scheduler = null;
+            return;
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactories.create("point-audit"));
+        scheduleNext(properties.intervalMillis());
+    }
+
+    /**
+     * 감사 한 주기 (now 는 새로 확정한 어긋남의 기록 시각)
+     */
+    public AuditRoundResult audit(long now) {
+        if (!properties.enabled()) {
+            return AuditRoundResult.EMPTY;
+        }
+
+        roundLock.lock();
+        try {
+            return runAudit(now);
+        } finally {
+            roundLock.unlock();
+        }
+    }
+
+    public AuditReport report(int limit) {
+        List<BalanceDrift> largest = drifts.values().stream()
+                .sorted(Comparator.comparingLong((BalanceDrift drift) -> Math.abs(drift.delta())).reversed())
+                .limit(limit)
+                .toList();
+        return new AuditReport(
+                properties.enabled(),
+                properties.cpuBudgetPercent(),
+                historySumBook.trackedUsers(),
+                historySumBook.changedUsers(),
+                checkedUsers.sum(),
+                suspects.size(),
+                drifts.size(),
+                largest
+        );
+    }
+
+    private AuditRoundResult runAudit(long now) {
+        Round current = new Round(++round, now, cpuNanos());
+        for (Long userId : new ArrayList<>(suspects.keySet())) {
+            if (!current.check(userId)) {
+                return current.finish();
+            }
+        }
+        Long changed;
+        while ((changed = historySumBook.pollChanged()) != null) {
+            if (!current.check(changed)) {
+                return current.finish();
+            }
+        }
+        // 전체 유저 순회는 주기를 넘어 이어가고, 한 주기에 한바퀴를 넘게 돌지 않음
+        for (int scanned = 0, total = historySumBook.trackedUsers(); scanned < total; scanned++) {
+            if (cursor == null || !cursor.hasNext()) {
+                cursor = historySumBook.userIds().iterator();
+                if (!cursor.hasNext()) {
+                    break;
+                }
+            }
+            if (!current.check(cursor.next())) {
+                break;
+            }
+        }
+        return current.finish();
+    }
+
+    @PreDestroy
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 한 주기에 쓴 CPU 시간이 예산 비율이 되도록 다음 주기까지 쉴 시간 (최소 intervalMillis)
+     * 예) 예산 5% 에 10ms 를 썼으면 190ms 쉼
+     */
+    static long nextDelayMillis(long cpuNanos, AuditProperties properties) {
+        long idleNanos = cpuNanos / properties.cpuBudgetPercent() * (100 - properties.cpuBudgetPercent());
+        return Math.max(properties.intervalMillis(), TimeUnit.NANOSECONDS.toMillis(idleNanos));
+    }
+
+    private void runRound() {
+        long delay = properties.intervalMillis();
+        try {
+            AuditRoundResult result = audit(System.currentTimeMillis());
+            delay = nextDelayMillis(result.cpuNanos(), properties);
+            if (result.detectedUsers() > 0 || result.resolvedUsers() > 0) {
+                log.warn("잔액/내역 감사: checked={}, detected={}, resolved={}, drifted={}", result.checkedUsers(),
+                        result.detectedUsers(), result.resolvedUsers(), drifts.size());
+            }
+        } catch (RuntimeException e) {
+            log.warn("잔액/내역 감사 중 오류: {}", e.getMessage());
+        } finally {
+            scheduleNext(delay);
+        }
+    }
+
+    private void scheduleNext(long delayMillis) {
+        try {
+            scheduler.schedule(this::runRound, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    // 가상 스레드 등 스레드 CPU 시간을 못 재는 경우는 경과 시간으로 대신함 (예산을 더 보수적으로 씀)
+    private long cpuNanos() {
+        try {
+            long cpu = threadMXBean.isCurrentThreadCpuTimeSupported() ? threadMXBean.getCurrentThreadCpuTime() : -1;
+            return cpu < 0 ? System.nanoTime() : cpu;
+        } catch (UnsupportedOperationException e) {
+            return System.nanoTime();
+        }
+    }
+
+    /**
+     * 한 유저 대조
+     * - 맞으면 의심/확정 목록에서 지움
+     * - 처음 어긋나면 의심 목록에 넣고, 다음 주기 이후에 같은 차이로 또 어긋나면 확정함
+     * - 이미 확정된 유저는 최신 값으로만 바꿈 (처음 확정한 시각은 그대로)
+     */
+    private Outcome check(long userId, long roundNumber, long now) {
+        long historySum = historySumBook.historySum(userId);
+        long balance = pointBalanceLedger.getUncached(userId).point();
+        long delta = balance - historySum;
+
+        if (delta == 0) {
+            suspects.remove(userId);
+            return drifts.remove(userId) != null ? Outcome.RESOLVED : Outcome.MATCHED;
+        }
+
+        BalanceDrift drifted = drifts.get(userId);
+        if (drifted != null) {
+            drifts.put(userId, new BalanceDrift(userId, historySum, balance, drifted.detectedMillis()));
+            return Outcome.DRIFTED;
+        }
+
+        Suspect suspect = suspects.get(userId);
+        if (suspect != null && suspect.delta() == delta && suspect.round() < roundNumber) {
+            suspects.remove(userId);
+            drifts.put(userId, new BalanceDrift(userId, historySum, balance, now));
+            log.warn("잔액과 내역 합계가 어긋났습니다: userId={}, balance={}, historySum={}", userId, balance, historySum);
+            return Outcome.DETECTED;
+        }
+        if (suspect == null || suspect.delta() != delta) {
+            suspects.put(userId, new Suspect(delta, roundNumber));
+        }
+        return Outcome.SUSPECTED;
+    }
+
+    private enum Outcome {
+        MATCHED, SUSPECTED, DETECTED, DRIFTED, RESOLVED
+    }
+
+    private record Suspect(long delta, long round) {
+    }
+
+    /**
+     * 한 주기 동안의 집계와 예산 확인
+     */
+    private final class Round {
+
+        private final long number;
+        private final long now;
+        private final long cpuStart;
+        private int checked;
+        private int detected;
+        private int resolved;
+
+        private Round(long number, long now, long cpuStart) {
+            this.number = number;
+            this.now = now;
+            this.cpuStart = cpuStart;
+        }
+
+        /**
+         * 한 유저를 대조하고, 이번 주기에 더 대조해도 되는지 돌려줌 (유저 수/CPU 예산)
+         */
+        private boolean check(long userId) {
+            try {
+                Outcome outcome = PointAuditService.this.check(userId, number, now);
+                if (outcome == Outcome.DETECTED) {
+                    detected++;
+                } else if (outcome == Outcome.RESOLVED) {
+                    resolved++;
+                }
+            } catch (RuntimeException e) {
+                log.warn("잔액/내역 대조 실패: userId={}, error={}", userId, e.getMessage());
+            }
+            checked++;
+            if (checked >= properties.maxUsersPerRound()) {
+                return false;
+            }
+            return checked % BUDGET_CHECK_EVERY_USERS != 0 || cpuNanos() - cpuStart < properties.roundBudgetNanos();
+        }
+
+        private AuditRoundResult finish() {
+            long spent = cpuNanos() - cpuStart;
+            checkedUsers.add(checked);
+            pointMetrics.audited(checked, detected, drifts.size(), spent);
+            return new AuditRoundResult(checked, detected, resolved, spent);
+        }
+    }
+}
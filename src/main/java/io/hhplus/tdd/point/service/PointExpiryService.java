@@ -0,0 +1,179 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.execution.PointThreadFactories;
+import io.hhplus.tdd.point.execution.PointWriteProperties;
+import io.hhplus.tdd.point.expiry.ExpiryProperties;
+import io.hhplus.tdd.point.expiry.ExpirySweepResult;
+import io.hhplus.tdd.point.expiry.PointLotBook;
+import io.hhplus.tdd.point.history.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.ledger.PointBalanceLedger;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.metrics.PointOperation;
+import io.hhplus.tdd.point.wal.PointWriteAheadLog;
+import io.hhplus.tdd.point.wal.WalEntry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PLC_PNT_006 포인트 소멸
+ * - tick 마다 만료 시각 순 인덱스에서 지난 칸만 꺼내서, 만료된 충전 건이 있는 유저만 처리함 (PointLotBook)
+ *   > 소멸 내역이 저장되면 그 유저는 다음 충전 건의 만료 시각 칸으로 다시 들어감
+ *   > 전체 유저/내역을 훑지 않으므로 비용은 이번 주기에 만료된 건 수에 비례함
+ * - 유저마다 만료된 금액을 모아서 잔액 변경 한번 + EXPIRE 내역 한 건으로 남김 (건마다 내역을 쓰지 않음)
+ *   > 여러 유저는 parallelism 개 스레드로 나눠서 동시에 처리함
+ * - 잔액 변경은 충전/사용과 같은 유저 락 안에서 함 > 만료 금액 계산과 차감 사이에 사용이 끼어들지 않음
+ *
+ * 낙관적 모드(point.write.concurrency=OPTIMISTIC)에서는 유저 락을 안 쓰므로 같이 켤 수 없음
+ */
+@Service
+public class PointExpiryService {
+
+    private static final Logger log = LoggerFactory.getLogger(PointExpiryService.class);
+
+    private final PointBalanceLedger pointBalanceLedger;
+    private final IndexedPointHistoryRepository pointHistoryRepository;
+    private final UserLockManager userLockManager;
+    private final PointLotBook pointLotBook;
+    private final PointWriteAheadLog pointWriteAheadLog;
+    private final PointMetrics pointMetrics;
+    private final ExpiryProperties properties;
+
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService sweepExecutor;
+
+    public PointExpiryService(PointBalanceLedger pointBalanceLedger, IndexedPointHistoryRepository pointHistoryRepository,
+                              UserLockManager userLockManager, PointLotBook pointLotBook,
+                              PointWriteAheadLog pointWriteAheadLog, PointMetrics pointMetrics,
+                              ExpiryProperties properties, PointWriteProperties pointWriteProperties,
+                              PointThreadFactories threadFactories) {
+        this.pointBalanceLedger = pointBalanceLedger;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.userLockManager = userLockManager;
+        this.pointLotBook = pointLotBook;
+        this.pointWriteAheadLog = pointWriteAheadLog;
+        this.pointMetrics = pointMetrics;
+        this.properties = properties;
+
+        if (!properties.enabled()) {
+            this.scheduler = null;
+            this.sweepExecutor = null;
+            return;
+        }
+        if (pointWriteProperties.optimisticConcurrency()) {
+            throw new IllegalStateException("point.expiry.enabled=true 는 point.write.concurrency=OPTIMISTIC 과 같이 쓸 수 없습니다.");
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactories.create("point-expiry-scheduler"));
+        this.sweepExecutor = Executors.newFixedThreadPool(properties.parallelism(), threadFactories.create("point-expiry"));
+        scheduler.scheduleWithFixedDelay(this::sweepQuietly,
+                properties.tickMillis(), properties.tickMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * now 까지 만료된 충전 건을 가진 유저를 최대 maxUsersPerSweep 명 남짓 소멸 처리함
+     * 실패한 유저는 다음 주기에 다시 확인하도록 인덱스에 다시 넣음
+     */
+    public ExpirySweepResult sweep(long now) {
+        if (!properties.enabled()) {
+            return ExpirySweepResult.EMPTY;
+        }
+
+        List<CompletableFuture<Long>> futures = new ArrayList<>();
+        int checkedUsers = pointLotBook.pollDueUsers(now, properties.maxUsersPerSweep(), userId ->
+                futures.add(CompletableFuture.supplyAsync(() -> expire(userId, now), sweepExecutor)
+                        .exceptionally(e -> {
+                            log.warn("포인트 소멸 실패: userId={}, error={}", userId, e.getMessage());
+                            pointLotBook.retryAt(userId, now + properties.tickMillis());
+                            return -1L;
+                        })));
+
+        int expiredUsers = 0;
+        int failedUsers = 0;
+        long expiredAmount = 0;
+        for (CompletableFuture<Long> future : futures) {
+            long amount = future.join();
+            if (amount < 0) {
+                failedUsers++;
+            } else if (amount > 0) {
+                expiredUsers++;
+                expiredAmount += amount;
+            }
+        }
+        return new ExpirySweepResult(checkedUsers, expiredUsers, expiredAmount, failedUsers);
+    }
+
+    /**
+     * 한 유저의 만료된 금액을 소멸시키고 소멸된 금액을 돌려줌 (없으면 0)
+     */
+    public long expire(long userId, long now) {
+        return pointMetrics.record(PointOperation.EXPIRE,
+                () -> userLockManager.executeWithLock(userId, () -> expireLocked(userId, now)));
+    }
+
+    @PreDestroy
+    public void close() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        sweepExecutor.shutdownNow();
+    }
+
+    /**
+     * 유저 락 안에서 호출됨
+     * - 잔액보다 만료 금액이 크면(충전 건 추적 전부터 있던 차이) 잔액만큼만 소멸시키고 나머지는 목록에서만 버림
+     * - 잔액 변경 후 내역 저장이 실패하면 잔액을 되돌림 (내역 없는 잔액 변경은 남기지 않음)
+     *   > 내역이 저장되면 PointLotBook 이 오래된 충전 건부터 그만큼 차감함
+     */
+    private long expireLocked(long userId, long now) {
+        long expired = pointLotBook.expiredAmount(userId, now);
+        if (expired == 0) {
+            // 꺼낸 뒤 가장 이른 건이 바뀐 경우 > 인덱스에서 빠진 채로 두지 않음
+            pointLotBook.reschedule(userId);
+            return 0L;
+        }
+
+        UserPoint current = pointBalanceLedger.get(userId);
+        long amount = Math.min(expired, current.point());
+        if (amount > 0) {
+            long balance = current.point() - amount;
+            pointBalanceLedger.update(userId, balance);
+            try {
+                pointHistoryRepository.insert(userId, amount, TransactionType.EXPIRE, now);
+            } catch (RuntimeException e) {
+                pointBalanceLedger.update(userId, current.point());
+                throw e;
+            }
+            pointWriteAheadLog.append(userId, List.of(WalEntry.of(TransactionType.EXPIRE, amount, balance, now)));
+            pointMetrics.expired(amount);
+        }
+        if (amount < expired) {
+            pointLotBook.discard(userId, expired - amount);
+        }
+        return amount;
+    }
+
+    private void sweepQuietly() {
+        try {
+            ExpirySweepResult result = sweep(System.currentTimeMillis());
+            if (result.expiredUsers() > 0 || result.failedUsers() > 0) {
+                log.info("포인트 소멸: checked={}, expiredUsers={}, amount={}, failed={}", result.checkedUsers(),
+                        result.expiredUsers(), result.expiredAmount(), result.failedUsers());
+            }
+        } catch (RuntimeException e) {
+            log.warn("포인트 소멸 확인 중 오류: {}", e.getMessage());
+        }
+    }
+}
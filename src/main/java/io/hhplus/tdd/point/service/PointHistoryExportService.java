@@ -0,0 +1,138 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.export.ExportFormat;
+import io.hhplus.tdd.point.export.ExportSummary;
+import io.hhplus.tdd.point.export.HistoryExportFilter;
+import io.hhplus.tdd.point.export.HistoryExportWriter;
+import io.hhplus.tdd.point.export.UserChecksum;
+import io.hhplus.tdd.point.history.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.ledger.PointBalanceLedger;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 전체 포인트 내역 내보내기 (정산 대사용)
+ * - 유저마다 GET /point/{id}/histories 를 부르면 호출마다 전체 내역을 훑게 되므로, 유저 인덱스를 한번만 훑어서 전부 내보냄
+ * - 유저 단위로 처리함: 유저 락 안에서 그 유저의 내역 스냅샷과 잔액을 같이 떠서 같은 시점의 값으로 대조하고,
+ *   락을 풀고 나서 파일에 씀 (느린 클라이언트 때문에 충전/사용이 락을 기다리지 않음)
+ *   > 메모리에는 유저 한 명의 내역만 올라가고, 출력은 gzip 으로 압축하면서 FLUSH_EVERY_ROWS 건마다 내려보냄
+ * - 유저의 내역을 다 쓰면 바로 checksum 줄을 남기므로 잔액 대조를 위해 다시 훑을 필요가 없음
+ * - 내역 인덱스를 다 훑은 뒤 원장의 유저 id 중 내역이 없던 유저도 대조함 (내역 저장이 실패해서 잔액만 남은 유저)
+ *   > 내역 0건, 합계 0 으로 대조하므로 잔액이 0 이 아니면 불일치로 나옴
+ * - 잔액은 캐시를 채우지 않는 PointBalanceLedger.getUncached 로 읽음 > 전체 유저를 한번씩 훑어도 잔액 캐시가 밀려나지 않음
+ *
+ * 낙관적 모드(point.write.concurrency=OPTIMISTIC)는 쓰기가 유저 락을 안 잡아서,
+ * 내보내는 도중 처리중인 요청이 있던 유저는 불일치로 보일 수 있음 (다음 내보내기에서 다시 확인할 것)
+ */
+@Service
+public class PointHistoryExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryExportService.class);
+
+    static final int BUFFER_SIZE = 64 * 1024;
+    static final int FLUSH_EVERY_ROWS = 10_000;
+
+    private final PointBalanceLedger pointBalanceLedger;
+    private final IndexedPointHistoryRepository pointHistoryRepository;
+    private final UserLockManager userLockManager;
+
+    public PointHistoryExportService(PointBalanceLedger pointBalanceLedger,
+                                     IndexedPointHistoryRepository pointHistoryRepository,
+                                     UserLockManager userLockManager) {
+        this.pointBalanceLedger = pointBalanceLedger;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.userLockManager = userLockManager;
+    }
+
+    /**
+     * 조건에 맞는 내역과 유저별 잔액 대조 결과를 gzip 으로 압축해서 out 에 씀
+     * out 은 닫지 않음 (압축 스트림만 마무리함)
+     */
+    public ExportSummary export(HistoryExportFilter filter, ExportFormat format, OutputStream out) throws IOException {
+        if (filter.fromMillis() != null && filter.toMillis() != null && filter.fromMillis() > filter.toMillis()) {
+            throw new IllegalArgumentException("조회 시작 시각은 종료 시각보다 늦을 수 없습니다.");
+        }
+
+        long start = System.nanoTime();
+        GZIPOutputStream gzip = new GZIPOutputStream(out, BUFFER_SIZE, true);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8), BUFFER_SIZE);
+        HistoryExportWriter rows = format.writer(writer);
+        rows.writeHeader();
+
+        Totals totals = new Totals();
+        Collection<Long> historyUserIds = pointHistoryRepository.userIds();
+        for (long userId : historyUserIds) {
+            exportUser(userId, filter, rows, writer, totals);
+        }
+        // 내역이 없는 유저만 모음 (보통 거의 없음), write-behind 원장은 같은 유저를 두 번 줄 수 있어서 Set 으로 모음
+        Set<Long> balanceOnlyUserIds = new LinkedHashSet<>();
+        pointBalanceLedger.forEachUserId(userId -> {
+            if (!historyUserIds.contains(userId)) {
+                balanceOnlyUserIds.add(userId);
+            }
+        });
+        for (long userId : balanceOnlyUserIds) {
+            exportUser(userId, filter, rows, writer, totals);
+        }
+
+        ExportSummary summary = new ExportSummary(totals.users, totals.scannedRows, totals.exportedRows,
+                totals.mismatchedUsers, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        rows.writeSummary(summary);
+        writer.flush();
+        gzip.finish();
+        return summary;
+    }
+
+    private void exportUser(long userId, HistoryExportFilter filter, HistoryExportWriter rows, Writer writer,
+                            Totals totals) throws IOException {
+        UserSnapshot snapshot = userLockManager.executeWithLock(userId, () -> new UserSnapshot(
+                pointHistoryRepository.selectAllByUserId(userId), pointBalanceLedger.getUncached(userId).point()));
+
+        long historySum = 0;
+        for (PointHistory history : snapshot.histories()) {
+            historySum += history.type().signedAmount(history.amount());
+            if (filter.matches(history)) {
+                rows.writeHistory(history);
+                if (++totals.exportedRows % FLUSH_EVERY_ROWS == 0) {
+                    writer.flush();
+                }
+            }
+        }
+
+        UserChecksum checksum = new UserChecksum(userId, snapshot.histories().size(), historySum, snapshot.balance());
+        rows.writeChecksum(checksum);
+        if (!checksum.matched()) {
+            totals.mismatchedUsers++;
+            log.warn("잔액과 내역 합계가 다릅니다: userId={}, balance={}, historySum={}",
+                    userId, checksum.balance(), checksum.historySum());
+        }
+        totals.users++;
+        totals.scannedRows += snapshot.histories().size();
+    }
+
+    private record UserSnapshot(List<PointHistory> histories, long balance) {
+    }
+
+    private static final class Totals {
+        long users;
+        long scannedRows;
+        long exportedRows;
+        long mismatchedUsers;
+    }
+}
@@ -0,0 +1,280 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.BatchReversalResponse;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.ReversalResult;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.batch.PointBatchProperties;
+import io.hhplus.tdd.point.execution.PointWriteProperties;
+import io.hhplus.tdd.point.history.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.ledger.OptimisticConflictException;
+import io.hhplus.tdd.point.ledger.PointBalanceLedger;
+import io.hhplus.tdd.point.ledger.VersionedPoint;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.metrics.PointOperation;
+import io.hhplus.tdd.point.policy.PointPolicy;
+import io.hhplus.tdd.point.policy.PointPolicyException;
+import io.hhplus.tdd.point.reversal.RefundProperties;
+import io.hhplus.tdd.point.reversal.ReversalRegistry;
+import io.hhplus.tdd.point.wal.PointWriteAheadLog;
+import io.hhplus.tdd.point.wal.WalEntry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 환불(REFUND)과 회수(CLAWBACK)
+ * - 둘 다 원래 내역 id 를 받아서 내역 id 인덱스로 바로 찾음 (IndexedPointHistoryRepository.findById, O(1))
+ * - PLC_PNT_009 환불: 사용(USE) 내역만, 사용 후 지난 기간에 따라 100%/50%/10% (RefundProperties)
+ *   > 원래 가지고 있던 포인트를 돌려주는 것이라 최대 보유 포인트 제한은 보지 않음
+ * - PLC_PNT_002 회수: 충전(CHARGE) 내역만, 이미 써버려서 잔액이 모자라면 남은 잔액만큼만 회수함 (잔액은 음수가 되지 않음)
+ * - 한 내역은 한번만 되돌릴 수 있음 (ReversalRegistry 로 먼저 선점)
+ *   > 되돌림 내역에 원래 내역 id 를 같이 남겨서(PointHistory.reversedId) 재시작하면 내역으로 선점 기록을 다시 만듦
+ * - 잔액 변경은 충전/사용과 같은 유저 락 안에서 함 > 같은 유저의 다른 요청과 순서대로 반영됨
+ *   (낙관적 모드에서는 락 대신 원장의 compareAndUpdate 로 재시도함)
+ * - 일괄 회수(부정 충전 사고 대응)는 유저별로 묶어서 유저끼리는 병렬로, 같은 유저 안에서는 요청 순서대로 처리함
+ */
+@Service
+public class PointReversalService {
+
+    private final PointBalanceLedger pointBalanceLedger;
+    private final IndexedPointHistoryRepository pointHistoryRepository;
+    private final UserLockManager userLockManager;
+    private final ReversalRegistry reversalRegistry;
+    private final RefundProperties refundProperties;
+    private final ExecutorService pointBatchExecutor;
+    private final PointBatchProperties pointBatchProperties;
+    private final PointWriteProperties pointWriteProperties;
+    private final PointWriteAheadLog pointWriteAheadLog;
+    private final PointMetrics pointMetrics;
+
+    public PointReversalService(PointBalanceLedger pointBalanceLedger, IndexedPointHistoryRepository pointHistoryRepository,
+                                UserLockManager userLockManager, ReversalRegistry reversalRegistry,
+                                RefundProperties refundProperties,
+                                @Qualifier("pointBatchExecutor") ExecutorService pointBatchExecutor,
+                                PointBatchProperties pointBatchProperties, PointWriteProperties pointWriteProperties,
+                                PointWriteAheadLog pointWriteAheadLog, PointMetrics pointMetrics) {
+        this.pointBalanceLedger = pointBalanceLedger;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.userLockManager = userLockManager;
+        this.reversalRegistry = reversalRegistry;
+        this.refundProperties = refundProperties;
+        this.pointBatchExecutor = pointBatchExecutor;
+        this.pointBatchProperties = pointBatchProperties;
+        this.pointWriteProperties = pointWriteProperties;
+        this.pointWriteAheadLog = pointWriteAheadLog;
+        this.pointMetrics = pointMetrics;
+    }
+
+    /**
+     * PLC_PNT_009: 사용 내역(historyId)을 취소하고 환불 구간에 맞는 금액을 돌려줌
+     */
+    public UserPoint refund(Long userId, Long historyId) {
+        return pointMetrics.record(PointOperation.REFUND, () -> {
+            PointHistory original = findOriginal(userId, historyId, TransactionType.USE);
+            long refundAmount = refundProperties.refundableAmount(original.amount(),
+                    System.currentTimeMillis() - original.updateMillis());
+            if (refundAmount <= 0) {
+                throw new PointPolicyException(PointPolicy.PLC_PNT_009, "환불할 수 있는 금액이 없는 사용 내역입니다.");
+            }
+            return reverse(original, TransactionType.REFUND, (ignored, balance) -> refundAmount).userPoint();
+        });
+    }
+
+    /**
+     * PLC_PNT_002: 충전 내역(historyId)을 취소하고 충전된 포인트를 회수함
+     */
+    public UserPoint clawback(Long userId, Long historyId) {
+        return pointMetrics.record(PointOperation.CLAWBACK, () -> {
+            return reverse(findOriginal(userId, historyId, TransactionType.CHARGE), TransactionType.CLAWBACK,
+                    this::clawbackAmount).userPoint();
+        });
+    }
+
+    /**
+     * 일괄 회수 (PLC_PNT_002 부정 충전 사고 대응)
+     * - 충전 내역 id 목록을 받아서 내역의 주인별로 묶고, 유저 단위로 병렬 처리함 (동시에 처리되는 유저 수는 point.batch.parallelism)
+     * - 한 건이 실패해도 나머지는 계속 처리하고, 결과는 건별로 돌려줌
+     */
+    public BatchReversalResponse clawbackAll(List<Long> historyIds) {
+        return pointMetrics.record(PointOperation.BATCH_CLAWBACK, () -> reverseAll(historyIds));
+    }
+
+    private BatchReversalResponse reverseAll(List<Long> historyIds) {
+        if (historyIds == null || historyIds.isEmpty()) {
+            throw new IllegalArgumentException("회수 요청이 비어있습니다.");
+        }
+
+        if (historyIds.size() > pointBatchProperties.maxEntries()) {
+            throw new IllegalArgumentException("한번에 요청할 수 있는 최대 건수는 " + pointBatchProperties.maxEntries() + "건입니다.");
+        }
+
+        long start = System.nanoTime();
+        ReversalResult[] results = new ReversalResult[historyIds.size()];
+        Map<Long, List<Integer>> indexesByUser = new LinkedHashMap<>();
+        for (int i = 0; i < historyIds.size(); i++) {
+            Long historyId = historyIds.get(i);
+            PointHistory original = historyId == null ? null : pointHistoryRepository.findById(historyId).orElse(null);
+            if (original == null) {
+                results[i] = ReversalResult.failed(i, historyId == null ? 0L : historyId, null, "존재하지 않는 내역입니다.");
+                continue;
+            }
+            indexesByUser.computeIfAbsent(original.userId(), userId -> new ArrayList<>()).add(i);
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(indexesByUser.size());
+        for (Map.Entry<Long, List<Integer>> entry : indexesByUser.entrySet()) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int index : entry.getValue()) {
+                    results[index] = clawbackEntry(index, entry.getKey(), historyIds.get(index));
+                }
+            }, pointBatchExecutor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        int succeeded = 0;
+        long reversedAmount = 0;
+        for (ReversalResult result : results) {
+            if (result.success()) {
+                succeeded++;
+                reversedAmount += result.amount();
+            }
+        }
+        return new BatchReversalResponse(results.length, succeeded, results.length - succeeded, reversedAmount,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), List.of(results));
+    }
+
+    private ReversalResult clawbackEntry(int index, long userId, long historyId) {
+        try {
+            Reversed reversed = reverse(findOriginal(userId, historyId, TransactionType.CHARGE),
+                    TransactionType.CLAWBACK, this::clawbackAmount);
+            return ReversalResult.succeeded(index, historyId, reversed.amount(), reversed.userPoint());
+        } catch (IllegalArgumentException e) {
+            if (e instanceof PointPolicyException policyException) {
+                pointMetrics.rejected(policyException.policy());
+            }
+            return ReversalResult.failed(index, historyId, userId, e.getMessage());
+        } catch (RuntimeException e) {
+            return ReversalResult.failed(index, historyId, userId, "회수 처리 중 오류가 발생했습니다.");
+        }
+    }
+
+    private PointHistory findOriginal(Long userId, Long historyId, TransactionType expectedType) {
+        if (userId == null || userId <= 0) {
+            throw new IllegalArgumentException("올바른 사용자 ID를 입력해주세요.");
+        }
+
+        if (historyId == null || historyId <= 0) {
+            throw new IllegalArgumentException("올바른 내역 ID를 입력해주세요.");
+        }
+
+        PointHistory original = pointHistoryRepository.findById(historyId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 내역입니다."));
+        if (original.userId() != userId) {
+            throw new IllegalArgumentException("다른 사용자의 내역은 취소할 수 없습니다.");
+        }
+
+        if (original.type() != expectedType) {
+            throw new IllegalArgumentException(expectedType == TransactionType.USE
+                    ? "사용 내역만 환불할 수 있습니다." : "충전 내역만 회수할 수 있습니다.");
+        }
+        return original;
+    }
+
+    /**
+     * 회수 금액: 원래 충전 금액, 그 사이 써버려서 잔액이 모자라면 잔액만큼
+     */
+    private long clawbackAmount(PointHistory original, long balance) {
+        long amount = Math.min(original.amount(), balance);
+        if (amount <= 0) {
+            throw new PointPolicyException(PointPolicy.PLC_PNT_002, "회수할 잔액이 없습니다.");
+        }
+        return amount;
+    }
+
+    /**
+     * 원래 내역을 선점한 뒤 잔액을 바꾸고 되돌림 내역을 남김
+     * 어디서든 실패하면 선점을 풀어서 다시 시도할 수 있게 함
+     */
+    private Reversed reverse(PointHistory original, TransactionType type, ReversalAmount reversalAmount) {
+        if (!reversalRegistry.markReversed(original.id())) {
+            throw new PointPolicyException(type == TransactionType.REFUND ? PointPolicy.PLC_PNT_009 : PointPolicy.PLC_PNT_002,
+                    "이미 취소된 내역입니다.");
+        }
+        try {
+            if (pointWriteProperties.optimisticConcurrency()) {
+                return reverseOptimistic(original, type, reversalAmount);
+            }
+            return userLockManager.executeWithLock(original.userId(), () -> reverseLocked(original, type, reversalAmount));
+        } catch (RuntimeException e) {
+            reversalRegistry.release(original.id());
+            throw e;
+        }
+    }
+
+    /**
+     * 유저 락 안에서 호출됨
+     * 잔액 변경 후 내역 저장이 실패하면 잔액을 되돌림 (내역 없는 잔액 변경은 남기지 않음)
+     */
+    private Reversed reverseLocked(PointHistory original, TransactionType type, ReversalAmount reversalAmount) {
+        long userId = original.userId();
+        UserPoint current = pointBalanceLedger.get(userId);
+        long amount = reversalAmount.amount(original, current.point());
+        long balance = type == TransactionType.REFUND ? current.point() + amount : current.point() - amount;
+        long now = System.currentTimeMillis();
+
+        UserPoint updated = pointBalanceLedger.update(userId, balance);
+        try {
+            pointHistoryRepository.insert(userId, amount, type, now, original.id());
+        } catch (RuntimeException e) {
+            pointBalanceLedger.update(userId, current.point());
+            throw e;
+        }
+        pointWriteAheadLog.append(userId, List.of(new WalEntry(type, amount, balance, now,
+                pointHistoryRepository.positionOf(userId, original.id()))));
+        return new Reversed(updated, amount);
+    }
+
+    private Reversed reverseOptimistic(PointHistory original, TransactionType type, ReversalAmount reversalAmount) {
+        long userId = original.userId();
+        int maxAttempts = pointWriteProperties.maxOptimisticAttempts();
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            VersionedPoint current = pointBalanceLedger.getVersioned(userId);
+            long amount = reversalAmount.amount(original, current.point());
+            long delta = type == TransactionType.REFUND ? amount : -amount;
+            UserPoint updated = pointBalanceLedger.compareAndUpdate(current, current.point() + delta, () -> {
+            });
+            if (updated == null) {
+                pointMetrics.optimisticConflict();
+                continue;
+            }
+            try {
+                pointHistoryRepository.insert(userId, amount, type, System.currentTimeMillis(), original.id());
+            } catch (RuntimeException e) {
+                pointBalanceLedger.revert(userId, -delta, pointMetrics::optimisticConflict);
+                throw e;
+            }
+            return new Reversed(updated, amount);
+        }
+        throw new OptimisticConflictException(userId, maxAttempts);
+    }
+
+    /**
+     * 현재 잔액을 보고 되돌릴 금액을 정함 (잔액 변경과 같은 락/버전 안에서 호출됨)
+     */
+    private interface ReversalAmount {
+        long amount(PointHistory original, long balance);
+    }
+
+    private record Reversed(UserPoint userPoint, long amount) {
+    }
+}
@@ -1,60 +1,188 @@
 package io.hhplus.tdd.point.service;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.BatchChargeResponse;
+import io.hhplus.tdd.point.BatchChargeResult;
+import io.hhplus.tdd.point.ChargeRequest;
 import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
 import io.hhplus.tdd.point.TransactionType;
 import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.batch.PointBatchProperties;
+import io.hhplus.tdd.point.combine.PendingOperation;
+import io.hhplus.tdd.point.combine.UserOperationQueues;
+import io.hhplus.tdd.point.execution.PointWriteProperties;
+import io.hhplus.tdd.point.fraud.ChargeFraudDetector;
+import io.hhplus.tdd.point.fraud.FraudSignal;
+import io.hhplus.tdd.point.history.FirstUseRegistry;
+import io.hhplus.tdd.point.history.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.history.PointHistoryQuery;
+import io.hhplus.tdd.point.idempotency.IdempotencyStore;
+import io.hhplus.tdd.point.limit.ChargeLimitProperties;
+import io.hhplus.tdd.point.limit.ChargeLimitSignal;
+import io.hhplus.tdd.point.limit.ChargeLimitTracker;
+import io.hhplus.tdd.point.ledger.OptimisticConflictException;
+import io.hhplus.tdd.point.ledger.PointBalanceLedger;
+import io.hhplus.tdd.point.ledger.VersionedPoint;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.metrics.PointOperation;
+import io.hhplus.tdd.point.policy.PointPolicy;
+import io.hhplus.tdd.point.policy.PointPolicyException;
+import io.hhplus.tdd.point.wal.PointWriteAheadLog;
+import io.hhplus.tdd.point.wal.WalEntry;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class PointService {
 
-    private final UserPointTable userPointTable;
-    private final PointHistoryTable pointHistoryTable;
+    private final PointBalanceLedger pointBalanceLedger;
+    private final IndexedPointHistoryRepository pointHistoryRepository;
+    private final UserLockManager userLockManager;
+    private final ChargeFraudDetector chargeFraudDetector;
+    private final FirstUseRegistry firstUseRegistry;
+    private final ExecutorService pointBatchExecutor;
+    private final PointBatchProperties pointBatchProperties;
+    private final ExecutorService pointHistoryWriteExecutor;
+    private final PointWriteProperties pointWriteProperties;
+    private final PointMetrics pointMetrics;
+    private final PointWriteAheadLog pointWriteAheadLog;
+    private final UserOperationQueues userOperationQueues;
+    private final IdempotencyStore idempotencyStore;
+    private final ChargeLimitTracker chargeLimitTracker;
+    private final ChargeLimitProperties chargeLimitProperties;
 
     // TODO: 처음에는 @Autowired를 쓰려고 했는데, 생성자 주입이 더 좋다고 해서 변경함
     // 이유: 1) 순환 참조 방지 2) 테스트 용이성 3) 불변성 보장
-    public PointService(UserPointTable userPointTable, PointHistoryTable pointHistoryTable) {
-        this.userPointTable = userPointTable;
-        this.pointHistoryTable = pointHistoryTable;
+    public PointService(PointBalanceLedger pointBalanceLedger, IndexedPointHistoryRepository pointHistoryRepository,
+                        UserLockManager userLockManager, ChargeFraudDetector chargeFraudDetector,
+                        FirstUseRegistry firstUseRegistry,
+                        @Qualifier("pointBatchExecutor") ExecutorService pointBatchExecutor,
+                        PointBatchProperties pointBatchProperties,
+                        @Qualifier("pointHistoryWriteExecutor") ExecutorService pointHistoryWriteExecutor,
+                        PointWriteProperties pointWriteProperties,
+                        PointMetrics pointMetrics, PointWriteAheadLog pointWriteAheadLog,
+                        UserOperationQueues userOperationQueues, IdempotencyStore idempotencyStore,
+                        ChargeLimitTracker chargeLimitTracker, ChargeLimitProperties chargeLimitProperties) {
+        this.pointBalanceLedger = pointBalanceLedger;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.userLockManager = userLockManager;
+        this.chargeFraudDetector = chargeFraudDetector;
+        this.firstUseRegistry = firstUseRegistry;
+        this.pointBatchExecutor = pointBatchExecutor;
+        this.pointBatchProperties = pointBatchProperties;
+        this.pointHistoryWriteExecutor = pointHistoryWriteExecutor;
+        this.pointWriteProperties = pointWriteProperties;
+        this.pointMetrics = pointMetrics;
+        this.pointWriteAheadLog = pointWriteAheadLog;
+        this.userOperationQueues = userOperationQueues;
+        this.idempotencyStore = idempotencyStore;
+        this.chargeLimitTracker = chargeLimitTracker;
+        this.chargeLimitProperties = chargeLimitProperties;
+
+        if (pointWriteProperties.optimisticConcurrency()) {
+            // 버전은 메모리 원장에만 있고, 로그는 잔액 순서대로 남아야 복구가 맞으므로 락 없이는 순서를 보장할 수 없음
+            if (!pointBalanceLedger.writeBehind()) {
+                throw new IllegalStateException("point.write.concurrency=OPTIMISTIC 은 point.ledger.write-behind=true 에서만 쓸 수 있습니다.");
+            }
+            if (pointWriteAheadLog.enabled()) {
+                throw new IllegalStateException("point.write.concurrency=OPTIMISTIC 은 point.wal.enabled=true 와 같이 쓸 수 없습니다.");
+            }
+        }
     }
 
     /**
      * 특정 유저의 포인트 조회
-     * TODO: 캐싱을 추가하면 성능이 더 좋아질 것 같은데... 일단 패스
+     * write-behind 모드면 원장(메모리)에서, write-through 모드면 잔액 캐시(UserPointCache)에서 바로 응답함
      */
     public UserPoint getPointById(Long userId) {
+        return pointMetrics.record(PointOperation.GET, () -> findPoint(userId));
+    }
+
+    private UserPoint findPoint(Long userId) {
         // 기본 검증 추가 (음수 ID는 논리적으로 말이 안됨)
         if (userId == null || userId <= 0) {
             throw new IllegalArgumentException("올바른 사용자 ID를 입력해주세요.");
         }
         
-        return userPointTable.selectById(userId);
+        return pointBalanceLedger.get(userId);
     }
 
     /**
-     * 특정 유저의 포인트 충전/사용 내역 조회
-     * TODO: 페이징 처리를 해야 할 것 같은데... 일단 전체 조회로 구현
+     * 특정 유저의 포인트 충전/사용 내역 전체 조회
+     * 내역이 많은 유저는 응답이 커지므로 API 에서는 getPointHistoryPage 를 사용함
      */
     public List<PointHistory> getPointHistoryById(Long userId) {
+        return pointMetrics.record(PointOperation.HISTORY, () -> findPointHistories(userId));
+    }
+
+    private List<PointHistory> findPointHistories(Long userId) {
         // 기본 검증 
         // TODO : 중복된 검증로직을 리팩토링필요
         if (userId == null || userId <= 0) {
             throw new IllegalArgumentException("올바른 사용자 ID를 입력해주세요.");
         }
         
-        return pointHistoryTable.selectAllByUserId(userId);
+        return pointHistoryRepository.selectAllByUserId(userId);
+    }
+
+    /**
+     * 특정 유저의 포인트 내역 페이지 조회 (커서 + 유형/기간 필터)
+     * 유저별 인덱스에서 커서 위치를 찾아 limit 건까지만 읽으므로, 내역이 많아도 응답 크기와 지연이 일정함
+     */
+    public PointHistoryPage getPointHistoryPage(Long userId, PointHistoryQuery query) {
+        return pointMetrics.record(PointOperation.HISTORY, () -> findPointHistoryPage(userId, query));
+    }
+
+    private PointHistoryPage findPointHistoryPage(Long userId, PointHistoryQuery query) {
+        if (userId == null || userId <= 0) {
+            throw new IllegalArgumentException("올바른 사용자 ID를 입력해주세요.");
+        }
+
+        if (query.limit() <= 0 || query.limit() > PointHistoryQuery.MAX_LIMIT) {
+            throw new IllegalArgumentException("한번에 조회할 수 있는 내역은 1~" + PointHistoryQuery.MAX_LIMIT + "건입니다.");
+        }
+
+        if (query.fromMillis() != null && query.toMillis() != null && query.fromMillis() > query.toMillis()) {
+            throw new IllegalArgumentException("조회 시작 시각은 종료 시각보다 늦을 수 없습니다.");
+        }
+
+        return pointHistoryRepository.findByUserId(userId, query);
     }
 
     /**
      * 포인트 충전 
-     * 적용 정책: PLC_PNT_001, PLC_PNT_008, PLC_PNT_010
-     * TODO: 동시성 문제는 어떻게 해결하지? synchronized? 아니면 DB 락?
+     * 적용 정책: PLC_PNT_001, PLC_PNT_008 (1회/일/월 한도, point.charge-limit), PLC_PNT_010
+     * 동시성: synchronized 로 서비스 전체를 막으면 다른 유저까지 줄을 서게 되므로
+     *        조회 ~ 저장 구간만 유저 단위 락으로 묶음 (UserLockManager)
+     *        같은 유저에게 몰린 충전/사용은 락을 기다리는 동안 큐에 모아서 한번에 처리함 (submit)
+     *        낙관적 모드에서는 락 없이 버전 비교로 처리함 (submitOptimistic)
      */
     public UserPoint chargePoint(Long userId, Long amount) {
+        return chargePoint(userId, amount, null);
+    }
+
+    /**
+     * 멱등 키를 붙인 포인트 충전
+     * 같은 키로 다시 들어온 요청은 처음 결과를 그대로 돌려주고 다시 충전하지 않음 (IdempotencyStore)
+     */
+    public UserPoint chargePoint(Long userId, Long amount, String idempotencyKey) {
+        return pointMetrics.record(PointOperation.CHARGE, () -> charge(userId, amount, idempotencyKey));
+    }
+
+    private UserPoint charge(Long userId, Long amount, String idempotencyKey) {
         // 기본 검증
         if (userId == null || userId <= 0) {
             throw new IllegalArgumentException("올바른 사용자 ID를 입력해주세요.");
@@ -64,34 +192,85 @@ public class PointService {
             throw new IllegalArgumentException("충전 금액은 0보다 커야 합니다.");
         }
 
-        // PLC_PNT_008: 충전 한도 초과 방지 (1회 최대 100만원)
-        if (amount > 1_000_000L) {
-            throw new IllegalArgumentException("한번에 충전할 수 있는 최대 금액은 100만원입니다.");
+        // PLC_PNT_008: 충전 한도 초과 방지 (1회 최대 금액, 기본 100만원)
+        // 일/월 누적 한도는 잔액과 같이 유저 락 안에서 확인함 (checkChargeRules)
+        if (amount > chargeLimitProperties.perCharge()) {
+            throw new PointPolicyException(PointPolicy.PLC_PNT_008,
+                    "한번에 충전할 수 있는 최대 금액은 " + won(chargeLimitProperties.perCharge()) + "입니다.");
         }
 
-        // 현재 포인트 조회
-        UserPoint currentPoint = userPointTable.selectById(userId);
-        
-        // 최대 잔고 제한 정책 추가 (예: 최대 500만원)
-        // TODO: 이 정책은 정책서에 없었는데 추가해야 할까? 일단 추가함
-        long maxBalance = 5_000_000L;
-        if (currentPoint.point() + amount > maxBalance) {
-            throw new IllegalArgumentException("최대 보유 가능한 포인트는 " + maxBalance + "원입니다.");
+        return idempotencyStore.execute(userId, TransactionType.CHARGE, amount, idempotencyKey,
+                () -> submit(userId, TransactionType.CHARGE, amount));
+    }
+
+    /**
+     * 일괄 충전 (캠페인 지급)
+     * 적용 정책: PLC_PNT_008 (건별 충전 한도 - chargePoint 와 동일), PLC_PNT_010 (같은 요청 안의 동일 유저/동일 금액 중복 지급 차단)
+     * - 유저별로 묶어서 유저 단위로 병렬 처리하고, 같은 유저의 건은 요청 순서대로 처리함
+     * - 동시에 처리되는 유저 수는 일괄 처리 스레드 수(point.batch.parallelism)로 제한됨
+     * - 한 건이 실패해도 나머지는 계속 처리하고, 결과는 건별로 돌려줌 (null 인 건도 그 건만 실패로 돌려줌)
+     */
+    public BatchChargeResponse chargePoints(List<ChargeRequest> requests) {
+        return pointMetrics.record(PointOperation.BATCH_CHARGE, () -> chargeAll(requests));
+    }
+
+    /**
+     * 일괄 충전 건수가 point.batch.maxEntries 를 넘으면 거절함
+     * 요청 본문을 읽으면서 세는 쪽(NDJSON)도 같은 검사를 써서, 한도를 넘는 순간 읽기를 멈출 수 있게 함
+     */
+    public void requireBatchWithinLimit(int count) {
+        if (count > pointBatchProperties.maxEntries()) {
+            throw new IllegalArgumentException("한번에 요청할 수 있는 최대 건수는 " + pointBatchProperties.maxEntries() + "건입니다.");
+        }
+    }
+
+    private BatchChargeResponse chargeAll(List<ChargeRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("충전 요청이 비어있습니다.");
         }
 
-        // PLC_PNT_001: 부정 충전 차단 검증
-        // TODO: 실제로는 휴대폰번호, 기기ID 등을 확인해야 하는데... 일단 간단히 구현
-        if (isIllegalChargeDetected(userId, amount)) {
-            throw new IllegalArgumentException("부정 충전이 감지되었습니다.");
+        requireBatchWithinLimit(requests.size());
+
+        long start = System.nanoTime();
+        BatchChargeResult[] results = new BatchChargeResult[requests.size()];
+
+        // PLC_PNT_010: 같은 유저에게 같은 금액이 두번 들어있으면 두번째부터는 지급하지 않음
+        Map<Long, List<Integer>> indexesByUser = new LinkedHashMap<>();
+        Set<ChargeRequest> seen = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            ChargeRequest request = requests.get(i);
+            if (request == null) {
+                results[i] = BatchChargeResult.failed(i, null, "충전 요청이 비어있습니다.");
+                continue;
+            }
+            if (!seen.add(request)) {
+                pointMetrics.rejected(PointPolicy.PLC_PNT_010);
+                results[i] = BatchChargeResult.failed(i, request, "동일한 유저에게 같은 금액을 중복 지급할 수 없습니다.");
+                continue;
+            }
+            indexesByUser.computeIfAbsent(request.userId(), userId -> new ArrayList<>()).add(i);
         }
 
-        // 새로운 포인트 계산 후 업데이트
-        UserPoint updatedPoint = userPointTable.insertOrUpdate(userId, currentPoint.point() + amount);
-        
-        // 충전 내역 저장
-        pointHistoryTable.insert(userId, amount, TransactionType.CHARGE, System.currentTimeMillis());
-        
-        return updatedPoint;
+        List<CompletableFuture<Void>> futures = new ArrayList<>(indexesByUser.size());
+        for (List<Integer> indexes : indexesByUser.values()) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int index : indexes) {
+                    results[index] = chargeEntry(index, requests.get(index));
+                }
+            }, pointBatchExecutor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        long elapsedNanos = System.nanoTime() - start;
+        int succeeded = 0;
+        for (BatchChargeResult result : results) {
+            if (result.success()) {
+                succeeded++;
+            }
+        }
+        double throughput = results.length / Math.max(elapsedNanos / 1_000_000_000.0, 1e-9);
+        return new BatchChargeResponse(results.length, succeeded, results.length - succeeded,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), throughput, List.of(results));
     }
 
     /**
@@ -100,6 +279,18 @@ public class PointService {
      * TODO: 본인인증 로직은 어떻게 구현하지? 외부 API 호출? > 현재는 고려대상아님.
      */
     public UserPoint usePoint(Long userId, Long amount) {
+        return usePoint(userId, amount, null);
+    }
+
+    /**
+     * 멱등 키를 붙인 포인트 사용
+     * 같은 키로 다시 들어온 요청은 처음 결과를 그대로 돌려주고 다시 차감하지 않음 (IdempotencyStore)
+     */
+    public UserPoint usePoint(Long userId, Long amount, String idempotencyKey) {
+        return pointMetrics.record(PointOperation.USE, () -> use(userId, amount, idempotencyKey));
+    }
+
+    private UserPoint use(Long userId, Long amount, String idempotencyKey) {
         // 기본 검증
         if (userId == null || userId <= 0) {
             throw new IllegalArgumentException("올바른 사용자 ID를 입력해주세요.");
@@ -111,15 +302,198 @@ public class PointService {
 
         // PLC_PNT_004: 1회 사용 한도 제한 (최대 100만원)
         if (amount > 1_000_000L) {
-            throw new IllegalArgumentException("한번에 사용할 수 있는 최대 금액은 100만원입니다.");
+            throw new PointPolicyException(PointPolicy.PLC_PNT_004, "한번에 사용할 수 있는 최대 금액은 100만원입니다.");
         }
 
-        // 현재 포인트 조회
-        UserPoint currentPoint = userPointTable.selectById(userId);
-        
+        return idempotencyStore.execute(userId, TransactionType.USE, amount, idempotencyKey,
+                () -> submit(userId, TransactionType.USE, amount));
+    }
+
+    /**
+     * PLC_PNT_005: 최초 사용자 체크
+     * 내역 전체를 훑지 않고, USE 내역이 저장될 때 켜지는 비트 하나만 확인함 (FirstUseRegistry)
+     * TODO: 실제로는 사용자 테이블에서 가입일자, 인증상태 등을 확인해야 함
+     */
+    private boolean isFirstTimeUser(Long userId) {
+        return !firstUseRegistry.hasUsed(userId);
+    }
+
+    /**
+     * 충전/사용 한 건을 유저 큐에 넣고 처리 결과를 기다림
+     * - 잔액을 읽고 쓰는 구간은 같은 유저끼리 겹치면 갱신 손실이 생기므로 유저 락 안에서 처리
+     * - 락을 잡은 스레드가 그때까지 큐에 쌓인 같은 유저의 요청을 한번에 처리함 (applyGroup)
+     *   > 락을 기다리던 스레드는 락을 잡았을 때 자기 건이 이미 처리되어 있으면 결과만 받아서 돌아감
+     *   > 묶음 크기 제한(point.write.max-group-size) 때문에 자기 건이 아직 큐에 남아있으면 직접 처리함
+     */
+    private UserPoint submit(long userId, TransactionType type, long amount) {
+        if (pointWriteProperties.optimisticConcurrency()) {
+            return submitOptimistic(userId, type, amount);
+        }
+
+        PendingOperation operation = userOperationQueues.enqueue(userId, type, amount);
+        while (!operation.isDone()) {
+            long lockRequestedNanos = System.nanoTime();
+            userLockManager.executeWithLock(userId, () -> {
+                pointMetrics.recordLockWait(System.nanoTime() - lockRequestedNanos);
+                if (operation.isDone()) {
+                    return null;
+                }
+
+                List<PendingOperation> group = userOperationQueues.drain(userId, pointWriteProperties.maxGroupSize());
+                try {
+                    applyGroup(userId, group);
+                } catch (RuntimeException e) {
+                    // 결과를 못 받은 건이 남으면 그 건을 기다리는 스레드가 끝나지 않으므로 모두 실패로 돌려줌
+                    for (PendingOperation pending : group) {
+                        if (!pending.isDone()) {
+                            pending.fail(e);
+                        }
+                    }
+                }
+                return null;
+            });
+        }
+        return operation.result();
+    }
+
+    /**
+     * 낙관적 모드(point.write.concurrency=OPTIMISTIC)의 충전/사용 한 건
+     * - 락 없이 버전이 붙은 잔액을 읽어서 검증하고, 그 사이 다른 요청이 잔액을 바꾸지 않았을 때만 씀 (compareAndUpdate)
+     *   > 바뀌었으면 최신 잔액으로 다시 검증해서 재시도하고, maxOptimisticAttempts 번 모두 밀리면 OptimisticConflictException
+     * - PLC_PNT_001 검사와 기록은 잔액을 바꾸는 순간에 원장 락 안에서 같이 함
+     *   > 락이 없어도 같은 유저의 동시 충전이 서로의 기록을 못 보고 둘 다 통과하는 일이 없음
+     * - 잔액을 바꾼 뒤에 내역을 저장하고, 내역 저장이 실패하면 방금 반영한 금액만 되돌림
+     *   (그 사이 다른 요청이 잔액을 바꿨을 수 있으므로 값을 덮어쓰지 않고 차액만 다시 compareAndUpdate)
+     *   > 충전이었으면 누적 한도 예약과 부정 충전 기록도 같이 되돌림
+     */
+    private UserPoint submitOptimistic(long userId, TransactionType type, long amount) {
+        int maxAttempts = pointWriteProperties.maxOptimisticAttempts();
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            VersionedPoint current = pointBalanceLedger.getVersioned(userId);
+            long now = System.currentTimeMillis();
+            UserPoint updated;
+            if (type == TransactionType.CHARGE) {
+                long balance = chargedBalance(current.point(), amount);
+                updated = pointBalanceLedger.compareAndUpdate(current, balance,
+                        () -> checkChargeRules(userId, amount, now));
+            } else {
+                long balance = applyUse(userId, current.point(), amount);
+                updated = pointBalanceLedger.compareAndUpdate(current, balance, () -> {
+                });
+            }
+
+            if (updated != null) {
+                try {
+                    pointHistoryRepository.insert(userId, amount, type, now);
+                } catch (RuntimeException e) {
+                    pointBalanceLedger.revert(userId, type == TransactionType.USE ? amount : -amount, pointMetrics::optimisticConflict);
+                    if (type == TransactionType.CHARGE) {
+                        chargeLimitTracker.release(userId, amount);
+                        chargeFraudDetector.forget(userId, amount, now);
+                    }
+                    throw e;
+                }
+                return updated;
+            }
+            pointMetrics.optimisticConflict();
+        }
+        throw new OptimisticConflictException(userId, maxAttempts);
+    }
+
+    /**
+     * 같은 유저의 요청 묶음을 들어온 순서대로 적용함 (유저 락 안에서 호출)
+     * - 잔액은 묶음당 한번만 조회하고, 정책 검증은 앞 건까지 반영된 잔액 기준으로 건별로 함
+     *   > 거절된 건은 그 건만 예외로 돌려주고 잔액에는 반영하지 않음
+     * - 통과한 건들은 잔액 변경 한번 + 건별 내역 저장으로 한번에 저장함 (writeGroup)
+     */
+    private void applyGroup(long userId, List<PendingOperation> group) {
+        UserPoint currentPoint = pointBalanceLedger.get(userId);
+        long balance = currentPoint.point();
+        List<AppliedOperation> applied = new ArrayList<>(group.size());
+        for (PendingOperation operation : group) {
+            long now = System.currentTimeMillis();
+            try {
+                balance = operation.type() == TransactionType.CHARGE
+                        ? applyCharge(userId, balance, operation.amount(), now)
+                        : applyUse(userId, balance, operation.amount());
+                applied.add(new AppliedOperation(operation, balance, now));
+            } catch (RuntimeException e) {
+                operation.fail(e);
+            }
+        }
+
+        if (!applied.isEmpty()) {
+            writeGroup(currentPoint, applied);
+        }
+    }
+
+    /**
+     * 충전 한 건 검증 후 충전 뒤 잔액을 반환함
+     * 같은 묶음 안의 중복 충전/누적 한도도 잡아야 하므로 통과하면 바로 탐지 기록과 한도 예약에 남김
+     */
+    private long applyCharge(long userId, long balance, long amount, long now) {
+        long charged = chargedBalance(balance, amount);
+        checkChargeRules(userId, amount, now);
+        return charged;
+    }
+
+    private long chargedBalance(long balance, long amount) {
+        // 최대 잔고 제한 정책 추가 (기본 500만원)
+        // TODO: 이 정책은 정책서에 없었는데 추가해야 할까? 일단 추가함
+        long maxBalance = chargeLimitProperties.maxBalance();
+        if (balance + amount > maxBalance) {
+            throw new PointPolicyException(PointPolicy.MAX_BALANCE, "최대 보유 가능한 포인트는 " + maxBalance + "원입니다.");
+        }
+        return balance + amount;
+    }
+
+    /**
+     * 잔액 말고 충전 이력에 걸린 검증 (PLC_PNT_008 일/월 누적 한도 > PLC_PNT_001 부정 충전)
+     * 누적 한도는 통과하면 금액을 예약하므로, 뒤의 부정 충전 검사에서 막히면 예약을 돌려놓음
+     */
+    private void checkChargeRules(long userId, long amount, long now) {
+        ChargeLimitSignal limitSignal = chargeLimitTracker.reserve(userId, amount, now);
+        if (limitSignal == ChargeLimitSignal.DAILY_LIMIT) {
+            throw new PointPolicyException(PointPolicy.PLC_PNT_008,
+                    "하루에 충전할 수 있는 최대 금액은 " + won(chargeLimitProperties.daily()) + "입니다.");
+        }
+        if (limitSignal == ChargeLimitSignal.MONTHLY_LIMIT) {
+            throw new PointPolicyException(PointPolicy.PLC_PNT_008,
+                    "한달에 충전할 수 있는 최대 금액은 " + won(chargeLimitProperties.monthly()) + "입니다.");
+        }
+        try {
+            checkAndRecordFraud(userId, amount, now);
+        } catch (RuntimeException e) {
+            chargeLimitTracker.release(userId, amount);
+            throw e;
+        }
+    }
+
+    private void checkAndRecordFraud(long userId, long amount, long now) {
+        // PLC_PNT_001: 부정 충전 차단 검증
+        // TODO: 실제로는 휴대폰번호, 기기ID 등을 확인해야 하는데... 일단 간단히 구현
+        FraudSignal fraudSignal = pointMetrics.recordFraudCheck(() -> chargeFraudDetector.check(userId, amount, now));
+        if (fraudSignal == FraudSignal.DUPLICATE_AMOUNT) {
+            throw new PointPolicyException(PointPolicy.PLC_PNT_001, "부정 충전이 감지되었습니다.");
+        }
+        if (fraudSignal == FraudSignal.TOO_MANY_CHARGES) {
+            throw new PointPolicyException(PointPolicy.PLC_PNT_001, "부정 충전이 감지되었습니다. (짧은 시간 내 반복 충전)");
+        }
+        chargeFraudDetector.record(userId, amount, now);
+    }
+
+    // 한도 안내 문구용 (1000000 > 100만원, 만원 단위로 안 떨어지면 원 단위 그대로)
+    private static String won(long amount) {
+        return amount % 10_000 == 0 ? amount / 10_000 + "만원" : amount + "원";
+    }
+
+    /**
+     * 사용 한 건 검증 후 사용 뒤 잔액을 반환함
+     */
+    private long applyUse(long userId, long balance, long amount) {
         // 잔액 부족 확인
-        if (currentPoint.point() < amount) {
-            throw new IllegalArgumentException("포인트 잔액이 부족합니다. 현재 잔액: " + currentPoint.point() + "원");
+        if (balance < amount) {
+            throw new PointPolicyException(PointPolicy.INSUFFICIENT_BALANCE, "포인트 잔액이 부족합니다. 현재 잔액: " + balance + "원");
         }
 
         // PLC_PNT_005: 최초 사용 시 본인 인증
@@ -134,51 +508,148 @@ public class PointService {
         if (amount >= 50_000L) {
             // 실제로는 본인 인증 로직이 들어가야 함
             // 여기서는 과제용으로 간단히 처리
-            throw new IllegalArgumentException("5만원 이상 사용시 본인 인증이 필요합니다.");
+            throw new PointPolicyException(PointPolicy.PLC_PNT_003, "5만원 이상 사용시 본인 인증이 필요합니다.");
         }
 
-        // 새로운 포인트 계산 후 업데이트
-        UserPoint updatedPoint = userPointTable.insertOrUpdate(userId, currentPoint.point() - amount);
-        
-        // 사용 내역 저장
-        pointHistoryTable.insert(userId, amount, TransactionType.USE, System.currentTimeMillis());
-        
-        return updatedPoint;
+        return balance - amount;
     }
 
     /**
-     * PLC_PNT_001: 부정 충전 차단 검증
-     * TODO: 실제로는 더 복잡한 로직이 필요할 것 같음
-     * - 동일 휴대폰번호로 동시 충전 체크
-     * - 동일 기기ID로 동시 충전 체크  
-     * - 동일 계정으로 동시 충전 체크
-     * - 짧은 시간 내 반복 충전 체크
+     * 잔액 변경과 내역 저장 (유저 락 안에서 호출)
+     * - 잔액은 묶음의 마지막 잔액으로 한번만 쓰고, 내역은 건별로 요청 순서대로 저장함 (insertHistories)
+     *   > 같은 묶음의 내역 id 도 요청 순서대로 매겨지므로 내역 id 커서와 리스너가 보는 순서가 요청 순서와 같음
+     * - point.write.overlap-history=true 면 묶음의 내역 저장을 작업 하나로 다른 스레드에 먼저 보내고, 그동안 잔액을 변경함
+     *   > 잔액 변경 지연만큼은 내역 저장과 겹쳐서 기다리지 않음
+     * - 어느 쪽이든 모두 끝난 다음에 결과를 채우고 락을 놓음
+     *   > 돌려준 UserPoint 의 내역은 그 시점에 이미 조회됨 (다음 요청이 반쯤 저장된 상태를 볼 일도 없음)
+     * - 잔액 변경이 실패하면 이미 보낸 내역 저장은 취소할 수 없으므로 끝날 때까지 기다린 뒤 예외를 던짐
+     *   (테이블 insertOrUpdate 는 인터럽트 말고는 실패하지 않음)
      */
-    private boolean isIllegalChargeDetected(Long userId, Long amount) {
-        // 과제용 간단 구현: 10초 내 동일 금액 충전 시 부정 충전으로 판단 > 시간을 얼마로해야하지..?
-        List<PointHistory> recentCharges = pointHistoryTable.selectAllByUserId(userId);
-        long currentTime = System.currentTimeMillis();
-        
-        for (PointHistory history : recentCharges) {
-            if (history.type() == TransactionType.CHARGE 
-                && history.amount() == amount 
-                && (currentTime - history.updateMillis()) < 10_000) { // 10초
-                return true;
+    private void writeGroup(UserPoint currentPoint, List<AppliedOperation> applied) {
+        long userId = currentPoint.id();
+        long finalBalance = applied.get(applied.size() - 1).balance();
+
+        if (!pointWriteProperties.overlapHistory()) {
+            UserPoint updatedPoint = pointBalanceLedger.update(userId, finalBalance);
+            completeGroup(currentPoint, updatedPoint, applied, insertHistories(userId, applied));
+            return;
+        }
+
+        CompletableFuture<RuntimeException[]> histories =
+                CompletableFuture.supplyAsync(() -> insertHistories(userId, applied), pointHistoryWriteExecutor);
+        UserPoint updatedPoint;
+        try {
+            updatedPoint = pointBalanceLedger.update(userId, finalBalance);
+        } catch (RuntimeException e) {
+            histories.exceptionally(ignored -> null).join();
+            throw e;
+        }
+
+        RuntimeException[] failures;
+        try {
+            failures = histories.join();
+        } catch (CompletionException e) {
+            RuntimeException failure = e.getCause() instanceof RuntimeException cause ? cause : e;
+            failures = new RuntimeException[applied.size()];
+            Arrays.fill(failures, failure);
+        }
+        completeGroup(currentPoint, updatedPoint, applied, failures);
+    }
+
+    /**
+     * 묶음의 내역을 요청 순서대로 저장하고 건별 실패를 돌려줌
+     * 앞 건의 내역이 실패하면 뒤 건은 그 잔액을 전제로 검증했으므로 저장하지 않고 같이 실패시킴
+     */
+    private RuntimeException[] insertHistories(long userId, List<AppliedOperation> applied) {
+        RuntimeException[] failures = new RuntimeException[applied.size()];
+        RuntimeException failure = null;
+        for (int i = 0; i < applied.size(); i++) {
+            if (failure == null) {
+                try {
+                    insertHistory(userId, applied.get(i));
+                } catch (RuntimeException e) {
+                    failure = e;
+                }
             }
+            failures[i] = failure;
         }
-        
-        return false;
+        return failures;
     }
 
     /**
-     * PLC_PNT_005: 최초 사용자 체크
-     * TODO: 실제로는 사용자 테이블에서 가입일자, 인증상태 등을 확인해야 함
+     * 건별 결과를 채움
+     * - 내역 저장에 실패한 건은 그 건만 예외로 돌려주고, 잔액은 내역이 저장된 건들만으로 다시 계산해서 씀
+     *   (이미 저장된 내역은 지울 수 없으므로 내역 기준으로 잔액을 맞춤 > 내역 없는 잔액 변경은 남기지 않음)
+     * - 응답 전에 성공한 건을 순서대로 로그에 한번에 남김 (재시작 시 복구용, 디스크 반영은 묶음당 한번 기다림)
      */
-    private boolean isFirstTimeUser(Long userId) {
-        List<PointHistory> histories = pointHistoryTable.selectAllByUserId(userId);
-        
-        // 사용 내역이 없으면 최초 사용자
-        return histories.stream()
-                .noneMatch(history -> history.type() == TransactionType.USE);
+    private void completeGroup(UserPoint currentPoint, UserPoint updatedPoint, List<AppliedOperation> applied,
+                               RuntimeException[] failures) {
+        long userId = currentPoint.id();
+        long balance = currentPoint.point();
+        long[] balances = new long[applied.size()];
+        boolean anyFailed = false;
+        for (int i = 0; i < applied.size(); i++) {
+            if (failures[i] != null) {
+                anyFailed = true;
+                continue;
+            }
+            balance += applied.get(i).signedAmount();
+            balances[i] = balance;
+        }
+        if (anyFailed) {
+            updatedPoint = pointBalanceLedger.update(userId, balance);
+        }
+
+        List<WalEntry> entries = new ArrayList<>(applied.size());
+        for (int i = 0; i < applied.size(); i++) {
+            AppliedOperation operation = applied.get(i);
+            if (failures[i] == null) {
+                entries.add(WalEntry.of(operation.type(), operation.amount(), balances[i], operation.updateMillis()));
+            }
+        }
+        pointWriteAheadLog.append(userId, entries);
+        for (int i = 0; i < applied.size(); i++) {
+            PendingOperation operation = applied.get(i).operation();
+            if (failures[i] != null) {
+                if (operation.type() == TransactionType.CHARGE) {
+                    chargeLimitTracker.release(userId, operation.amount());
+                }
+                operation.fail(failures[i]);
+            } else {
+                operation.complete(new UserPoint(userId, balances[i], updatedPoint.updateMillis()));
+            }
+        }
+    }
+
+    private PointHistory insertHistory(long userId, AppliedOperation operation) {
+        return pointHistoryRepository.insert(userId, operation.amount(), operation.type(), operation.updateMillis());
+    }
+
+    private BatchChargeResult chargeEntry(int index, ChargeRequest request) {
+        try {
+            return BatchChargeResult.succeeded(index, request, chargePoint(request.userId(), request.amount()));
+        } catch (IllegalArgumentException e) {
+            return BatchChargeResult.failed(index, request, e.getMessage());
+        } catch (RuntimeException e) {
+            return BatchChargeResult.failed(index, request, "충전 처리 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 검증을 통과한 요청 한 건과 그 건까지 반영한 잔액
+     */
+    private record AppliedOperation(PendingOperation operation, long balance, long updateMillis) {
+
+        TransactionType type() {
+            return operation.type();
+        }
+
+        long amount() {
+            return operation.amount();
+        }
+
+        long signedAmount() {
+            return operation.type().signedAmount(operation.amount());
+        }
     }
 }
@@ -0,0 +1,167 @@
+package io.hhplus.tdd.point.storage;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 파일 내역 저장소
+ * - 내역을 고정 크기 행(41바이트: id, userId, amount, type, updateMillis, reversedId)으로 파일 끝에 이어서 씀
+ *   > 환불/회수가 가리키는 원래 내역 id 도 같이 남겨서 재시작 후에 같은 내역을 두번 되돌리지 않게 함 (ReversalRegistry)
+ * - 읽기는 메모리 저장소(InMemoryPointHistoryRepository)가 맡고, 파일은 기동 시 한번만 읽어서 메모리에 다시 올림
+ * - 파일에 먼저 쓰고 메모리에 올리므로, 메모리에 보이는 내역은 항상 파일에도 있음
+ * - 쓰다 만 마지막 행은 기동 시 잘라냄 (id 가 순서에 맞지 않거나 유형 번호가 범위를 벗어난 행부터 끝까지)
+ * - 쓰기는 기본으로 OS 에 맡김 > 프로세스가 죽어도 남지만 장비가 죽으면 최근 내역을 잃을 수 있음
+ *   > 로그(WAL)도 이 저장소가 남는다고 보고 내역을 다시 채우지 않으므로, 장비 장애까지 견디려면 fsync 를 켬
+ *
+ * type 은 TransactionType 의 순서(ordinal)로 저장하므로, 유형을 추가할 때는 항상 맨 뒤에 붙여야 함
+ */
+public class FilePointHistoryRepository implements PointHistoryRepository, Closeable {
+
+    static final String FILE_NAME = "point-history.dat";
+    static final int ROW_SIZE = 41;
+
+    private final FileChannel channel;
+    private final InMemoryPointHistoryRepository memory = new InMemoryPointHistoryRepository();
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final boolean fsync;
+
+    private FilePointHistoryRepository(FileChannel channel, boolean fsync) {
+        this.channel = channel;
+        this.fsync = fsync;
+    }
+
+    public static FilePointHistoryRepository open(Path directory) {
+        return open(directory, false);
+    }
+
+    /**
+     * 파일을 열고 (없으면 만듦) 남아있던 내역을 모두 메모리에 올림
+     *
+     * @param fsync true 면 쓸 때마다 디스크에 반영함
+     */
+    public static FilePointHistoryRepository open(Path directory, boolean fsync) {
+        try {
+            Files.createDirectories(directory);
+            FileChannel channel = FileChannel.open(directory.resolve(FILE_NAME),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            FilePointHistoryRepository repository = new FilePointHistoryRepository(channel, fsync);
+            repository.load();
+            return repository;
+        } catch (IOException e) {
+            throw new UncheckedIOException("내역 파일을 열 수 없습니다: " + directory, e);
+        }
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        return insert(userId, amount, type, updateMillis, 0L);
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis, long reversedId) {
+        appendLock.lock();
+        try {
+            PointHistory history = new PointHistory(memory.size() + 1L, userId, amount, type, updateMillis, reversedId);
+            ByteBuffer buffer = ByteBuffer.allocate(ROW_SIZE)
+                    .putLong(history.id())
+                    .putLong(userId)
+                    .putLong(amount)
+                    .put((byte) type.ordinal())
+                    .putLong(updateMillis)
+                    .putLong(reversedId)
+                    .flip();
+            long position = (history.id() - 1) * ROW_SIZE;
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, position + buffer.position());
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+            memory.restore(history);
+            return history;
+        } catch (IOException e) {
+            throw new UncheckedIOException("내역을 파일에 쓸 수 없습니다: userId=" + userId, e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return memory.selectAllByUserId(userId);
+    }
+
+    @Override
+    public boolean readsById() {
+        return true;
+    }
+
+    @Override
+    public PointHistory findById(long id) {
+        return memory.findById(id);
+    }
+
+    @Override
+    public void forEachStored(Consumer<PointHistory> action) {
+        memory.forEachStored(action);
+    }
+
+    public int size() {
+        return memory.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void load() throws IOException {
+        long rows = channel.size() / ROW_SIZE;
+        TransactionType[] types = TransactionType.values();
+        ByteBuffer buffer = ByteBuffer.allocate(ROW_SIZE * 4096);
+        long position = 0;
+        long end = rows * ROW_SIZE;
+        boolean torn = false;
+        while (position < end && !torn) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), end - position));
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    break;
+                }
+            }
+            buffer.flip();
+            while (!torn && buffer.remaining() >= ROW_SIZE) {
+                long id = buffer.getLong();
+                long userId = buffer.getLong();
+                long amount = buffer.getLong();
+                int typeCode = buffer.get();
+                long updateMillis = buffer.getLong();
+                long reversedId = buffer.getLong();
+                // 0 으로 남은 자리나 깨진 행은 쓰다 만 꼬리로 보고 거기서 멈춤
+                if (id != memory.size() + 1L || typeCode < 0 || typeCode >= types.length) {
+                    torn = true;
+                } else {
+                    memory.restore(new PointHistory(id, userId, amount, types[typeCode], updateMillis, reversedId));
+                    position += ROW_SIZE;
+                }
+            }
+        }
+        // 쓰다 만 마지막 행이 있으면 잘라내서 다음 행이 제자리에 붙도록 함
+        if (channel.size() != position) {
+            channel.truncate(position);
+        }
+    }
+}
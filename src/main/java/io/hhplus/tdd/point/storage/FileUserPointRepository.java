@@ -0,0 +1,140 @@
+package io.hhplus.tdd.point.storage;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.ledger.LongKeyMap;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * 파일 잔액 저장소
+ * - 유저마다 파일 안에 고정 자리(24바이트: userId, point, updateMillis)를 하나씩 주고, 잔액이 바뀌면 그 자리만 덮어씀
+ * - 조회는 메모리(LongKeyMap)에서 바로 응답하고, 파일은 기동 시 한번만 읽음
+ * - 쓰기는 기본으로 OS 에 맡김 > 프로세스가 죽어도 남지만 장비가 죽으면 최근 변경을 잃을 수 있음
+ *   (fsync 를 켜면 쓸 때마다 디스크에 반영함)
+ *
+ * 같은 유저의 쓰기 순서는 호출하는 쪽(PointService 의 유저 락)이 보장함
+ */
+public class FileUserPointRepository implements UserPointRepository, Closeable {
+
+    static final String FILE_NAME = "user-point.dat";
+    private static final int SLOT_SIZE = 24;
+
+    private final FileChannel channel;
+    private final LongKeyMap<StoredPoint> stored = new LongKeyMap<>();
+    private final AtomicLong nextPosition;
+    private final boolean fsync;
+
+    private FileUserPointRepository(FileChannel channel, long nextPosition, boolean fsync) {
+        this.channel = channel;
+        this.nextPosition = new AtomicLong(nextPosition);
+        this.fsync = fsync;
+    }
+
+    public static FileUserPointRepository open(Path directory) {
+        return open(directory, false);
+    }
+
+    /**
+     * 파일을 열고 (없으면 만듦) 남아있던 잔액을 모두 메모리에 올림
+     *
+     * @param fsync true 면 쓸 때마다 디스크에 반영함
+     */
+    public static FileUserPointRepository open(Path directory, boolean fsync) {
+        try {
+            Files.createDirectories(directory);
+            FileChannel channel = FileChannel.open(directory.resolve(FILE_NAME),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long slots = channel.size() / SLOT_SIZE;
+            FileUserPointRepository repository = new FileUserPointRepository(channel, slots * SLOT_SIZE, fsync);
+            repository.load(slots);
+            return repository;
+        } catch (IOException e) {
+            throw new UncheckedIOException("잔액 파일을 열 수 없습니다: " + directory, e);
+        }
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        StoredPoint point = stored.get(id);
+        return point == null ? UserPoint.empty(id) : point.userPoint();
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        StoredPoint current = stored.get(id);
+        // 처음 보는 유저는 파일 끝에 자리를 새로 잡음
+        long position = current != null ? current.position() : nextPosition.getAndAdd(SLOT_SIZE);
+
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        ByteBuffer buffer = ByteBuffer.allocate(SLOT_SIZE)
+                .putLong(id)
+                .putLong(amount)
+                .putLong(userPoint.updateMillis())
+                .flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, position + buffer.position());
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("잔액을 파일에 쓸 수 없습니다: userId=" + id, e);
+        }
+        stored.put(id, new StoredPoint(userPoint, position));
+        return userPoint;
+    }
+
+    @Override
+    public void forEachUserId(LongConsumer action) {
+        stored.forEach((id, point) -> action.accept(id));
+    }
+
+    public int size() {
+        return stored.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void load(long slots) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SLOT_SIZE * 4096);
+        long position = 0;
+        for (long slot = 0; slot < slots; ) {
+            buffer.clear();
+            int limit = (int) Math.min(buffer.capacity(), (slots - slot) * SLOT_SIZE);
+            buffer.limit(limit);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    break;
+                }
+            }
+            buffer.flip();
+            while (buffer.remaining() >= SLOT_SIZE) {
+                long id = buffer.getLong();
+                long amount = buffer.getLong();
+                long updateMillis = buffer.getLong();
+                // 자리만 잡고 쓰지 못한 칸은 0 으로 남아있음
+                if (id != 0) {
+                    stored.put(id, new StoredPoint(new UserPoint(id, amount, updateMillis), position));
+                }
+                position += SLOT_SIZE;
+                slot++;
+            }
+        }
+    }
+
+    private record StoredPoint(UserPoint userPoint, long position) {
+    }
+}
@@ -0,0 +1,168 @@
+package io.hhplus.tdd.point.storage;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 메모리 내역 저장소 (열 단위 배치)
+ * - 내역을 PointHistory 객체로 들고 있지 않고, 고정 크기 묶음(chunk)마다 열별 기본형 배열(userId, amount, type, updateMillis)에 나눠 담음
+ *   > 한 건당 25바이트 (PointHistory 객체로 들면 객체 헤더 + 필드 + 리스트의 참조까지 50바이트 남짓)
+ *   > 앞단 인덱스의 id(8바이트)까지 더해도 한 건당 40바이트가 안 됨
+ *   > insert 할 때 객체를 만들지 않으므로 내역이 쌓여도 GC 가 훑을 객체 수가 늘지 않음
+ * - PointHistory 는 호출한 쪽에 돌려줄 때만 만듦 (앞단 인덱스도 id 만 들고 findById 로 읽음)
+ * - id 는 들어온 순서대로 1부터 매기므로 따로 저장하지 않고 위치(묶음 번호, 묶음 안 위치)로 계산함
+ * - ArrayList 처럼 커질 때마다 전체를 복사하지 않고 묶음만 하나씩 추가함
+ * - 쓰기는 락 안에서 한 스레드씩, 읽기는 락 없이 volatile 로 공개된 건수까지만 읽음
+ *   (배열을 먼저 채우고 건수를 나중에 쓰므로, 건수를 읽은 시점의 앞부분은 항상 채워져 있음)
+ *
+ * type 은 TransactionType 의 순서(ordinal)로 저장함
+ * 환불/회수가 가리키는 원래 내역 id(reversedId)는 드물어서 열로 두지 않고 id -> 원래 내역 id 맵에 따로 담음
+ */
+public class InMemoryPointHistoryRepository implements PointHistoryRepository {
+
+    private static final int CHUNK_BITS = 14;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private volatile Chunk[] chunks = new Chunk[4];
+    private volatile int size;
+    private final ConcurrentHashMap<Long, Long> reversedIds = new ConcurrentHashMap<>();
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        return insert(userId, amount, type, updateMillis, 0L);
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis, long reversedId) {
+        appendLock.lock();
+        try {
+            long id = append(userId, amount, type, updateMillis, reversedId);
+            return new PointHistory(id, userId, amount, type, updateMillis, reversedId);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * id 가 이미 매겨진 내역을 그대로 추가함 (파일 저장소가 기동 시 파일을 읽어서 채울 때 씀)
+     */
+    void restore(PointHistory history) {
+        appendLock.lock();
+        try {
+            if (history.id() != size + 1L) {
+                throw new IllegalStateException("내역 id 가 이어지지 않습니다: expected=" + (size + 1L) + ", actual=" + history.id());
+            }
+            append(history.userId(), history.amount(), history.type(), history.updateMillis(), history.reversedId());
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * userId 열만 훑어서 맞는 행만 PointHistory 로 만듦
+     */
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        int n = size;
+        Chunk[] current = chunks;
+        List<PointHistory> result = new ArrayList<>();
+        for (int c = 0, base = 0; base < n; c++, base += CHUNK_SIZE) {
+            Chunk chunk = current[c];
+            int rows = Math.min(CHUNK_SIZE, n - base);
+            long[] userIds = chunk.userIds;
+            for (int i = 0; i < rows; i++) {
+                if (userIds[i] == userId) {
+                    result.add(materialize(chunk, base, i));
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean readsById() {
+        return true;
+    }
+
+    /**
+     * id 가 곧 위치이므로 묶음 번호와 묶음 안 위치로 바로 읽음
+     */
+    @Override
+    public PointHistory findById(long id) {
+        long position = id - 1;
+        if (position < 0 || position >= size) {
+            return null;
+        }
+        int row = (int) position;
+        return materialize(chunks[row >>> CHUNK_BITS], row & ~CHUNK_MASK, row & CHUNK_MASK);
+    }
+
+    @Override
+    public void forEachStored(Consumer<PointHistory> action) {
+        int n = size;
+        Chunk[] current = chunks;
+        for (int c = 0, base = 0; base < n; c++, base += CHUNK_SIZE) {
+            Chunk chunk = current[c];
+            int rows = Math.min(CHUNK_SIZE, n - base);
+            for (int i = 0; i < rows; i++) {
+                action.accept(materialize(chunk, base, i));
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private PointHistory materialize(Chunk chunk, int base, int offset) {
+        long id = base + offset + 1L;
+        TransactionType type = TYPES[chunk.types[offset]];
+        long reversedId = type == TransactionType.REFUND || type == TransactionType.CLAWBACK
+                ? reversedIds.getOrDefault(id, 0L) : 0L;
+        return new PointHistory(id, chunk.userIds[offset], chunk.amounts[offset], type, chunk.updateMillis[offset], reversedId);
+    }
+
+    // 락 안에서만 호출, 원래 내역 id 도 건수보다 먼저 씀
+    private long append(long userId, long amount, TransactionType type, long updateMillis, long reversedId) {
+        int n = size;
+        int chunkIndex = n >>> CHUNK_BITS;
+        Chunk[] current = chunks;
+        if (chunkIndex == current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+        }
+        if (current[chunkIndex] == null) {
+            current[chunkIndex] = new Chunk();
+        }
+
+        Chunk chunk = current[chunkIndex];
+        int offset = n & CHUNK_MASK;
+        chunk.userIds[offset] = userId;
+        chunk.amounts[offset] = amount;
+        chunk.types[offset] = (byte) type.ordinal();
+        chunk.updateMillis[offset] = updateMillis;
+        if (reversedId != 0) {
+            reversedIds.put(n + 1L, reversedId);
+        }
+        chunks = current;
+        size = n + 1;
+        return n + 1L;
+    }
+
+    private static final class Chunk {
+
+        private final long[] userIds = new long[CHUNK_SIZE];
+        private final long[] amounts = new long[CHUNK_SIZE];
+        private final byte[] types = new byte[CHUNK_SIZE];
+        private final long[] updateMillis = new long[CHUNK_SIZE];
+    }
+}
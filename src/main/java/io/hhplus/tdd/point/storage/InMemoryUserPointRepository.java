@@ -0,0 +1,37 @@
+package io.hhplus.tdd.point.storage;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.ledger.LongKeyMap;
+
+import java.util.function.LongConsumer;
+
+/**
+ * 메모리 잔액 저장소
+ * 유저 id 를 박싱하지 않는 long 키 맵(LongKeyMap)에 UserPoint 를 그대로 들고 있음 (UserPoint 는 불변이라 복사하지 않음)
+ */
+public class InMemoryUserPointRepository implements UserPointRepository {
+
+    private final LongKeyMap<UserPoint> balances = new LongKeyMap<>();
+
+    @Override
+    public UserPoint selectById(long id) {
+        UserPoint userPoint = balances.get(id);
+        return userPoint == null ? UserPoint.empty(id) : userPoint;
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        balances.put(id, userPoint);
+        return userPoint;
+    }
+
+    @Override
+    public void forEachUserId(LongConsumer action) {
+        balances.forEach((id, userPoint) -> action.accept(id));
+    }
+
+    public int size() {
+        return balances.size();
+    }
+}
@@ -0,0 +1,52 @@
+package io.hhplus.tdd.point.storage;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 포인트 내역 저장소
+ * 유저별 조회는 앞단의 인덱스(IndexedPointHistoryRepository)가 처리하므로, 저장소는 추가와 기동 시 한번 훑기만 빠르면 됨
+ */
+public interface PointHistoryRepository {
+
+    /**
+     * 내역을 추가하고 저장소가 매긴 id 를 담아서 돌려줌 (id 는 1부터 증가)
+     */
+    PointHistory insert(long userId, long amount, TransactionType type, long updateMillis);
+
+    /**
+     * 환불/회수 내역을 되돌린 원래 내역 id(reversedId)와 같이 추가함
+     * 기본 구현은 원래 내역 id 를 저장하지 않고 돌려주는 객체에만 담음 > 재시작하면 내역도 같이 비는 저장소(TABLE)용
+     * 재시작 후에도 남는 저장소는 같이 저장해야 기동 시 환불/회수 기록(ReversalRegistry)을 다시 만들 수 있음
+     */
+    default PointHistory insert(long userId, long amount, TransactionType type, long updateMillis, long reversedId) {
+        return insert(userId, amount, type, updateMillis).withReversedId(reversedId);
+    }
+
+    List<PointHistory> selectAllByUserId(long userId);
+
+    /**
+     * 저장된 행을 id 로 바로 읽을 수 있으면 true (메모리/파일 저장소)
+     * > 앞단 인덱스는 이 경우 내역 id 만 들고, 읽을 때마다 findById 로 PointHistory 를 만듦
+     */
+    default boolean readsById() {
+        return false;
+    }
+
+    /**
+     * id 로 내역 한 건을 읽음 (없으면 null), readsById() 가 true 인 저장소만 구현함
+     */
+    default PointHistory findById(long id) {
+        throw new UnsupportedOperationException("id 로 내역을 읽을 수 없는 저장소입니다.");
+    }
+
+    /**
+     * 재시작 전부터 남아있던 내역을 id 순서대로 한번씩 훑음 (기동 시 인덱스를 채우는 용도)
+     * 재시작하면 비어버리는 저장소는 아무것도 하지 않음
+     */
+    default void forEachStored(Consumer<PointHistory> action) {
+    }
+}
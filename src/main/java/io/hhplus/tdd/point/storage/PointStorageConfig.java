@@ -0,0 +1,42 @@
+package io.hhplus.tdd.point.storage;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+public class PointStorageConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(PointStorageConfig.class);
+
+    /**
+     * 설정(point.storage.type)에 맞는 잔액 저장소
+     * 원장에는 PointMetricsConfig 가 시간을 재는 감싸개를 씌운 저장소가 주입됨
+     * FILE 저장소는 스프링이 종료할 때 close 를 불러서 파일을 닫음
+     */
+    @Bean
+    public UserPointRepository userPointStorage(PointStorageProperties properties, UserPointTable userPointTable) {
+        log.info("잔액 저장소: {}", properties.type());
+        return switch (properties.type()) {
+            case TABLE -> new TableUserPointRepository(userPointTable);
+            case MEMORY -> new InMemoryUserPointRepository();
+            case FILE -> FileUserPointRepository.open(Path.of(properties.directory()), properties.fsync());
+        };
+    }
+
+    @Bean
+    public PointHistoryRepository pointHistoryStorage(PointStorageProperties properties,
+                                                      PointHistoryTable pointHistoryTable) {
+        log.info("내역 저장소: {}", properties.type());
+        return switch (properties.type()) {
+            case TABLE -> new TablePointHistoryRepository(pointHistoryTable);
+            case MEMORY -> new InMemoryPointHistoryRepository();
+            case FILE -> FilePointHistoryRepository.open(Path.of(properties.directory()), properties.fsync());
+        };
+    }
+}
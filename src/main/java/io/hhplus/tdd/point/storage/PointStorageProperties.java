@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.storage;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 잔액/내역 저장소 설정 (application.yml 의 point.storage.*)
+ *
+ * @param type      저장 방식 (TABLE / MEMORY / FILE)
+ * @param directory FILE 일 때 잔액/내역 파일을 두는 디렉터리
+ * @param fsync     FILE 일 때 쓸 때마다 디스크에 반영(force)할지, false 면 OS 에 맡겨서 장비가 죽으면 최근 변경을 잃을 수 있음
+ */
+@ConfigurationProperties("point.storage")
+public record PointStorageProperties(
+        @DefaultValue("TABLE") StorageType type,
+        @DefaultValue("data/storage") String directory,
+        @DefaultValue("false") boolean fsync
+) {
+
+    public static PointStorageProperties table() {
+        return new PointStorageProperties(StorageType.TABLE, "data/storage", false);
+    }
+
+    public static PointStorageProperties memory() {
+        return new PointStorageProperties(StorageType.MEMORY, "data/storage", false);
+    }
+}
@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.storage;
+
+/**
+ * 잔액/내역 저장 방식
+ * - TABLE: 기존 UserPointTable / PointHistoryTable (호출마다 최대 200~300ms 지연, 재시작하면 비어짐)
+ * - MEMORY: 지연 없는 메모리 저장소 (내역은 열 단위 기본형 배열에 담음, 재시작하면 비어짐)
+ * - FILE: 파일에 남기는 저장소 (재시작해도 남아있음, 장비 장애까지 견디려면 point.storage.fsync=true)
+ */
+public enum StorageType {
+
+    TABLE(false),
+    MEMORY(false),
+    FILE(true);
+
+    private final boolean durable;
+
+    StorageType(boolean durable) {
+        this.durable = durable;
+    }
+
+    /**
+     * 재시작해도 잔액/내역이 남아있는지 (남아있으면 기동 시 로그(WAL)로 다시 채우지 않음)
+     */
+    public boolean durable() {
+        return durable;
+    }
+}
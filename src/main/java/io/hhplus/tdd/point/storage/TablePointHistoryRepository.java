@@ -0,0 +1,46 @@
+package io.hhplus.tdd.point.storage;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 기존 PointHistoryTable 을 그대로 쓰는 저장소 (공개 API 만 호출함)
+ * 테이블은 항상 비어있는 상태로 시작하므로 기동 시 훑을 내역이 없음
+ *
+ * 테이블은 ArrayList + cursor++ 라서 스레드 안전하지 않음 > 유저별 락만으로는 다른 유저끼리 동시에 쓰므로
+ * 쓰기는 이 저장소의 쓰기 락으로 한 건씩, 읽기는 읽기 락으로 쓰기와 겹치지 않게 함
+ * (synchronized 대신 ReentrantReadWriteLock 을 써서 테이블 지연 동안 가상 스레드가 고정되지 않게 함)
+ */
+public class TablePointHistoryRepository implements PointHistoryRepository {
+
+    private final PointHistoryTable pointHistoryTable;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public TablePointHistoryRepository(PointHistoryTable pointHistoryTable) {
+        this.pointHistoryTable = pointHistoryTable;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        lock.writeLock().lock();
+        try {
+            return pointHistoryTable.insert(userId, amount, type, updateMillis);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        lock.readLock().lock();
+        try {
+            return pointHistoryTable.selectAllByUserId(userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
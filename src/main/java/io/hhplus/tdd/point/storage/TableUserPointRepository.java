@@ -0,0 +1,61 @@
+package io.hhplus.tdd.point.storage;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongConsumer;
+
+/**
+ * 기존 UserPointTable 을 그대로 쓰는 저장소 (공개 API 만 호출함)
+ *
+ * 테이블은 HashMap 이라 스레드 안전하지 않음 > 다른 유저끼리(또는 write-behind 반영 스레드끼리) 동시에 쓰면 맵이 깨지므로
+ * 쓰기는 이 저장소의 쓰기 락으로 한 건씩, 읽기는 읽기 락으로 쓰기와 겹치지 않게 함
+ *
+ * 테이블은 유저 목록을 주지 않아서 이 저장소로 쓴 유저 id 를 따로 들고 있음
+ * (테이블은 기동할 때마다 비어서 시작하고 이 저장소만 쓰므로 빠지는 유저가 없음)
+ */
+public class TableUserPointRepository implements UserPointRepository {
+
+    private final UserPointTable userPointTable;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Set<Long> userIds = ConcurrentHashMap.newKeySet();
+
+    public TableUserPointRepository(UserPointTable userPointTable) {
+        this.userPointTable = userPointTable;
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        lock.readLock().lock();
+        try {
+            return userPointTable.selectById(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        lock.writeLock().lock();
+        try {
+            UserPoint userPoint = userPointTable.insertOrUpdate(id, amount);
+            userIds.add(id);
+            return userPoint;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void forEachUserId(LongConsumer action) {
+        userIds.forEach(action::accept);
+    }
+
+    @Override
+    public boolean concurrentWrites() {
+        return false;
+    }
+}
@@ -0,0 +1,34 @@
+package io.hhplus.tdd.point.storage;
+
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.function.LongConsumer;
+
+/**
+ * 유저 잔액 저장소
+ * 원장(PointBalanceLedger)은 이 인터페이스만 보고, 실제 저장 방식은 point.storage.type 으로 고름 (PointStorageConfig)
+ *
+ * 같은 유저에 대한 호출 순서는 호출하는 쪽(PointService 의 유저 락)이 보장한다고 가정함
+ */
+public interface UserPointRepository {
+
+    /**
+     * 저장된 잔액이 없으면 잔액 0 인 UserPoint 를 돌려줌
+     */
+    UserPoint selectById(long id);
+
+    UserPoint insertOrUpdate(long id, long amount);
+
+    /**
+     * 잔액을 한번이라도 저장한 유저 id 를 한번씩 훑음 (전체 유저 대조용, 훑는 도중 추가된 유저는 보일 수도 안 보일 수도 있음)
+     */
+    void forEachUserId(LongConsumer action);
+
+    /**
+     * 다른 유저에 대한 쓰기를 동시에 불러도 나눠서 빨라지는지
+     * false 면 저장소 안에서 한 건씩 처리되므로 원장은 반영 스레드를 하나만 씀
+     */
+    default boolean concurrentWrites() {
+        return true;
+    }
+}
@@ -0,0 +1,35 @@
+package io.hhplus.tdd.point.wal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 충전/사용 기록 로그(WAL) 설정 (application.yml 의 point.wal.*)
+ *
+ * @param enabled                false 면 로그를 남기지 않음 (재시작하면 잔액/내역이 모두 사라지는 기존 동작)
+ * @param directory              세그먼트/스냅샷 파일을 두는 디렉터리
+ * @param segmentSizeBytes       세그먼트 파일 하나의 크기 (꽉 차면 다음 세그먼트로 넘어감)
+ * @param fsync                  true 면 디스크에 기록된 것을 확인한 뒤 응답함 (동시 요청끼리 한번에 묶어서 기록)
+ *                               false 면 OS 에 맡김 > 프로세스가 죽어도 남지만 장비가 죽으면 최근 기록을 잃을 수 있음
+ * @param snapshotIntervalMillis 잔액 스냅샷을 남기는 주기
+ */
+@ConfigurationProperties("point.wal")
+public record PointWalProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/wal") String directory,
+        @DefaultValue("67108864") int segmentSizeBytes,
+        @DefaultValue("true") boolean fsync,
+        @DefaultValue("60000") long snapshotIntervalMillis
+) {
+
+    public static PointWalProperties disabled() {
+        return new PointWalProperties(false, "data/wal", 64 * 1024 * 1024, true, 60_000);
+    }
+
+    /**
+     * 세그먼트 하나에 들어가는 기록 수
+     */
+    int segmentCapacity() {
+        return Math.max(1, segmentSizeBytes / WalRecord.SIZE);
+    }
+}
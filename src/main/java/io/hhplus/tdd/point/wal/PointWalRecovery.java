@@ -0,0 +1,95 @@
+package io.hhplus.tdd.point.wal;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.history.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.ledger.LongKeyMap;
+import io.hhplus.tdd.point.ledger.PointBalanceLedger;
+import io.hhplus.tdd.point.storage.PointStorageProperties;
+import io.hhplus.tdd.point.storage.StorageType;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 로그로 테이블을 다시 채움
+ * - 내역: 로그의 모든 기록을 sequence 순서대로 내역 인덱스(IndexedPointHistoryRepository)를 통해 다시 insert
+ *   > 내역 id 는 테이블이 새로 매기므로 재시작 전과 다를 수 있음 (유저 안에서의 순서는 같음)
+ *   > 환불/회수 기록은 원래 내역을 유저 안에서의 위치로 가리키므로, 다시 채운 내역의 id 로 바꿔서 같이 저장함
+ *     (PointHistoryWarmup 이 이 내역으로 환불/회수 기록(ReversalRegistry)을 다시 만듦)
+ * - 잔액: 스냅샷 잔액 + 스냅샷 이후 기록의 잔액으로 유저별 마지막 잔액만 모은 뒤, 유저당 한번씩 원장에 씀
+ *
+ * 저장소가 스스로 남는 경우(point.storage.type=FILE)에는 테이블을 다시 채우지 않음
+ * > 로그는 이어쓰기 위치를 잡기 위해 끝까지 읽기만 함
+ * 기존 테이블(point.storage.type=TABLE)과는 같이 쓸 수 없어서 기동할 때 실패시킴
+ * > 호출마다 최대 300ms 지연이 있는 테이블에 내역을 한 건씩 다시 넣으면 로그가 쌓일수록 기동이 끝나지 않음 (100만 건이면 며칠)
+ * > 로그를 켜려면 MEMORY(로그로 다시 채움) 또는 FILE(스스로 남음) 저장소를 씀
+ *
+ * @PostConstruct 에서 실행되므로 내역 기반 상태 재구성(PointHistoryWarmup)과 웹 서버 기동보다 먼저 끝남
+ */
+@Component
+public class PointWalRecovery {
+
+    private static final Logger log = LoggerFactory.getLogger(PointWalRecovery.class);
+
+    private final PointWriteAheadLog pointWriteAheadLog;
+    private final PointBalanceLedger pointBalanceLedger;
+    private final IndexedPointHistoryRepository pointHistoryRepository;
+    private final PointStorageProperties storageProperties;
+
+    public PointWalRecovery(PointWriteAheadLog pointWriteAheadLog, PointBalanceLedger pointBalanceLedger,
+                            IndexedPointHistoryRepository pointHistoryRepository,
+                            PointStorageProperties storageProperties) {
+        this.pointWriteAheadLog = pointWriteAheadLog;
+        this.pointBalanceLedger = pointBalanceLedger;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.storageProperties = storageProperties;
+    }
+
+    @PostConstruct
+    public void recover() {
+        if (!pointWriteAheadLog.enabled()) {
+            return;
+        }
+        if (storageProperties.type() == StorageType.TABLE) {
+            throw new IllegalStateException("point.wal.enabled=true 는 point.storage.type=TABLE 과 같이 쓸 수 없습니다. "
+                    + "point.storage.type=MEMORY 또는 FILE 을 사용해주세요.");
+        }
+
+        if (storageProperties.type().durable()) {
+            pointWriteAheadLog.replay(WalReplayHandler.ignoring());
+            log.info("저장소가 재시작 후에도 남아있어서({}) 로그로 다시 채우지 않습니다", storageProperties.type());
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        LongKeyMap<UserPoint> latestBalances = new LongKeyMap<>();
+        long[] rows = {0};
+        pointWriteAheadLog.replay(new WalReplayHandler() {
+            @Override
+            public void onSnapshotBalance(UserPoint balance) {
+                latestBalances.put(balance.id(), balance);
+            }
+
+            @Override
+            public void onRecord(WalRecord record, boolean coveredBySnapshot) {
+                if (record.reversedPosition() >= 0) {
+                    long reversedId = pointHistoryRepository.idAt(record.userId(), (int) record.reversedPosition());
+                    pointHistoryRepository.insert(record.userId(), record.amount(), record.type(), record.updateMillis(),
+                            reversedId);
+                } else {
+                    pointHistoryRepository.insert(record.userId(), record.amount(), record.type(), record.updateMillis());
+                }
+                if (!coveredBySnapshot) {
+                    latestBalances.put(record.userId(),
+                            new UserPoint(record.userId(), record.balance(), record.updateMillis()));
+                }
+                rows[0]++;
+            }
+        });
+
+        latestBalances.forEach((userId, balance) -> pointBalanceLedger.update(userId, balance.point()));
+        log.info("포인트 로그 복구 완료: histories={}, users={}, elapsed={}ms",
+                rows[0], latestBalances.size(), System.currentTimeMillis() - start);
+    }
+}
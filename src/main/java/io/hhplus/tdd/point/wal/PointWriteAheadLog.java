@@ -0,0 +1,318 @@
+package io.hhplus.tdd.point.wal;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.execution.PointThreadFactories;
+import io.hhplus.tdd.point.ledger.LongKeyMap;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 충전/사용 기록 로그 (append-only, 세그먼트 단위 메모리 매핑 파일)
+ * - 메모리 저장소는 재시작하면 비어버리므로, 성공한 충전/사용을 응답 전에 로그에 남기고
+ *   기동 시 로그를 다시 읽어서 저장소를 다시 채움 (PointWalRecovery, 지연이 있는 기존 테이블과는 같이 못 씀)
+ * - 그룹 커밋: 기록은 append 락 안에서 매핑된 버퍼에 복사만 하고, 디스크 반영은 먼저 온 스레드 하나(리더)가
+ *   그때까지 쓴 기록을 한번에 force 함 > 리더가 반영하는 동안 기다린 스레드들은 락을 얻었을 때 이미 반영되어 있어서 바로 돌아감
+ * - 잔액 스냅샷: 유저별 마지막 잔액을 주기적으로 파일로 남겨서, 복구 시 잔액은 스냅샷 + 그 뒤의 기록만으로 맞춤
+ * - 세그먼트 정리: 기동 시 기록이 하나도 없는 세그먼트는 지우고, 내역을 로그로 다시 만들 필요가 없으면
+ *   (WalReplayHandler.needsCoveredRecords) 남겨둔 스냅샷 중 오래된 쪽에 덮인 세그먼트를 스냅샷마다 지움
+ *   > 최신 스냅샷이 깨져서 그 전 스냅샷으로 복구해도 필요한 기록이 남아있음
+ *   > 내역을 로그로 다시 만드는 경우(메모리 저장소)에는 모든 기록이 필요해서 지우지 않음 (로그 크기 = 내역 크기)
+ *
+ * 블로킹(force) 구간은 ReentrantLock 으로만 감싸서 가상 스레드가 고정되지 않게 함
+ */
+@Component
+public class PointWriteAheadLog {
+
+    private static final Logger log = LoggerFactory.getLogger(PointWriteAheadLog.class);
+
+    private final PointWalProperties properties;
+    private final PointThreadFactories threadFactories;
+    private final Path directory;
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    // append 락 안에서만 바뀜
+    private WalSegment current;
+    private final List<WalSegment> rolledSegments = new ArrayList<>();
+    private final List<ClosedSegment> closedSegments = new ArrayList<>();
+    private long lastSequence;
+
+    private volatile boolean open;
+    private volatile long writtenSequence;
+    private volatile long durableSequence;
+    private volatile long snapshotSequence;
+    private boolean pruneCoveredSegments;
+
+    // 유저별 마지막 잔액 (스냅샷용)
+    private final LongKeyMap<UserPoint> balances = new LongKeyMap<>();
+
+    private final LongAdder appendCount = new LongAdder();
+    private final LongAdder syncCount = new LongAdder();
+
+    private ScheduledExecutorService snapshotScheduler;
+
+    public PointWriteAheadLog(PointWalProperties properties, PointThreadFactories threadFactories) {
+        this.properties = properties;
+        this.threadFactories = threadFactories;
+        this.directory = Path.of(properties.directory());
+    }
+
+    public static PointWriteAheadLog disabled() {
+        return new PointWriteAheadLog(PointWalProperties.disabled(), PointThreadFactories.platform());
+    }
+
+    public boolean enabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * 기동 시 한번만 호출: 스냅샷과 세그먼트를 읽어서 handler 에 넘기고, 이후 기록은 새 세그먼트에 씀
+     * (쓰다 만 자리가 있을 수 있는 이전 세그먼트에는 이어서 쓰지 않음)
+     */
+    public void replay(WalReplayHandler handler) {
+        if (!properties.enabled()) {
+            return;
+        }
+        if (open) {
+            throw new IllegalStateException("로그는 이미 열려있습니다.");
+        }
+
+        createDirectory();
+        WalSnapshot snapshot = WalSnapshot.readLatest(directory).orElse(new WalSnapshot(0, List.of()));
+        for (UserPoint balance : snapshot.balances()) {
+            balances.put(balance.id(), balance);
+            handler.onSnapshotBalance(balance);
+        }
+        snapshotSequence = snapshot.sequence();
+
+        List<Path> segmentFiles = segmentFiles();
+        for (Path file : segmentFiles) {
+            long before = lastSequence;
+            int records = WalSegment.read(file, record -> {
+                // 이전 기동에서 쓰다 만 세그먼트 뒤에 새 세그먼트가 이어지므로 sequence 는 항상 증가해야 함
+                if (record.sequence() <= lastSequence) {
+                    return;
+                }
+                boolean covered = record.sequence() <= snapshot.sequence();
+                if (!covered) {
+                    balances.put(record.userId(), new UserPoint(record.userId(), record.balance(), record.updateMillis()));
+                }
+                handler.onRecord(record, covered);
+                lastSequence = record.sequence();
+            });
+            if (records == 0) {
+                // 기록 없이 끝난 기동이 남긴 빈 세그먼트
+                deleteSegment(file);
+            } else if (lastSequence > before) {
+                closedSegments.add(new ClosedSegment(WalSegment.indexOf(file), lastSequence));
+            }
+        }
+        pruneCoveredSegments = !handler.needsCoveredRecords();
+
+        // fsync 를 끈 상태에서 장비가 죽으면 스냅샷보다 앞선 기록까지만 남을 수 있음
+        // > 새 기록이 스냅샷에 덮인 sequence 를 다시 쓰지 않도록 스냅샷 다음 번호부터 씀
+        lastSequence = Math.max(lastSequence, snapshot.sequence());
+
+        int nextIndex = segmentFiles.isEmpty() ? 0 : WalSegment.indexOf(segmentFiles.get(segmentFiles.size() - 1)) + 1;
+        current = WalSegment.create(directory, nextIndex, properties.segmentCapacity());
+        writtenSequence = lastSequence;
+        durableSequence = lastSequence;
+        open = true;
+
+        snapshotScheduler = Executors.newSingleThreadScheduledExecutor(threadFactories.create("point-wal-snapshot"));
+        snapshotScheduler.scheduleWithFixedDelay(this::snapshotQuietly,
+                properties.snapshotIntervalMillis(), properties.snapshotIntervalMillis(), TimeUnit.MILLISECONDS);
+        log.info("포인트 로그 열림: directory={}, segments={}, lastSequence={}, snapshotSequence={}",
+                directory, segmentFiles.size(), lastSequence, snapshot.sequence());
+    }
+
+    /**
+     * 충전/사용 한 건을 기록하고, fsync 설정이면 디스크에 반영될 때까지 기다림
+     */
+    public void append(long userId, TransactionType type, long amount, long balance, long updateMillis) {
+        append(userId, List.of(WalEntry.of(type, amount, balance, updateMillis)));
+    }
+
+    /**
+     * 한 유저의 잔액 변경들을 순서대로 이어서 기록하고, fsync 설정이면 마지막 건까지 디스크에 반영될 때까지 한번만 기다림
+     * - 충전/사용 묶음(PointService.completeGroup)과 소멸/환불/회수가 모두 이 경로로 기록함
+     *   > 한 유저의 기록은 유저 락 안에서 내역 저장 뒤에 여기로만 들어오므로, 로그 안의 유저별 순서가 내역 순서와 같음
+     * - 같은 호출의 기록은 sequence 가 이어지고 중간에 다른 유저의 기록이 끼지 않음
+     */
+    public void append(long userId, List<WalEntry> entries) {
+        if (!properties.enabled() || entries.isEmpty()) {
+            return;
+        }
+        if (!open) {
+            throw new IllegalStateException("기동 복구(replay) 전에는 기록할 수 없습니다.");
+        }
+
+        long sequence;
+        appendLock.lock();
+        try {
+            for (WalEntry entry : entries) {
+                if (current.isFull()) {
+                    // 다 찬 세그먼트는 다음 그룹 커밋 때 남은 구간을 반영함 (fsync 를 끈 경우에는 OS 에 맡김)
+                    if (properties.fsync()) {
+                        rolledSegments.add(current);
+                    }
+                    closedSegments.add(new ClosedSegment(current.index(), lastSequence));
+                    current = WalSegment.create(directory, current.index() + 1, properties.segmentCapacity());
+                }
+                current.write(new WalRecord(++lastSequence, userId, entry.type(), entry.amount(), entry.balance(),
+                        entry.updateMillis(), entry.reversedPosition()));
+            }
+            WalEntry last = entries.get(entries.size() - 1);
+            balances.put(userId, new UserPoint(userId, last.balance(), last.updateMillis()));
+            sequence = lastSequence;
+            writtenSequence = sequence;
+        } finally {
+            appendLock.unlock();
+        }
+        appendCount.add(entries.size());
+
+        if (properties.fsync()) {
+            awaitDurable(sequence);
+        }
+    }
+
+    /**
+     * 지금까지의 유저별 잔액을 스냅샷으로 남김
+     * 복사하는 동안 들어온 최신 잔액이 섞여도 되도록, 복사 후의 기록까지 디스크에 반영한 다음 복사 전 sequence 로 저장함
+     */
+    public void snapshot() {
+        if (!open) {
+            return;
+        }
+        long sequence = writtenSequence;
+        List<UserPoint> copied = new ArrayList<>(balances.size());
+        balances.forEach((userId, balance) -> copied.add(balance));
+        if (properties.fsync()) {
+            awaitDurable(writtenSequence);
+        }
+        new WalSnapshot(sequence, copied).write(directory);
+        long previousSequence = snapshotSequence;
+        snapshotSequence = sequence;
+        if (pruneCoveredSegments) {
+            pruneSegmentsCoveredBy(previousSequence);
+        }
+    }
+
+    public WalMetrics metrics() {
+        return new WalMetrics(appendCount.sum(), syncCount.sum(), writtenSequence, durableSequence, snapshotSequence);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (!open) {
+            return;
+        }
+        snapshotScheduler.shutdown();
+        awaitDurable(writtenSequence);
+        snapshotQuietly();
+        open = false;
+    }
+
+    // 그룹 커밋: 락을 얻은 스레드가 그때까지 쓴 기록을 한번에 반영함
+    private void awaitDurable(long sequence) {
+        if (durableSequence >= sequence) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            if (durableSequence >= sequence) {
+                return;
+            }
+            List<WalSegment> toSync;
+            WalSegment segment;
+            long target;
+            appendLock.lock();
+            try {
+                toSync = new ArrayList<>(rolledSegments);
+                rolledSegments.clear();
+                segment = current;
+                target = writtenSequence;
+            } finally {
+                appendLock.unlock();
+            }
+
+            for (WalSegment rolled : toSync) {
+                rolled.force();
+            }
+            segment.force();
+            durableSequence = target;
+            syncCount.increment();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    // 마지막 기록이 sequence 이하인 세그먼트를 지움 (쓰고 있는 세그먼트는 closedSegments 에 없음)
+    private void pruneSegmentsCoveredBy(long sequence) {
+        List<ClosedSegment> covered = new ArrayList<>();
+        appendLock.lock();
+        try {
+            closedSegments.removeIf(segment -> segment.lastSequence() <= sequence && covered.add(segment));
+        } finally {
+            appendLock.unlock();
+        }
+        for (ClosedSegment segment : covered) {
+            deleteSegment(WalSegment.path(directory, segment.index()));
+        }
+    }
+
+    private void deleteSegment(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("로그 세그먼트를 지우지 못했습니다: file={}, error={}", file, e.getMessage());
+        }
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (RuntimeException e) {
+            log.warn("잔액 스냅샷 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void createDirectory() {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("로그 디렉터리를 만들 수 없습니다: " + directory, e);
+        }
+    }
+
+    private List<Path> segmentFiles() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> WalSegment.indexOf(file) >= 0)
+                    .sorted(Comparator.comparingInt(WalSegment::indexOf))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("로그 디렉터리를 읽을 수 없습니다: " + directory, e);
+        }
+    }
+
+    private record ClosedSegment(int index, long lastSequence) {
+    }
+}
@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.wal;
+
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 로그에 남길 잔액 변경 한 건 (sequence 는 PointWriteAheadLog.append 가 매김)
+ *
+ * @param balance          변경 후 잔액
+ * @param reversedPosition 환불/회수면 되돌린 원래 내역의 유저 안 위치 (0부터), 아니면 -1 (WalRecord 참고)
+ */
+public record WalEntry(
+        TransactionType type,
+        long amount,
+        long balance,
+        long updateMillis,
+        long reversedPosition
+) {
+
+    public static WalEntry of(TransactionType type, long amount, long balance, long updateMillis) {
+        return new WalEntry(type, amount, balance, updateMillis, -1L);
+    }
+}
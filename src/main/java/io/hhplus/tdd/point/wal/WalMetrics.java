@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point.wal;
+
+/**
+ * 로그 상태 스냅샷
+ *
+ * @param appendCount       지금까지 기록한 건수
+ * @param syncCount         디스크 반영(force) 횟수 > appendCount 보다 작을수록 그룹 커밋이 잘 묶이고 있음
+ * @param lastSequence      마지막으로 기록한 sequence
+ * @param durableSequence   디스크 반영이 확인된 마지막 sequence
+ * @param snapshotSequence  마지막 잔액 스냅샷이 덮는 sequence
+ */
+public record WalMetrics(
+        long appendCount,
+        long syncCount,
+        long lastSequence,
+        long durableSequence,
+        long snapshotSequence
+) {
+}
@@ -0,0 +1,71 @@
+package io.hhplus.tdd.point.wal;
+
+import io.hhplus.tdd.point.TransactionType;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32C;
+
+/**
+ * 로그 기록 한 건 (충전/사용 한 번)
+ * 고정 56바이트: sequence(8) userId(8) amount(8) balance(8) updateMillis(8) reversedPosition(8) type(1) 빈칸(3) crc32c(4)
+ * - balance 는 변경 후 잔액(절대값)이라 같은 기록을 여러번 적용해도 결과가 같음
+ * - sequence 가 0 이거나 crc 가 맞지 않으면 기록되지 않은(또는 쓰다 만) 자리로 봄
+ * - type 은 TransactionType 의 순서(ordinal)로 저장하므로 새 유형은 항상 뒤에 추가해야 함
+ *
+ * @param sequence         로그 전체에서 1부터 하나씩 증가하는 번호
+ * @param balance          변경 후 잔액
+ * @param reversedPosition 환불/회수 기록이면 되돌린 원래 내역이 그 유저의 몇 번째 내역인지 (0부터), 아니면 -1
+ *                         > 복구하면 내역 id 가 새로 매겨지므로 id 대신 유저 안에서의 위치로 가리킴
+ */
+public record WalRecord(
+        long sequence,
+        long userId,
+        TransactionType type,
+        long amount,
+        long balance,
+        long updateMillis,
+        long reversedPosition
+) {
+
+    public static final int SIZE = 56;
+    private static final int TYPE_OFFSET = 48;
+    private static final int CHECKSUM_OFFSET = 52;
+
+    public WalRecord(long sequence, long userId, TransactionType type, long amount, long balance, long updateMillis) {
+        this(sequence, userId, type, amount, balance, updateMillis, -1L);
+    }
+
+    void writeTo(ByteBuffer buffer, int offset) {
+        buffer.putLong(offset, sequence);
+        buffer.putLong(offset + 8, userId);
+        buffer.putLong(offset + 16, amount);
+        buffer.putLong(offset + 24, balance);
+        buffer.putLong(offset + 32, updateMillis);
+        buffer.putLong(offset + 40, reversedPosition);
+        buffer.put(offset + TYPE_OFFSET, (byte) type.ordinal());
+        buffer.putInt(offset + CHECKSUM_OFFSET, checksum(buffer, offset));
+    }
+
+    /**
+     * offset 위치의 기록을 읽음, 비어있거나 깨진 자리면 null
+     */
+    static WalRecord readFrom(ByteBuffer buffer, int offset) {
+        long sequence = buffer.getLong(offset);
+        if (sequence <= 0 || buffer.getInt(offset + CHECKSUM_OFFSET) != checksum(buffer, offset)) {
+            return null;
+        }
+        int typeCode = buffer.get(offset + TYPE_OFFSET);
+        TransactionType[] types = TransactionType.values();
+        if (typeCode < 0 || typeCode >= types.length) {
+            return null;
+        }
+        return new WalRecord(sequence, buffer.getLong(offset + 8), types[typeCode],
+                buffer.getLong(offset + 16), buffer.getLong(offset + 24), buffer.getLong(offset + 32), buffer.getLong(offset + 40));
+    }
+
+    private static int checksum(ByteBuffer buffer, int offset) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset, CHECKSUM_OFFSET));
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,45 @@
+package io.hhplus.tdd.point.wal;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 기동 시 로그를 다시 읽을 때 받는 쪽
+ * 스냅샷 잔액을 먼저 모두 넘기고, 그 다음 세그먼트 기록을 sequence 순서로 넘김
+ */
+public interface WalReplayHandler {
+
+    void onSnapshotBalance(UserPoint balance);
+
+    /**
+     * @param coveredBySnapshot true 면 이 기록의 잔액은 이미 스냅샷에 들어있음 (내역만 다시 만들면 됨)
+     */
+    void onRecord(WalRecord record, boolean coveredBySnapshot);
+
+    /**
+     * 다음 기동 때도 스냅샷에 덮인 기록이 필요한지 (내역을 로그로 다시 만드는 경우)
+     * false 면 스냅샷에 덮인 세그먼트를 지움
+     */
+    default boolean needsCoveredRecords() {
+        return true;
+    }
+
+    /**
+     * 내용은 모두 버리고 로그를 끝까지 읽기만 하는 핸들러 (이어쓰기 위치를 잡을 때 씀)
+     */
+    static WalReplayHandler ignoring() {
+        return new WalReplayHandler() {
+            @Override
+            public void onSnapshotBalance(UserPoint balance) {
+            }
+
+            @Override
+            public void onRecord(WalRecord record, boolean coveredBySnapshot) {
+            }
+
+            @Override
+            public boolean needsCoveredRecords() {
+                return false;
+            }
+        };
+    }
+}
@@ -0,0 +1,109 @@
+package io.hhplus.tdd.point.wal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * 로그 세그먼트 파일 하나 (고정 크기로 미리 만들어서 메모리 매핑함)
+ * - 쓰기: 매핑된 버퍼에 복사만 하고(append 락 안), 디스크 반영(force)은 그룹 커밋을 맡은 스레드가 모아서 함
+ * - 파일이 0 으로 채워진 상태로 만들어지므로, 읽을 때는 sequence 가 0 인 자리를 끝으로 봄
+ */
+final class WalSegment {
+
+    private static final String PREFIX = "wal-";
+    private static final String SUFFIX = ".log";
+
+    private final int index;
+    private final int capacity;
+    private final MappedByteBuffer buffer;
+
+    private volatile int count;  // 버퍼에 쓴 기록 수 (쓰기는 append 락 안에서만)
+    private int syncedCount;     // 디스크에 반영한 기록 수 (그룹 커밋 락 안에서만)
+
+    private WalSegment(int index, int capacity, MappedByteBuffer buffer) {
+        this.index = index;
+        this.capacity = capacity;
+        this.buffer = buffer;
+    }
+
+    static WalSegment create(Path directory, int index, int capacity) {
+        try (FileChannel channel = FileChannel.open(path(directory, index),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // 채널을 닫아도 매핑은 유지됨
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * WalRecord.SIZE);
+            return new WalSegment(index, capacity, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("로그 세그먼트를 만들 수 없습니다: " + path(directory, index), e);
+        }
+    }
+
+    /**
+     * 세그먼트의 기록을 앞에서부터 읽다가 비어있거나 깨진 자리를 만나면 멈춤
+     *
+     * @return 읽은 기록 수
+     */
+    static int read(Path file, Consumer<WalRecord> consumer) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int records = (int) (channel.size() / WalRecord.SIZE);
+            for (int i = 0; i < records; i++) {
+                WalRecord record = WalRecord.readFrom(buffer, i * WalRecord.SIZE);
+                if (record == null) {
+                    return i;
+                }
+                consumer.accept(record);
+            }
+            return records;
+        } catch (IOException e) {
+            throw new UncheckedIOException("로그 세그먼트를 읽을 수 없습니다: " + file, e);
+        }
+    }
+
+    static Path path(Path directory, int index) {
+        return directory.resolve(String.format("%s%010d%s", PREFIX, index, SUFFIX));
+    }
+
+    /**
+     * 파일 이름이 세그먼트 형식이면 번호를, 아니면 -1
+     */
+    static int indexOf(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(PREFIX) || !name.endsWith(SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    int index() {
+        return index;
+    }
+
+    boolean isFull() {
+        return count >= capacity;
+    }
+
+    void write(WalRecord record) {
+        record.writeTo(buffer, count * WalRecord.SIZE);
+        count++;
+    }
+
+    /**
+     * 지난번 반영 이후에 쓴 구간만 디스크에 반영함
+     */
+    void force() {
+        int written = count;
+        if (written > syncedCount) {
+            buffer.force(syncedCount * WalRecord.SIZE, (written - syncedCount) * WalRecord.SIZE);
+            syncedCount = written;
+        }
+    }
+}
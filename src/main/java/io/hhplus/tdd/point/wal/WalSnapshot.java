@@ -0,0 +1,126 @@
+package io.hhplus.tdd.point.wal;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 잔액 스냅샷 파일
+ * 형식: magic(4) sequence(8) count(4) [userId(8) point(8) updateMillis(8)] * count, crc32c(4)
+ * - sequence 이하의 기록은 스냅샷 잔액에 이미 반영되어 있음 (그보다 최신 잔액이 섞여 있을 수 있는데, 기록이 절대값이라 다시 적용해도 같음)
+ * - 임시 파일에 다 쓰고 디스크 반영 후 이름을 바꿔서, 쓰다 만 스냅샷이 읽히지 않게 함
+ */
+record WalSnapshot(long sequence, List<UserPoint> balances) {
+
+    private static final Logger log = LoggerFactory.getLogger(WalSnapshot.class);
+
+    private static final int MAGIC = 0x50575350; // "PWSP"
+    private static final String PREFIX = "snapshot-";
+    private static final String SUFFIX = ".snap";
+    private static final int RETAINED = 2;
+
+    void write(Path directory) {
+        int size = 4 + 8 + 4 + balances.size() * 24 + 4;
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC).putLong(sequence).putInt(balances.size());
+        for (UserPoint balance : balances) {
+            buffer.putLong(balance.id()).putLong(balance.point()).putLong(balance.updateMillis());
+        }
+        buffer.putInt(checksum(buffer, size - 4));
+        buffer.flip();
+
+        Path target = directory.resolve(String.format("%s%020d%s", PREFIX, sequence, SUFFIX));
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("잔액 스냅샷을 쓸 수 없습니다: " + temp, e);
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("잔액 스냅샷을 저장할 수 없습니다: " + target, e);
+        }
+        deleteOlderThanRetained(directory);
+    }
+
+    /**
+     * 가장 최근의 온전한 스냅샷 (깨진 스냅샷은 건너뛰고 그 전 것을 씀)
+     */
+    static Optional<WalSnapshot> readLatest(Path directory) {
+        for (Path file : snapshotFiles(directory).reversed()) {
+            try {
+                return Optional.of(read(file));
+            } catch (IOException | IllegalStateException e) {
+                log.warn("잔액 스냅샷을 읽을 수 없어서 건너뜁니다: file={}, error={}", file, e.getMessage());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static WalSnapshot read(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (buffer.capacity() < 20 || buffer.getInt(0) != MAGIC
+                || buffer.getInt(buffer.capacity() - 4) != checksum(buffer, buffer.capacity() - 4)) {
+            throw new IllegalStateException("형식이 맞지 않거나 checksum 이 다릅니다");
+        }
+        long sequence = buffer.getLong(4);
+        int count = buffer.getInt(12);
+        List<UserPoint> balances = new ArrayList<>(count);
+        int offset = 16;
+        for (int i = 0; i < count; i++, offset += 24) {
+            balances.add(new UserPoint(buffer.getLong(offset), buffer.getLong(offset + 8), buffer.getLong(offset + 16)));
+        }
+        return new WalSnapshot(sequence, balances);
+    }
+
+    private static void deleteOlderThanRetained(Path directory) {
+        List<Path> files = snapshotFiles(directory);
+        for (int i = 0; i < files.size() - RETAINED; i++) {
+            try {
+                Files.deleteIfExists(files.get(i));
+            } catch (IOException e) {
+                log.warn("오래된 잔액 스냅샷을 지우지 못했습니다: file={}, error={}", files.get(i), e.getMessage());
+            }
+        }
+    }
+
+    // sequence 오름차순 (파일 이름에 0 으로 채운 sequence 가 들어있어서 이름순 = sequence 순)
+    private static List<Path> snapshotFiles(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted(Comparator.comparing(file -> file.getFileName().toString()))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("스냅샷 디렉터리를 읽을 수 없습니다: " + directory, e);
+        }
+    }
+
+    private static int checksum(ByteBuffer buffer, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(0, length));
+        return (int) crc.getValue();
+    }
+}
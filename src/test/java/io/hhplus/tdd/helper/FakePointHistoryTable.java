@@ -0,0 +1,78 @@
+package io.hhplus.tdd.helper;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+* 테스트용 PointHistoryTable 대역.
+* 원본과 똑같이 전체 리스트를 필터링해서 조회하지만, 지연시간은 고정값이고 insert 는 스레드 안전함
+* */
+public class FakePointHistoryTable extends PointHistoryTable {
+
+    private final List<PointHistory> table = new ArrayList<>();
+    private final AtomicLong cursor = new AtomicLong(1);
+    private final long latencyMillis;
+    // 내역 저장 실패 상황을 흉내내기 위한 스위치
+    private volatile boolean failInserts;
+    // 다음 insert 한 번만 action 을 실행한 뒤 실패시킴 (저장 도중에 다른 요청이 끼어드는 상황)
+    private final AtomicReference<Runnable> failNextInsert = new AtomicReference<>();
+
+    public FakePointHistoryTable() {
+        this(0);
+    }
+
+    public FakePointHistoryTable(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    public void failInserts(boolean failInserts) {
+        this.failInserts = failInserts;
+    }
+
+    public void failNextInsertAfter(Runnable action) {
+        failNextInsert.set(action);
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        sleep();
+        Runnable beforeFailing = failNextInsert.getAndSet(null);
+        if (beforeFailing != null) {
+            beforeFailing.run();
+            throw new IllegalStateException("내역 저장 실패");
+        }
+        if (failInserts) {
+            throw new IllegalStateException("내역 저장 실패");
+        }
+        synchronized (table) {
+            PointHistory pointHistory = new PointHistory(cursor.getAndIncrement(), userId, amount, type, updateMillis);
+            table.add(pointHistory);
+            return pointHistory;
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        synchronized (table) {
+            return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+        }
+    }
+
+    private void sleep() {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.hhplus.tdd.helper;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/*
+* 테스트용 UserPointTable 대역.
+* 원본은 200~300ms 랜덤 지연 + HashMap 이라 동시성/성능 테스트에 쓰기 어려움
+* > 지연시간을 고정값으로 주입받고, 저장소는 ConcurrentHashMap 으로 교체함
+* */
+public class FakeUserPointTable extends UserPointTable {
+
+    private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+    private final long latencyMillis;
+
+    public FakeUserPointTable() {
+        this(0);
+    }
+
+    public FakeUserPointTable(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public UserPoint selectById(Long id) {
+        sleep();
+        return table.getOrDefault(id, UserPoint.empty(id));
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        sleep();
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        table.put(id, userPoint);
+        return userPoint;
+    }
+
+    private void sleep() {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package io.hhplus.tdd.helper;
+
+import io.hhplus.tdd.point.audit.AuditProperties;
+import io.hhplus.tdd.point.audit.HistorySumBook;
+import io.hhplus.tdd.point.batch.PointBatchProperties;
+import io.hhplus.tdd.point.cache.PointCacheProperties;
+import io.hhplus.tdd.point.cache.UserPointCache;
+import io.hhplus.tdd.point.combine.UserOperationQueues;
+import io.hhplus.tdd.point.execution.PointThreadFactories;
+import io.hhplus.tdd.point.execution.PointWriteConfig;
+import io.hhplus.tdd.point.execution.PointWriteProperties;
+import io.hhplus.tdd.point.expiry.ExpiryProperties;
+import io.hhplus.tdd.point.expiry.PointLotBook;
+import io.hhplus.tdd.point.fraud.ChargeFraudDetector;
+import io.hhplus.tdd.point.fraud.FraudDetectionProperties;
+import io.hhplus.tdd.point.history.FirstUseRegistry;
+import io.hhplus.tdd.point.history.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.idempotency.IdempotencyProperties;
+import io.hhplus.tdd.point.idempotency.IdempotencyStore;
+import io.hhplus.tdd.point.limit.ChargeLimitProperties;
+import io.hhplus.tdd.point.limit.ChargeLimitTracker;
+import io.hhplus.tdd.point.ledger.PointBalanceLedger;
+import io.hhplus.tdd.point.ledger.PointLedgerProperties;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.metrics.PointStateMeters;
+import io.hhplus.tdd.point.metrics.TimedPointHistoryRepository;
+import io.hhplus.tdd.point.metrics.TimedUserPointRepository;
+import io.hhplus.tdd.point.reversal.RefundProperties;
+import io.hhplus.tdd.point.reversal.ReversalRegistry;
+import io.hhplus.tdd.point.service.PointAuditService;
+import io.hhplus.tdd.point.service.PointExpiryService;
+import io.hhplus.tdd.point.service.PointHistoryExportService;
+import io.hhplus.tdd.point.service.PointReversalService;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.storage.TablePointHistoryRepository;
+import io.hhplus.tdd.point.storage.TableUserPointRepository;
+import io.hhplus.tdd.point.wal.PointWriteAheadLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/*
+* 스프링 컨텍스트 없이 PointService 를 실제 협력 객체들로 조립해주는 테스트 도우미.
+* PointService 생성자가 바뀌어도 테스트마다 고치지 않고 여기만 고치면 됨
+* 테이블은 지연시간을 고정한 Fake 를 사용하고, 운영과 같이 시간을 재는 감싸개를 씌워서 넘김
+* */
+public class PointServiceFixture implements AutoCloseable {
+
+    // 부하/동시성 테스트에서는 반복 충전 횟수 제한에 걸리지 않도록 넉넉하게 풀어둠
+    public static final FraudDetectionProperties RELAXED_FRAUD =
+            new FraudDetectionProperties(10_000, 60_000, 10_000, 60_000);
+    // 같은 이유로 일/월 누적 충전 한도도 풀어둠 (1회 한도, 최대 보유 포인트는 기본값 그대로)
+    public static final ChargeLimitProperties RELAXED_LIMITS =
+            ChargeLimitProperties.defaults().withCumulativeLimits(Long.MAX_VALUE, Long.MAX_VALUE);
+
+    public final FakeUserPointTable userPointTable;
+    public final FakePointHistoryTable pointHistoryTable;
+    public final SimpleMeterRegistry meterRegistry;
+    public final PointMetrics pointMetrics;
+    public final UserPointCache userPointCache;
+    public final PointBalanceLedger ledger;
+    public final FirstUseRegistry firstUseRegistry;
+    public final IndexedPointHistoryRepository historyRepository;
+    public final UserLockManager userLockManager;
+    public final ChargeFraudDetector fraudDetector;
+    public final ChargeLimitTracker chargeLimitTracker;
+    public final PointLotBook lotBook;
+    public final HistorySumBook historySumBook;
+    public final ExecutorService batchExecutor;
+    public final ExecutorService historyWriteExecutor;
+    public final UserOperationQueues userOperationQueues;
+    public final IdempotencyStore idempotencyStore;
+    public final PointService pointService;
+    public final PointExpiryService expiryService;
+    public final ReversalRegistry reversalRegistry;
+    public final PointReversalService reversalService;
+    public final PointHistoryExportService exportService;
+    public final PointAuditService auditService;
+
+    public PointServiceFixture(long tableLatencyMillis) {
+        this(options(tableLatencyMillis));
+    }
+
+    /**
+     * 기본값(느슨한 탐지/한도, 겹친 내역 저장, write-through, 소멸/감사 꺼짐)에서 필요한 설정만 with* 로 바꿔서 build
+     */
+    public static Options options(long tableLatencyMillis) {
+        return new Options(tableLatencyMillis, RELAXED_FRAUD, PointWriteProperties.overlapped(),
+                PointLedgerProperties.writeThrough(), RELAXED_LIMITS, ExpiryProperties.disabled(),
+                AuditProperties.disabled());
+    }
+
+    private PointServiceFixture(Options options) {
+        long tableLatencyMillis = options.tableLatencyMillis();
+        FraudDetectionProperties fraudProperties = options.fraudProperties();
+        PointWriteProperties writeProperties = options.writeProperties();
+        PointLedgerProperties ledgerProperties = options.ledgerProperties();
+        ChargeLimitProperties limitProperties = options.limitProperties();
+        ExpiryProperties expiryProperties = options.expiryProperties();
+        AuditProperties auditProperties = options.auditProperties();
+        PointBatchProperties batchProperties = PointBatchProperties.defaults();
+        this.userPointTable = new FakeUserPointTable(tableLatencyMillis);
+        this.pointHistoryTable = new FakePointHistoryTable(tableLatencyMillis);
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.pointMetrics = new PointMetrics(meterRegistry);
+        this.userPointCache = new UserPointCache(PointCacheProperties.defaults());
+        this.ledger = new PointBalanceLedger(new TimedUserPointRepository(new TableUserPointRepository(userPointTable), pointMetrics),
+                ledgerProperties, userPointCache, PointThreadFactories.platform());
+        this.firstUseRegistry = new FirstUseRegistry();
+        this.chargeLimitTracker = new ChargeLimitTracker(limitProperties);
+        this.lotBook = new PointLotBook(expiryProperties);
+        this.historySumBook = new HistorySumBook(auditProperties);
+        this.reversalRegistry = new ReversalRegistry();
+        this.fraudDetector = new ChargeFraudDetector(fraudProperties);
+        this.historyRepository = new IndexedPointHistoryRepository(
+                new TimedPointHistoryRepository(new TablePointHistoryRepository(pointHistoryTable), pointMetrics), List.of(firstUseRegistry, chargeLimitTracker, lotBook, historySumBook, reversalRegistry, fraudDetector));
+        this.userLockManager = new UserLockManager();
+        this.batchExecutor = Executors.newFixedThreadPool(batchProperties.parallelism());
+        this.historyWriteExecutor = new PointWriteConfig().pointHistoryWriteExecutor(PointThreadFactories.platform(),
+                writeProperties);
+        this.userOperationQueues = new UserOperationQueues();
+        this.idempotencyStore = new IdempotencyStore(IdempotencyProperties.defaults());
+        new PointStateMeters(ledger, userPointCache, idempotencyStore, PointWriteAheadLog.disabled(), userOperationQueues)
+                .bindTo(meterRegistry);
+        this.pointService = new PointService(ledger, historyRepository, userLockManager, fraudDetector,
+                firstUseRegistry, batchExecutor, batchProperties, historyWriteExecutor, writeProperties, pointMetrics,
+                PointWriteAheadLog.disabled(), userOperationQueues, idempotencyStore, chargeLimitTracker, limitProperties);
+        this.expiryService = new PointExpiryService(ledger, historyRepository, userLockManager, lotBook,
+                PointWriteAheadLog.disabled(), pointMetrics, expiryProperties, writeProperties, PointThreadFactories.platform());
+        this.reversalService = new PointReversalService(ledger, historyRepository, userLockManager, reversalRegistry,
+                RefundProperties.defaults(), batchExecutor, batchProperties, writeProperties,
+                PointWriteAheadLog.disabled(), pointMetrics);
+        this.exportService = new PointHistoryExportService(ledger, historyRepository, userLockManager);
+        this.auditService = new PointAuditService(ledger, historySumBook, pointMetrics, auditProperties,
+                PointThreadFactories.platform());
+    }
+
+    @Override
+    public void close() {
+        batchExecutor.shutdownNow();
+        historyWriteExecutor.shutdownNow();
+        expiryService.close();
+        auditService.close();
+        ledger.close();
+    }
+
+    public record Options(
+            long tableLatencyMillis,
+            FraudDetectionProperties fraudProperties,
+            PointWriteProperties writeProperties,
+            PointLedgerProperties ledgerProperties,
+            ChargeLimitProperties limitProperties,
+            ExpiryProperties expiryProperties,
+            AuditProperties auditProperties
+    ) {
+
+        public Options withFraudProperties(FraudDetectionProperties fraudProperties) {
+            return new Options(tableLatencyMillis, fraudProperties, writeProperties, ledgerProperties,
+                    limitProperties, expiryProperties, auditProperties);
+        }
+
+        public Options withWriteProperties(PointWriteProperties writeProperties) {
+            return new Options(tableLatencyMillis, fraudProperties, writeProperties, ledgerProperties,
+                    limitProperties, expiryProperties, auditProperties);
+        }
+
+        public Options withLedgerProperties(PointLedgerProperties ledgerProperties) {
+            return new Options(tableLatencyMillis, fraudProperties, writeProperties, ledgerProperties,
+                    limitProperties, expiryProperties, auditProperties);
+        }
+
+        public Options withLimitProperties(ChargeLimitProperties limitProperties) {
+            return new Options(tableLatencyMillis, fraudProperties, writeProperties, ledgerProperties,
+                    limitProperties, expiryProperties, auditProperties);
+        }
+
+        public Options withExpiryProperties(ExpiryProperties expiryProperties) {
+            return new Options(tableLatencyMillis, fraudProperties, writeProperties, ledgerProperties,
+                    limitProperties, expiryProperties, auditProperties);
+        }
+
+        public Options withAuditProperties(AuditProperties auditProperties) {
+            return new Options(tableLatencyMillis, fraudProperties, writeProperties, ledgerProperties,
+                    limitProperties, expiryProperties, auditProperties);
+        }
+
+        public PointServiceFixture build() {
+            return new PointServiceFixture(this);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package io.hhplus.tdd.load;
+
+import java.util.Map;
+
+/**
+ * API 하나의 부하 결과 (응답 시간은 보내기로 한 시각부터 잼 > 서버가 밀려서 늦게 보낸 시간도 포함)
+ *
+ * @param endpoint          API
+ * @param requests          보내려고 한 요청 수 (DROPPED 포함)
+ * @param throughput        초당 응답 수
+ * @param p50Micros         응답 시간 중앙값
+ * @param p99Micros         99 백분위 응답 시간
+ * @param p999Micros        99.9 백분위 응답 시간
+ * @param maxMicros         최대 응답 시간
+ * @param outcomes          결과별 건수 (EndpointStats 참고)
+ */
+record EndpointReport(
+        LoadEndpoint endpoint,
+        long requests,
+        double throughput,
+        long p50Micros,
+        long p99Micros,
+        long p999Micros,
+        long maxMicros,
+        Map<String, Long> outcomes
+) {
+
+    long count(String outcome) {
+        return outcomes.getOrDefault(outcome, 0L);
+    }
+
+    double rate(String outcome) {
+        return requests == 0 ? 0 : (double) count(outcome) / requests;
+    }
+}
@@ -0,0 +1,45 @@
+package io.hhplus.tdd.load;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * API 하나의 응답 시간과 결과별 건수
+ * 결과(outcome)는 OK, 정책 코드(PLC_PNT_xxx), INVALID(400), CONFLICT(409), SERVER_ERROR(5xx),
+ * TIMEOUT, IO_ERROR, DROPPED(클라이언트 동시 요청 한도 초과로 안 보냄) 중 하나
+ */
+final class EndpointStats {
+
+    static final String OK = "OK";
+    static final String DROPPED = "DROPPED";
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final ConcurrentHashMap<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    void record(String outcome, long micros) {
+        latency.record(micros);
+        count(outcome);
+    }
+
+    void count(String outcome) {
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    EndpointReport report(LoadEndpoint endpoint, long elapsedMillis) {
+        Map<String, Long> counts = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> counts.put(outcome, count.sum()));
+        long requests = counts.values().stream().mapToLong(Long::longValue).sum();
+        return new EndpointReport(
+                endpoint,
+                requests,
+                elapsedMillis == 0 ? 0 : latency.count() * 1_000.0 / elapsedMillis,
+                latency.percentile(0.50),
+                latency.percentile(0.99),
+                latency.percentile(0.999),
+                latency.max(),
+                counts
+        );
+    }
+}
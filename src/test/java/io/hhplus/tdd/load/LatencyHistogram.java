@@ -0,0 +1,74 @@
+package io.hhplus.tdd.load;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 응답 시간 히스토그램 (마이크로초, 여러 스레드에서 동시에 기록)
+ * - 128us 미만은 1us 단위, 그 이상은 2배 구간마다 64칸으로 나눔 (오차 1.6% 이내)
+ * - 요청 수와 상관없이 메모리가 고정이라 긴 부하에서도 전부 기록할 수 있음
+ * 백분위 값은 해당 칸의 상한으로 돌려줌 (실제보다 짧게 보고하지 않음)
+ */
+final class LatencyHistogram {
+
+    private static final int LINEAR = 128;
+    private static final int SUB_BUCKETS = 64;
+    private static final int MAX_SHIFT = 40;
+
+    private final AtomicLongArray counts = new AtomicLongArray(LINEAR + SUB_BUCKETS * MAX_SHIFT);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    void record(long micros) {
+        long value = Math.max(0, micros);
+        counts.incrementAndGet(index(value));
+        total.incrementAndGet();
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    long count() {
+        return total.get();
+    }
+
+    long max() {
+        return max.get();
+    }
+
+    /**
+     * quantile(0~1) 백분위 응답 시간 (기록이 없으면 0)
+     */
+    long percentile(double quantile) {
+        long count = total.get();
+        if (count == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                // 마지막 칸은 범위를 넘는 값이 다 모이는 칸이라 최대값으로 대신함
+                return i == counts.length() - 1 ? max.get() : Math.min(upperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    private static int index(long value) {
+        if (value < LINEAR) {
+            return (int) value;
+        }
+        int shift = Math.min(63 - Long.numberOfLeadingZeros(value) - 6, MAX_SHIFT);
+        long top = Math.min(value >> shift, LINEAR - 1);
+        return LINEAR + (shift - 1) * SUB_BUCKETS + (int) (top - SUB_BUCKETS);
+    }
+
+    private static long upperBound(int index) {
+        if (index < LINEAR) {
+            return index;
+        }
+        int shift = (index - LINEAR) / SUB_BUCKETS + 1;
+        long top = (index - LINEAR) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((top + 1) << shift) - 1;
+    }
+}
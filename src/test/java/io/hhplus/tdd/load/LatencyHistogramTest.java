@@ -0,0 +1,48 @@
+package io.hhplus.tdd.load;
+
+import io.hhplus.tdd.helper.TestLogger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(TestLogger.class)
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("백분위 값은 실제 값보다 작지 않고 오차 2% 이내다")
+    void percentile_withinBucketError() {
+        //given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        //when
+        for (long micros = 1; micros <= 10_000; micros++) {
+            histogram.record(micros);
+        }
+
+        //then
+        assertThat(histogram.count()).isEqualTo(10_000L);
+        assertThat(histogram.percentile(0.50)).isBetween(5_000L, 5_100L);
+        assertThat(histogram.percentile(0.99)).isBetween(9_900L, 10_000L);
+        assertThat(histogram.percentile(0.999)).isBetween(9_990L, 10_000L);
+        assertThat(histogram.max()).isEqualTo(10_000L);
+    }
+
+    @Test
+    @DisplayName("작은 값은 1us 단위로 정확하고, 아주 큰 값도 기록할 수 있다")
+    void record_smallAndLargeValues() {
+        //given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        //when
+        histogram.record(3);
+        histogram.record(3);
+        histogram.record(Long.MAX_VALUE);
+
+        //then
+        assertThat(histogram.percentile(0.50)).isEqualTo(3L);
+        assertThat(histogram.percentile(1.0)).isEqualTo(Long.MAX_VALUE);
+        assertThat(new LatencyHistogram().percentile(0.99)).isZero();
+    }
+}
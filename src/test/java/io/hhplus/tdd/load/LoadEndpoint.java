@@ -0,0 +1,34 @@
+package io.hhplus.tdd.load;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Random;
+
+/**
+ * 부하를 주는 PointController API
+ * 충전/사용 금액은 100원 단위로 섞어서, 인기 유저는 같은 금액 재충전(PLC_PNT_001)이나 잔액 부족에도 걸리게 함
+ */
+enum LoadEndpoint {
+    GET,
+    HISTORY,
+    CHARGE,
+    USE;
+
+    HttpRequest request(URI baseUri, long userId, Random random, Duration timeout) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(timeout);
+        return switch (this) {
+            case GET -> builder.uri(baseUri.resolve("/point/" + userId)).GET().build();
+            case HISTORY -> builder.uri(baseUri.resolve("/point/" + userId + "/histories")).GET().build();
+            case CHARGE -> patch(builder, baseUri.resolve("/point/" + userId + "/charge"), 100L * (1 + random.nextInt(100)));
+            case USE -> patch(builder, baseUri.resolve("/point/" + userId + "/use"), 100L * (1 + random.nextInt(50)));
+        };
+    }
+
+    private static HttpRequest patch(HttpRequest.Builder builder, URI uri, long amount) {
+        return builder.uri(uri)
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(Long.toString(amount)))
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+package io.hhplus.tdd.load;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 조건 (시스템 프로퍼티 load.* 로 바꿀 수 있음, build.gradle.kts 의 loadTest 참고)
+ *
+ * @param arrivalsPerSecond 초당 요청 도착 수 (응답을 기다리지 않고 이 속도로 보냄, 도착 간격은 포아송)
+ * @param durationMillis    측정 시간 (워밍업 제외)
+ * @param warmupMillis      측정 전에 같은 부하를 주고 결과는 버리는 시간
+ * @param users             유저 수 (id 1 ~ users)
+ * @param zipfExponent      유저 쏠림 정도 (0 이면 고르게, 1 이상이면 소수의 인기 유저에 몰림)
+ * @param mix               API 별 요청 비중
+ * @param maxInFlight       동시에 보내놓고 응답을 기다리는 최대 요청 수 (넘으면 보내지 않고 DROPPED 로 셈)
+ * @param timeoutMillis     요청 하나의 응답 제한 시간 (넘으면 TIMEOUT)
+ * @param seed              유저/API/금액 선택 난수 시드 (같은 시드면 같은 요청 순서)
+ */
+record LoadProfile(
+        int arrivalsPerSecond,
+        long durationMillis,
+        long warmupMillis,
+        int users,
+        double zipfExponent,
+        Map<LoadEndpoint, Integer> mix,
+        int maxInFlight,
+        long timeoutMillis,
+        long seed
+) {
+
+    LoadProfile {
+        if (arrivalsPerSecond <= 0 || durationMillis <= 0 || warmupMillis < 0 || users <= 0
+                || zipfExponent < 0 || maxInFlight <= 0 || timeoutMillis <= 0) {
+            throw new IllegalArgumentException("부하 조건이 올바르지 않습니다.");
+        }
+        if (mix.isEmpty() || mix.values().stream().anyMatch(weight -> weight < 0)
+                || mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("API 비중은 0 이상이고 합이 0보다 커야 합니다: " + mix);
+        }
+        mix = Map.copyOf(mix);
+    }
+
+    static LoadProfile fromSystemProperties() {
+        return new LoadProfile(
+                Integer.parseInt(System.getProperty("load.rate", "200")),
+                Long.parseLong(System.getProperty("load.duration-seconds", "10")) * 1_000,
+                Long.parseLong(System.getProperty("load.warmup-seconds", "2")) * 1_000,
+                Integer.parseInt(System.getProperty("load.users", "1000")),
+                Double.parseDouble(System.getProperty("load.zipf-exponent", "1.1")),
+                parseMix(System.getProperty("load.mix", "get=50,history=20,charge=20,use=10")),
+                Integer.parseInt(System.getProperty("load.max-in-flight", "2000")),
+                Long.parseLong(System.getProperty("load.timeout-millis", "5000")),
+                Long.parseLong(System.getProperty("load.seed", "42"))
+        );
+    }
+
+    /**
+     * "get=50,history=20,charge=20,use=10" 형식
+     */
+    static Map<LoadEndpoint, Integer> parseMix(String value) {
+        Map<LoadEndpoint, Integer> mix = new EnumMap<>(LoadEndpoint.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("API 비중 형식이 올바르지 않습니다: " + entry);
+            }
+            mix.put(LoadEndpoint.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        return mix;
+    }
+}
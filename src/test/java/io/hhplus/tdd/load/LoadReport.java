@@ -0,0 +1,63 @@
+package io.hhplus.tdd.load;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 부하 한번의 결과
+ *
+ * @param label         비교용 이름 (저장소/동시성/캐시 모드 등)
+ * @param profile       부하 조건
+ * @param elapsedMillis 측정 시간 (워밍업 제외)
+ * @param endpoints     API 별 결과
+ */
+record LoadReport(String label, LoadProfile profile, long elapsedMillis, List<EndpointReport> endpoints) {
+
+    long count(String outcome) {
+        return endpoints.stream().mapToLong(endpoint -> endpoint.count(outcome)).sum();
+    }
+
+    /**
+     * 로그용 표
+     */
+    String toTable() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%n[%s] rate=%d/s, duration=%dms, users=%d, zipf=%.2f%n", label,
+                profile.arrivalsPerSecond(), elapsedMillis, profile.users(), profile.zipfExponent()));
+        table.append(String.format("%-8s %9s %10s %10s %10s %10s %10s  %s%n",
+                "api", "requests", "rps", "p50(us)", "p99(us)", "p999(us)", "max(us)", "outcomes(rate)"));
+        for (EndpointReport endpoint : endpoints) {
+            String outcomes = endpoint.outcomes().keySet().stream()
+                    .map(outcome -> String.format("%s=%.2f%%", outcome, endpoint.rate(outcome) * 100))
+                    .collect(Collectors.joining(", "));
+            table.append(String.format("%-8s %9d %10.1f %10d %10d %10d %10d  %s%n", endpoint.endpoint(),
+                    endpoint.requests(), endpoint.throughput(), endpoint.p50Micros(), endpoint.p99Micros(),
+                    endpoint.p999Micros(), endpoint.maxMicros(), outcomes));
+        }
+        return table.toString();
+    }
+
+    /**
+     * 모드별 결과를 나란히 비교할 수 있도록 파일로 남기는 JSON (값이 모두 숫자/이름이라 직접 씀, 소수점은 로케일과 무관하게 '.')
+     */
+    String toJson() {
+        String endpointsJson = endpoints.stream()
+                .map(endpoint -> String.format(Locale.ROOT,
+                        "{\"endpoint\":\"%s\",\"requests\":%d,\"throughput\":%.1f,\"p50Micros\":%d,\"p99Micros\":%d,"
+                                + "\"p999Micros\":%d,\"maxMicros\":%d,\"outcomes\":%s}",
+                        endpoint.endpoint(), endpoint.requests(), endpoint.throughput(), endpoint.p50Micros(),
+                        endpoint.p99Micros(), endpoint.p999Micros(), endpoint.maxMicros(), json(endpoint.outcomes())))
+                .collect(Collectors.joining(","));
+        return String.format(Locale.ROOT, "{\"label\":\"%s\",\"arrivalsPerSecond\":%d,\"users\":%d,\"zipfExponent\":%.2f,"
+                        + "\"elapsedMillis\":%d,\"endpoints\":[%s]}",
+                label, profile.arrivalsPerSecond(), profile.users(), profile.zipfExponent(), elapsedMillis, endpointsJson);
+    }
+
+    private static String json(Map<String, Long> outcomes) {
+        return outcomes.entrySet().stream()
+                .map(entry -> "\"" + entry.getKey() + "\":" + entry.getValue())
+                .collect(Collectors.joining(",", "{", "}"));
+    }
+}
@@ -0,0 +1,172 @@
+package io.hhplus.tdd.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 열린 루프(open-loop) 부하 발생기
+ * - 응답을 기다렸다가 다음 요청을 보내는 닫힌 루프는 서버가 느려지면 보내는 속도도 같이 느려져서 지연이 가려짐
+ * - 여기서는 정해진 도착 속도(포아송)로 보낼 시각을 먼저 정하고, 응답과 상관없이 그 시각에 보냄
+ *   > 응답 시간은 실제로 보낸 시각이 아니라 보내기로 한 시각부터 잼 (발생기가 밀린 시간도 지연에 포함)
+ * - 요청을 고르는 스레드는 하나라서 같은 시드면 같은 유저/API/금액 순서로 보냄
+ * - 응답 대기는 HttpClient 비동기 + 가상 스레드로 처리함 (동시 요청 수는 maxInFlight 로 제한)
+ */
+final class OpenLoopLoadGenerator implements AutoCloseable {
+
+    private static final Pattern ERROR_CODE = Pattern.compile("\"code\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final URI baseUri;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient client;
+
+    OpenLoopLoadGenerator(URI baseUri) {
+        this.baseUri = baseUri;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+    }
+
+    LoadReport run(String label, LoadProfile profile) throws InterruptedException {
+        Random random = new Random(profile.seed());
+        ZipfUserSampler users = new ZipfUserSampler(profile.users(), profile.zipfExponent());
+        EndpointPicker picker = new EndpointPicker(profile.mix());
+        Map<LoadEndpoint, EndpointStats> stats = new EnumMap<>(LoadEndpoint.class);
+        for (LoadEndpoint endpoint : picker.endpoints()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+        Semaphore inFlight = new Semaphore(profile.maxInFlight());
+        Duration timeout = Duration.ofMillis(profile.timeoutMillis());
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / (double) profile.arrivalsPerSecond();
+
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.MILLISECONDS.toNanos(profile.warmupMillis());
+        long end = measureFrom + TimeUnit.MILLISECONDS.toNanos(profile.durationMillis());
+        long intended = start;
+        while (true) {
+            intended += (long) (-Math.log(1 - random.nextDouble()) * meanIntervalNanos);
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            LoadEndpoint endpoint = picker.next(random);
+            long userId = users.next(random);
+            EndpointStats endpointStats = stats.get(endpoint);
+            boolean measured = intended >= measureFrom;
+            if (!inFlight.tryAcquire()) {
+                if (measured) {
+                    endpointStats.count(EndpointStats.DROPPED);
+                }
+                continue;
+            }
+
+            long sendAt = intended;
+            client.sendAsync(endpoint.request(baseUri, userId, random, timeout), HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, error) -> {
+                        // 결과를 먼저 남기고 자리를 돌려줌 > 마지막 응답을 기다리는 쪽이 자리를 모두 얻었을 때 결과도 모두 남아있음
+                        try {
+                            if (measured) {
+                                endpointStats.record(outcome(response, error),
+                                        TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sendAt));
+                            }
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+        }
+
+        // 이미 보낸 요청의 응답을 기다림 (제한 시간이 지나면 그 요청들은 결과에서 빠짐)
+        if (inFlight.tryAcquire(profile.maxInFlight(), profile.timeoutMillis() * 2, TimeUnit.MILLISECONDS)) {
+            inFlight.release(profile.maxInFlight());
+        }
+
+        List<EndpointReport> reports = new ArrayList<>();
+        stats.forEach((endpoint, endpointStats) -> reports.add(endpointStats.report(endpoint, profile.durationMillis())));
+        return new LoadReport(label, profile, profile.durationMillis(), reports);
+    }
+
+    @Override
+    public void close() {
+        client.close();
+        executor.close();
+    }
+
+    static String outcome(HttpResponse<String> response, Throwable error) {
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            return cause instanceof HttpTimeoutException ? "TIMEOUT" : "IO_ERROR";
+        }
+        int status = response.statusCode();
+        if (status == 200) {
+            return EndpointStats.OK;
+        }
+        if (status == 400) {
+            Matcher matcher = ERROR_CODE.matcher(response.body());
+            return matcher.find() && matcher.group(1).startsWith("PLC_") ? matcher.group(1) : "INVALID";
+        }
+        if (status == 409) {
+            return "CONFLICT";
+        }
+        return status >= 500 ? "SERVER_ERROR" : "HTTP_" + status;
+    }
+
+    /**
+     * 비중에 따라 API 를 고름 (비중 0 인 API 는 빠짐)
+     */
+    private static final class EndpointPicker {
+
+        private final LoadEndpoint[] endpoints;
+        private final int[] cumulative;
+
+        private EndpointPicker(Map<LoadEndpoint, Integer> mix) {
+            List<LoadEndpoint> selected = new ArrayList<>();
+            List<Integer> sums = new ArrayList<>();
+            int sum = 0;
+            for (LoadEndpoint endpoint : LoadEndpoint.values()) {
+                int weight = mix.getOrDefault(endpoint, 0);
+                if (weight > 0) {
+                    sum += weight;
+                    selected.add(endpoint);
+                    sums.add(sum);
+                }
+            }
+            this.endpoints = selected.toArray(LoadEndpoint[]::new);
+            this.cumulative = sums.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        private List<LoadEndpoint> endpoints() {
+            return List.of(endpoints);
+        }
+
+        private LoadEndpoint next(Random random) {
+            int value = random.nextInt(cumulative[cumulative.length - 1]);
+            for (int i = 0; i < cumulative.length; i++) {
+                if (value < cumulative[i]) {
+                    return endpoints[i];
+                }
+            }
+            return endpoints[endpoints.length - 1];
+        }
+    }
+}
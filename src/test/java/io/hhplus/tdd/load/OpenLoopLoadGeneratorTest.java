@@ -0,0 +1,91 @@
+package io.hhplus.tdd.load;
+
+import com.sun.net.httpserver.HttpServer;
+import io.hhplus.tdd.helper.TestLogger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 스프링 없이 JDK 내장 서버를 localhost 에 띄워서 발생기 자체만 확인함
+@ExtendWith(TestLogger.class)
+class OpenLoopLoadGeneratorTest {
+
+    private HttpServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // 기본 연결 대기열(backlog)은 작아서 한번에 몰리면 연결이 거절될 수 있음
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1_024);
+        server.createContext("/point", exchange -> {
+            boolean charge = exchange.getRequestURI().getPath().endsWith("/charge");
+            byte[] body = (charge ? "{\"code\":\"PLC_PNT_001\",\"message\":\"중복 충전\"}" : "{\"id\":1}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(charge ? 400 : 200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("정해진 도착 속도로 보내고, API 별 응답 시간과 정책 코드별 거절 건수를 나눠서 센다")
+    void run_reportsPerEndpointOutcomes() throws Exception {
+        //given
+        LoadProfile profile = new LoadProfile(400, 1_000, 500, 50, 1.1,
+                Map.of(LoadEndpoint.GET, 1, LoadEndpoint.CHARGE, 1), 1_000, 2_000, 7);
+        URI baseUri = URI.create("http://localhost:" + server.getAddress().getPort());
+
+        //when
+        LoadReport report;
+        try (OpenLoopLoadGenerator generator = new OpenLoopLoadGenerator(baseUri)) {
+            report = generator.run("test", profile);
+        }
+
+        //then
+        assertThat(report.endpoints()).hasSize(2);
+        EndpointReport get = report.endpoints().get(0);
+        EndpointReport charge = report.endpoints().get(1);
+        assertThat(get.endpoint()).isEqualTo(LoadEndpoint.GET);
+        // 느린 CI 에서는 동시 요청 한도에 걸려 안 보낸 요청(DROPPED)이나, 서버가 연결을 못 받아서 난 연결 오류(IO_ERROR)가 섞일 수 있음
+        assertThat(get.count(EndpointStats.OK)).isGreaterThan(0L);
+        assertThat(get.count(EndpointStats.OK) + get.count(EndpointStats.DROPPED) + get.count("IO_ERROR"))
+                .isEqualTo(get.requests());
+        assertThat(charge.count("PLC_PNT_001") + charge.count(EndpointStats.DROPPED) + charge.count("IO_ERROR"))
+                .isEqualTo(charge.requests());
+        // 1초 동안 초당 400건 > 워밍업을 뺀 측정 구간에 대략 400건
+        assertThat(get.requests() + charge.requests()).isBetween(300L, 500L);
+        assertThat(get.p50Micros()).isGreaterThan(0L);
+        assertThat(get.p999Micros()).isGreaterThanOrEqualTo(get.p99Micros());
+        assertThat(report.toJson()).contains("\"endpoint\":\"CHARGE\"", "\"PLC_PNT_001\":");
+    }
+
+    @Test
+    @DisplayName("응답을 못 받은 요청은 제한 시간 초과와 연결 오류로 나눈다")
+    void outcome_classifiesFailures() {
+        //when //then
+        assertThat(OpenLoopLoadGenerator.outcome(null, new HttpTimeoutException("timeout"))).isEqualTo("TIMEOUT");
+        assertThat(OpenLoopLoadGenerator.outcome(null, new IOException("reset"))).isEqualTo("IO_ERROR");
+    }
+}
@@ -0,0 +1,77 @@
+package io.hhplus.tdd.load;
+
+import io.hhplus.tdd.helper.TestLogger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 앱을 실제로 띄우고(임의 포트) localhost 로 부하를 줌 > 외부 네트워크 없이 CI 에서 돌 수 있음
+ * 기본 test 에서는 빠지고 ./gradlew loadTest 로만 실행됨 (build.gradle.kts 참고)
+ * 모드 비교: ./gradlew loadTest -Ppoint.storage.type=MEMORY -Ppoint.cache.enabled=false ...
+ * > 결과는 모드 이름으로 build/reports/load/<label>.json 에 남아서 나란히 비교할 수 있음
+ */
+@Tag("load")
+@ExtendWith(TestLogger.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class PointLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PointLoadTest.class);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private Environment environment;
+
+    @Test
+    @DisplayName("운영과 비슷한 요청 비중/인기 유저 쏠림/도착 속도로 부하를 주고 API 별 처리량, 응답 시간 백분위, 거절 비율을 남긴다")
+    void load() throws Exception {
+        //given
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+
+        //when
+        LoadReport report;
+        try (OpenLoopLoadGenerator generator = new OpenLoopLoadGenerator(URI.create("http://localhost:" + port))) {
+            report = generator.run(label(), profile);
+        }
+
+        //then
+        log.info(report.toTable());
+        writeReport(report);
+        assertThat(report.count(EndpointStats.OK)).isGreaterThan(0L);
+        assertThat(report.count("SERVER_ERROR")).isZero();
+    }
+
+    // 비교하려는 모드 설정을 이름에 넣음 (load.label 로 직접 정할 수도 있음)
+    private String label() {
+        return System.getProperty("load.label", String.join("_",
+                environment.getProperty("point.storage.type", "TABLE"),
+                environment.getProperty("point.write.concurrency", "PESSIMISTIC"),
+                "writeBehind-" + environment.getProperty("point.ledger.write-behind", "false"),
+                "cache-" + environment.getProperty("point.cache.enabled", "true"),
+                "virtual-" + environment.getProperty("spring.threads.virtual.enabled", "false")));
+    }
+
+    private static void writeReport(LoadReport report) throws IOException {
+        Path directory = Path.of(System.getProperty("load.report-dir", "build/reports/load"));
+        Files.createDirectories(directory);
+        Path file = directory.resolve(report.label() + ".json");
+        Files.writeString(file, report.toJson());
+        log.info("부하 결과 저장: {}", file.toAbsolutePath());
+    }
+}
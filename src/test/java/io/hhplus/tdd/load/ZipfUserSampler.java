@@ -0,0 +1,35 @@
+package io.hhplus.tdd.load;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 지프(Zipf) 분포로 유저 id 를 뽑음
+ * - 순위 k 인 유저가 뽑힐 확률은 1 / k^exponent 에 비례 (id 1 이 가장 인기 유저)
+ * - 누적 확률표를 한번 만들어두고 이분 탐색으로 뽑음 (뽑을 때 O(log users), 메모리는 users 개)
+ */
+final class ZipfUserSampler {
+
+    private final double[] cumulative;
+
+    ZipfUserSampler(int users, double exponent) {
+        if (users <= 0 || exponent < 0) {
+            throw new IllegalArgumentException("유저 수는 0보다 크고 지수는 0 이상이어야 합니다.");
+        }
+        this.cumulative = new double[users];
+        double sum = 0;
+        for (int rank = 1; rank <= users; rank++) {
+            sum += 1.0 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < users; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    long next(Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1) + 1L;
+    }
+}
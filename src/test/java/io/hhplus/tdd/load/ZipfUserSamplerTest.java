@@ -0,0 +1,57 @@
+package io.hhplus.tdd.load;
+
+import io.hhplus.tdd.helper.TestLogger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(TestLogger.class)
+class ZipfUserSamplerTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    @DisplayName("지수가 1이면 가장 인기 유저가 1 / H(n) 비율로 뽑히고, 모든 id 는 1 ~ n 사이다")
+    void next_skewsTowardsHotUsers() {
+        //given
+        ZipfUserSampler sampler = new ZipfUserSampler(1_000, 1.0);
+        Random random = new Random(42);
+
+        //when
+        int[] counts = new int[1_001];
+        for (int i = 0; i < SAMPLES; i++) {
+            long userId = sampler.next(random);
+            assertThat(userId).isBetween(1L, 1_000L);
+            counts[(int) userId]++;
+        }
+
+        //then
+        // H(1000) = 7.485 > 1등 13.4%, 2등 6.7%
+        assertThat(counts[1] / (double) SAMPLES).isBetween(0.12, 0.145);
+        assertThat(counts[2] / (double) SAMPLES).isBetween(0.058, 0.076);
+        assertThat(counts[1]).isGreaterThan(counts[10] * 5);
+    }
+
+    @Test
+    @DisplayName("지수가 0이면 모든 유저가 고르게 뽑힌다")
+    void next_uniformWhenExponentIsZero() {
+        //given
+        ZipfUserSampler sampler = new ZipfUserSampler(100, 0);
+        Random random = new Random(42);
+
+        //when
+        int[] counts = new int[101];
+        for (int i = 0; i < SAMPLES; i++) {
+            counts[(int) sampler.next(random)]++;
+        }
+
+        //then
+        for (int userId = 1; userId <= 100; userId++) {
+            assertThat(counts[userId]).isBetween(800, 1_200);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.helper.TestLogger;
+import io.hhplus.tdd.point.policy.PointPolicy;
+import io.hhplus.tdd.point.policy.PointPolicyException;
+import io.hhplus.tdd.point.service.PointAsyncService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith({MockitoExtension.class, TestLogger.class})
+class PointAsyncControllerTest {
+
+    @Mock
+    private PointAsyncService pointAsyncService;
+
+    private PointAsyncController pointAsyncController;
+
+    @BeforeEach
+    void setUp() {
+        pointAsyncController = new PointAsyncController(pointAsyncService);
+    }
+
+    @Test
+    @DisplayName("비동기 충전은 서비스가 돌려준 결과를 그대로 future 로 돌려준다")
+    void charge_returnsServiceResult() {
+        //given
+        UserPoint charged = new UserPoint(1L, 1_000L, System.currentTimeMillis());
+        when(pointAsyncService.chargePoint(1L, 1_000L, "key-1")).thenReturn(CompletableFuture.completedFuture(charged));
+
+        //when
+        UserPoint result = pointAsyncController.charge(1L, 1_000L, "key-1").join();
+
+        //then
+        assertThat(result).isEqualTo(charged);
+    }
+
+    @Test
+    @DisplayName("비동기 사용이 정책 위반으로 실패하면 같은 예외를 담은 future 를 돌려준다")
+    void use_completesExceptionallyOnPolicyViolation() {
+        //given
+        PointPolicyException violation = new PointPolicyException(PointPolicy.PLC_PNT_003, "5만원 이상 사용시 본인 인증이 필요합니다.");
+        when(pointAsyncService.usePoint(1L, 50_000L, null)).thenReturn(CompletableFuture.failedFuture(violation));
+
+        //when
+        CompletableFuture<UserPoint> result = pointAsyncController.use(1L, 50_000L, null);
+
+        //then
+        assertThatThrownBy(result::join).hasCauseInstanceOf(PointPolicyException.class);
+    }
+}
@@ -1,6 +1,8 @@
 package io.hhplus.tdd.point;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.hhplus.tdd.helper.TestLogger;
+import io.hhplus.tdd.point.history.PointHistoryQuery;
 import io.hhplus.tdd.point.service.PointService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +14,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 
 import java.util.List;
 import java.util.Random;
@@ -49,7 +52,7 @@ class PointControllerTest {
         // XXX : 처음에는 @InjectMocks를 쓰려고 했는데, 직접 생성자 호출방식으로 변경함
         // XXX : 이유 :  InjectMocks 보다 명시적이고, 에러시 컴파일타임에 에러를 확인가능함,
         // XXX : 이유2 : 현재 해당 컨트롤러객체의 의존성이 단순함 postService 한개뿐이어서 리플렉션을 사용하는 injectMocks 보다 가벼움
-        pointController = new PointController(pointService);
+        pointController = new PointController(pointService, new ObjectMapper());
         userId = random.nextLong(1_000); // 0-999 중 랜덤값을 인스턴스 필드에 할당
     }
 
@@ -63,10 +66,11 @@ class PointControllerTest {
             new PointHistory(1L, userId, 1000L, TransactionType.CHARGE, System.currentTimeMillis()),
             new PointHistory(2L, userId, 500L, TransactionType.USE, System.currentTimeMillis())
         );
-        when(pointService.getPointHistoryById(userId)).thenReturn(mockHistories);
+        when(pointService.getPointHistoryPage(userId, new PointHistoryQuery(null, PointHistoryQuery.DEFAULT_LIMIT, null, null, null)))
+                .thenReturn(new PointHistoryPage(mockHistories, null));
 
         //when
-        List<PointHistory> result = pointController.history(userId);
+        List<PointHistory> result = pointController.history(userId, null, PointHistoryQuery.DEFAULT_LIMIT, null, null, null).getBody();
 
         //then
         assertThat(result).isNotNull();
@@ -78,6 +82,24 @@ class PointControllerTest {
         assertThat(result.get(1).type()).isEqualTo(TransactionType.USE);
     }
 
+    @Test
+    @DisplayName("특정유저 포인트 이용내역을 limit 건씩 조회하고, 남은 내역이 있으면 Next-Cursor 헤더로 다음 커서를 준다")
+    public void history_returnsNextCursorHeader() {
+        //given
+        List<PointHistory> mockHistories = List.of(
+            new PointHistory(1L, userId, 1000L, TransactionType.CHARGE, System.currentTimeMillis())
+        );
+        PointHistoryQuery query = new PointHistoryQuery(null, 1, null, null, null);
+        when(pointService.getPointHistoryPage(userId, query)).thenReturn(new PointHistoryPage(mockHistories, 1L));
+
+        //when
+        ResponseEntity<List<PointHistory>> result = pointController.history(userId, null, 1, null, null, null);
+
+        //then
+        assertThat(result.getBody()).containsExactlyElementsOf(mockHistories);
+        assertThat(result.getHeaders().getFirst(PointController.NEXT_CURSOR_HEADER)).isEqualTo("1");
+    }
+
     @Test
     @DisplayName("특정유저 포인트 조회_성공")
     public void searchOfThePointOfASpecificUser() {
@@ -108,10 +130,10 @@ class PointControllerTest {
         // userId는 @BeforeEach에서 랜덤으로 생성됨  
         Long amount = 1000L;
         UserPoint mockUserPoint = new UserPoint(userId, amount, System.currentTimeMillis());
-        when(pointService.chargePoint(userId, amount)).thenReturn(mockUserPoint);
+        when(pointService.chargePoint(userId, amount, null)).thenReturn(mockUserPoint);
 
         //when
-        UserPoint result = pointController.charge(userId, amount);
+        UserPoint result = pointController.charge(userId, amount, null);
 
         //then
         assertThat(result).isNotNull();
@@ -128,10 +150,10 @@ class PointControllerTest {
         Long userId = 1L;
         Long amount = 500L;
         UserPoint mockUserPoint = new UserPoint(userId, 500L, System.currentTimeMillis());
-        when(pointService.usePoint(userId, amount)).thenReturn(mockUserPoint);
+        when(pointService.usePoint(userId, amount, null)).thenReturn(mockUserPoint);
 
         //when
-        UserPoint result = pointController.use(userId, amount);
+        UserPoint result = pointController.use(userId, amount, null);
 
         //then
         assertThat(result).isNotNull();
@@ -147,13 +169,13 @@ class PointControllerTest {
         //given
         Long userId = 1L;
         Long amount = 1_500_000L; // 150만원 (한도 초과)
-        when(pointService.chargePoint(userId, amount))
+        when(pointService.chargePoint(userId, amount, null))
             .thenThrow(new IllegalArgumentException("한번에 충전할 수 있는 최대 금액은 100만원입니다."));
 
         //when & then
         // TODO: assertThrows vs assertThatThrownBy 중에 고민했는데,
         // assertThatThrownBy가 더 fluent하고 메시지 검증이 쉬워서 선택
-        assertThatThrownBy(() -> pointController.charge(userId, amount))
+        assertThatThrownBy(() -> pointController.charge(userId, amount, null))
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining("한번에 충전할 수 있는 최대 금액은 100만원입니다.");
     }
@@ -164,11 +186,11 @@ class PointControllerTest {
         //given
         Long userId = 1L;
         Long amount = 1_500_000L; // 150만원 (한도 초과)
-        when(pointService.usePoint(userId, amount))
+        when(pointService.usePoint(userId, amount, null))
             .thenThrow(new IllegalArgumentException("한번에 사용할 수 있는 최대 금액은 100만원입니다."));
 
         //when & then
-        assertThatThrownBy(() -> pointController.use(userId, amount))
+        assertThatThrownBy(() -> pointController.use(userId, amount, null))
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining("한번에 사용할 수 있는 최대 금액은 100만원입니다.");
     }
@@ -179,11 +201,11 @@ class PointControllerTest {
         //given
         Long userId = 1L;
         Long amount = 60_000L; // 6만원 (5만원 이상)
-        when(pointService.usePoint(userId, amount))
+        when(pointService.usePoint(userId, amount, null))
             .thenThrow(new IllegalArgumentException("5만원 이상 사용시 본인 인증이 필요합니다."));
 
         //when & then
-        assertThatThrownBy(() -> pointController.use(userId, amount))
+        assertThatThrownBy(() -> pointController.use(userId, amount, null))
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining("5만원 이상 사용시 본인 인증이 필요합니다.");
     }
@@ -194,11 +216,11 @@ class PointControllerTest {
         //given
         Long userId = 1L;
         Long amount = 5000L;
-        when(pointService.usePoint(userId, amount))
+        when(pointService.usePoint(userId, amount, null))
             .thenThrow(new IllegalArgumentException("포인트 잔액이 부족합니다. 현재 잔액: 1000원"));
 
         //when & then
-        assertThatThrownBy(() -> pointController.use(userId, amount))
+        assertThatThrownBy(() -> pointController.use(userId, amount, null))
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining("포인트 잔액이 부족합니다.");
     }
@@ -211,11 +233,11 @@ class PointControllerTest {
         Long amount = 1000L;
         
         // 부정 충전 시나리오: 동시에 여러 건의 충전 요청
-        when(pointService.chargePoint(userId, amount))
+        when(pointService.chargePoint(userId, amount, null))
             .thenThrow(new IllegalArgumentException("부정 충전이 감지되었습니다."));
 
         //when & then
-        assertThatThrownBy(() -> pointController.charge(userId, amount))
+        assertThatThrownBy(() -> pointController.charge(userId, amount, null))
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining("부정 충전이 감지되었습니다.");
     }
@@ -226,11 +248,11 @@ class PointControllerTest {
         //given
         Long userId = 1L;
         Long amount = 500_000L; // 50만원 충전
-        when(pointService.chargePoint(userId, amount))
+        when(pointService.chargePoint(userId, amount, null))
             .thenThrow(new IllegalArgumentException("최대 보유 가능한 포인트는 5000000원입니다."));
 
         //when & then
-        assertThatThrownBy(() -> pointController.charge(userId, amount))
+        assertThatThrownBy(() -> pointController.charge(userId, amount, null))
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining("최대 보유 가능한 포인트는 5000000원입니다.");
     }
@@ -243,11 +265,11 @@ class PointControllerTest {
         //given
         Long userId = 1L;
         Long amount = -1000L;
-        when(pointService.chargePoint(userId, amount))
+        when(pointService.chargePoint(userId, amount, null))
             .thenThrow(new IllegalArgumentException("충전 금액은 0보다 커야 합니다."));
 
         //when & then
-        assertThatThrownBy(() -> pointController.charge(userId, amount))
+        assertThatThrownBy(() -> pointController.charge(userId, amount, null))
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining("충전 금액은 0보다 커야 합니다.");
     }
@@ -258,11 +280,11 @@ class PointControllerTest {
         //given
         Long userId = 1L;
         Long amount = -500L;
-        when(pointService.usePoint(userId, amount))
+        when(pointService.usePoint(userId, amount, null))
             .thenThrow(new IllegalArgumentException("사용 금액은 0보다 커야 합니다."));
 
         //when & then
-        assertThatThrownBy(() -> pointController.use(userId, amount))
+        assertThatThrownBy(() -> pointController.use(userId, amount, null))
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining("사용 금액은 0보다 커야 합니다.");
     }
@@ -273,11 +295,11 @@ class PointControllerTest {
         //given
         Long userId = 1L;
         Long amount = 0L;
-        when(pointService.chargePoint(userId, amount))
+        when(pointService.chargePoint(userId, amount, null))
             .thenThrow(new IllegalArgumentException("충전 금액은 0보다 커야 합니다."));
 
         //when & then
-        assertThatThrownBy(() -> pointController.charge(userId, amount))
+        assertThatThrownBy(() -> pointController.charge(userId, amount, null))
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining("충전 금액은 0보다 커야 합니다.");
     }
@@ -295,7 +317,7 @@ class PointControllerTest {
 
 
         //when
-        when(pointService.chargePoint(userId,amount)).thenReturn(mockUserPoint);
+        when(pointService.chargePoint(userId, amount, null)).thenReturn(mockUserPoint);
 
         //then
 
@@ -325,11 +347,11 @@ class PointControllerTest {
         //given
         Long userId = 1L;
         Long amount = 50_000L; // 정확히 5만원
-        when(pointService.usePoint(userId, amount))
+        when(pointService.usePoint(userId, amount, null))
             .thenThrow(new IllegalArgumentException("5만원 이상 사용시 본인 인증이 필요합니다."));
 
         //when & then
-        assertThatThrownBy(() -> pointController.use(userId, amount))
+        assertThatThrownBy(() -> pointController.use(userId, amount, null))
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining("5만원 이상 사용시 본인 인증이 필요합니다.");
     }
@@ -341,10 +363,10 @@ class PointControllerTest {
         Long userId = 1L;
         Long amount = 49_999L; // 49,999원 (5만원 미만)
         UserPoint mockUserPoint = new UserPoint(userId, 0L, System.currentTimeMillis());
-        when(pointService.usePoint(userId, amount)).thenReturn(mockUserPoint);
+        when(pointService.usePoint(userId, amount, null)).thenReturn(mockUserPoint);
 
         //when
-        UserPoint result = pointController.use(userId, amount);
+        UserPoint result = pointController.use(userId, amount, null);
 
         //then
         assertThat(result).isNotNull();
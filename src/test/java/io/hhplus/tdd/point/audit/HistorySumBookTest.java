@@ -0,0 +1,73 @@
+package io.hhplus.tdd.point.audit;
+
+import io.hhplus.tdd.helper.TestLogger;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(TestLogger.class)
+class HistorySumBookTest {
+
+    private final HistorySumBook book = new HistorySumBook(AuditProperties.every(60_000, 1_000));
+
+    @Test
+    @DisplayName("충전/환불은 더하고 사용/소멸/회수는 빼서 유저별 내역 합계를 유지한다")
+    void onRecorded_keepsSignedSum() {
+        //given //when
+        record(1L, 1L, 10_000L, TransactionType.CHARGE);
+        record(2L, 1L, 3_000L, TransactionType.USE);
+        record(3L, 1L, 1_000L, TransactionType.REFUND);
+        record(4L, 1L, 500L, TransactionType.EXPIRE);
+        record(5L, 1L, 2_000L, TransactionType.CLAWBACK);
+        record(6L, 2L, 700L, TransactionType.CHARGE);
+
+        //then
+        assertThat(book.historySum(1L)).isEqualTo(5_500L);
+        assertThat(book.historySum(2L)).isEqualTo(700L);
+        assertThat(book.historySum(3L)).isZero();
+        assertThat(book.trackedUsers()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("합계가 바뀐 유저는 대기열에 한번만 들어가고, 꺼낸 뒤에 다시 바뀌면 다시 들어간다")
+    void pollChanged_queuesEachUserOnce() {
+        //given
+        record(1L, 1L, 1_000L, TransactionType.CHARGE);
+        record(2L, 1L, 1_000L, TransactionType.CHARGE);
+        record(3L, 2L, 1_000L, TransactionType.CHARGE);
+
+        //when
+        Long first = book.pollChanged();
+        Long second = book.pollChanged();
+        Long empty = book.pollChanged();
+        record(4L, 1L, 500L, TransactionType.USE);
+
+        //then
+        assertThat(first).isEqualTo(1L);
+        assertThat(second).isEqualTo(2L);
+        assertThat(empty).isNull();
+        assertThat(book.pollChanged()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("감사가 꺼져 있으면 아무것도 쌓지 않는다")
+    void disabled_tracksNothing() {
+        //given
+        HistorySumBook disabled = new HistorySumBook(AuditProperties.disabled());
+
+        //when
+        disabled.onRecorded(new PointHistory(1L, 1L, 1_000L, TransactionType.CHARGE, 0L));
+
+        //then
+        assertThat(disabled.trackedUsers()).isZero();
+        assertThat(disabled.pollChanged()).isNull();
+    }
+
+    private void record(long id, long userId, long amount, TransactionType type) {
+        book.onRecorded(new PointHistory(id, userId, amount, type, 0L));
+    }
+}
@@ -0,0 +1,138 @@
+package io.hhplus.tdd.point.cache;
+
+import io.hhplus.tdd.helper.TestLogger;
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(TestLogger.class)
+class UserPointCacheTest {
+
+    @Test
+    @DisplayName("캐시에 없으면 한번만 읽어오고, 다음 조회부터는 캐시에서 응답한다")
+    void get_loadsOnceThenHits() {
+        //given
+        UserPointCache cache = new UserPointCache(PointCacheProperties.defaults());
+        AtomicInteger loadCount = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < 5; i++) {
+            cache.get(1L, userId -> {
+                loadCount.incrementAndGet();
+                return new UserPoint(userId, 1_000L, 0L);
+            });
+        }
+
+        //then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(cache.metrics().hitCount()).isEqualTo(4L);
+        assertThat(cache.metrics().missCount()).isEqualTo(1L);
+        assertThat(cache.metrics().hitRate()).isEqualTo(0.8);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 조회되지 않은 유저부터 버린다")
+    void get_evictsLeastRecentlyUsed() {
+        //given
+        // 세그먼트(64개)마다 한 명씩만 담기도록 최대 크기를 세그먼트 수와 같게 줌
+        UserPointCache cache = new UserPointCache(new PointCacheProperties(true, 64));
+        int userCount = 10_000;
+
+        //when
+        for (long userId = 1; userId <= userCount; userId++) {
+            cache.get(userId, id -> UserPoint.empty(id));
+        }
+
+        //then
+        CacheMetrics metrics = cache.metrics();
+        assertThat(metrics.size()).isLessThanOrEqualTo(64L);
+        assertThat(metrics.evictionCount()).isEqualTo(userCount - metrics.size());
+        // 마지막에 읽은 유저는 남아있어야 함
+        cache.get(userCount, id -> UserPoint.empty(id));
+        assertThat(cache.metrics().hitCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("조회 중에 잔액이 바뀌면 조회해온 이전 값으로 캐시를 덮어쓰지 않는다")
+    void get_doesNotCacheValueLoadedBeforeConcurrentWrite() {
+        //given
+        UserPointCache cache = new UserPointCache(PointCacheProperties.defaults());
+        UserPoint stale = new UserPoint(1L, 1_000L, 0L);
+        UserPoint fresh = new UserPoint(1L, 2_000L, 1L);
+
+        //when
+        // 테이블에서 이전 값을 읽어오는 사이에 충전이 끝나서 새 값이 캐시에 들어간 상황
+        UserPoint loaded = cache.get(1L, userId -> {
+            cache.put(fresh);
+            return stale;
+        });
+
+        //then
+        assertThat(loaded).isEqualTo(stale);
+        assertThat(cache.get(1L, userId -> stale)).isEqualTo(fresh);
+    }
+
+    @Test
+    @DisplayName("peek 은 캐시에 있는 값만 돌려주고, 읽어오거나 LRU 순서와 hit/miss 횟수를 바꾸지 않는다")
+    void peek_leavesRecencyAndCountsUntouched() {
+        //given
+        // 세그먼트마다 두 명씩 담기도록 최대 크기를 세그먼트 수의 두배로 주고, 같은 세그먼트에 들어가는 유저 세 명을 고름
+        UserPointCache cache = new UserPointCache(new PointCacheProperties(true, 128));
+        long[] users = sameSegmentUsers(3);
+        cache.get(users[0], UserPoint::empty);
+        cache.get(users[1], UserPoint::empty);
+
+        //when
+        UserPoint peeked = cache.peek(users[0]);
+        UserPoint missing = cache.peek(users[2]);
+        cache.get(users[2], UserPoint::empty); // 가장 오래된 유저 하나를 밀어냄
+
+        //then
+        // peek 이 순서를 바꾸지 않았으므로 먼저 담긴 users[0] 이 밀려남
+        assertThat(peeked).isEqualTo(UserPoint.empty(users[0]));
+        assertThat(missing).isNull();
+        assertThat(cache.peek(users[0])).isNull();
+        assertThat(cache.peek(users[1])).isNotNull();
+        assertThat(cache.metrics().hitCount()).isZero();
+        assertThat(cache.metrics().missCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("캐시를 끄면 매번 읽어온다")
+    void disabled_alwaysLoads() {
+        //given
+        UserPointCache cache = new UserPointCache(PointCacheProperties.disabled());
+        AtomicInteger loadCount = new AtomicInteger();
+
+        //when
+        cache.put(new UserPoint(1L, 500L, 0L));
+        for (int i = 0; i < 3; i++) {
+            cache.get(1L, userId -> {
+                loadCount.incrementAndGet();
+                return UserPoint.empty(userId);
+            });
+        }
+
+        //then
+        assertThat(loadCount.get()).isEqualTo(3);
+        assertThat(cache.metrics().size()).isZero();
+    }
+
+    // UserPointCache.segmentFor 와 같은 방법으로 세그먼트를 골라서, 같은 세그먼트에 들어가는 유저를 count 명 찾음
+    private static long[] sameSegmentUsers(int count) {
+        long[] users = new long[count];
+        long segment = (1L * 0x9E3779B97F4A7C15L) >>> 58;
+        int found = 0;
+        for (long userId = 1; found < count; userId++) {
+            if ((userId * 0x9E3779B97F4A7C15L) >>> 58 == segment) {
+                users[found++] = userId;
+            }
+        }
+        return users;
+    }
+}
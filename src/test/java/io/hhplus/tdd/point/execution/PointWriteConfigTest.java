@@ -0,0 +1,47 @@
+package io.hhplus.tdd.point.execution;
+
+import io.hhplus.tdd.helper.TestLogger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(TestLogger.class)
+class PointWriteConfigTest {
+
+    @Test
+    @DisplayName("내역 저장 스레드를 다 쓰고 있으면 스레드를 더 만들지 않고 넘긴 스레드가 직접 저장한다")
+    void historyWriteExecutor_runsOnCallerWhenSaturated() throws Exception {
+        //given
+        ExecutorService executor = new PointWriteConfig().pointHistoryWriteExecutor(PointThreadFactories.platform(),
+                PointWriteProperties.overlapped().withMaxHistoryWriters(2));
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 2; i++) {
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        //when
+        Thread caller = Thread.currentThread();
+        Thread writer = CompletableFuture.supplyAsync(Thread::currentThread, executor).join();
+
+        //then
+        assertThat(writer).isSameAs(caller);
+        assertThat(((ThreadPoolExecutor) executor).getPoolSize()).isEqualTo(2);
+        release.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,196 @@
+package io.hhplus.tdd.point.expiry;
+
+import io.hhplus.tdd.helper.FakePointHistoryTable;
+import io.hhplus.tdd.helper.TestLogger;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.history.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.history.PointHistoryWarmup;
+import io.hhplus.tdd.point.storage.TablePointHistoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(TestLogger.class)
+class PointLotBookTest {
+
+    private static final long LIFETIME = 10_000L;
+    private static final long TICK = 100L;
+
+    @Test
+    @DisplayName("사용은 가장 오래된 충전 건부터 차감하고, 만료 금액은 만료된 건의 남은 금액만 더한다")
+    void use_consumesOldestLotFirst() {
+        //given
+        PointLotBook lotBook = new PointLotBook(ExpiryProperties.after(LIFETIME, TICK));
+        lotBook.onRecorded(history(1L, 1_000L, TransactionType.CHARGE, 0L));
+        lotBook.onRecorded(history(1L, 2_000L, TransactionType.CHARGE, 5_000L));
+
+        //when
+        lotBook.onRecorded(history(1L, 1_500L, TransactionType.USE, 6_000L));
+
+        //then
+        // 첫 건(1,000)은 다 쓰고 둘째 건에서 500 차감 > 둘째 건 1,500 만 남음
+        assertThat(lotBook.lotCount(1L)).isEqualTo(1);
+        assertThat(lotBook.remainingAmount(1L)).isEqualTo(1_500L);
+        assertThat(lotBook.expiredAmount(1L, LIFETIME)).isZero();
+        assertThat(lotBook.expiredAmount(1L, 5_000L + LIFETIME)).isEqualTo(1_500L);
+    }
+
+    @Test
+    @DisplayName("회수는 가장 오래된 건이 아니라 되돌린 충전 건에서 차감하고, 이미 쓴 만큼은 오래된 건부터 차감한다")
+    void clawback_consumesReversedChargeLot() {
+        //given
+        PointLotBook lotBook = new PointLotBook(ExpiryProperties.after(LIFETIME, TICK));
+        lotBook.onRecorded(new PointHistory(1L, 1L, 1_000L, TransactionType.CHARGE, 0L));
+        lotBook.onRecorded(new PointHistory(2L, 1L, 2_000L, TransactionType.CHARGE, 5_000L));
+        lotBook.onRecorded(new PointHistory(3L, 1L, 3_000L, TransactionType.CHARGE, 7_000L));
+        lotBook.onRecorded(history(1L, 1_500L, TransactionType.USE, 8_000L)); // 첫 건 다 쓰고 둘째 건에서 500
+
+        //when
+        lotBook.onRecorded(new PointHistory(4L, 1L, 3_000L, TransactionType.CLAWBACK, 9_000L, 3L));
+        lotBook.onRecorded(new PointHistory(5L, 1L, 1_200L, TransactionType.CLAWBACK, 9_500L, 2L));
+
+        //then
+        // 셋째 건(3,000)은 통째로 빠지고, 둘째 건은 남은 1,500 에서 1,200 차감 > 둘째 건 300 만 남음
+        assertThat(lotBook.lotCount(1L)).isEqualTo(1);
+        assertThat(lotBook.remainingAmount(1L)).isEqualTo(300L);
+        assertThat(lotBook.expiredAmount(1L, 5_000L + LIFETIME)).isEqualTo(300L);
+    }
+
+    @Test
+    @DisplayName("되돌린 충전 건을 이미 다 썼으면 회수는 남은 건 중 가장 오래된 건부터 차감한다")
+    void clawback_fallsBackToOldestLotWhenReversedLotIsSpent() {
+        //given
+        PointLotBook lotBook = new PointLotBook(ExpiryProperties.after(LIFETIME, TICK));
+        lotBook.onRecorded(new PointHistory(1L, 1L, 1_000L, TransactionType.CHARGE, 0L));
+        lotBook.onRecorded(new PointHistory(2L, 1L, 2_000L, TransactionType.CHARGE, 5_000L));
+        lotBook.onRecorded(new PointHistory(3L, 1L, 3_000L, TransactionType.CHARGE, 7_000L));
+        lotBook.onRecorded(history(1L, 1_500L, TransactionType.USE, 8_000L));
+
+        //when
+        lotBook.onRecorded(new PointHistory(4L, 1L, 1_000L, TransactionType.CLAWBACK, 9_000L, 1L));
+
+        //then
+        // 첫 건은 이미 없음 > 둘째 건 1,500 에서 1,000 차감
+        assertThat(lotBook.lotCount(1L)).isEqualTo(2);
+        assertThat(lotBook.remainingAmount(1L)).isEqualTo(3_500L);
+        assertThat(lotBook.expiredAmount(1L, 5_000L + LIFETIME)).isEqualTo(500L);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 앞 건보다 이른 충전 건이 늦게 들어와도 만료 시각 순서로 끼워넣어서 만료 금액을 빠뜨리지 않는다")
+    void add_keepsLotsOrderedByExpiry() {
+        //given
+        PointLotBook lotBook = new PointLotBook(ExpiryProperties.after(LIFETIME, TICK));
+        lotBook.onRecorded(history(1L, 1_000L, TransactionType.CHARGE, 5_000L));
+        lotBook.onRecorded(history(1L, 2_000L, TransactionType.CHARGE, 0L));
+
+        //when
+        long expiredAtFirst = lotBook.expiredAmount(1L, LIFETIME);
+        lotBook.onRecorded(history(1L, 2_500L, TransactionType.USE, 6_000L));
+
+        //then
+        // 먼저 만료되는 둘째 건(2,000)부터 다 쓰고 첫 건에서 500 차감
+        assertThat(expiredAtFirst).isEqualTo(2_000L);
+        assertThat(lotBook.lotCount(1L)).isEqualTo(1);
+        assertThat(lotBook.expiredAmount(1L, 5_000L + LIFETIME)).isEqualTo(500L);
+    }
+
+    @Test
+    @DisplayName("만료 확인은 시각이 지난 칸의 유저만 꺼내고, 아직 안 지난 칸은 건드리지 않는다")
+    void pollDueUsers_returnsOnlyExpiredUsers() {
+        //given
+        PointLotBook lotBook = new PointLotBook(ExpiryProperties.after(LIFETIME, TICK));
+        for (long userId = 1; userId <= 100_000; userId++) {
+            lotBook.onRecorded(history(userId, 1_000L, TransactionType.CHARGE, userId)); // 유저마다 1ms 씩 늦게 충전
+        }
+
+        //when
+        List<Long> due = new ArrayList<>();
+        lotBook.pollDueUsers(LIFETIME + 200, Integer.MAX_VALUE, due::add);
+        List<Long> dueAgain = new ArrayList<>();
+        lotBook.pollDueUsers(LIFETIME + 200, Integer.MAX_VALUE, dueAgain::add);
+
+        //then
+        assertThat(due).hasSize(200).contains(1L, 200L).doesNotContain(201L);
+        assertThat(dueAgain).isEmpty();
+        assertThat(lotBook.pendingTickCount()).isEqualTo(998);
+    }
+
+    @Test
+    @DisplayName("인덱스에는 유저마다 가장 이른 충전 건 하나만 들어가고, 그 건을 다 쓰면 다음 건의 칸으로 옮기고 다 쓰면 빠진다")
+    void schedule_keepsOnlyEarliestLotPerUser() {
+        //given
+        PointLotBook lotBook = new PointLotBook(ExpiryProperties.after(LIFETIME, TICK));
+        for (int i = 0; i < 1_000; i++) {
+            lotBook.onRecorded(history(1L, 10L, TransactionType.CHARGE, i * TICK)); // 충전 건마다 칸이 다름
+        }
+        int ticksAfterCharges = lotBook.pendingTickCount();
+
+        //when
+        lotBook.onRecorded(history(1L, 10L, TransactionType.USE, 0L));
+        List<Long> dueAtFirstLot = new ArrayList<>();
+        lotBook.pollDueUsers(LIFETIME, Integer.MAX_VALUE, dueAtFirstLot::add);
+        List<Long> dueAtSecondLot = new ArrayList<>();
+        lotBook.pollDueUsers(TICK + LIFETIME, Integer.MAX_VALUE, dueAtSecondLot::add);
+        lotBook.reschedule(1L);
+        lotBook.onRecorded(history(1L, 9_990L, TransactionType.USE, 0L));
+
+        //then
+        assertThat(ticksAfterCharges).isEqualTo(1);
+        // 첫 건을 다 써서 둘째 건의 칸으로 옮겨짐 > 첫 건의 만료 시각에는 꺼낼 유저가 없음
+        assertThat(dueAtFirstLot).isEmpty();
+        assertThat(dueAtSecondLot).containsExactly(1L);
+        assertThat(lotBook.lotCount(1L)).isZero();
+        assertThat(lotBook.scheduledUserCount()).isZero();
+        assertThat(lotBook.pendingTickCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("기동 시 워밍업은 기존 내역으로 남아있는 충전 건을 다시 만들고, 이미 지난 건은 바로 만료 대상이 된다 (남은 건이 없는 유저는 제외)")
+    void warmup_rebuildsLotsFromHistory() {
+        //given
+        IndexedPointHistoryRepository repository =
+                new IndexedPointHistoryRepository(new TablePointHistoryRepository(new FakePointHistoryTable()), List.of());
+        repository.insert(1L, 1_000L, TransactionType.CHARGE, 0L);
+        repository.insert(1L, 3_000L, TransactionType.CHARGE, 20_000L);
+        repository.insert(1L, 400L, TransactionType.USE, 21_000L);
+        repository.insert(2L, 500L, TransactionType.CHARGE, 0L);
+        repository.insert(2L, 500L, TransactionType.EXPIRE, LIFETIME);
+        PointLotBook lotBook = new PointLotBook(ExpiryProperties.after(LIFETIME, TICK));
+
+        //when
+        new PointHistoryWarmup(repository, List.of(lotBook)).afterSingletonsInstantiated();
+
+        //then
+        assertThat(lotBook.expiredAmount(1L, 25_000L)).isEqualTo(600L);
+        assertThat(lotBook.remainingAmount(1L)).isEqualTo(3_600L);
+        assertThat(lotBook.lotCount(2L)).isZero();
+        List<Long> due = new ArrayList<>();
+        lotBook.pollDueUsers(25_000L, Integer.MAX_VALUE, due::add);
+        assertThat(due).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("소멸 기능이 꺼져 있으면 충전 건을 쌓지 않는다")
+    void disabled_tracksNothing() {
+        //given
+        PointLotBook lotBook = new PointLotBook(ExpiryProperties.disabled());
+
+        //when
+        lotBook.onRecorded(history(1L, 1_000L, TransactionType.CHARGE, 0L));
+
+        //then
+        assertThat(lotBook.lotCount(1L)).isZero();
+        assertThat(lotBook.pendingTickCount()).isZero();
+    }
+
+    private static PointHistory history(long userId, long amount, TransactionType type, long millis) {
+        return new PointHistory(0L, userId, amount, type, millis);
+    }
+}
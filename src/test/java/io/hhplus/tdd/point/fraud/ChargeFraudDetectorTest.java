@@ -0,0 +1,117 @@
+package io.hhplus.tdd.point.fraud;
+
+import io.hhplus.tdd.helper.TestLogger;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(TestLogger.class)
+class ChargeFraudDetectorTest {
+
+    private static final long USER_ID = 1L;
+
+    private final ChargeFraudDetector detector = new ChargeFraudDetector(
+            new FraudDetectionProperties(10_000, 60_000, 3, 60_000));
+
+    @Test
+    @DisplayName("PLC_PNT_001: 10초 안에 같은 금액을 다시 충전하면 중복 충전으로 판단한다")
+    void sameAmountWithinWindow_isDuplicate() {
+        //given
+        detector.record(USER_ID, 1_000L, 0L);
+
+        //when & then
+        assertThat(detector.check(USER_ID, 1_000L, 9_999L)).isEqualTo(FraudSignal.DUPLICATE_AMOUNT);
+        assertThat(detector.check(USER_ID, 1_000L, 10_000L)).isEqualTo(FraudSignal.NONE);
+        assertThat(detector.check(USER_ID, 2_000L, 5_000L)).isEqualTo(FraudSignal.NONE);
+        assertThat(detector.check(2L, 1_000L, 5_000L)).isEqualTo(FraudSignal.NONE);
+    }
+
+    @Test
+    @DisplayName("PLC_PNT_001: 구간 안에서 충전 횟수가 한도에 도달하면 반복 충전으로 판단한다")
+    void tooManyChargesWithinWindow() {
+        //given
+        detector.record(USER_ID, 1_000L, 0L);
+        detector.record(USER_ID, 2_000L, 20_000L);
+        detector.record(USER_ID, 3_000L, 40_000L);
+
+        //when & then
+        assertThat(detector.check(USER_ID, 4_000L, 50_000L)).isEqualTo(FraudSignal.TOO_MANY_CHARGES);
+        // 첫 충전이 60초 구간을 벗어나면 다시 허용
+        assertThat(detector.check(USER_ID, 4_000L, 60_000L)).isEqualTo(FraudSignal.NONE);
+    }
+
+    @Test
+    @DisplayName("반영되지 않은 충전 기록을 지우면 그 기록만 빠지고 나머지 기록은 그대로 탐지에 쓰인다")
+    void forget_removesOnlyThatRecord() {
+        //given
+        detector.record(USER_ID, 1_000L, 0L);
+        detector.record(USER_ID, 2_000L, 1_000L);
+        detector.record(USER_ID, 3_000L, 2_000L);
+
+        //when
+        detector.forget(USER_ID, 2_000L, 1_000L);
+
+        //then
+        assertThat(detector.check(USER_ID, 2_000L, 5_000L)).isEqualTo(FraudSignal.NONE);
+        assertThat(detector.check(USER_ID, 1_000L, 5_000L)).isEqualTo(FraudSignal.DUPLICATE_AMOUNT);
+        assertThat(detector.check(USER_ID, 3_000L, 5_000L)).isEqualTo(FraudSignal.DUPLICATE_AMOUNT);
+        // 구간 안의 충전이 2건으로 줄어서 한도(3건)에 걸리지 않음
+        assertThat(detector.check(USER_ID, 4_000L, 50_000L)).isEqualTo(FraudSignal.NONE);
+    }
+
+    @Test
+    @DisplayName("한동안 충전이 없던 유저의 탐지 상태는 정리되어 메모리에 남지 않는다")
+    void idleWindows_areSwept() {
+        //given
+        for (long userId = 1; userId <= 100; userId++) {
+            detector.record(userId, 1_000L, 0L);
+        }
+        assertThat(detector.activeUserCount()).isEqualTo(100);
+
+        //when
+        detector.record(999L, 1_000L, 120_000L);
+
+        //then
+        assertThat(detector.activeUserCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재구성은 탐지 구간 안의 충전 내역만 다시 남겨서 재시작 직후에도 같은 금액 재충전을 잡는다")
+    void warmup_rebuildsRecentCharges() {
+        //given
+        long now = System.currentTimeMillis();
+        detector.record(USER_ID, 9_000L, now);
+
+        //when
+        detector.reset();
+        detector.onRecorded(new PointHistory(1L, USER_ID, 1_000L, TransactionType.CHARGE, now - 120_000L));
+        detector.onRecorded(new PointHistory(2L, USER_ID, 2_000L, TransactionType.CHARGE, now - 1_000L));
+        detector.onRecorded(new PointHistory(3L, USER_ID, 500L, TransactionType.USE, now - 500L));
+
+        //then
+        assertThat(detector.check(USER_ID, 9_000L, now)).isEqualTo(FraudSignal.NONE);
+        assertThat(detector.check(USER_ID, 2_000L, now)).isEqualTo(FraudSignal.DUPLICATE_AMOUNT);
+        assertThat(detector.activeUserCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("record 로 이미 남긴 충전의 내역이 뒤따라 저장되어도 두 번 세지 않는다")
+    void onRecorded_skipsChargeAlreadyRecorded() {
+        //given
+        long now = System.currentTimeMillis();
+        detector.record(USER_ID, 1_000L, now - 3_000L);
+        detector.record(USER_ID, 2_000L, now - 2_000L);
+
+        //when
+        detector.onRecorded(new PointHistory(1L, USER_ID, 1_000L, TransactionType.CHARGE, now - 3_000L));
+        detector.onRecorded(new PointHistory(2L, USER_ID, 2_000L, TransactionType.CHARGE, now - 2_000L));
+
+        //then
+        // 구간 안의 충전이 2건 그대로라 한도(3건)에 걸리지 않음
+        assertThat(detector.check(USER_ID, 3_000L, now)).isEqualTo(FraudSignal.NONE);
+    }
+}
@@ -0,0 +1,64 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.helper.FakePointHistoryTable;
+import io.hhplus.tdd.helper.TestLogger;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.storage.TablePointHistoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(TestLogger.class)
+class FirstUseRegistryTest {
+
+    @Test
+    @DisplayName("PLC_PNT_005: USE 내역이 저장되는 순간부터 더 이상 최초 사용자가 아니다")
+    void useRecorded_flipsFirstUseFlag() {
+        //given
+        FirstUseRegistry registry = new FirstUseRegistry();
+        IndexedPointHistoryRepository repository =
+                new IndexedPointHistoryRepository(new TablePointHistoryRepository(new FakePointHistoryTable()), List.of(registry));
+
+        //when
+        repository.insert(1L, 1_000L, TransactionType.CHARGE, 0L);
+        repository.insert(2L, 1_000L, TransactionType.CHARGE, 0L);
+        repository.insert(2L, 500L, TransactionType.USE, 1L);
+
+        //then
+        assertThat(registry.hasUsed(1L)).isFalse();
+        assertThat(registry.hasUsed(2L)).isTrue();
+        assertThat(registry.usedUserCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("기동 시 워밍업은 기존 내역을 한번 훑어서 사용 여부를 다시 만든다")
+    void warmup_rebuildsFromHistory() {
+        //given
+        // 리스너 없이 내역만 쌓아둔 상태 = 재기동 직후처럼 파생 상태가 비어있는 상황
+        IndexedPointHistoryRepository repository =
+                new IndexedPointHistoryRepository(new TablePointHistoryRepository(new FakePointHistoryTable()), List.of());
+        for (long userId = 1; userId <= 200_000; userId++) {
+            repository.insert(userId, 1_000L, TransactionType.CHARGE, 0L);
+            if (userId % 2 == 0) {
+                repository.insert(userId, 100L, TransactionType.USE, 1L);
+            }
+        }
+        FirstUseRegistry registry = new FirstUseRegistry();
+        registry.onRecorded(new PointHistory(0L, 1L, 100L, TransactionType.USE, 0L)); // 재구성 전 쓰레기 값
+
+        //when
+        new PointHistoryWarmup(repository, List.of(registry)).afterSingletonsInstantiated();
+
+        //then
+        assertThat(registry.hasUsed(1L)).isFalse();
+        assertThat(registry.hasUsed(2L)).isTrue();
+        assertThat(registry.hasUsed(199_999L)).isFalse();
+        assertThat(registry.hasUsed(200_000L)).isTrue();
+        assertThat(registry.usedUserCount()).isEqualTo(100_000L);
+    }
+}
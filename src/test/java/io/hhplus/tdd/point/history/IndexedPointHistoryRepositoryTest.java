@@ -0,0 +1,186 @@
+package io.hhplus.tdd.point.history;
+
+import io.hhplus.tdd.helper.FakePointHistoryTable;
+import io.hhplus.tdd.helper.TestLogger;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.storage.InMemoryPointHistoryRepository;
+import io.hhplus.tdd.point.storage.TablePointHistoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(TestLogger.class)
+class IndexedPointHistoryRepositoryTest {
+
+    private static final Logger log = LoggerFactory.getLogger(IndexedPointHistoryRepositoryTest.class);
+
+    @Test
+    @DisplayName("인덱스 조회 결과는 테이블 전체 스캔 결과와 같아야 한다")
+    void selectAllByUserId_matchesTableScan() {
+        //given
+        FakePointHistoryTable table = new FakePointHistoryTable();
+        IndexedPointHistoryRepository repository = new IndexedPointHistoryRepository(new TablePointHistoryRepository(table), List.of());
+        for (int i = 0; i < 1_000; i++) {
+            long userId = i % 7 + 1;
+            repository.insert(userId, i + 1, i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE, i);
+        }
+
+        //when & then
+        for (long userId = 1; userId <= 7; userId++) {
+            assertThat(repository.selectAllByUserId(userId)).isEqualTo(table.selectAllByUserId(userId));
+            assertThat(repository.countByUserId(userId)).isEqualTo(table.selectAllByUserId(userId).size());
+        }
+        assertThat(repository.selectAllByUserId(999L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("커서로 이어서 조회하면 필터 조건에 맞는 내역을 빠짐없이 한 페이지씩 돌려준다")
+    void findByUserId_pagesWithCursorAndFilters() {
+        //given
+        IndexedPointHistoryRepository repository =
+                new IndexedPointHistoryRepository(new TablePointHistoryRepository(new FakePointHistoryTable()), List.of());
+        for (int i = 0; i < 250; i++) {
+            repository.insert(1L, i + 1, i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE, i);
+            repository.insert(2L, i + 1, TransactionType.CHARGE, i);
+        }
+
+        //when
+        PointHistoryPage first = repository.findByUserId(1L, new PointHistoryQuery(null, 50, TransactionType.CHARGE, null, null));
+        PointHistoryPage second = repository.findByUserId(1L, new PointHistoryQuery(first.nextCursor(), 50, TransactionType.CHARGE, null, null));
+        PointHistoryPage last = repository.findByUserId(1L, new PointHistoryQuery(second.nextCursor(), 50, TransactionType.CHARGE, null, null));
+        PointHistoryPage ranged = repository.findByUserId(1L, new PointHistoryQuery(null, 100, null, 10L, 20L));
+
+        //then
+        assertThat(first.histories()).hasSize(50);
+        assertThat(second.histories()).hasSize(50);
+        assertThat(last.histories()).hasSize(25);
+        assertThat(last.nextCursor()).isNull();
+        assertThat(second.histories().get(0).id()).isGreaterThan(first.nextCursor());
+        assertThat(first.histories()).extracting(PointHistory::type).containsOnly(TransactionType.CHARGE);
+        assertThat(ranged.histories()).hasSize(10);
+        assertThat(ranged.histories().get(0).updateMillis()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("필터에 맞는 내역이 드물면 한 페이지에서 정해진 건수까지만 훑고, 커서로 이어서 조회하면 빠짐없이 찾는다")
+    void findByUserId_boundsScanPerPage() {
+        //given
+        IndexedPointHistoryRepository repository =
+                new IndexedPointHistoryRepository(new InMemoryPointHistoryRepository(), List.of());
+        int total = PointHistoryQuery.MAX_SCANNED * 2 + 10;
+        for (int i = 0; i < total; i++) {
+            // 맨 앞과 맨 뒤에만 환불 내역이 있음
+            boolean refund = i == 0 || i == total - 1;
+            repository.insert(1L, 1, refund ? TransactionType.REFUND : TransactionType.USE, i);
+        }
+
+        //when
+        PointHistoryQuery firstQuery = new PointHistoryQuery(null, 10, TransactionType.REFUND, null, null);
+        PointHistoryPage first = repository.findByUserId(1L, firstQuery);
+        PointHistoryPage second = repository.findByUserId(1L,
+                new PointHistoryQuery(first.nextCursor(), 10, TransactionType.REFUND, null, null));
+        PointHistoryPage third = repository.findByUserId(1L,
+                new PointHistoryQuery(second.nextCursor(), 10, TransactionType.REFUND, null, null));
+
+        //then
+        assertThat(first.histories()).extracting(PointHistory::updateMillis).containsExactly(0L);
+        assertThat(first.nextCursor()).isEqualTo((long) PointHistoryQuery.MAX_SCANNED);
+        assertThat(second.histories()).isEmpty();
+        assertThat(second.nextCursor()).isEqualTo(PointHistoryQuery.MAX_SCANNED * 2L);
+        assertThat(third.histories()).extracting(PointHistory::updateMillis).containsExactly(total - 1L);
+        assertThat(third.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("내역 id 로 바로 찾고, 없는 id 는 빈 값을 돌려준다 (묶음 경계를 넘는 id 포함)")
+    void findById_returnsHistoryById() {
+        //given
+        IndexedPointHistoryRepository repository =
+                new IndexedPointHistoryRepository(new TablePointHistoryRepository(new FakePointHistoryTable()), List.of());
+        for (int i = 0; i < 40_000; i++) {
+            repository.insert(i % 100 + 1, 1_000L + i, i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE, i);
+        }
+
+        //when
+        PointHistory first = repository.findById(1L).orElseThrow();
+        PointHistory nextChunk = repository.findById(16_385L).orElseThrow();
+
+        //then
+        assertThat(first.amount()).isEqualTo(1_000L);
+        assertThat(nextChunk.userId()).isEqualTo(16_384 % 100 + 1);
+        assertThat(nextChunk.amount()).isEqualTo(1_000L + 16_384);
+        assertThat(repository.findById(40_000L)).isNotEmpty();
+        assertThat(repository.findById(40_001L)).isEmpty();
+        assertThat(repository.findById(0L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("id 로 행을 읽는 저장소(메모리) 앞에서는 인덱스가 id 만 들고, 조회/페이지/id 조회는 저장소에서 읽어서 같은 내역을 돌려준다")
+    void readsById_buildsHistoriesFromStore() {
+        //given
+        InMemoryPointHistoryRepository store = new InMemoryPointHistoryRepository();
+        IndexedPointHistoryRepository repository = new IndexedPointHistoryRepository(store, List.of());
+        for (int i = 0; i < 40_000; i++) {
+            repository.insert(i % 100 + 1, 1_000L + i, i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE, i);
+        }
+
+        //when
+        List<PointHistory> all = repository.selectAllByUserId(7L);
+        PointHistoryPage page = repository.findByUserId(7L, new PointHistoryQuery(all.get(9).id(), 5, TransactionType.USE, null, null));
+
+        //then
+        assertThat(all).isEqualTo(store.selectAllByUserId(7L));
+        assertThat(page.histories()).hasSize(5).extracting(PointHistory::type).containsOnly(TransactionType.USE);
+        assertThat(page.histories().get(0).id()).isGreaterThan(all.get(9).id());
+        assertThat(repository.findById(16_385L)).contains(store.findById(16_385L));
+        assertThat(repository.findById(40_001L)).isEmpty();
+        assertThat(repository.findById(0L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("내역 100만건 기준으로 유저별 인덱스 조회가 전체 스캔보다 훨씬 빨라야 한다")
+    void indexedLookup_isMuchFasterThanFullScan_at1MRows() {
+        //given
+        int rowCount = 1_000_000;
+        int userCount = 10_000;
+        FakePointHistoryTable table = new FakePointHistoryTable();
+        IndexedPointHistoryRepository repository = new IndexedPointHistoryRepository(new TablePointHistoryRepository(table), List.of());
+        Random random = new Random(7);
+        for (int i = 0; i < rowCount; i++) {
+            repository.insert(random.nextInt(userCount) + 1, 1_000L, TransactionType.CHARGE, i);
+        }
+        long[] lookupUserIds = random.longs(200, 1, userCount + 1).toArray();
+
+        //when
+        long scanRows = 0;
+        long scanStart = System.nanoTime();
+        for (long userId : lookupUserIds) {
+            scanRows += table.selectAllByUserId(userId).size(); // 원본 테이블과 같은 전체 스캔
+        }
+        long scanElapsed = System.nanoTime() - scanStart;
+
+        long indexRows = 0;
+        long indexStart = System.nanoTime();
+        for (long userId : lookupUserIds) {
+            List<PointHistory> histories = repository.selectAllByUserId(userId);
+            indexRows += histories.size();
+        }
+        long indexElapsed = System.nanoTime() - indexStart;
+
+        //then
+        log.info("내역 {}건, 조회 {}회 - 전체 스캔: {}ms, 인덱스: {}ms", rowCount, lookupUserIds.length,
+                TimeUnit.NANOSECONDS.toMillis(scanElapsed), TimeUnit.NANOSECONDS.toMillis(indexElapsed));
+        assertThat(indexRows).isEqualTo(scanRows);
+        assertThat(indexElapsed * 10).isLessThan(scanElapsed);
+    }
+}
@@ -0,0 +1,155 @@
+package io.hhplus.tdd.point.idempotency;
+
+import io.hhplus.tdd.helper.TestLogger;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(TestLogger.class)
+class IdempotencyStoreTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 키로 다시 들어온 요청은 다시 실행하지 않고 처음 결과를 돌려준다")
+    void replay_returnsFirstResult() {
+        //given
+        IdempotencyStore store = new IdempotencyStore(IdempotencyProperties.defaults(), clock::get);
+        UserPoint first = store.execute(1L, TransactionType.CHARGE, 1_000L, "key-1", () -> charge(1_000L));
+
+        //when
+        UserPoint replayed = store.execute(1L, TransactionType.CHARGE, 1_000L, "key-1", () -> charge(1_000L));
+
+        //then
+        assertThat(replayed).isSameAs(first);
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(store.metrics().replayCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 들어온 요청은 한번만 실행되고 나머지는 먼저 들어온 요청의 결과를 기다린다")
+    void concurrentDuplicates_waitForFirstExecution() throws Exception {
+        //given
+        IdempotencyStore store = new IdempotencyStore(IdempotencyProperties.defaults(), clock::get);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<UserPoint>> futures = new ArrayList<>();
+
+        //when
+        try (ExecutorService executor = Executors.newFixedThreadPool(10)) {
+            for (int i = 0; i < 10; i++) {
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    return store.execute(1L, TransactionType.USE, 500L, "retry", () -> {
+                        sleep(100);
+                        return charge(-500L);
+                    });
+                }));
+            }
+            startGate.countDown();
+
+            //then
+            UserPoint first = futures.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<UserPoint> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isSameAs(first);
+            }
+        }
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 결과를 남기지 않아서 같은 키로 재시도하면 다시 실행된다")
+    void failure_isNotRemembered() {
+        //given
+        IdempotencyStore store = new IdempotencyStore(IdempotencyProperties.defaults(), clock::get);
+        assertThatThrownBy(() -> store.execute(1L, TransactionType.USE, 500L, "key-1", () -> {
+            throw new IllegalArgumentException("포인트 잔액이 부족합니다.");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        //when
+        UserPoint retried = store.execute(1L, TransactionType.USE, 500L, "key-1", () -> charge(-500L));
+
+        //then
+        assertThat(retried.point()).isEqualTo(-500L);
+        assertThat(store.metrics().size()).isEqualTo(1);
+        // 실패한 요청의 키는 정리 큐에도 남지 않음
+        assertThat(store.queuedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 키로 금액이 다른 요청이 오면 재시도가 아니므로 거절한다")
+    void sameKeyDifferentAmount_isRejected() {
+        //given
+        IdempotencyStore store = new IdempotencyStore(IdempotencyProperties.defaults(), clock::get);
+        store.execute(1L, TransactionType.CHARGE, 1_000L, "key-1", () -> charge(1_000L));
+
+        //when //then
+        assertThatThrownBy(() -> store.execute(1L, TransactionType.CHARGE, 2_000L, "key-1", () -> charge(2_000L)))
+                .isInstanceOf(IllegalArgumentException.class);
+        // 유저나 충전/사용이 다르면 다른 키로 봄
+        store.execute(2L, TransactionType.CHARGE, 2_000L, "key-1", () -> charge(2_000L));
+        store.execute(1L, TransactionType.USE, 2_000L, "key-1", () -> charge(-2_000L));
+        assertThat(executions.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("ttl 이 지난 키는 잊고, 최대 키 수를 넘으면 오래된 키부터 잊는다")
+    void keys_areBoundedByTtlAndMaximumSize() {
+        //given
+        IdempotencyStore store = new IdempotencyStore(new IdempotencyProperties(true, 1_000, 3, 64), clock::get);
+        for (int i = 0; i < 5; i++) {
+            store.execute(1L, TransactionType.CHARGE, 100L + i, "key-" + i, () -> charge(100L));
+        }
+        assertThat(store.metrics().size()).isEqualTo(3);
+        assertThat(store.metrics().evictionCount()).isEqualTo(2L);
+
+        //when
+        clock.addAndGet(1_000);
+        store.execute(1L, TransactionType.CHARGE, 104L, "key-4", () -> charge(104L));
+
+        //then
+        // 만료된 key-2~4 는 정리되고, key-4 는 새로 실행됨
+        assertThat(store.metrics().size()).isEqualTo(1);
+        assertThat(executions.get()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("키가 너무 길면 거절한다")
+    void tooLongKey_isRejected() {
+        //given
+        IdempotencyStore store = new IdempotencyStore(IdempotencyProperties.defaults(), clock::get);
+
+        //when //then
+        assertThatThrownBy(() -> store.execute(1L, TransactionType.CHARGE, 1_000L, "k".repeat(65), () -> charge(1_000L)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(executions.get()).isZero();
+    }
+
+    private UserPoint charge(long point) {
+        executions.incrementAndGet();
+        return new UserPoint(1L, point, clock.get());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
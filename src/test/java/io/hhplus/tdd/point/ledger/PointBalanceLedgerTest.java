@@ -0,0 +1,160 @@
+package io.hhplus.tdd.point.ledger;
+
+import io.hhplus.tdd.helper.FakeUserPointTable;
+import io.hhplus.tdd.helper.TestLogger;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.cache.PointCacheProperties;
+import io.hhplus.tdd.point.cache.UserPointCache;
+import io.hhplus.tdd.point.execution.PointThreadFactories;
+import io.hhplus.tdd.point.storage.TableUserPointRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(TestLogger.class)
+class PointBalanceLedgerTest {
+
+    // 자동 반영이 테스트 중간에 끼어들지 않도록 주기를 길게 잡음
+    private static final PointLedgerProperties WRITE_BEHIND = new PointLedgerProperties(true, 60_000, 500, 2);
+
+    @Test
+    @DisplayName("write-behind 모드에서는 같은 유저의 변경을 모아서 마지막 값만 테이블에 한번 반영한다")
+    void writeBehind_coalescesUpdatesPerUser() {
+        //given
+        CountingUserPointTable table = new CountingUserPointTable();
+        PointBalanceLedger ledger = new PointBalanceLedger(new TableUserPointRepository(table), WRITE_BEHIND, noCache(), PointThreadFactories.platform());
+
+        //when
+        for (long point = 1; point <= 10; point++) {
+            ledger.update(1L, point * 100);
+        }
+        ledger.update(2L, 700L);
+
+        //then
+        // 반영 전: 원장은 최신값, 테이블은 비어있음
+        assertThat(ledger.get(1L).point()).isEqualTo(1_000L);
+        assertThat(table.selectById(1L).point()).isZero();
+        assertThat(ledger.metrics().backlog()).isEqualTo(2L);
+        assertThat(ledger.metrics().coalescedCount()).isEqualTo(9L);
+
+        // 반영 후: 유저당 한번씩만 테이블에 씀
+        assertThat(ledger.flush()).isEqualTo(2);
+        assertThat(table.writeCount.get()).isEqualTo(2);
+        assertThat(table.selectById(1L).point()).isEqualTo(1_000L);
+        assertThat(table.selectById(2L).point()).isEqualTo(700L);
+        assertThat(ledger.metrics().backlog()).isZero();
+
+        ledger.close();
+    }
+
+    @Test
+    @DisplayName("종료할 때 아직 반영되지 않은 잔액을 모두 테이블에 쓴다")
+    void close_drainsPendingUpdates() {
+        //given
+        CountingUserPointTable table = new CountingUserPointTable();
+        PointBalanceLedger ledger = new PointBalanceLedger(new TableUserPointRepository(table), WRITE_BEHIND, noCache(), PointThreadFactories.platform());
+        for (long userId = 1; userId <= 1_000; userId++) {
+            ledger.update(userId, userId);
+        }
+
+        //when
+        ledger.close();
+
+        //then
+        assertThat(table.writeCount.get()).isEqualTo(1_000);
+        assertThat(table.selectById(777L).point()).isEqualTo(777L);
+    }
+
+    @Test
+    @DisplayName("한 건씩만 쓸 수 있는 테이블 저장소에는 반영 스레드를 하나만 쓴다")
+    void writeBehind_usesSingleFlushThreadForTable() {
+        //given
+        Set<String> writerThreads = ConcurrentHashMap.newKeySet();
+        FakeUserPointTable table = new FakeUserPointTable(1) {
+            @Override
+            public UserPoint insertOrUpdate(long id, long amount) {
+                writerThreads.add(Thread.currentThread().getName());
+                return super.insertOrUpdate(id, amount);
+            }
+        };
+        PointBalanceLedger ledger = new PointBalanceLedger(new TableUserPointRepository(table), WRITE_BEHIND, noCache(), PointThreadFactories.platform());
+        for (long userId = 1; userId <= 50; userId++) {
+            ledger.update(userId, userId);
+        }
+
+        //when
+        ledger.flush();
+
+        //then
+        assertThat(table.selectById(50L).point()).isEqualTo(50L);
+        assertThat(writerThreads).hasSize(1);
+        ledger.close();
+    }
+
+    @Test
+    @DisplayName("write-through 모드에서는 지금처럼 테이블을 바로 읽고 쓴다")
+    void writeThrough_delegatesToTable() {
+        //given
+        CountingUserPointTable table = new CountingUserPointTable();
+        PointBalanceLedger ledger = new PointBalanceLedger(new TableUserPointRepository(table), PointLedgerProperties.writeThrough(),
+                noCache(), PointThreadFactories.platform());
+
+        //when
+        UserPoint updated = ledger.update(1L, 500L);
+
+        //then
+        assertThat(updated.point()).isEqualTo(500L);
+        assertThat(table.writeCount.get()).isEqualTo(1);
+        assertThat(ledger.metrics().backlog()).isZero();
+    }
+
+    @Test
+    @DisplayName("write-through 모드에서 조회는 캐시를 거치고, 변경한 잔액은 바로 캐시에 반영된다")
+    void writeThrough_readsThroughCache() {
+        //given
+        CountingUserPointTable table = new CountingUserPointTable();
+        UserPointCache cache = new UserPointCache(PointCacheProperties.defaults());
+        PointBalanceLedger ledger = new PointBalanceLedger(new TableUserPointRepository(table), PointLedgerProperties.writeThrough(),
+                cache, PointThreadFactories.platform());
+
+        //when
+        ledger.get(1L);
+        ledger.get(1L);
+        ledger.update(1L, 500L);
+        UserPoint afterUpdate = ledger.get(1L);
+
+        //then
+        assertThat(afterUpdate.point()).isEqualTo(500L);
+        assertThat(table.readCount.get()).isEqualTo(1);
+        assertThat(cache.metrics().hitCount()).isEqualTo(2L);
+        assertThat(cache.metrics().missCount()).isEqualTo(1L);
+    }
+
+    private static UserPointCache noCache() {
+        return new UserPointCache(PointCacheProperties.disabled());
+    }
+
+    static class CountingUserPointTable extends FakeUserPointTable {
+
+        private final AtomicInteger writeCount = new AtomicInteger();
+        private final AtomicInteger readCount = new AtomicInteger();
+
+        @Override
+        public UserPoint selectById(Long id) {
+            readCount.incrementAndGet();
+            return super.selectById(id);
+        }
+
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            writeCount.incrementAndGet();
+            return super.insertOrUpdate(id, amount);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package io.hhplus.tdd.point.limit;
+
+import io.hhplus.tdd.helper.FakePointHistoryTable;
+import io.hhplus.tdd.helper.TestLogger;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.history.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.history.PointHistoryWarmup;
+import io.hhplus.tdd.point.storage.TablePointHistoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(TestLogger.class)
+class ChargeLimitTrackerTest {
+
+    private static final ChargeLimitProperties LIMITS = ChargeLimitProperties.defaults().withCumulativeLimits(3_000L, 5_000L);
+
+    @Test
+    @DisplayName("CHARGE 내역이 저장될 때마다 오늘/이번달 합계가 쌓이고, 날짜가 바뀌면 오늘 합계만 0부터 다시 센다")
+    void recordedCharges_rollOverByDayAndMonth() {
+        //given
+        ChargeLimitTracker tracker = new ChargeLimitTracker(LIMITS);
+        long march1 = millis(2026, 3, 1, 10);
+        long march2 = millis(2026, 3, 2, 0);
+        long april1 = millis(2026, 4, 1, 0);
+
+        //when
+        tracker.onRecorded(charge(1L, 1_000L, march1));
+        tracker.onRecorded(new PointHistory(0L, 1L, 700L, TransactionType.USE, march1)); // 사용은 세지 않음
+        tracker.onRecorded(charge(1L, 2_000L, march2));
+
+        //then
+        assertThat(tracker.dailyCharged(1L, march1)).isZero(); // 이미 지난 날짜
+        assertThat(tracker.dailyCharged(1L, march2)).isEqualTo(2_000L);
+        assertThat(tracker.monthlyCharged(1L, march2)).isEqualTo(3_000L);
+        assertThat(tracker.dailyCharged(1L, april1)).isZero();
+        assertThat(tracker.monthlyCharged(1L, april1)).isZero();
+    }
+
+    @Test
+    @DisplayName("한도 확인을 통과한 금액은 내역이 저장될 때까지 예약으로 잡혀서 다음 확인에 포함되고, 실패하면 돌려놓는다")
+    void reserve_countsInFlightCharges() {
+        //given
+        ChargeLimitTracker tracker = new ChargeLimitTracker(LIMITS);
+        long now = millis(2026, 3, 1, 10);
+
+        //when
+        ChargeLimitSignal first = tracker.reserve(1L, 2_000L, now);
+        ChargeLimitSignal second = tracker.reserve(1L, 1_500L, now);
+        tracker.release(1L, 2_000L);
+        ChargeLimitSignal afterRelease = tracker.reserve(1L, 1_500L, now);
+        tracker.onRecorded(charge(1L, 1_500L, now));
+        ChargeLimitSignal afterRecord = tracker.reserve(1L, 1_501L, now);
+
+        //then
+        assertThat(first).isEqualTo(ChargeLimitSignal.NONE);
+        assertThat(second).isEqualTo(ChargeLimitSignal.DAILY_LIMIT);
+        assertThat(afterRelease).isEqualTo(ChargeLimitSignal.NONE);
+        assertThat(afterRecord).isEqualTo(ChargeLimitSignal.DAILY_LIMIT);
+        assertThat(tracker.dailyCharged(1L, now)).isEqualTo(1_500L);
+    }
+
+    @Test
+    @DisplayName("하루 한도가 남아있어도 이번달 누적이 월 한도를 넘으면 막는다")
+    void reserve_rejectsMonthlyLimit() {
+        //given
+        ChargeLimitTracker tracker = new ChargeLimitTracker(LIMITS);
+        tracker.onRecorded(charge(1L, 3_000L, millis(2026, 3, 1, 10)));
+        tracker.onRecorded(charge(1L, 1_500L, millis(2026, 3, 2, 10)));
+
+        //when
+        ChargeLimitSignal signal = tracker.reserve(1L, 1_000L, millis(2026, 3, 3, 10));
+
+        //then
+        assertThat(signal).isEqualTo(ChargeLimitSignal.MONTHLY_LIMIT);
+    }
+
+    @Test
+    @DisplayName("기동 시 워밍업은 기존 내역을 한번 훑어서 유저별 누적 합계를 다시 만든다 (예약은 남지 않음)")
+    void warmup_rebuildsFromHistory() {
+        //given
+        IndexedPointHistoryRepository repository =
+                new IndexedPointHistoryRepository(new TablePointHistoryRepository(new FakePointHistoryTable()), List.of());
+        long yesterday = millis(2026, 3, 1, 23);
+        long today = millis(2026, 3, 2, 1);
+        for (long userId = 1; userId <= 100_000; userId++) {
+            repository.insert(userId, 100L, TransactionType.CHARGE, yesterday);
+            repository.insert(userId, 200L, TransactionType.CHARGE, today);
+        }
+        ChargeLimitTracker tracker = new ChargeLimitTracker(LIMITS);
+        tracker.reserve(1L, 2_000L, today); // 재구성 전 쓰레기 값
+
+        //when
+        new PointHistoryWarmup(repository, List.of(tracker)).afterSingletonsInstantiated();
+
+        //then
+        assertThat(tracker.dailyCharged(1L, today)).isEqualTo(200L);
+        assertThat(tracker.monthlyCharged(1L, today)).isEqualTo(300L);
+        assertThat(tracker.dailyCharged(100_000L, today)).isEqualTo(200L);
+        assertThat(tracker.reserve(1L, 2_800L, today)).isEqualTo(ChargeLimitSignal.NONE);
+    }
+
+    private static PointHistory charge(long userId, long amount, long millis) {
+        return new PointHistory(0L, userId, amount, TransactionType.CHARGE, millis);
+    }
+
+    private static long millis(int year, int month, int day, int hour) {
+        return LocalDateTime.of(year, month, day, hour, 0).atZone(LIMITS.zone()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,197 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.helper.PointServiceFixture;
+import io.hhplus.tdd.helper.TestLogger;
+import io.hhplus.tdd.point.fraud.FraudDetectionProperties;
+import io.hhplus.tdd.point.ledger.PointLedgerProperties;
+import io.hhplus.tdd.point.policy.PointPolicy;
+import io.hhplus.tdd.point.policy.PointPolicyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(TestLogger.class)
+class PointMetricsTest {
+
+    @Test
+    @DisplayName("충전/사용 한 건마다 요청 시간, 테이블 호출 시간, 락 대기 시간, 부정 충전 검사 시간이 기록된다")
+    void chargeAndUse_recordTimers() {
+        //given
+        PointServiceFixture fixture = new PointServiceFixture(0);
+        MeterRegistry registry = fixture.meterRegistry;
+
+        //when
+        fixture.pointService.chargePoint(1L, 10_000L);
+        fixture.pointService.usePoint(1L, 3_000L);
+        fixture.pointService.getPointById(1L);
+
+        //then
+        assertThat(operationCount(registry, "charge", "success")).isEqualTo(1L);
+        assertThat(operationCount(registry, "use", "success")).isEqualTo(1L);
+        assertThat(operationCount(registry, "get", "success")).isEqualTo(1L);
+        // 잔액 조회는 첫 충전 때 한번만 테이블로 가고 나머지는 캐시에서 응답함
+        assertThat(registry.get("point.table").tags("table", "user_point", "call", "select").timer().count()).isEqualTo(1L);
+        assertThat(registry.get("point.table").tags("table", "user_point", "call", "upsert").timer().count()).isEqualTo(2L);
+        assertThat(registry.get("point.table").tags("table", "point_history", "call", "insert").timer().count()).isEqualTo(2L);
+        assertThat(registry.get("point.lock.wait").timer().count()).isEqualTo(2L);
+        assertThat(registry.get("point.fraud.check").timer().count()).isEqualTo(1L);
+        fixture.close();
+    }
+
+    @Test
+    @DisplayName("정책 위반으로 거절되면 정책 코드별 거절 횟수가 올라가고 rejected 로 시간이 기록된다")
+    void policyRejection_countedPerPolicy() {
+        //given
+        PointServiceFixture fixture = PointServiceFixture.options(0)
+                .withFraudProperties(FraudDetectionProperties.defaults())
+                .build();
+        MeterRegistry registry = fixture.meterRegistry;
+        fixture.pointService.chargePoint(1L, 10_000L);
+
+        //when
+        assertThatThrownBy(() -> fixture.pointService.chargePoint(1L, 10_000L))
+                .isInstanceOf(PointPolicyException.class);
+        assertThatThrownBy(() -> fixture.pointService.chargePoint(1L, 2_000_000L))
+                .isInstanceOf(PointPolicyException.class);
+        assertThatThrownBy(() -> fixture.pointService.usePoint(1L, 50_000L))
+                .isInstanceOf(PointPolicyException.class);
+        assertThatThrownBy(() -> fixture.pointService.usePoint(2L, 1_000L))
+                .isInstanceOf(PointPolicyException.class);
+
+        //then
+        assertThat(rejectedCount(registry, PointPolicy.PLC_PNT_001)).isEqualTo(1.0);
+        assertThat(rejectedCount(registry, PointPolicy.PLC_PNT_008)).isEqualTo(1.0);
+        assertThat(rejectedCount(registry, PointPolicy.INSUFFICIENT_BALANCE)).isEqualTo(2.0);
+        assertThat(rejectedCount(registry, PointPolicy.PLC_PNT_003)).isZero();
+        assertThat(operationCount(registry, "charge", "rejected")).isEqualTo(2L);
+        assertThat(operationCount(registry, "use", "rejected")).isEqualTo(2L);
+        fixture.close();
+    }
+
+    @Test
+    @DisplayName("write-behind 원장의 반영 대기 유저 수와 대기 시간, 반영 횟수가 지표로 노출된다")
+    void ledgerState_exposedAsGauges() throws Exception {
+        //given
+        PointServiceFixture fixture = PointServiceFixture.options(0)
+                .withLedgerProperties(PointLedgerProperties.writeBehindEvery(60_000L))
+                .build();
+        MeterRegistry registry = fixture.meterRegistry;
+        fixture.pointService.chargePoint(1L, 1_000L);
+        fixture.pointService.chargePoint(1L, 2_000L);
+        fixture.pointService.chargePoint(2L, 1_000L);
+        Thread.sleep(20);
+
+        //when
+        double backlog = registry.get("point.ledger.backlog").gauge().value();
+        double lagMillis = registry.get("point.ledger.flush_lag").timeGauge().value(TimeUnit.MILLISECONDS);
+        fixture.ledger.flush();
+
+        //then
+        assertThat(backlog).isEqualTo(2.0);
+        assertThat(lagMillis).isGreaterThanOrEqualTo(20.0);
+        assertThat(registry.get("point.ledger.backlog").gauge().value()).isZero();
+        assertThat(registry.get("point.ledger.flush_lag").timeGauge().value(TimeUnit.MILLISECONDS)).isZero();
+        assertThat(registry.get("point.ledger.flushed").functionCounter().count()).isEqualTo(2.0);
+        assertThat(registry.get("point.ledger.coalesced").functionCounter().count()).isEqualTo(1.0);
+        fixture.close();
+    }
+
+    @Test
+    @DisplayName("잔액 캐시의 hit/miss 횟수와 담긴 유저 수가 지표로 노출된다")
+    void cacheState_exposedAsCounters() {
+        //given
+        PointServiceFixture fixture = new PointServiceFixture(0);
+        MeterRegistry registry = fixture.meterRegistry;
+
+        //when
+        fixture.pointService.getPointById(1L);
+        fixture.pointService.getPointById(1L);
+        fixture.pointService.getPointById(1L);
+        fixture.pointService.getPointById(2L);
+
+        //then
+        assertThat(registry.get("point.cache.requests").tag("result", "miss").functionCounter().count()).isEqualTo(2.0);
+        assertThat(registry.get("point.cache.requests").tag("result", "hit").functionCounter().count()).isEqualTo(2.0);
+        assertThat(registry.get("point.cache.evictions").functionCounter().count()).isZero();
+        assertThat(registry.get("point.cache.size").gauge().value()).isEqualTo(2.0);
+        fixture.close();
+    }
+
+    @Test
+    @DisplayName("멱등 키, 요청 묶음, 로그 상태가 지표로 노출된다")
+    void idempotencyCombineAndWalState_exposed() {
+        //given
+        PointServiceFixture fixture = new PointServiceFixture(0);
+        MeterRegistry registry = fixture.meterRegistry;
+
+        //when
+        fixture.pointService.chargePoint(1L, 1_000L, "key-1");
+        fixture.pointService.chargePoint(1L, 1_000L, "key-1");
+        fixture.pointService.usePoint(1L, 500L);
+
+        //then
+        assertThat(registry.get("point.idempotency.keys").gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get("point.idempotency.replays").functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("point.combine.groups").functionCounter().count()).isEqualTo(2.0);
+        assertThat(registry.get("point.combine.operations").functionCounter().count()).isEqualTo(2.0);
+        assertThat(registry.get("point.combine.pending_users").gauge().value()).isZero();
+        assertThat(registry.get("point.wal.appends").functionCounter().count()).isZero();
+        assertThat(registry.get("point.wal.unsynced").gauge().value()).isZero();
+        fixture.close();
+    }
+
+    @Test
+    @DisplayName("처리중인 요청 수는 요청이 들어오면 올라가고 끝나면 다시 0이 된다")
+    void inFlightGauge_tracksRunningRequests() throws Exception {
+        //given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PointMetrics pointMetrics = new PointMetrics(registry);
+        CountDownLatch entered = new CountDownLatch(3);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        //when
+        Future<?>[] futures = new Future<?>[3];
+        for (int i = 0; i < 3; i++) {
+            futures[i] = executor.submit(() -> pointMetrics.record(PointOperation.CHARGE, () -> {
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            }));
+        }
+        entered.await();
+        double whileRunning = registry.get("point.requests.in_flight").tag("operation", "charge").gauge().value();
+        release.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        //then
+        assertThat(whileRunning).isEqualTo(3.0);
+        assertThat(registry.get("point.requests.in_flight").tag("operation", "charge").gauge().value()).isZero();
+        executor.shutdown();
+    }
+
+    private long operationCount(MeterRegistry registry, String operation, String outcome) {
+        return registry.get("point.operation").tags("operation", operation, "outcome", outcome).timer().count();
+    }
+
+    private double rejectedCount(MeterRegistry registry, PointPolicy policy) {
+        return registry.get("point.policy.rejected").tag("policy", policy.name()).counter().count();
+    }
+}
@@ -0,0 +1,33 @@
+package io.hhplus.tdd.point.reversal;
+
+import io.hhplus.tdd.helper.TestLogger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(TestLogger.class)
+class RefundPropertiesTest {
+
+    private static final long DAY = 86_400_000L;
+
+    private final RefundProperties properties = RefundProperties.defaults();
+
+    @Test
+    @DisplayName("PLC_PNT_009: 30일 이내는 100%, 30일 초과는 50% 환불한다")
+    void thirtyDayBoundary() {
+        assertThat(properties.refundableAmount(10_000L, 0L)).isEqualTo(10_000L);
+        assertThat(properties.refundableAmount(10_000L, 30 * DAY)).isEqualTo(10_000L);
+        assertThat(properties.refundableAmount(10_000L, 30 * DAY + 1)).isEqualTo(5_000L);
+    }
+
+    @Test
+    @DisplayName("PLC_PNT_009: 90일까지는 50%, 90일 초과는 10% 환불한다 (원 단위 버림)")
+    void ninetyDayBoundary() {
+        assertThat(properties.refundableAmount(10_001L, 90 * DAY)).isEqualTo(5_000L);
+        assertThat(properties.refundableAmount(10_001L, 90 * DAY + 1)).isEqualTo(1_000L);
+        assertThat(properties.refundableAmount(10_001L, 3_650 * DAY)).isEqualTo(1_000L);
+        assertThat(properties.refundableAmount(9L, 90 * DAY + 1)).isZero();
+    }
+}
@@ -0,0 +1,125 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.helper.PointServiceFixture;
+import io.hhplus.tdd.helper.TestLogger;
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 요청 스레드(톰캣 스레드 역할) 수를 고정해두고 동기 API 와 비동기 API 로 같은 요청 묶음을 처리해보고
+// 동시에 처리중인 요청 수(in-flight)와 전체 처리 시간을 비교함
+@ExtendWith(TestLogger.class)
+class PointAsyncCapacityTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PointAsyncCapacityTest.class);
+
+    private static final int REQUEST_THREADS = 20;
+    private static final int REQUEST_COUNT = 400;
+    private static final long TABLE_LATENCY_MILLIS = 100;
+
+    private final PointServiceFixture fixture = new PointServiceFixture(TABLE_LATENCY_MILLIS);
+    private final ExecutorService asyncExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final PointAsyncService pointAsyncService = new PointAsyncService(fixture.pointService, asyncExecutor);
+
+    @AfterEach
+    void tearDown() {
+        asyncExecutor.shutdownNow();
+        fixture.close();
+    }
+
+    @Test
+    @DisplayName("요청 스레드 수가 같아도 비동기 API 는 테이블을 기다리는 동안 스레드를 놓아서 더 많은 요청을 동시에 처리한다")
+    void asyncApi_handlesMoreInFlightRequestsWithSameThreads() throws Exception {
+        //when
+        LoadResult sync = runRequests(1, (userId, charge, done) -> {
+            try {
+                if (charge) {
+                    fixture.pointService.chargePoint(userId, 1_000L);
+                } else {
+                    fixture.pointService.getPointById(userId);
+                }
+            } finally {
+                done.run();
+            }
+        });
+        LoadResult async = runRequests(1_000_000, (userId, charge, done) -> {
+            CompletableFuture<UserPoint> future = charge
+                    ? pointAsyncService.chargePoint(userId, 1_000L, null)
+                    : pointAsyncService.getPointById(userId);
+            future.whenComplete((result, e) -> done.run());
+        });
+
+        //then
+        log.info("요청 스레드 {}개 - 동기: 최대 동시 처리 {}건, {}ms / 비동기: 최대 동시 처리 {}건, {}ms",
+                REQUEST_THREADS, sync.peakInFlight(), sync.elapsedMillis(),
+                async.peakInFlight(), async.elapsedMillis());
+        assertThat(sync.peakInFlight()).isLessThanOrEqualTo(REQUEST_THREADS);
+        assertThat(async.peakInFlight()).isGreaterThan(REQUEST_THREADS * 5);
+        assertThat(async.elapsedMillis() * 3).isLessThan(sync.elapsedMillis());
+        assertThat(fixture.pointService.getPointById(1_000_000L).point()).isEqualTo(1_000L);
+    }
+
+    @Test
+    @DisplayName("비동기 API 의 실패는 동기 API 와 같은 예외를 담은 future 로 돌아온다")
+    void asyncApi_completesExceptionallyWithSameException() {
+        //when
+        CompletableFuture<UserPoint> future = pointAsyncService.usePoint(1L, 1_000L, null);
+
+        //then
+        assertThatThrownBy(future::join).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(future.isCompletedExceptionally()).isTrue();
+    }
+
+    private interface Request {
+        void handle(long userId, boolean charge, Runnable done) throws Exception;
+    }
+
+    /**
+     * 조회와 충전을 반씩 섞어서 요청 스레드 풀에 한번에 밀어넣음 (충전은 유저를 다 다르게 해서 유저 락 대기가 없도록 함)
+     * 요청이 끝났다는 표시(done)는 동기면 요청 스레드가, 비동기면 future 를 완료한 스레드가 남김
+     */
+    private LoadResult runRequests(long userIdOffset, Request request) throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peakInFlight = new AtomicInteger();
+        CountDownLatch startGate = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(REQUEST_COUNT);
+
+        long start;
+        try (ExecutorService requestThreads = Executors.newFixedThreadPool(REQUEST_THREADS)) {
+            for (int i = 0; i < REQUEST_COUNT; i++) {
+                long userId = userIdOffset + i;
+                boolean charge = i % 2 == 0;
+                requestThreads.submit(() -> {
+                    startGate.await();
+                    peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    request.handle(userId, charge, () -> {
+                        inFlight.decrementAndGet();
+                        finished.countDown();
+                    });
+                    return null;
+                });
+            }
+            start = System.nanoTime();
+            startGate.countDown();
+            assertThat(finished.await(60, TimeUnit.SECONDS)).isTrue();
+        }
+        return new LoadResult(peakInFlight.get(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private record LoadResult(int peakInFlight, long elapsedMillis) {
+    }
+}
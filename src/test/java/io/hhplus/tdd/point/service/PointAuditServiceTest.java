@@ -0,0 +1,174 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.helper.PointServiceFixture;
+import io.hhplus.tdd.helper.TestLogger;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.audit.AuditProperties;
+import io.hhplus.tdd.point.audit.AuditReport;
+import io.hhplus.tdd.point.audit.AuditRoundResult;
+import io.hhplus.tdd.point.audit.BalanceDrift;
+import io.hhplus.tdd.point.cache.CacheMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(TestLogger.class)
+class PointAuditServiceTest {
+
+    // 자동 주기가 테스트 중간에 끼어들지 않도록 주기를 길게 잡고, 주기는 테스트에서 직접 돌림
+    private static final AuditProperties AUDIT = AuditProperties.every(60_000, 1_000);
+
+    private final PointServiceFixture fixture = auditFixture(AUDIT);
+
+    @AfterEach
+    void tearDown() {
+        fixture.close();
+    }
+
+    @Test
+    @DisplayName("충전/사용만 정상적으로 처리된 유저는 어긋남이 없다")
+    void audit_noDriftForConsistentUsers() {
+        //given
+        fixture.pointService.chargePoint(1L, 10_000L);
+        fixture.pointService.usePoint(1L, 3_000L);
+        fixture.pointService.chargePoint(2L, 5_000L);
+
+        //when
+        AuditRoundResult first = fixture.auditService.audit(1_000L);
+        AuditRoundResult second = fixture.auditService.audit(2_000L);
+
+        //then
+        assertThat(first.checkedUsers()).isGreaterThanOrEqualTo(2);
+        assertThat(second.detectedUsers()).isZero();
+        AuditReport report = fixture.auditService.report(10);
+        assertThat(report.driftedUsers()).isZero();
+        assertThat(report.suspectedUsers()).isZero();
+    }
+
+    @Test
+    @DisplayName("감사는 잔액 캐시를 채우거나 hit/miss 를 세지 않고, 캐시에 없는 유저는 테이블에서 읽어서 대조한다")
+    void audit_readsBalancesWithoutTouchingCache() {
+        //given
+        fixture.pointService.chargePoint(1L, 10_000L);
+        fixture.pointService.chargePoint(2L, 5_000L);
+        fixture.userPointCache.invalidate(2L);
+        CacheMetrics before = fixture.userPointCache.metrics();
+
+        //when
+        AuditRoundResult first = fixture.auditService.audit(1_000L);
+        AuditRoundResult second = fixture.auditService.audit(2_000L);
+
+        //then
+        assertThat(first.checkedUsers()).isGreaterThanOrEqualTo(2);
+        assertThat(second.detectedUsers()).isZero();
+        assertThat(fixture.userPointCache.metrics()).isEqualTo(before);
+        assertThat(fixture.userPointCache.peek(2L)).isNull();
+    }
+
+    @Test
+    @DisplayName("내역 없이 잔액만 바뀐 유저는 다음 주기에 같은 차이가 또 보이면 어긋남으로 확정하고 지표에 남긴다")
+    void audit_detectsBalanceChangedWithoutHistory() {
+        //given
+        fixture.pointService.chargePoint(1L, 10_000L);
+        fixture.ledger.update(1L, 12_000L);
+
+        //when
+        AuditRoundResult first = fixture.auditService.audit(1_000L);
+        AuditReport afterFirst = fixture.auditService.report(10);
+        AuditRoundResult second = fixture.auditService.audit(2_000L);
+
+        //then
+        assertThat(first.detectedUsers()).isZero();
+        assertThat(afterFirst.suspectedUsers()).isEqualTo(1);
+        assertThat(second.detectedUsers()).isEqualTo(1);
+
+        AuditReport report = fixture.auditService.report(10);
+        assertThat(report.driftedUsers()).isEqualTo(1);
+        BalanceDrift drift = report.drifts().get(0);
+        assertThat(drift.userId()).isEqualTo(1L);
+        assertThat(drift.delta()).isEqualTo(2_000L);
+        assertThat(drift.detectedMillis()).isEqualTo(2_000L);
+        assertThat(fixture.meterRegistry.get("point.audit.drifted_users").gauge().value()).isEqualTo(1.0);
+        assertThat(fixture.meterRegistry.get("point.audit.drift.detected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("잔액에 반영되지 않은 내역도 어긋남으로 잡고, 잔액을 바로잡으면 목록에서 빠진다")
+    void audit_resolvesAfterFix() {
+        //given
+        fixture.pointService.chargePoint(1L, 10_000L);
+        fixture.historyRepository.insert(1L, 500L, TransactionType.USE, System.currentTimeMillis());
+        fixture.auditService.audit(1_000L);
+        fixture.auditService.audit(2_000L);
+        assertThat(fixture.auditService.report(10).drifts().get(0).delta()).isEqualTo(500L);
+
+        //when
+        fixture.ledger.update(1L, 9_500L);
+        AuditRoundResult result = fixture.auditService.audit(3_000L);
+
+        //then
+        assertThat(result.resolvedUsers()).isEqualTo(1);
+        assertThat(fixture.auditService.report(10).driftedUsers()).isZero();
+        assertThat(fixture.meterRegistry.get("point.audit.drifted_users").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 주기에만 잠깐 어긋나 보인 유저(처리중인 요청)는 확정하지 않는다")
+    void audit_ignoresTransientMismatch() {
+        //given
+        fixture.pointService.chargePoint(1L, 10_000L);
+        fixture.ledger.update(1L, 11_000L);
+        fixture.auditService.audit(1_000L);
+
+        //when
+        fixture.historyRepository.insert(1L, 1_000L, TransactionType.CHARGE, System.currentTimeMillis());
+        AuditRoundResult result = fixture.auditService.audit(2_000L);
+
+        //then
+        assertThat(result.detectedUsers()).isZero();
+        AuditReport report = fixture.auditService.report(10);
+        assertThat(report.suspectedUsers()).isZero();
+        assertThat(report.driftedUsers()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 주기에는 최대 maxUsersPerRound 명만 대조하고 나머지는 다음 주기에 이어서 본다")
+    void audit_boundedPerRound() {
+        //given
+        try (PointServiceFixture bounded = auditFixture(AuditProperties.every(60_000, 4))) {
+            for (long userId = 1; userId <= 10; userId++) {
+                bounded.pointService.chargePoint(userId, 1_000L);
+            }
+
+            //when
+            AuditRoundResult first = bounded.auditService.audit(1_000L);
+            AuditReport afterFirst = bounded.auditService.report(10);
+
+            //then
+            assertThat(first.checkedUsers()).isEqualTo(4);
+            assertThat(afterFirst.changedUsers()).isEqualTo(6);
+        }
+    }
+
+    @Test
+    @DisplayName("다음 주기까지 쉬는 시간은 쓴 CPU 시간이 예산 비율이 되도록 늘어나고, 주기보다 짧아지지 않는다")
+    void nextDelay_followsCpuBudget() {
+        //given
+        AuditProperties properties = new AuditProperties(true, 100, 5, 1_000);
+
+        //when //then
+        assertThat(PointAuditService.nextDelayMillis(TimeUnit.MILLISECONDS.toNanos(10), properties)).isEqualTo(190L);
+        assertThat(PointAuditService.nextDelayMillis(TimeUnit.MILLISECONDS.toNanos(1), properties)).isEqualTo(100L);
+    }
+
+    private static PointServiceFixture auditFixture(AuditProperties auditProperties) {
+        return PointServiceFixture.options(0)
+                .withAuditProperties(auditProperties)
+                .build();
+    }
+}
@@ -0,0 +1,145 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.helper.PointServiceFixture;
+import io.hhplus.tdd.helper.TestLogger;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.execution.PointWriteProperties;
+import io.hhplus.tdd.point.expiry.ExpiryProperties;
+import io.hhplus.tdd.point.expiry.ExpirySweepResult;
+import io.hhplus.tdd.point.ledger.PointLedgerProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(TestLogger.class)
+class PointExpiryServiceTest {
+
+    // 자동 소멸 확인이 테스트 중간에 끼어들지 않도록 기간/주기를 길게 잡고, 시각은 sweep(now) 로 직접 넘김
+    private static final long LIFETIME = 3_600_000L;
+    private static final ExpiryProperties EXPIRY = ExpiryProperties.after(LIFETIME, 60_000L);
+    private static final int PAIRS = 20;
+
+    @Test
+    @DisplayName("PLC_PNT_006: 유효기간이 지난 충전분만 소멸되고, 유저당 EXPIRE 내역 한 건으로 남는다")
+    void sweep_expiresOnlyExpiredLots() {
+        //given
+        PointServiceFixture fixture = fixture();
+        fixture.pointService.chargePoint(1L, 1_000L);
+        fixture.pointService.chargePoint(1L, 2_000L);
+        fixture.pointService.usePoint(1L, 1_500L); // 오래된 충전분부터 차감 > 1,500 남음
+        fixture.pointService.chargePoint(2L, 3_000L);
+        long now = System.currentTimeMillis() + LIFETIME + 60_000L;
+
+        //when
+        ExpirySweepResult result = fixture.expiryService.sweep(now);
+
+        //then
+        assertThat(result.expiredUsers()).isEqualTo(2);
+        assertThat(result.expiredAmount()).isEqualTo(4_500L);
+        assertThat(fixture.pointService.getPointById(1L).point()).isZero();
+        assertThat(fixture.pointService.getPointById(2L).point()).isZero();
+        List<PointHistory> histories = fixture.pointService.getPointHistoryById(1L);
+        assertThat(histories).hasSize(4);
+        assertThat(histories.get(3).type()).isEqualTo(TransactionType.EXPIRE);
+        assertThat(histories.get(3).amount()).isEqualTo(1_500L);
+        assertThat(fixture.lotBook.lotCount(1L)).isZero();
+        assertThat(fixture.meterRegistry.get("point.expired.amount").counter().count()).isEqualTo(4_500.0);
+        fixture.close();
+    }
+
+    @Test
+    @DisplayName("아직 유효기간이 남은 충전분은 소멸 확인 대상에서 꺼내지도 않는다")
+    void sweep_beforeExpiry_touchesNothing() {
+        //given
+        PointServiceFixture fixture = fixture();
+        for (long userId = 1; userId <= 1_000; userId++) {
+            fixture.pointService.chargePoint(userId, 1_000L);
+        }
+
+        //when
+        ExpirySweepResult result = fixture.expiryService.sweep(System.currentTimeMillis() + LIFETIME / 2);
+
+        //then
+        assertThat(result.checkedUsers()).isZero();
+        assertThat(fixture.pointService.getPointById(1L).point()).isEqualTo(1_000L);
+        fixture.close();
+    }
+
+    @Test
+    @DisplayName("PLC_PNT_006: 내역을 겹쳐서 저장하는 모드에서 한 묶음에 충전/사용이 섞여도 남은 충전 건 합계는 잔액과 같다")
+    void overlappedGroup_keepsLotsInStepWithBalance() throws Exception {
+        //given
+        PointServiceFixture fixture = PointServiceFixture.options(5)
+                .withExpiryProperties(EXPIRY)
+                .build();
+        List<Future<UserPoint>> futures = new ArrayList<>();
+
+        //when
+        // 유저 락을 잡고 있는 동안 (충전 > 그 충전분을 거의 다 쓰는 사용) 쌍을 순서대로 쌓아서 한 묶음으로 처리되게 함
+        // > 리스너가 사용을 충전보다 먼저 받으면 차감할 충전 건이 없어서 사용분이 빠지고 충전 건이 잔액보다 많아짐
+        try (ExecutorService executor = Executors.newFixedThreadPool(PAIRS * 2)) {
+            fixture.userLockManager.executeWithLock(1L, () -> {
+                for (int i = 0; i < PAIRS; i++) {
+                    long amount = 1_000L + i;
+                    enqueue(fixture, executor, futures, () -> fixture.pointService.chargePoint(1L, amount));
+                    enqueue(fixture, executor, futures, () -> fixture.pointService.usePoint(1L, amount - 1));
+                }
+                return null;
+            });
+            for (Future<UserPoint> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        }
+
+        //then
+        assertThat(fixture.userOperationQueues.metrics().groupCount()).isEqualTo(1L);
+        assertThat(fixture.pointService.getPointById(1L).point()).isEqualTo(PAIRS);
+        assertThat(fixture.lotBook.remainingAmount(1L)).isEqualTo(PAIRS);
+        ExpirySweepResult result = fixture.expiryService.sweep(System.currentTimeMillis() + LIFETIME + 60_000L);
+        assertThat(result.expiredAmount()).isEqualTo(PAIRS);
+        assertThat(fixture.pointService.getPointById(1L).point()).isZero();
+        fixture.close();
+    }
+
+    @Test
+    @DisplayName("낙관적 모드는 유저 락을 안 써서 소멸 기능과 같이 켤 수 없다")
+    void optimisticConcurrency_isRejected() {
+        //given
+        //when
+        //then
+        assertThatThrownBy(() -> PointServiceFixture.options(0)
+                .withWriteProperties(PointWriteProperties.optimistic())
+                .withLedgerProperties(PointLedgerProperties.writeBehindEvery(60_000))
+                .withExpiryProperties(EXPIRY)
+                .build())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static void enqueue(PointServiceFixture fixture, ExecutorService executor, List<Future<UserPoint>> futures,
+                                Callable<UserPoint> request) {
+        int before = fixture.userOperationQueues.pendingCount(1L);
+        futures.add(executor.submit(request));
+        while (fixture.userOperationQueues.pendingCount(1L) == before) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static PointServiceFixture fixture() {
+        return PointServiceFixture.options(0)
+                .withExpiryProperties(EXPIRY)
+                .build();
+    }
+}
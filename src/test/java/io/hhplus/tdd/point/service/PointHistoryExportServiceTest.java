@@ -0,0 +1,150 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.helper.PointServiceFixture;
+import io.hhplus.tdd.helper.TestLogger;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.cache.CacheMetrics;
+import io.hhplus.tdd.point.export.ExportFormat;
+import io.hhplus.tdd.point.export.ExportSummary;
+import io.hhplus.tdd.point.export.HistoryExportFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(TestLogger.class)
+class PointHistoryExportServiceTest {
+
+    private final PointServiceFixture fixture = new PointServiceFixture(0);
+
+    @AfterEach
+    void tearDown() {
+        fixture.close();
+    }
+
+    @Test
+    @DisplayName("전체 내역을 CSV gzip 으로 내보내고, 유저마다 잔액과 내역 합계가 같은지 checksum 줄을 남긴다")
+    void export_csvWithChecksums() throws IOException {
+        //given
+        fixture.pointService.chargePoint(1L, 10_000L);
+        fixture.pointService.usePoint(1L, 3_000L);
+        fixture.pointService.chargePoint(2L, 5_000L);
+
+        //when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExportSummary summary = fixture.exportService.export(HistoryExportFilter.ALL, ExportFormat.CSV, out);
+
+        //then
+        List<String> lines = gunzip(out.toByteArray());
+        assertThat(lines.get(0)).startsWith("record,id,userId,type,amount");
+        assertThat(lines.stream().filter(line -> line.startsWith("history,")).count()).isEqualTo(3L);
+        assertThat(lines).contains("checksum,,1,,,,2,7000,7000,true,,,,,", "checksum,,2,,,,1,5000,5000,true,,,,,");
+        assertThat(lines.get(lines.size() - 1)).startsWith("summary,,,,,,,,,,2,3,3,0,");
+        assertThat(summary.users()).isEqualTo(2L);
+        assertThat(summary.mismatchedUsers()).isZero();
+    }
+
+    @Test
+    @DisplayName("내보내기는 잔액 캐시를 채우거나 hit/miss 를 세지 않고, 캐시에 없는 유저는 테이블에서 읽어서 대조한다")
+    void export_readsBalancesWithoutTouchingCache() throws IOException {
+        //given
+        fixture.pointService.chargePoint(1L, 10_000L);
+        fixture.pointService.chargePoint(2L, 5_000L);
+        fixture.userPointCache.invalidate(2L);
+        CacheMetrics before = fixture.userPointCache.metrics();
+
+        //when
+        ExportSummary summary = fixture.exportService.export(HistoryExportFilter.ALL, ExportFormat.CSV, new ByteArrayOutputStream());
+
+        //then
+        assertThat(summary.mismatchedUsers()).isZero();
+        assertThat(fixture.userPointCache.metrics()).isEqualTo(before);
+        assertThat(fixture.userPointCache.peek(2L)).isNull();
+    }
+
+    @Test
+    @DisplayName("유형/기간 조건은 내보낼 내역에만 적용하고, 잔액 대조는 전체 내역으로 한다")
+    void export_filterAppliesToRowsOnly() throws IOException {
+        //given
+        fixture.pointService.chargePoint(1L, 10_000L);
+        fixture.pointService.usePoint(1L, 3_000L);
+        fixture.pointService.usePoint(1L, 1_000L);
+
+        //when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExportSummary summary = fixture.exportService.export(
+                new HistoryExportFilter(TransactionType.USE, null, null), ExportFormat.NDJSON, out);
+
+        //then
+        List<String> lines = gunzip(out.toByteArray());
+        List<String> historyLines = lines.stream().filter(line -> line.contains("\"record\":\"history\"")).toList();
+        assertThat(historyLines).hasSize(2);
+        assertThat(historyLines.stream().allMatch(line -> line.contains("\"type\":\"USE\""))).isTrue();
+        assertThat(lines).contains("{\"record\":\"checksum\",\"userId\":1,\"historyCount\":3,\"historySum\":6000,\"balance\":6000,\"matched\":true}");
+        assertThat(summary.scannedRows()).isEqualTo(3L);
+        assertThat(summary.exportedRows()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("잔액 변경 없이 내역만 남은 유저는 불일치로 보고한다")
+    void export_reportsMismatch() throws IOException {
+        //given
+        fixture.pointService.chargePoint(1L, 10_000L);
+        fixture.pointService.chargePoint(2L, 10_000L);
+        fixture.historyRepository.insert(2L, 500L, TransactionType.USE, System.currentTimeMillis());
+
+        //when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExportSummary summary = fixture.exportService.export(HistoryExportFilter.ALL, ExportFormat.CSV, out);
+
+        //then
+        assertThat(summary.mismatchedUsers()).isEqualTo(1L);
+        assertThat(gunzip(out.toByteArray())).contains("checksum,,2,,,,2,9500,10000,false,,,,,");
+    }
+
+    @Test
+    @DisplayName("내역 없이 잔액만 남은 유저도 원장에서 찾아서 불일치로 보고한다")
+    void export_reportsBalanceOnlyUser() throws IOException {
+        //given
+        fixture.pointService.chargePoint(1L, 10_000L);
+        fixture.ledger.update(3L, 700L);
+
+        //when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExportSummary summary = fixture.exportService.export(HistoryExportFilter.ALL, ExportFormat.CSV, out);
+
+        //then
+        assertThat(summary.users()).isEqualTo(2L);
+        assertThat(summary.mismatchedUsers()).isEqualTo(1L);
+        assertThat(gunzip(out.toByteArray()))
+                .contains("checksum,,1,,,,1,10000,10000,true,,,,,", "checksum,,3,,,,0,0,700,false,,,,,");
+    }
+
+    @Test
+    @DisplayName("조회 시작 시각이 종료 시각보다 늦으면 내보내지 않는다")
+    void export_rejectsInvalidRange() {
+        //given
+        HistoryExportFilter filter = new HistoryExportFilter(null, 2_000L, 1_000L);
+
+        //when //then
+        assertThatThrownBy(() -> fixture.exportService.export(filter, ExportFormat.CSV, new ByteArrayOutputStream()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<String> gunzip(byte[] compressed) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.helper.PointServiceFixture;
+import io.hhplus.tdd.helper.TestLogger;
+import io.hhplus.tdd.point.BatchReversalResponse;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.batch.PointBatchProperties;
+import io.hhplus.tdd.point.execution.PointWriteProperties;
+import io.hhplus.tdd.point.history.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.history.PointHistoryWarmup;
+import io.hhplus.tdd.point.ledger.PointLedgerProperties;
+import io.hhplus.tdd.point.policy.PointPolicy;
+import io.hhplus.tdd.point.policy.PointPolicyException;
+import io.hhplus.tdd.point.reversal.RefundProperties;
+import io.hhplus.tdd.point.reversal.ReversalRegistry;
+import io.hhplus.tdd.point.storage.FilePointHistoryRepository;
+import io.hhplus.tdd.point.wal.PointWriteAheadLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(TestLogger.class)
+class PointReversalServiceTest {
+
+    private static final long DAY = 86_400_000L;
+
+    private final PointServiceFixture fixture = new PointServiceFixture(0);
+
+    @AfterEach
+    void tearDown() {
+        fixture.close();
+    }
+
+    @Test
+    @DisplayName("PLC_PNT_009: 30일 이내의 사용 내역은 전액 환불되고, 같은 내역은 두번 환불할 수 없다")
+    void refund_withinFullRefundPeriod() {
+        //given
+        fixture.pointService.chargePoint(1L, 10_000L);
+        fixture.pointService.usePoint(1L, 3_000L);
+        long useId = historyId(1L, 1);
+
+        //when
+        long afterRefund = fixture.reversalService.refund(1L, useId).point();
+
+        //then
+        assertThat(afterRefund).isEqualTo(10_000L);
+        List<PointHistory> histories = fixture.pointService.getPointHistoryById(1L);
+        assertThat(histories.get(2).type()).isEqualTo(TransactionType.REFUND);
+        assertThat(histories.get(2).amount()).isEqualTo(3_000L);
+        assertThatThrownBy(() -> fixture.reversalService.refund(1L, useId))
+                .isInstanceOf(PointPolicyException.class)
+                .hasMessageContaining("이미 취소된");
+    }
+
+    @Test
+    @DisplayName("PLC_PNT_009: 30일이 지나면 50%, 90일이 지나면 10% 환불되고, 환불할 금액이 0원이면 거절한다")
+    void refund_appliesTiers() {
+        //given
+        long now = System.currentTimeMillis();
+        fixture.pointService.chargePoint(1L, 10_000L);
+        PointHistory monthAgo = fixture.historyRepository.insert(1L, 2_001L, TransactionType.USE, now - 31 * DAY);
+        PointHistory quarterAgo = fixture.historyRepository.insert(1L, 2_000L, TransactionType.USE, now - 91 * DAY);
+        PointHistory tinyQuarterAgo = fixture.historyRepository.insert(1L, 9L, TransactionType.USE, now - 91 * DAY);
+
+        //when
+        long afterPartialRefund = fixture.reversalService.refund(1L, monthAgo.id()).point();
+        long afterLateRefund = fixture.reversalService.refund(1L, quarterAgo.id()).point();
+
+        //then
+        assertThat(afterPartialRefund).isEqualTo(10_000L + 1_000L);
+        assertThat(afterLateRefund).isEqualTo(10_000L + 1_000L + 200L);
+        assertThatThrownBy(() -> fixture.reversalService.refund(1L, tinyQuarterAgo.id()))
+                .isInstanceOf(PointPolicyException.class)
+                .hasMessageContaining("환불할 수 있는 금액이 없는");
+        // 거절된 내역은 선점이 풀려서 다시 요청할 수 있는 상태로 남음
+        assertThat(fixture.reversalRegistry.isReversed(tinyQuarterAgo.id())).isFalse();
+    }
+
+    @Test
+    @DisplayName("PLC_PNT_002: 충전분을 이미 써버렸으면 남은 잔액만큼만 회수하고, 충전 내역이 아니면 회수할 수 없다")
+    void clawback_recoversUpToBalance() {
+        //given
+        fixture.pointService.chargePoint(1L, 10_000L);
+        fixture.pointService.usePoint(1L, 7_000L);
+        long chargeId = historyId(1L, 0);
+        long useId = historyId(1L, 1);
+
+        //when
+        long afterClawback = fixture.reversalService.clawback(1L, chargeId).point();
+
+        //then
+        assertThat(afterClawback).isZero();
+        assertThat(fixture.pointService.getPointHistoryById(1L).get(2).amount()).isEqualTo(3_000L);
+        assertThatThrownBy(() -> fixture.reversalService.clawback(1L, useId))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("충전 내역만");
+        assertThatThrownBy(() -> fixture.reversalService.clawback(2L, chargeId))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("다른 사용자");
+    }
+
+    @Test
+    @DisplayName("일괄 회수는 여러 유저의 부정 충전을 한번에 되돌리고, 없는 내역/중복 요청은 그 건만 실패한다")
+    void clawbackAll_reversesAcrossUsers() {
+        //given
+        List<Long> chargeIds = new ArrayList<>();
+        for (long userId = 1; userId <= 200; userId++) {
+            for (int i = 0; i < 5; i++) {
+                fixture.pointService.chargePoint(userId, 1_000L + i);
+            }
+            fixture.pointService.getPointHistoryById(userId).forEach(history -> chargeIds.add(history.id()));
+        }
+        List<Long> request = new ArrayList<>(chargeIds);
+        request.add(999_999L);        // 없는 내역
+        request.add(chargeIds.get(0)); // 같은 요청 안의 중복
+
+        //when
+        BatchReversalResponse response = fixture.reversalService.clawbackAll(request);
+
+        //then
+        assertThat(response.total()).isEqualTo(1_002);
+        assertThat(response.succeeded()).isEqualTo(1_000);
+        assertThat(response.failed()).isEqualTo(2);
+        assertThat(response.reversedAmount()).isEqualTo(200 * (5 * 1_000L + 10));
+        assertThat(response.results().get(1_000).error()).contains("존재하지 않는");
+        assertThat(response.results().get(1_001).error()).contains("이미 취소된");
+        assertThat(fixture.pointService.getPointById(1L).point()).isZero();
+        assertThat(fixture.pointService.getPointById(200L).point()).isZero();
+        assertThat(fixture.meterRegistry.get("point.policy.rejected").tag("policy", PointPolicy.PLC_PNT_002.name())
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("낙관적 모드에서 환불 내역 저장이 실패했을 때 환불분이 이미 사용되었으면 잔액을 음수가 아닌 0 으로 되돌린다")
+    void optimisticRefund_failedHistory_clampsRevertAtZero() {
+        //given
+        PointServiceFixture optimistic = PointServiceFixture.options(0)
+                .withWriteProperties(PointWriteProperties.optimistic())
+                .withLedgerProperties(PointLedgerProperties.writeBehindEvery(60_000))
+                .build();
+        optimistic.pointService.chargePoint(1L, 10_000L);
+        optimistic.pointService.usePoint(1L, 10_000L);
+        long useId = optimistic.pointService.getPointHistoryById(1L).get(1).id();
+        // 환불 내역을 저장하는 사이에 다른 요청이 환불된 잔액으로 8,000원을 씀
+        optimistic.pointHistoryTable.failNextInsertAfter(() -> optimistic.pointService.usePoint(1L, 8_000L));
+
+        //when
+        assertThatThrownBy(() -> optimistic.reversalService.refund(1L, useId))
+                .isInstanceOf(IllegalStateException.class);
+
+        //then
+        assertThat(optimistic.pointService.getPointById(1L).point()).isZero();
+        assertThat(optimistic.pointService.getPointHistoryById(1L)).extracting(PointHistory::type)
+                .containsExactly(TransactionType.CHARGE, TransactionType.USE, TransactionType.USE);
+        assertThat(optimistic.reversalRegistry.isReversed(useId)).isFalse();
+        optimistic.close();
+    }
+
+    @Test
+    @DisplayName("파일 저장소는 재시작 후에도 회수한 충전을 기억해서 같은 충전을 다시 회수할 수 없다")
+    void clawback_rejectedAgainAfterRestartWithFileStorage(@TempDir Path directory) throws IOException {
+        //given
+        ReversalRegistry beforeRegistry = new ReversalRegistry();
+        long chargeId;
+        try (FilePointHistoryRepository beforeFile = FilePointHistoryRepository.open(directory)) {
+            IndexedPointHistoryRepository before = new IndexedPointHistoryRepository(beforeFile, List.of(beforeRegistry));
+            fixture.ledger.update(1L, 10_000L);
+            chargeId = before.insert(1L, 10_000L, TransactionType.CHARGE, System.currentTimeMillis()).id();
+            reversalService(before, beforeRegistry).clawback(1L, chargeId);
+        }
+
+        //when
+        ReversalRegistry afterRegistry = new ReversalRegistry();
+        try (FilePointHistoryRepository afterFile = FilePointHistoryRepository.open(directory)) {
+            IndexedPointHistoryRepository after = new IndexedPointHistoryRepository(afterFile, List.of(afterRegistry));
+            new PointHistoryWarmup(after, List.of(afterRegistry)).afterSingletonsInstantiated();
+
+            //then
+            assertThat(after.selectAllByUserId(1L).get(1).reversedId()).isEqualTo(chargeId);
+            assertThat(afterRegistry.isReversed(chargeId)).isTrue();
+            assertThatThrownBy(() -> reversalService(after, afterRegistry).clawback(1L, chargeId))
+                    .isInstanceOf(PointPolicyException.class)
+                    .hasMessageContaining("이미 취소된");
+        }
+    }
+
+    private PointReversalService reversalService(IndexedPointHistoryRepository historyRepository, ReversalRegistry registry) {
+        return new PointReversalService(fixture.ledger, historyRepository, fixture.userLockManager, registry,
+                RefundProperties.defaults(), fixture.batchExecutor, PointBatchProperties.defaults(),
+                PointWriteProperties.overlapped(), PointWriteAheadLog.disabled(), fixture.pointMetrics);
+    }
+
+    private long historyId(long userId, int index) {
+        return fixture.pointService.getPointHistoryById(userId).get(index).id();
+    }
+}
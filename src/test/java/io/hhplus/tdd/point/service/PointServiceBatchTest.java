@@ -0,0 +1,183 @@
+package io.hhplus.tdd.point.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.helper.PointServiceFixture;
+import io.hhplus.tdd.helper.TestLogger;
+import io.hhplus.tdd.point.BatchChargeResponse;
+import io.hhplus.tdd.point.ChargeRequest;
+import io.hhplus.tdd.point.PointController;
+import io.hhplus.tdd.point.batch.PointBatchProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(TestLogger.class)
+class PointServiceBatchTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PointServiceBatchTest.class);
+
+    private final PointServiceFixture fixture = new PointServiceFixture(1);
+    private final PointService pointService = fixture.pointService;
+
+    @AfterEach
+    void tearDown() {
+        fixture.close();
+    }
+
+    @Test
+    @DisplayName("일괄 충전은 일부 건이 실패해도 나머지를 모두 처리하고 건별 결과를 요청 순서대로 돌려준다")
+    void chargePoints_partialFailure() {
+        //given
+        List<ChargeRequest> requests = new ArrayList<>();
+        for (long userId = 1; userId <= 2_000; userId++) {
+            requests.add(new ChargeRequest(userId, 5_000L));
+        }
+        requests.add(new ChargeRequest(1L, 5_000L));      // PLC_PNT_010: 같은 유저 같은 금액 중복
+        requests.add(new ChargeRequest(2L, 2_000_000L));  // PLC_PNT_008: 1회 충전 한도 초과
+        requests.add(new ChargeRequest(3L, 7_000L));      // 같은 유저라도 다른 금액은 순서대로 지급
+
+        //when
+        BatchChargeResponse response = pointService.chargePoints(requests);
+
+        //then
+        log.info("일괄 충전 {}건: {}ms, {}건/s", response.total(), response.elapsedMillis(),
+                String.format("%.1f", response.throughputPerSecond()));
+        assertThat(response.total()).isEqualTo(2_003);
+        assertThat(response.succeeded()).isEqualTo(2_001);
+        assertThat(response.failed()).isEqualTo(2);
+
+        assertThat(response.results().get(2_000).success()).isFalse();
+        assertThat(response.results().get(2_000).error()).contains("중복 지급");
+        assertThat(response.results().get(2_001).success()).isFalse();
+        assertThat(response.results().get(2_001).error()).contains("100만원");
+        assertThat(response.results().get(2_002).point()).isEqualTo(12_000L);
+
+        assertThat(pointService.getPointById(1L).point()).isEqualTo(5_000L);
+        assertThat(pointService.getPointById(3L).point()).isEqualTo(12_000L);
+        assertThat(pointService.getPointById(2_000L).point()).isEqualTo(5_000L);
+    }
+
+    @Test
+    @DisplayName("여러 유저를 병렬로 처리하므로 건별로 순차 처리하는 것보다 빠르다")
+    void chargePoints_runsUsersInParallel() {
+        //given
+        List<ChargeRequest> requests = new ArrayList<>();
+        for (long userId = 1; userId <= 400; userId++) {
+            requests.add(new ChargeRequest(userId, 1_000L));
+        }
+        List<ChargeRequest> sequentialRequests = new ArrayList<>();
+        for (long userId = 1_001; userId <= 1_400; userId++) {
+            sequentialRequests.add(new ChargeRequest(userId, 1_000L));
+        }
+
+        //when
+        long sequentialStart = System.nanoTime();
+        sequentialRequests.forEach(request -> pointService.chargePoint(request.userId(), request.amount()));
+        long sequentialMillis = (System.nanoTime() - sequentialStart) / 1_000_000;
+        BatchChargeResponse response = pointService.chargePoints(requests);
+
+        //then
+        log.info("순차 처리: {}ms, 일괄 처리: {}ms", sequentialMillis, response.elapsedMillis());
+        assertThat(response.succeeded()).isEqualTo(400);
+        assertThat(response.elapsedMillis() * 4).isLessThan(sequentialMillis);
+    }
+
+    @Test
+    @DisplayName("빈 요청은 처리하지 않는다")
+    void chargePoints_emptyRequest() {
+        assertThatThrownBy(() -> pointService.chargePoints(List.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("비어있습니다");
+    }
+
+    @Test
+    @DisplayName("null 인 건은 그 건만 실패로 돌려주고 나머지는 처리한다")
+    void chargePoints_nullEntryFailsAlone() {
+        //given
+        List<ChargeRequest> requests = new ArrayList<>();
+        requests.add(new ChargeRequest(1L, 5_000L));
+        requests.add(null);
+        requests.add(new ChargeRequest(2L, 5_000L));
+
+        //when
+        BatchChargeResponse response = pointService.chargePoints(requests);
+
+        //then
+        assertThat(response.succeeded()).isEqualTo(2);
+        assertThat(response.results().get(1).success()).isFalse();
+        assertThat(response.results().get(1).error()).contains("비어있습니다");
+        assertThat(pointService.getPointById(2L).point()).isEqualTo(5_000L);
+    }
+
+    @Test
+    @DisplayName("NDJSON 일괄 충전은 null 인 줄을 그 건만 실패로 돌려준다")
+    void chargeBatchNdjson_nullLineFailsAlone() throws IOException {
+        //given
+        PointController controller = new PointController(pointService, new ObjectMapper());
+        String body = "{\"userId\":1,\"amount\":5000}\nnull\n{\"userId\":2,\"amount\":5000}\n";
+
+        //when
+        BatchChargeResponse response = controller.chargeBatchNdjson(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        //then
+        assertThat(response.total()).isEqualTo(3);
+        assertThat(response.succeeded()).isEqualTo(2);
+        assertThat(response.results().get(1).error()).contains("비어있습니다");
+    }
+
+    @Test
+    @DisplayName("NDJSON 일괄 충전은 스프링 ObjectMapper 설정을 그대로 따라서 모르는 필드가 있어도 읽는다")
+    void chargeBatchNdjson_followsSpringObjectMapper() throws IOException {
+        //given
+        PointController controller = new PointController(pointService, Jackson2ObjectMapperBuilder.json().build());
+        String body = "{\"userId\":1,\"amount\":5000,\"memo\":\"x\"}\n";
+
+        //when
+        BatchChargeResponse response = controller.chargeBatchNdjson(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        //then
+        assertThat(response.succeeded()).isEqualTo(1);
+        assertThat(pointService.getPointById(1L).point()).isEqualTo(5_000L);
+    }
+
+    @Test
+    @DisplayName("NDJSON 일괄 충전은 최대 건수를 넘는 순간 나머지 본문을 읽지 않고 거절한다")
+    void chargeBatchNdjson_stopsReadingOverMaxEntries() {
+        //given
+        PointController controller = new PointController(pointService, new ObjectMapper());
+        byte[] line = "{\"userId\":1,\"amount\":1}\n".getBytes(StandardCharsets.UTF_8);
+        AtomicLong servedBytes = new AtomicLong();
+        // 끝나지 않는 본문 > 다 읽고 나서 세면 끝나지 않음
+        InputStream endless = new InputStream() {
+            @Override
+            public int read() {
+                return line[(int) (servedBytes.getAndIncrement() % line.length)];
+            }
+        };
+
+        //when & then
+        assertThatThrownBy(() -> controller.chargeBatchNdjson(endless))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("최대 건수");
+        int maxEntries = PointBatchProperties.defaults().maxEntries();
+        // 파서가 미리 읽어두는 버퍼만큼만 더 읽음
+        assertThat(servedBytes.get()).isLessThan((long) (maxEntries + 1_000) * line.length);
+    }
+}
@@ -0,0 +1,123 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.helper.PointServiceFixture;
+import io.hhplus.tdd.helper.TestLogger;
+import io.hhplus.tdd.point.execution.PointWriteProperties;
+import io.hhplus.tdd.point.ledger.PointLedgerProperties;
+import io.hhplus.tdd.point.limit.ChargeLimitProperties;
+import io.hhplus.tdd.point.policy.PointPolicy;
+import io.hhplus.tdd.point.policy.PointPolicyException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(TestLogger.class)
+class PointServiceChargeLimitTest {
+
+    private static final int THREADS = 32;
+    private static final long DAILY_LIMIT = 1_000_000L;
+
+    @Test
+    @DisplayName("PLC_PNT_008: 오늘 누적 충전이 하루 한도를 넘는 충전은 거절하고 잔액과 누적 합계는 그대로 둔다")
+    void charge_rejectsOverDailyLimit() {
+        //given
+        PointServiceFixture fixture = PointServiceFixture.options(0)
+                .withLimitProperties(ChargeLimitProperties.defaults())
+                .build();
+        fixture.pointService.chargePoint(1L, 1_000_000L);
+        fixture.pointService.chargePoint(1L, 999_999L);
+        fixture.pointService.chargePoint(1L, 999_998L);
+
+        //when
+        //then
+        assertThatThrownBy(() -> fixture.pointService.chargePoint(1L, 4L))
+                .isInstanceOf(PointPolicyException.class)
+                .hasMessageContaining("하루에 충전할 수 있는 최대 금액은 300만원");
+        assertThat(fixture.pointService.chargePoint(1L, 3L).point()).isEqualTo(3_000_000L);
+        assertThat(fixture.chargeLimitTracker.dailyCharged(1L, System.currentTimeMillis())).isEqualTo(3_000_000L);
+        fixture.close();
+    }
+
+    @Test
+    @DisplayName("같은 유저에게 동시에 몰린 충전이 한 묶음으로 처리되어도 누적 한도를 넘겨서 통과하지 않는다")
+    void concurrentCharges_respectDailyLimit_pessimistic() throws Exception {
+        //given
+        PointServiceFixture fixture = PointServiceFixture.options(5)
+                .withLimitProperties(limits())
+                .build();
+
+        //when
+        long charged = chargeConcurrently(fixture);
+
+        //then
+        assertThat(charged).isLessThanOrEqualTo(DAILY_LIMIT);
+        assertThat(fixture.pointService.getPointById(1L).point()).isEqualTo(charged);
+        assertThat(fixture.chargeLimitTracker.dailyCharged(1L, System.currentTimeMillis())).isEqualTo(charged);
+        fixture.close();
+    }
+
+    @Test
+    @DisplayName("낙관적 모드에서 락 없이 동시에 충전해도 예약 덕분에 누적 한도를 넘겨서 통과하지 않는다")
+    void concurrentCharges_respectDailyLimit_optimistic() throws Exception {
+        //given
+        PointServiceFixture fixture = PointServiceFixture.options(0)
+                .withWriteProperties(PointWriteProperties.optimistic().withMaxOptimisticAttempts(Integer.MAX_VALUE))
+                .withLedgerProperties(PointLedgerProperties.writeBehindEvery(60_000))
+                .withLimitProperties(limits())
+                .build();
+
+        //when
+        long charged = chargeConcurrently(fixture);
+
+        //then
+        assertThat(charged).isLessThanOrEqualTo(DAILY_LIMIT);
+        assertThat(fixture.pointService.getPointById(1L).point()).isEqualTo(charged);
+        assertThat(fixture.chargeLimitTracker.dailyCharged(1L, System.currentTimeMillis())).isEqualTo(charged);
+        fixture.close();
+    }
+
+    private static ChargeLimitProperties limits() {
+        return ChargeLimitProperties.defaults().withCumulativeLimits(DAILY_LIMIT, Long.MAX_VALUE);
+    }
+
+    /**
+     * 같은 유저에게 10만원 언저리 충전 200건을 동시에 보내고, 성공한 금액 합계를 돌려줌
+     * 한도 거절 말고 다른 실패가 섞이지 않도록 금액은 다 다르게 함 (PLC_PNT_001)
+     */
+    private static long chargeConcurrently(PointServiceFixture fixture) throws Exception {
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<Long>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int i = 0; i < 200; i++) {
+                long amount = 100_000L + i;
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    try {
+                        fixture.pointService.chargePoint(1L, amount);
+                        return amount;
+                    } catch (PointPolicyException e) {
+                        assertThat(e.policy()).isEqualTo(PointPolicy.PLC_PNT_008);
+                        return 0L;
+                    }
+                }));
+            }
+            startGate.countDown();
+            long charged = 0;
+            for (Future<Long> future : futures) {
+                charged += future.get(30, TimeUnit.SECONDS);
+            }
+            return charged;
+        }
+    }
+}
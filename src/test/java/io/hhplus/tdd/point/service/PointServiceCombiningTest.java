@@ -0,0 +1,171 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.helper.PointServiceFixture;
+import io.hhplus.tdd.helper.TestLogger;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.execution.PointWriteProperties;
+import io.hhplus.tdd.point.policy.PointPolicy;
+import io.hhplus.tdd.point.policy.PointPolicyException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(TestLogger.class)
+class PointServiceCombiningTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PointServiceCombiningTest.class);
+
+    private static final long TABLE_LATENCY_MILLIS = 50;
+    private static final int BURST_SIZE = 30;
+
+    @Test
+    @DisplayName("같은 유저에게 몰린 충전을 묶어서 처리하면 잔액 변경 횟수와 전체 처리 시간이 줄어든다")
+    void burst_isCombinedIntoFewBalanceWrites() throws Exception {
+        //given
+        // 내역은 묶음 안에서도 한 건씩 순서대로 저장하므로, 줄어드는 시간은 묶음마다 한번으로 줄어든 잔액 변경만큼임
+        PointServiceFixture oneByOne = PointServiceFixture.options(TABLE_LATENCY_MILLIS)
+                .withWriteProperties(PointWriteProperties.sequential().withMaxGroupSize(1))
+                .build();
+        PointServiceFixture combined = PointServiceFixture.options(TABLE_LATENCY_MILLIS)
+                .withWriteProperties(PointWriteProperties.sequential())
+                .build();
+
+        //when
+        long oneByOneMillis = chargeBurst(oneByOne.pointService);
+        long combinedMillis = chargeBurst(combined.pointService);
+
+        //then
+        log.info("같은 유저 충전 {}건 - 한 건씩: {}ms (묶음 {}개), 묶어서: {}ms (묶음 {}개)",
+                BURST_SIZE, oneByOneMillis, oneByOne.userOperationQueues.metrics().groupCount(),
+                combinedMillis, combined.userOperationQueues.metrics().groupCount());
+        long expectedBalance = BURST_SIZE * 1_000L + (BURST_SIZE - 1) * BURST_SIZE / 2;
+        for (PointServiceFixture fixture : List.of(oneByOne, combined)) {
+            assertThat(fixture.pointService.getPointById(1L).point()).isEqualTo(expectedBalance);
+            assertThat(fixture.pointService.getPointHistoryById(1L)).hasSize(BURST_SIZE);
+        }
+        assertThat(oneByOne.userOperationQueues.metrics().groupCount()).isEqualTo(BURST_SIZE);
+        assertThat(combined.userOperationQueues.metrics().groupCount()).isLessThan(BURST_SIZE / 3);
+        assertThat(upsertCount(combined)).isLessThan(BURST_SIZE / 3);
+        // 한 건씩: 건마다 잔액 변경 + 내역 저장 (100ms), 묶어서: 묶음마다 잔액 변경 한번 + 건마다 내역 저장 (50ms 남짓)
+        assertThat(combinedMillis * 3).isLessThan(oneByOneMillis * 2);
+        oneByOne.close();
+        combined.close();
+    }
+
+    @Test
+    @DisplayName("묶음의 내역 저장은 묶음 크기와 상관없이 작업 하나로 넘기므로 내역 저장 스레드가 묶음 크기만큼 늘지 않는다")
+    void burst_usesOneHistoryWriteTaskPerGroup() throws Exception {
+        //given
+        PointServiceFixture fixture = PointServiceFixture.options(TABLE_LATENCY_MILLIS)
+                .withWriteProperties(PointWriteProperties.overlapped())
+                .build();
+
+        //when
+        chargeBurst(fixture.pointService);
+
+        //then
+        // 같은 유저의 묶음은 유저 락 때문에 하나씩 처리되므로 내역 저장 작업도 한번에 하나뿐임
+        // > 다만 캐시 스레드 풀은 앞 작업을 끝낸 스레드가 다음 작업을 받으러 돌아오기 전에 새 작업이 오면 스레드를 하나 더 만듦
+        assertThat(fixture.userOperationQueues.metrics().groupCount()).isLessThan(BURST_SIZE / 3);
+        assertThat(((ThreadPoolExecutor) fixture.historyWriteExecutor).getLargestPoolSize()).isLessThanOrEqualTo(3);
+        assertThat(fixture.pointService.getPointHistoryById(1L)).hasSize(BURST_SIZE);
+        fixture.close();
+    }
+
+    @Test
+    @DisplayName("묶음 안의 요청은 들어온 순서대로 앞 건까지 반영된 잔액으로 건별 검증되고, 각자 자기 결과나 예외를 받는다")
+    void group_validatesEachOperationInArrivalOrder() throws Exception {
+        //given
+        PointServiceFixture fixture = new PointServiceFixture(0);
+        PointService pointService = fixture.pointService;
+        long userId = 1L;
+        pointService.chargePoint(userId, 10_000L);
+        List<Future<UserPoint>> results = new ArrayList<>();
+
+        //when
+        // 테스트 스레드가 유저 락을 잡고 있는 동안 요청 4건을 순서대로 큐에 쌓은 뒤 락을 놓음
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            fixture.userLockManager.executeWithLock(userId, () -> {
+                submitAndAwaitQueued(fixture, executor, results, () -> pointService.usePoint(userId, 4_000L));
+                submitAndAwaitQueued(fixture, executor, results, () -> pointService.usePoint(userId, 4_000L));
+                submitAndAwaitQueued(fixture, executor, results, () -> pointService.usePoint(userId, 4_000L));
+                submitAndAwaitQueued(fixture, executor, results, () -> pointService.chargePoint(userId, 3_000L));
+                return null;
+            });
+
+            //then
+            assertThat(results.get(0).get(5, TimeUnit.SECONDS).point()).isEqualTo(6_000L);
+            assertThat(results.get(1).get(5, TimeUnit.SECONDS).point()).isEqualTo(2_000L);
+            assertThatThrownBy(() -> results.get(2).get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class);
+            assertThat(rejectedPolicy(results.get(2))).isEqualTo(PointPolicy.INSUFFICIENT_BALANCE);
+            assertThat(results.get(3).get(5, TimeUnit.SECONDS).point()).isEqualTo(5_000L);
+        }
+        assertThat(pointService.getPointById(userId).point()).isEqualTo(5_000L);
+        assertThat(pointService.getPointHistoryById(userId)).hasSize(4);
+        // 처음 충전 한 묶음 + 락을 놓은 뒤 한 묶음
+        assertThat(fixture.userOperationQueues.metrics().groupCount()).isEqualTo(2L);
+        assertThat(upsertCount(fixture)).isEqualTo(2L);
+        fixture.close();
+    }
+
+    // 같은 유저에게 금액이 모두 다른 충전을 한번에 보냄 (부정 충전 중복 금액에 걸리지 않도록)
+    private long chargeBurst(PointService pointService) throws Exception {
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<UserPoint>> futures = new ArrayList<>(BURST_SIZE);
+        try (ExecutorService executor = Executors.newFixedThreadPool(BURST_SIZE)) {
+            for (int i = 0; i < BURST_SIZE; i++) {
+                long amount = 1_000L + i;
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    return pointService.chargePoint(1L, amount);
+                }));
+            }
+            long start = System.nanoTime();
+            startGate.countDown();
+            for (Future<UserPoint> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        }
+    }
+
+    private static void submitAndAwaitQueued(PointServiceFixture fixture, ExecutorService executor,
+                                             List<Future<UserPoint>> results,
+                                             Callable<UserPoint> request) {
+        int before = fixture.userOperationQueues.pendingCount(1L);
+        results.add(executor.submit(request));
+        while (fixture.userOperationQueues.pendingCount(1L) == before) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static PointPolicy rejectedPolicy(Future<UserPoint> result) throws InterruptedException {
+        try {
+            result.get();
+            return null;
+        } catch (ExecutionException e) {
+            return ((PointPolicyException) e.getCause()).policy();
+        }
+    }
+
+    private static long upsertCount(PointServiceFixture fixture) {
+        return fixture.meterRegistry.get("point.table").tags("table", "user_point", "call", "upsert").timer().count();
+    }
+}
@@ -0,0 +1,153 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.helper.PointServiceFixture;
+import io.hhplus.tdd.helper.TestLogger;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 동시성 테스트는 실제 테이블(200~300ms 랜덤 지연)로 돌리면 너무 오래 걸려서
+// 지연시간을 고정할 수 있는 Fake 테이블을 사용함
+@ExtendWith(TestLogger.class)
+class PointServiceConcurrencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PointServiceConcurrencyTest.class);
+
+    private static final int THREAD_COUNT = 32;
+
+    @Test
+    @DisplayName("여러 유저에게 충전/사용이 동시에 섞여 들어와도 갱신 손실 없이 최종 잔액이 맞아야 한다")
+    void concurrentMixedChargeAndUse_keepsBalancesConsistent() throws Exception {
+        //given
+        int userCount = 40;
+        int operationCount = 4_000;
+        PointServiceFixture fixture = new PointServiceFixture(1);
+        PointService pointService = fixture.pointService;
+
+        //when
+        AtomicLongArray expectedBalances = runMixedWorkload(pointService, userCount, operationCount, UnaryOperator.identity());
+
+        //then
+        for (int i = 0; i < userCount; i++) {
+            long userId = i + 1;
+            long historySum = fixture.pointHistoryTable.selectAllByUserId(userId).stream()
+                    .mapToLong(this::signedAmount)
+                    .sum();
+
+            assertThat(pointService.getPointById(userId).point()).isEqualTo(expectedBalances.get(i));
+            assertThat(historySum).isEqualTo(expectedBalances.get(i));
+        }
+        // 작업이 모두 끝나면 유휴 락은 전부 정리되어야 함
+        assertThat(fixture.userLockManager.activeLockCount()).isZero();
+        fixture.close();
+    }
+
+    @Test
+    @DisplayName("유저 단위 락은 서로 다른 유저의 요청을 병렬로 처리해서 전역 락보다 처리량이 높아야 한다")
+    void userLock_scalesBetterThanGlobalLock() throws Exception {
+        //given
+        int userCount = 40;
+        int operationCount = 800;
+        PointServiceFixture perUserFixture = new PointServiceFixture(1);
+        PointServiceFixture globalLockFixture = new PointServiceFixture(1);
+        PointService perUserService = perUserFixture.pointService;
+        PointService globalLockService = globalLockFixture.pointService;
+        ReentrantLock globalLock = new ReentrantLock(true);
+
+        //when
+        long perUserStart = System.nanoTime();
+        runMixedWorkload(perUserService, userCount, operationCount, UnaryOperator.identity());
+        long perUserElapsed = System.nanoTime() - perUserStart;
+
+        // 비교군: 서비스 호출 전체를 하나의 락으로 감싼 경우 (synchronized 로 막은 것과 같은 효과)
+        long globalStart = System.nanoTime();
+        runMixedWorkload(globalLockService, userCount, operationCount, task -> () -> {
+            globalLock.lock();
+            try {
+                task.run();
+            } finally {
+                globalLock.unlock();
+            }
+        });
+        long globalElapsed = System.nanoTime() - globalStart;
+
+        //then
+        log.info("유저 단위 락: {}ms, 전역 락: {}ms",
+                TimeUnit.NANOSECONDS.toMillis(perUserElapsed), TimeUnit.NANOSECONDS.toMillis(globalElapsed));
+        assertThat(perUserElapsed * 4).isLessThan(globalElapsed);
+        perUserFixture.close();
+        globalLockFixture.close();
+    }
+
+    /**
+     * 유저별로 충전/사용을 무작위로 섞어서 동시에 실행하고, 성공한 요청만 반영한 기대 잔액을 돌려줌
+     * - 충전 금액은 요청마다 다르게 줘서 PLC_PNT_001(10초 내 동일 금액) 에 걸리지 않게 함
+     * - 사용은 잔액 부족으로 실패할 수 있는데, 실패한 요청은 기대값에 반영하지 않음
+     */
+    private AtomicLongArray runMixedWorkload(PointService pointService, int userCount, int operationCount,
+                                             UnaryOperator<Runnable> decorator) throws Exception {
+        Random random = new Random(42);
+        AtomicLongArray expectedBalances = new AtomicLongArray(userCount);
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < operationCount; i++) {
+                int userIndex = random.nextInt(userCount);
+                long userId = userIndex + 1;
+                boolean charge = random.nextInt(10) < 6;
+                long amount = charge ? 1_000L + i : 100L + random.nextInt(900);
+
+                Runnable task = decorator.apply(() -> {
+                    try {
+                        if (charge) {
+                            pointService.chargePoint(userId, amount);
+                            expectedBalances.addAndGet(userIndex, amount);
+                        } else {
+                            pointService.usePoint(userId, amount);
+                            expectedBalances.addAndGet(userIndex, -amount);
+                        }
+                    } catch (IllegalArgumentException ignored) {
+                        // 잔액 부족 등 정책 위반은 정상적인 거절이므로 무시
+                    }
+                });
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    task.run();
+                    return null;
+                }));
+            }
+
+            startGate.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return expectedBalances;
+    }
+
+    private long signedAmount(PointHistory history) {
+        return history.type() == TransactionType.CHARGE ? history.amount() : -history.amount();
+    }
+}
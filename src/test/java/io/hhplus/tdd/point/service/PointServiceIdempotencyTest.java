@@ -0,0 +1,42 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.helper.PointServiceFixture;
+import io.hhplus.tdd.helper.TestLogger;
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(TestLogger.class)
+class PointServiceIdempotencyTest {
+
+    @Test
+    @DisplayName("같은 Idempotency-Key 로 재시도한 충전/사용은 한번만 반영되고 테이블을 다시 호출하지 않는다")
+    void retriedRequests_areAppliedOnce() {
+        //given
+        PointServiceFixture fixture = new PointServiceFixture(0);
+        PointService pointService = fixture.pointService;
+        UserPoint charged = pointService.chargePoint(1L, 10_000L, "charge-1");
+        UserPoint used = pointService.usePoint(1L, 3_000L, "use-1");
+        long tableCalls = tableCallCount(fixture);
+
+        //when
+        UserPoint chargeRetried = pointService.chargePoint(1L, 10_000L, "charge-1");
+        UserPoint useRetried = pointService.usePoint(1L, 3_000L, "use-1");
+
+        //then
+        assertThat(chargeRetried).isEqualTo(charged);
+        assertThat(useRetried).isEqualTo(used);
+        assertThat(tableCallCount(fixture)).isEqualTo(tableCalls);
+        assertThat(pointService.getPointById(1L).point()).isEqualTo(7_000L);
+        assertThat(pointService.getPointHistoryById(1L)).hasSize(2);
+        fixture.close();
+    }
+
+    private static long tableCallCount(PointServiceFixture fixture) {
+        return fixture.meterRegistry.get("point.table").tags("table", "user_point", "call", "upsert").timer().count()
+                + fixture.meterRegistry.get("point.table").tags("table", "point_history", "call", "insert").timer().count();
+    }
+}
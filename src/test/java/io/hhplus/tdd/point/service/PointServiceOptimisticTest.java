@@ -0,0 +1,222 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.helper.PointServiceFixture;
+import io.hhplus.tdd.helper.TestLogger;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.execution.PointWriteProperties;
+import io.hhplus.tdd.point.fraud.FraudDetectionProperties;
+import io.hhplus.tdd.point.ledger.OptimisticConflictException;
+import io.hhplus.tdd.point.ledger.PointLedgerProperties;
+import io.hhplus.tdd.point.policy.PointPolicyException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(TestLogger.class)
+class PointServiceOptimisticTest {
+
+    // 자동 반영이 테스트 중간에 끼어들지 않도록 주기를 길게 잡음
+    private static final PointLedgerProperties WRITE_BEHIND = PointLedgerProperties.writeBehindEvery(60_000);
+    private static final int THREADS = 32;
+
+    @Test
+    @DisplayName("낙관적 모드에서 같은 유저에게 동시에 충전해도 충돌한 요청은 다시 시도해서 모두 반영된다")
+    void concurrentCharges_areAllApplied() throws Exception {
+        //given
+        PointServiceFixture fixture = PointServiceFixture.options(0)
+                .withWriteProperties(PointWriteProperties.optimistic().withMaxOptimisticAttempts(Integer.MAX_VALUE))
+                .withLedgerProperties(WRITE_BEHIND)
+                .build();
+        int requests = 200;
+
+        //when
+        // 같은 금액 재충전(PLC_PNT_001)에 걸리지 않도록 금액을 다 다르게 함
+        runConcurrently(requests, i -> fixture.pointService.chargePoint(1L, 1_000L + i));
+
+        //then
+        long expected = requests * 1_000L + (long) (requests - 1) * requests / 2;
+        assertThat(fixture.pointService.getPointById(1L).point()).isEqualTo(expected);
+        assertThat(fixture.pointService.getPointHistoryById(1L)).hasSize(requests);
+        assertThat(fixture.ledger.getVersioned(1L).version()).isEqualTo(requests);
+        fixture.close();
+    }
+
+    @Test
+    @DisplayName("낙관적 모드에서 동시 사용은 최신 잔액으로 다시 검증되어 잔액이 음수가 되지 않는다")
+    void concurrentUses_neverOverdraw() throws Exception {
+        //given
+        PointServiceFixture fixture = PointServiceFixture.options(0)
+                .withWriteProperties(PointWriteProperties.optimistic().withMaxOptimisticAttempts(Integer.MAX_VALUE))
+                .withLedgerProperties(WRITE_BEHIND)
+                .build();
+        fixture.pointService.chargePoint(1L, 10_000L);
+
+        //when
+        AtomicInteger rejected = new AtomicInteger();
+        runConcurrently(100, i -> {
+            try {
+                fixture.pointService.usePoint(1L, 1_000L);
+            } catch (PointPolicyException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        //then
+        assertThat(fixture.pointService.getPointById(1L).point()).isZero();
+        assertThat(rejected.get()).isEqualTo(90);
+        assertThat(fixture.pointService.getPointHistoryById(1L)).hasSize(11);
+        fixture.close();
+    }
+
+    @Test
+    @DisplayName("낙관적 모드에서도 같은 금액 동시 충전은 한 건만 통과한다 (PLC_PNT_001 검사와 기록이 잔액 변경과 같이 일어남)")
+    void concurrentDuplicateCharges_onlyOnePasses() throws Exception {
+        //given
+        FraudDetectionProperties strict = new FraudDetectionProperties(10_000, 60_000, 10, 60_000);
+        PointServiceFixture fixture = PointServiceFixture.options(0)
+                .withFraudProperties(strict)
+                .withWriteProperties(PointWriteProperties.optimistic().withMaxOptimisticAttempts(Integer.MAX_VALUE))
+                .withLedgerProperties(WRITE_BEHIND)
+                .build();
+
+        //when
+        AtomicInteger rejected = new AtomicInteger();
+        runConcurrently(THREADS, i -> {
+            try {
+                fixture.pointService.chargePoint(1L, 5_000L);
+            } catch (PointPolicyException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        //then
+        assertThat(fixture.pointService.getPointById(1L).point()).isEqualTo(5_000L);
+        assertThat(rejected.get()).isEqualTo(THREADS - 1);
+        fixture.close();
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 다 쓴 요청은 OptimisticConflictException 으로 끝나고 잔액에 반영되지 않는다")
+    void exhaustedRetries_failWithoutApplying() throws Exception {
+        //given
+        PointServiceFixture fixture = PointServiceFixture.options(0)
+                .withWriteProperties(PointWriteProperties.optimistic().withMaxOptimisticAttempts(1))
+                .withLedgerProperties(WRITE_BEHIND)
+                .build();
+        int requests = 500;
+
+        //when
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger conflicted = new AtomicInteger();
+        AtomicLong chargedAmount = new AtomicLong();
+        runConcurrently(requests, i -> {
+            try {
+                fixture.pointService.chargePoint(1L, 1_000L + i);
+                succeeded.incrementAndGet();
+                chargedAmount.addAndGet(1_000L + i);
+            } catch (OptimisticConflictException e) {
+                conflicted.incrementAndGet();
+            }
+        });
+
+        //then
+        assertThat(succeeded.get() + conflicted.get()).isEqualTo(requests);
+        assertThat(fixture.pointService.getPointById(1L).point()).isEqualTo(chargedAmount.get());
+        assertThat(fixture.pointService.getPointHistoryById(1L)).hasSize(succeeded.get());
+        assertThat(fixture.meterRegistry.get("point.optimistic.conflicts").counter().count())
+                .isEqualTo((double) conflicted.get());
+        fixture.close();
+    }
+
+    @Test
+    @DisplayName("낙관적 모드에서 내역 저장에 실패한 충전은 부정 충전 기록도 지워서 같은 금액으로 다시 충전할 수 있다")
+    void failedHistory_forgetsFraudRecord() {
+        //given
+        FraudDetectionProperties strict = new FraudDetectionProperties(10_000, 60_000, 10, 60_000);
+        PointServiceFixture fixture = PointServiceFixture.options(0)
+                .withFraudProperties(strict)
+                .withWriteProperties(PointWriteProperties.optimistic())
+                .withLedgerProperties(WRITE_BEHIND)
+                .build();
+        fixture.pointHistoryTable.failInserts(true);
+        assertThatThrownBy(() -> fixture.pointService.chargePoint(1L, 5_000L))
+                .isInstanceOf(IllegalStateException.class);
+        fixture.pointHistoryTable.failInserts(false);
+
+        //when
+        long balance = fixture.pointService.chargePoint(1L, 5_000L).point();
+
+        //then
+        assertThat(balance).isEqualTo(5_000L);
+        assertThat(fixture.pointService.getPointHistoryById(1L)).hasSize(1);
+        fixture.close();
+    }
+
+    @Test
+    @DisplayName("낙관적 모드에서 충전을 되돌리기 전에 충전분이 사용되었으면 잔액을 음수가 아닌 0 으로 맞춘다")
+    void failedHistory_afterConcurrentUse_clampsBalanceAtZero() {
+        //given
+        PointServiceFixture fixture = PointServiceFixture.options(0)
+                .withWriteProperties(PointWriteProperties.optimistic())
+                .withLedgerProperties(WRITE_BEHIND)
+                .build();
+        // 충전 내역을 저장하는 사이에 다른 요청이 충전된 잔액으로 8,000원을 씀
+        fixture.pointHistoryTable.failNextInsertAfter(() -> fixture.pointService.usePoint(1L, 8_000L));
+
+        //when
+        assertThatThrownBy(() -> fixture.pointService.chargePoint(1L, 10_000L))
+                .isInstanceOf(IllegalStateException.class);
+
+        //then
+        assertThat(fixture.pointService.getPointById(1L).point()).isZero();
+        assertThat(fixture.pointService.getPointHistoryById(1L)).extracting(PointHistory::type)
+                .containsExactly(TransactionType.USE);
+        fixture.close();
+    }
+
+    @Test
+    @DisplayName("낙관적 모드는 write-through 원장과 같이 설정하면 기동할 때 실패한다")
+    void optimisticWithWriteThrough_isRejected() {
+        assertThatThrownBy(() -> PointServiceFixture.options(0)
+                .withWriteProperties(PointWriteProperties.optimistic())
+                .build())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private interface Request {
+        void run(int index);
+    }
+
+    private static void runConcurrently(int requests, Request request) throws Exception {
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(requests);
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int i = 0; i < requests; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    request.run(index);
+                    return null;
+                }));
+            }
+            startGate.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        }
+    }
+}
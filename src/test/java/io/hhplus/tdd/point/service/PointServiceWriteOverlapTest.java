@@ -0,0 +1,167 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.helper.PointServiceFixture;
+import io.hhplus.tdd.helper.TestLogger;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.execution.PointWriteProperties;
+import io.hhplus.tdd.point.history.PointHistoryQuery;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(TestLogger.class)
+class PointServiceWriteOverlapTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PointServiceWriteOverlapTest.class);
+
+    private static final long TABLE_LATENCY_MILLIS = 50;
+    private static final int REQUEST_COUNT = 20;
+
+    @Test
+    @DisplayName("잔액 변경과 내역 저장을 겹쳐서 보내면 충전/사용 한 건의 지연이 테이블 호출 한번만큼 줄어든다")
+    void overlapHistory_reducesLatency() {
+        //given
+        PointServiceFixture sequential = PointServiceFixture.options(TABLE_LATENCY_MILLIS)
+                .withWriteProperties(PointWriteProperties.sequential())
+                .build();
+        PointServiceFixture overlapped = PointServiceFixture.options(TABLE_LATENCY_MILLIS)
+                .withWriteProperties(PointWriteProperties.overlapped())
+                .build();
+
+        //when
+        double sequentialMillis = averageChargeAndUseMillis(sequential.pointService);
+        double overlappedMillis = averageChargeAndUseMillis(overlapped.pointService);
+
+        //then
+        // 저장 구간이 순차면 잔액 변경 + 내역 저장 = 100ms, 겹치면 max(잔액 변경, 내역 저장) = 50ms
+        log.info("충전/사용 평균 지연 - 순차 저장: {}ms, 겹쳐서 저장: {}ms",
+                String.format("%.1f", sequentialMillis), String.format("%.1f", overlappedMillis));
+        assertThat(overlappedMillis).isLessThan(sequentialMillis * 0.8);
+        sequential.close();
+        overlapped.close();
+    }
+
+    @Test
+    @DisplayName("충전/사용이 반환되면 그 결과에 해당하는 내역이 이미 조회된다")
+    void overlapHistory_historyVisibleOnReturn() {
+        //given
+        PointServiceFixture fixture = PointServiceFixture.options(TABLE_LATENCY_MILLIS)
+                .withWriteProperties(PointWriteProperties.overlapped())
+                .build();
+        long userId = 1L;
+
+        //when
+        UserPoint charged = fixture.pointService.chargePoint(userId, 10_000L);
+        List<PointHistory> afterCharge = fixture.pointService.getPointHistoryById(userId);
+        UserPoint used = fixture.pointService.usePoint(userId, 3_000L);
+        List<PointHistory> afterUse = fixture.pointService.getPointHistoryById(userId);
+
+        //then
+        assertThat(charged.point()).isEqualTo(10_000L);
+        assertThat(afterCharge).extracting(PointHistory::type).containsExactly(TransactionType.CHARGE);
+        assertThat(used.point()).isEqualTo(7_000L);
+        assertThat(afterUse).extracting(PointHistory::type).containsExactly(TransactionType.CHARGE, TransactionType.USE);
+        fixture.close();
+    }
+
+    @Test
+    @DisplayName("내역 저장이 실패하면 잔액을 이전 값으로 되돌리고 예외를 던진다")
+    void overlapHistory_rollsBackBalanceWhenHistoryFails() {
+        //given
+        PointServiceFixture fixture = PointServiceFixture.options(TABLE_LATENCY_MILLIS)
+                .withWriteProperties(PointWriteProperties.overlapped())
+                .build();
+        long userId = 1L;
+        fixture.pointService.chargePoint(userId, 10_000L);
+        fixture.pointHistoryTable.failInserts(true);
+
+        //when //then
+        assertThatThrownBy(() -> fixture.pointService.chargePoint(userId, 5_000L))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(fixture.pointService.getPointById(userId).point()).isEqualTo(10_000L);
+        assertThat(fixture.pointService.getPointHistoryById(userId)).hasSize(1);
+        fixture.close();
+    }
+
+    @Test
+    @DisplayName("겹쳐서 저장해도 같은 묶음의 내역 id 는 요청 처리 순서대로 매겨져서, 내역 id 커서로 넘기면 빠지는 내역이 없다")
+    void overlapHistory_keepsIdOrderWithinGroup() throws Exception {
+        //given
+        PointServiceFixture fixture = PointServiceFixture.options(TABLE_LATENCY_MILLIS)
+                .withWriteProperties(PointWriteProperties.overlapped())
+                .build();
+        long userId = 1L;
+        CountDownLatch startGate = new CountDownLatch(1);
+        Map<Long, Future<UserPoint>> resultsByAmount = new LinkedHashMap<>();
+
+        //when
+        try (ExecutorService executor = Executors.newFixedThreadPool(REQUEST_COUNT)) {
+            for (int i = 0; i < REQUEST_COUNT; i++) {
+                long amount = 1_000L + i;
+                resultsByAmount.put(amount, executor.submit(() -> {
+                    startGate.await();
+                    return fixture.pointService.chargePoint(userId, amount);
+                }));
+            }
+            startGate.countDown();
+        }
+
+        //then
+        // 충전만 있으므로 충전 후 잔액이 작을수록 먼저 처리된 요청임
+        List<Long> amountsInProcessingOrder = new ArrayList<>(resultsByAmount.keySet());
+        amountsInProcessingOrder.sort(Comparator.comparingLong(amount -> balanceAfter(resultsByAmount.get(amount))));
+        List<PointHistory> histories = fixture.pointService.getPointHistoryById(userId);
+        assertThat(fixture.userOperationQueues.metrics().groupCount()).isLessThan(REQUEST_COUNT);
+        assertThat(histories).extracting(PointHistory::amount).containsExactlyElementsOf(amountsInProcessingOrder);
+
+        List<PointHistory> paged = new ArrayList<>();
+        Long cursor = null;
+        do {
+            PointHistoryPage page = fixture.pointService.getPointHistoryPage(userId,
+                    new PointHistoryQuery(cursor, 3, null, null, null));
+            paged.addAll(page.histories());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        assertThat(paged).containsExactlyElementsOf(histories);
+        fixture.close();
+    }
+
+    private static long balanceAfter(Future<UserPoint> result) {
+        try {
+            return result.get().point();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 유저마다 충전 한번 + 사용 한번을 순서대로 보내고 한 건당 평균 지연을 구함
+    private double averageChargeAndUseMillis(PointService pointService) {
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            long userId = i + 1;
+            pointService.chargePoint(userId, 10_000L);
+            pointService.usePoint(userId, 1_000L);
+        }
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start) / 1_000.0 / (REQUEST_COUNT * 2);
+    }
+}
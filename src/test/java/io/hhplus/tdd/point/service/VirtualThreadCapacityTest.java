@@ -0,0 +1,105 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.helper.PointServiceFixture;
+import io.hhplus.tdd.helper.TestLogger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 톰캣 기본 최대 스레드(200개) 플랫폼 스레드 풀과 가상 스레드로 같은 요청 묶음을 처리해보고
+// 동시에 처리중인 요청 수(in-flight)와 전체 처리 시간을 비교함
+@ExtendWith(TestLogger.class)
+class VirtualThreadCapacityTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadCapacityTest.class);
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int REQUEST_COUNT = 2_000;
+    private static final long TABLE_LATENCY_MILLIS = 100;
+
+    private final PointServiceFixture fixture = new PointServiceFixture(TABLE_LATENCY_MILLIS);
+
+    @AfterEach
+    void tearDown() {
+        fixture.close();
+    }
+
+    @Test
+    @DisplayName("가상 스레드 모드는 블로킹 테이블 호출 중에도 스레드 수 제한 없이 더 많은 요청을 동시에 처리한다")
+    void virtualThreads_handleMoreConcurrentRequests() throws Exception {
+        //given
+        PointService pointService = fixture.pointService;
+
+        //when
+        LoadResult platform;
+        try (ExecutorService executor = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS)) {
+            platform = runRequests(executor, pointService, 1);
+        }
+        LoadResult virtual;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            virtual = runRequests(executor, pointService, 1_000_000);
+        }
+
+        //then
+        log.info("플랫폼 스레드 {}개: 최대 동시 처리 {}건, {}ms / 가상 스레드: 최대 동시 처리 {}건, {}ms",
+                TOMCAT_MAX_THREADS, platform.peakInFlight(), platform.elapsedMillis(),
+                virtual.peakInFlight(), virtual.elapsedMillis());
+        assertThat(platform.peakInFlight()).isLessThanOrEqualTo(TOMCAT_MAX_THREADS);
+        assertThat(virtual.peakInFlight()).isGreaterThan(TOMCAT_MAX_THREADS);
+        assertThat(virtual.elapsedMillis() * 2).isLessThan(platform.elapsedMillis());
+    }
+
+    /**
+     * 조회와 충전을 반씩 섞어서 한번에 밀어넣음 (충전은 유저를 다 다르게 해서 유저 락 대기가 없도록 함)
+     */
+    private LoadResult runRequests(ExecutorService executor, PointService pointService, long userIdOffset)
+            throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peakInFlight = new AtomicInteger();
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(REQUEST_COUNT);
+
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            long userId = userIdOffset + i;
+            boolean charge = i % 2 == 0;
+            futures.add(executor.submit(() -> {
+                startGate.await();
+                peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    if (charge) {
+                        pointService.chargePoint(userId, 1_000L);
+                    } else {
+                        pointService.getPointById(userId);
+                    }
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        long start = System.nanoTime();
+        startGate.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        return new LoadResult(peakInFlight.get(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private record LoadResult(int peakInFlight, long elapsedMillis) {
+    }
+}
@@ -0,0 +1,288 @@
+package io.hhplus.tdd.point.storage;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.helper.FakePointHistoryTable;
+import io.hhplus.tdd.helper.FakeUserPointTable;
+import io.hhplus.tdd.helper.TestLogger;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.history.IndexedPointHistoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(TestLogger.class)
+class PointStorageRepositoryTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PointStorageRepositoryTest.class);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("메모리/파일 저장소는 기존 테이블과 같은 잔액과 내역을 돌려준다")
+    void adapters_behaveLikeTables() throws IOException {
+        //given
+        TableUserPointRepository tableUsers = new TableUserPointRepository(new FakeUserPointTable());
+        TablePointHistoryRepository tableHistories = new TablePointHistoryRepository(new FakePointHistoryTable());
+        InMemoryUserPointRepository memoryUsers = new InMemoryUserPointRepository();
+        InMemoryPointHistoryRepository memoryHistories = new InMemoryPointHistoryRepository();
+
+        try (FileUserPointRepository fileUsers = FileUserPointRepository.open(directory);
+             FilePointHistoryRepository fileHistories = FilePointHistoryRepository.open(directory)) {
+            List<UserPointRepository> users = List.of(tableUsers, memoryUsers, fileUsers);
+            List<PointHistoryRepository> histories = List.of(tableHistories, memoryHistories, fileHistories);
+
+            //when
+            for (int i = 0; i < 500; i++) {
+                long userId = i % 7 + 1;
+                TransactionType type = i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+                for (UserPointRepository repository : users) {
+                    repository.insertOrUpdate(userId, i);
+                }
+                for (PointHistoryRepository repository : histories) {
+                    repository.insert(userId, i + 1, type, i);
+                }
+            }
+
+            //then
+            for (long userId = 1; userId <= 8; userId++) {
+                long expectedPoint = tableUsers.selectById(userId).point();
+                List<PointHistory> expectedHistories = tableHistories.selectAllByUserId(userId);
+                for (UserPointRepository repository : users) {
+                    assertThat(repository.selectById(userId).point()).isEqualTo(expectedPoint);
+                }
+                for (PointHistoryRepository repository : histories) {
+                    assertThat(repository.selectAllByUserId(userId)).isEqualTo(expectedHistories);
+                }
+            }
+            // 테이블은 유저 목록을 주지 않지만 저장소가 쓴 유저 id 를 들고 있어서 같은 목록을 훑음
+            for (UserPointRepository repository : users) {
+                Set<Long> userIds = new HashSet<>();
+                repository.forEachUserId(userIds::add);
+                assertThat(userIds).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("기존 테이블 저장소에 여러 유저가 동시에 써도 내역 id 가 겹치거나 빠지지 않고 잔액도 모두 남는다")
+    void tableAdapters_serializeConcurrentWrites() throws Exception {
+        //given
+        // 스레드 안전한 Fake 가 아니라 실제 테이블 (호출마다 0~300ms 지연)
+        TableUserPointRepository users = new TableUserPointRepository(new UserPointTable());
+        TablePointHistoryRepository histories = new TablePointHistoryRepository(new PointHistoryTable());
+        int writes = 24;
+
+        //when
+        List<Future<PointHistory>> inserted = new ArrayList<>(writes);
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < writes; i++) {
+                long userId = i + 1;
+                inserted.add(executor.submit(() -> {
+                    users.insertOrUpdate(userId, userId * 100);
+                    return histories.insert(userId % 4 + 1, userId, TransactionType.CHARGE, userId);
+                }));
+            }
+        }
+
+        //then
+        List<Long> ids = new ArrayList<>(writes);
+        for (Future<PointHistory> future : inserted) {
+            ids.add(future.get().id());
+        }
+        assertThat(ids).containsExactlyInAnyOrderElementsOf(LongStream.rangeClosed(1, writes).boxed().toList());
+        int stored = 0;
+        for (long userId = 1; userId <= 4; userId++) {
+            stored += histories.selectAllByUserId(userId).size();
+        }
+        assertThat(stored).isEqualTo(writes);
+        for (long userId = 1; userId <= writes; userId++) {
+            assertThat(users.selectById(userId).point()).isEqualTo(userId * 100);
+        }
+    }
+
+    @Test
+    @DisplayName("파일 저장소는 다시 열어도 잔액과 내역이 남아있고, 쓰다 만 마지막 행은 버린다")
+    void fileRepositories_surviveReopen() throws IOException {
+        //given
+        try (FileUserPointRepository users = FileUserPointRepository.open(directory);
+             FilePointHistoryRepository histories = FilePointHistoryRepository.open(directory)) {
+            users.insertOrUpdate(1L, 1_000L);
+            users.insertOrUpdate(2L, 500L);
+            users.insertOrUpdate(1L, 700L);
+            histories.insert(1L, 1_000L, TransactionType.CHARGE, 1L);
+            histories.insert(2L, 500L, TransactionType.CHARGE, 2L);
+            histories.insert(1L, 300L, TransactionType.USE, 3L);
+        }
+        // 마지막 행을 쓰다가 죽은 상황
+        try (FileChannel channel = FileChannel.open(directory.resolve(FilePointHistoryRepository.FILE_NAME),
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3}));
+        }
+
+        //when
+        try (FileUserPointRepository users = FileUserPointRepository.open(directory);
+             FilePointHistoryRepository histories = FilePointHistoryRepository.open(directory)) {
+            PointHistory appended = histories.insert(2L, 100L, TransactionType.USE, 4L);
+
+            //then
+            assertThat(users.size()).isEqualTo(2);
+            assertThat(users.selectById(1L).point()).isEqualTo(700L);
+            assertThat(users.selectById(2L).point()).isEqualTo(500L);
+            assertThat(users.selectById(3L).point()).isZero();
+
+            assertThat(appended.id()).isEqualTo(4L);
+            assertThat(histories.selectAllByUserId(1L))
+                    .extracting(PointHistory::type)
+                    .containsExactly(TransactionType.CHARGE, TransactionType.USE);
+
+            // 내역 인덱스는 생성할 때 저장소에 남아있던 내역을 올림
+            IndexedPointHistoryRepository index = new IndexedPointHistoryRepository(histories, List.of());
+            assertThat(index.countByUserId(1L)).isEqualTo(2);
+            assertThat(index.selectAllByUserId(2L)).isEqualTo(histories.selectAllByUserId(2L));
+        }
+    }
+
+    @Test
+    @DisplayName("메모리/파일 저장소는 환불/회수 내역이 가리키는 원래 내역 id 를 같이 저장하고, 파일은 다시 열어도 남아있다")
+    void historyRepositories_keepReversedId() throws IOException {
+        //given
+        InMemoryPointHistoryRepository memory = new InMemoryPointHistoryRepository();
+        try (FilePointHistoryRepository file = FilePointHistoryRepository.open(directory)) {
+            for (PointHistoryRepository repository : List.of(memory, file)) {
+                repository.insert(1L, 1_000L, TransactionType.CHARGE, 1L);
+                repository.insert(1L, 1_000L, TransactionType.CLAWBACK, 2L, 1L);
+            }
+        }
+
+        //when
+        try (FilePointHistoryRepository reopened = FilePointHistoryRepository.open(directory)) {
+
+            //then
+            for (PointHistoryRepository repository : List.of(memory, reopened)) {
+                assertThat(repository.findById(2L).reversedId()).isEqualTo(1L);
+                assertThat(repository.findById(1L).reversedId()).isZero();
+                assertThat(repository.selectAllByUserId(1L)).extracting(PointHistory::reversedId).containsExactly(0L, 1L);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("파일 내역 저장소는 유형 번호가 범위를 벗어난 행부터 쓰다 만 꼬리로 보고 잘라낸다")
+    void fileHistory_truncatesAtUnknownType() throws IOException {
+        //given
+        try (FilePointHistoryRepository histories = FilePointHistoryRepository.open(directory, true)) {
+            histories.insert(1L, 1_000L, TransactionType.CHARGE, 1L);
+            histories.insert(1L, 300L, TransactionType.USE, 2L);
+            histories.insert(1L, 200L, TransactionType.USE, 3L);
+        }
+        // 두번째 행의 유형 칸(id, userId, amount 다음)을 깨뜨림
+        try (FileChannel channel = FileChannel.open(directory.resolve(FilePointHistoryRepository.FILE_NAME),
+                StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{99}), FilePointHistoryRepository.ROW_SIZE + 24);
+        }
+
+        //when
+        try (FilePointHistoryRepository histories = FilePointHistoryRepository.open(directory, true)) {
+            PointHistory appended = histories.insert(1L, 100L, TransactionType.USE, 4L);
+
+            //then
+            assertThat(histories.size()).isEqualTo(2);
+            assertThat(appended.id()).isEqualTo(2L);
+            assertThat(histories.selectAllByUserId(1L))
+                    .extracting(PointHistory::amount)
+                    .containsExactly(1_000L, 100L);
+        }
+    }
+
+    @Test
+    @DisplayName("메모리 내역 저장소는 한 묶음(chunk)을 넘겨도 id 순서대로 모든 내역을 훑는다")
+    void inMemoryHistory_spansChunks() {
+        //given
+        InMemoryPointHistoryRepository repository = new InMemoryPointHistoryRepository();
+        int rows = 40_000;
+        for (int i = 0; i < rows; i++) {
+            repository.insert(i % 10, i, TransactionType.CHARGE, i);
+        }
+
+        //when
+        List<Long> ids = new ArrayList<>(rows);
+        repository.forEachStored(history -> ids.add(history.id()));
+
+        //then
+        assertThat(repository.size()).isEqualTo(rows);
+        assertThat(ids).hasSize(rows);
+        assertThat(ids.get(0)).isEqualTo(1L);
+        assertThat(ids.get(rows - 1)).isEqualTo((long) rows);
+        assertThat(repository.selectAllByUserId(3L)).hasSize(rows / 10);
+    }
+
+    @Test
+    @DisplayName("메모리 내역 저장소(열 단위 배열)는 같은 내역을 PointHistory 리스트의 절반 이하 힙으로 담고, 유저/id 인덱스를 더해도 리스트의 3/4 보다 작다")
+    void inMemoryHistory_isSmallerThanObjectList_at1MRows() {
+        //given
+        int rows = 1_000_000;
+
+        //when
+        long before = usedHeapAfterGc();
+        List<PointHistory> objects = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            objects.add(new PointHistory(i + 1L, i % 1_000 + 1, i, TransactionType.CHARGE, i));
+        }
+        long objectBytes = usedHeapAfterGc() - before;
+
+        before = usedHeapAfterGc();
+        InMemoryPointHistoryRepository columnar = new InMemoryPointHistoryRepository();
+        for (int i = 0; i < rows; i++) {
+            columnar.insert(i % 1_000 + 1, i, TransactionType.CHARGE, i);
+        }
+        long columnarBytes = usedHeapAfterGc() - before;
+
+        before = usedHeapAfterGc();
+        InMemoryPointHistoryRepository indexedStore = new InMemoryPointHistoryRepository();
+        IndexedPointHistoryRepository indexed = new IndexedPointHistoryRepository(indexedStore, List.of());
+        for (int i = 0; i < rows; i++) {
+            indexed.insert(i % 1_000 + 1, i, TransactionType.CHARGE, i);
+        }
+        long indexedBytes = usedHeapAfterGc() - before;
+
+        //then
+        log.info("내역 {}건 - PointHistory 리스트: {}바이트/건, 열 단위 배열: {}바이트/건, 열 단위 배열 + 인덱스: {}바이트/건",
+                rows, objectBytes / rows, columnarBytes / rows, indexedBytes / rows);
+        assertThat(objects).hasSize(rows);
+        assertThat(columnar.size()).isEqualTo(rows);
+        assertThat(indexed.countByUserId(1L)).isEqualTo(rows / 1_000);
+        assertThat(indexed.findById(rows).orElseThrow().amount()).isEqualTo(rows - 1L);
+        assertThat(columnarBytes * 2).isLessThan(objectBytes);
+        assertThat(indexedBytes * 4).isLessThan(objectBytes * 3);
+    }
+
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,126 @@
+package io.hhplus.tdd.point.wal;
+
+import io.hhplus.tdd.helper.TestLogger;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.cache.PointCacheProperties;
+import io.hhplus.tdd.point.cache.UserPointCache;
+import io.hhplus.tdd.point.execution.PointThreadFactories;
+import io.hhplus.tdd.point.history.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.ledger.PointBalanceLedger;
+import io.hhplus.tdd.point.ledger.PointLedgerProperties;
+import io.hhplus.tdd.point.reversal.ReversalRegistry;
+import io.hhplus.tdd.point.storage.InMemoryPointHistoryRepository;
+import io.hhplus.tdd.point.storage.InMemoryUserPointRepository;
+import io.hhplus.tdd.point.storage.PointStorageProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(TestLogger.class)
+class PointWalRecoveryTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("재시작하면 로그로 비어있는 메모리 저장소의 잔액과 내역을 다시 채운다")
+    void recover_rebuildsTablesFromLog() {
+        //given
+        PointWriteAheadLog before = new PointWriteAheadLog(properties(), PointThreadFactories.platform());
+        before.replay(new WalReplayHandler() {
+            @Override
+            public void onSnapshotBalance(UserPoint balance) {
+            }
+
+            @Override
+            public void onRecord(WalRecord record, boolean coveredBySnapshot) {
+            }
+        });
+        before.append(1L, TransactionType.CHARGE, 1_000L, 1_000L, 1L);
+        before.append(2L, TransactionType.CHARGE, 500L, 500L, 2L);
+        before.snapshot();
+        before.append(1L, TransactionType.USE, 300L, 700L, 3L);
+        before.close();
+
+        InMemoryUserPointRepository userPoints = new InMemoryUserPointRepository();
+        PointBalanceLedger ledger = new PointBalanceLedger(userPoints, PointLedgerProperties.writeThrough(),
+                new UserPointCache(PointCacheProperties.disabled()), PointThreadFactories.platform());
+        IndexedPointHistoryRepository historyRepository =
+                new IndexedPointHistoryRepository(new InMemoryPointHistoryRepository(), List.of());
+        PointWriteAheadLog after = new PointWriteAheadLog(properties(), PointThreadFactories.platform());
+
+        //when
+        new PointWalRecovery(after, ledger, historyRepository, PointStorageProperties.memory()).recover();
+
+        //then
+        assertThat(userPoints.selectById(1L).point()).isEqualTo(700L);
+        assertThat(userPoints.selectById(2L).point()).isEqualTo(500L);
+        assertThat(historyRepository.selectAllByUserId(1L))
+                .extracting(PointHistory::type)
+                .containsExactly(TransactionType.CHARGE, TransactionType.USE);
+        assertThat(historyRepository.selectAllByUserId(2L)).hasSize(1);
+        after.close();
+    }
+
+    @Test
+    @DisplayName("환불/회수 기록은 다시 채운 원래 내역의 id 를 가리키도록 복구되어 같은 내역을 다시 되돌릴 수 없다")
+    void recover_relinksReversalsToReplayedHistories() {
+        //given
+        PointWriteAheadLog before = new PointWriteAheadLog(properties(), PointThreadFactories.platform());
+        before.replay(WalReplayHandler.ignoring());
+        before.append(2L, TransactionType.CHARGE, 500L, 500L, 1L);
+        before.append(1L, TransactionType.CHARGE, 1_000L, 1_000L, 2L);
+        before.append(1L, TransactionType.CHARGE, 2_000L, 3_000L, 3L);
+        before.append(1L, List.of(new WalEntry(TransactionType.CLAWBACK, 2_000L, 1_000L, 4L, 1)));
+        before.close();
+
+        ReversalRegistry registry = new ReversalRegistry();
+        PointBalanceLedger ledger = new PointBalanceLedger(new InMemoryUserPointRepository(),
+                PointLedgerProperties.writeThrough(), new UserPointCache(PointCacheProperties.disabled()),
+                PointThreadFactories.platform());
+        IndexedPointHistoryRepository historyRepository = new IndexedPointHistoryRepository(
+                new InMemoryPointHistoryRepository(), List.of(registry));
+        PointWriteAheadLog after = new PointWriteAheadLog(properties(), PointThreadFactories.platform());
+
+        //when
+        new PointWalRecovery(after, ledger, historyRepository, PointStorageProperties.memory()).recover();
+
+        //then
+        List<PointHistory> histories = historyRepository.selectAllByUserId(1L);
+        assertThat(histories.get(2).type()).isEqualTo(TransactionType.CLAWBACK);
+        assertThat(histories.get(2).reversedId()).isEqualTo(histories.get(1).id());
+        assertThat(registry.isReversed(histories.get(1).id())).isTrue();
+        assertThat(registry.isReversed(histories.get(0).id())).isFalse();
+        after.close();
+    }
+
+    @Test
+    @DisplayName("로그를 켠 채로 기존 테이블 저장소를 쓰면 기동할 때 실패한다")
+    void recover_rejectsTableStorage() {
+        //given
+        PointBalanceLedger ledger = new PointBalanceLedger(new InMemoryUserPointRepository(),
+                PointLedgerProperties.writeThrough(), new UserPointCache(PointCacheProperties.disabled()),
+                PointThreadFactories.platform());
+        IndexedPointHistoryRepository historyRepository =
+                new IndexedPointHistoryRepository(new InMemoryPointHistoryRepository(), List.of());
+        PointWriteAheadLog wal = new PointWriteAheadLog(properties(), PointThreadFactories.platform());
+
+        //when & then
+        assertThatThrownBy(() -> new PointWalRecovery(wal, ledger, historyRepository, PointStorageProperties.table()).recover())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("point.storage.type=TABLE");
+    }
+
+    private PointWalProperties properties() {
+        return new PointWalProperties(true, directory.toString(), 64 * 1024, true, 60_000);
+    }
+}
@@ -0,0 +1,310 @@
+package io.hhplus.tdd.point.wal;
+
+import io.hhplus.tdd.helper.TestLogger;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.execution.PointThreadFactories;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(TestLogger.class)
+class PointWriteAheadLogTest {
+
+    // 세그먼트 하나에 기록 10건
+    private static final int SMALL_SEGMENT_BYTES = WalRecord.SIZE * 10;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("다시 열면 여러 세그먼트에 나눠 쓴 기록을 쓴 순서대로 모두 읽는다")
+    void replay_readsAllRecordsAcrossSegments() {
+        //given
+        PointWriteAheadLog wal = open(new RecordingHandler());
+        for (long i = 1; i <= 25; i++) {
+            wal.append(i % 3, TransactionType.CHARGE, i * 100, i * 1_000, i);
+        }
+        wal.close();
+
+        //when
+        RecordingHandler handler = new RecordingHandler();
+        PointWriteAheadLog reopened = open(handler);
+
+        //then
+        assertThat(handler.records).hasSize(25);
+        assertThat(handler.records).extracting(WalRecord::sequence)
+                .containsExactlyElementsOf(LongStream.rangeClosed(1, 25).boxed().toList());
+        assertThat(handler.records.get(24)).isEqualTo(
+                new WalRecord(25, 1L, TransactionType.CHARGE, 2_500L, 25_000L, 25L));
+
+        // 이어서 쓰는 기록은 마지막 sequence 다음 번호를 받음
+        reopened.append(1L, TransactionType.USE, 100L, 24_900L, 26L);
+        assertThat(reopened.metrics().lastSequence()).isEqualTo(26L);
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("중간에 깨진 기록이 있으면 그 앞까지만 복구한다")
+    void replay_stopsAtCorruptedRecord() throws Exception {
+        //given
+        PointWriteAheadLog wal = open(new RecordingHandler());
+        for (long i = 1; i <= 5; i++) {
+            wal.append(1L, TransactionType.CHARGE, 100L, i * 100, i);
+        }
+        // close 하지 않고 버림 (종료 스냅샷 없이 프로세스가 죽은 상태)
+        try (RandomAccessFile file = new RandomAccessFile(WalSegment.path(directory, 0).toFile(), "rw")) {
+            long offset = WalRecord.SIZE * 3L + 20;
+            file.seek(offset);
+            int value = file.read();
+            file.seek(offset);
+            file.write(value ^ 0xFF);
+        }
+
+        //when
+        RecordingHandler handler = new RecordingHandler();
+        open(handler);
+
+        //then
+        assertThat(handler.records).extracting(WalRecord::sequence).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("checksum 은 맞지만 거래 유형 번호가 범위를 벗어난 기록은 쓰다 만 자리로 보고 그 앞까지만 복구한다")
+    void replay_stopsAtRecordWithUnknownType() throws Exception {
+        //given
+        PointWriteAheadLog wal = open(new RecordingHandler());
+        for (long i = 1; i <= 3; i++) {
+            wal.append(1L, TransactionType.CHARGE, 100L, i * 100, i);
+        }
+        try (FileChannel channel = FileChannel.open(WalSegment.path(directory, 0), StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            ByteBuffer record = ByteBuffer.allocate(WalRecord.SIZE);
+            channel.read(record, WalRecord.SIZE);
+            record.put(48, (byte) 99);
+            CRC32C crc = new CRC32C();
+            crc.update(record.slice(0, 52));
+            record.putInt(52, (int) crc.getValue());
+            channel.write(record.rewind(), WalRecord.SIZE);
+        }
+
+        //when
+        RecordingHandler handler = new RecordingHandler();
+        open(handler);
+
+        //then
+        assertThat(handler.records).extracting(WalRecord::sequence).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("기록 없이 재시작을 반복해도 빈 세그먼트가 쌓이지 않는다")
+    void replay_deletesEmptySegments() throws Exception {
+        //given
+        PointWriteAheadLog wal = open(new RecordingHandler());
+        wal.append(1L, TransactionType.CHARGE, 100L, 100L, 1L);
+        wal.close();
+
+        //when
+        for (int i = 0; i < 3; i++) {
+            open(new RecordingHandler()).close();
+        }
+
+        //then
+        assertThat(segmentFiles()).hasSize(2); // 기록이 있는 세그먼트 + 마지막 기동이 만든 세그먼트
+        RecordingHandler handler = new RecordingHandler();
+        open(handler);
+        assertThat(handler.records).extracting(WalRecord::sequence).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("내역을 로그로 다시 만들 필요가 없으면 남겨둔 스냅샷에 덮인 세그먼트를 지운다")
+    void snapshot_prunesSegmentsCoveredByRetainedSnapshot() throws Exception {
+        //given
+        PointWriteAheadLog wal = open(WalReplayHandler.ignoring());
+        for (long i = 1; i <= 25; i++) {
+            wal.append(1L, TransactionType.CHARGE, 1L, i, i); // 세그먼트 0(1~10), 1(11~20), 2(21~25)
+        }
+        wal.snapshot();
+        for (long i = 26; i <= 35; i++) {
+            wal.append(1L, TransactionType.CHARGE, 1L, i, i); // 세그먼트 2(~30), 3(31~35)
+        }
+
+        //when
+        wal.snapshot(); // 앞 스냅샷(25)에 덮인 세그먼트 0, 1 을 지움
+
+        //then
+        assertThat(segmentFiles()).extracting(WalSegment::indexOf).containsExactly(2, 3);
+        wal.close();
+        RecordingHandler handler = new RecordingHandler();
+        PointWriteAheadLog reopened = open(handler);
+        assertThat(handler.snapshotBalances).containsEntry(1L, 35L);
+        assertThat(reopened.metrics().lastSequence()).isEqualTo(35L);
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("내역을 로그로 다시 만들어야 하면 스냅샷에 덮인 세그먼트도 지우지 않는다")
+    void snapshot_keepsSegmentsWhenHandlerNeedsCoveredRecords() throws Exception {
+        //given
+        PointWriteAheadLog wal = open(new RecordingHandler());
+        for (long i = 1; i <= 25; i++) {
+            wal.append(1L, TransactionType.CHARGE, 1L, i, i);
+        }
+
+        //when
+        wal.snapshot();
+        wal.snapshot();
+
+        //then
+        assertThat(segmentFiles()).hasSize(3);
+        wal.close();
+    }
+
+    @Test
+    @DisplayName("스냅샷 이후의 기록만 스냅샷에 덮이지 않은 기록으로 넘긴다")
+    void replay_marksRecordsCoveredBySnapshot() {
+        //given
+        PointWriteAheadLog wal = open(new RecordingHandler());
+        wal.append(1L, TransactionType.CHARGE, 100L, 100L, 1L);
+        wal.append(2L, TransactionType.CHARGE, 200L, 200L, 2L);
+        wal.snapshot();
+        wal.append(1L, TransactionType.USE, 30L, 70L, 3L);
+        // close 하지 않고 버림 (종료 스냅샷 없이 프로세스가 죽은 상태)
+
+        //when
+        RecordingHandler handler = new RecordingHandler();
+        open(handler);
+
+        //then
+        assertThat(handler.snapshotBalances).containsEntry(1L, 100L).containsEntry(2L, 200L);
+        assertThat(handler.records).hasSize(3);
+        assertThat(handler.covered).containsExactly(true, true, false);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 기록은 디스크 반영(force)을 묶어서 기록 수보다 적게 한다")
+    void append_groupsConcurrentSyncs() throws Exception {
+        //given
+        PointWriteAheadLog wal = open(new RecordingHandler());
+        int threads = 16;
+        int perThread = 100;
+
+        //when
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                long userId = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 1; i <= perThread; i++) {
+                        wal.append(userId, TransactionType.CHARGE, 1L, i, i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        }
+
+        //then
+        WalMetrics metrics = wal.metrics();
+        assertThat(metrics.appendCount()).isEqualTo(threads * perThread);
+        assertThat(metrics.durableSequence()).isEqualTo(threads * perThread);
+        assertThat(metrics.syncCount()).isLessThan(metrics.appendCount());
+        wal.close();
+    }
+
+    @Test
+    @DisplayName("한 번에 넘긴 기록 묶음은 이어지는 sequence 를 받고 디스크 반영은 한 번만 한다")
+    void append_groupGetsContiguousSequencesAndSingleSync() {
+        //given
+        PointWriteAheadLog wal = open(new RecordingHandler());
+        wal.append(2L, TransactionType.CHARGE, 100L, 100L, 1L);
+        long syncsBefore = wal.metrics().syncCount();
+
+        //when
+        wal.append(1L, List.of(
+                WalEntry.of(TransactionType.CHARGE, 500L, 500L, 2L),
+                WalEntry.of(TransactionType.USE, 200L, 300L, 3L),
+                new WalEntry(TransactionType.REFUND, 200L, 500L, 4L, 1)));
+        long groupSyncs = wal.metrics().syncCount() - syncsBefore;
+        wal.close();
+
+        //then
+        RecordingHandler handler = new RecordingHandler();
+        open(handler).close();
+        assertThat(handler.records).extracting(WalRecord::sequence).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(handler.records.get(3).reversedPosition()).isEqualTo(1L);
+        assertThat(groupSyncs).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("기동 복구 전에는 기록할 수 없다")
+    void append_beforeReplay_throws() {
+        //given
+        PointWriteAheadLog wal = new PointWriteAheadLog(properties(), PointThreadFactories.platform());
+
+        //when //then
+        assertThatThrownBy(() -> wal.append(1L, TransactionType.CHARGE, 100L, 100L, 1L))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private PointWriteAheadLog open(WalReplayHandler handler) {
+        PointWriteAheadLog wal = new PointWriteAheadLog(properties(), PointThreadFactories.platform());
+        wal.replay(handler);
+        return wal;
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> WalSegment.indexOf(file) >= 0)
+                    .sorted(Comparator.comparingInt(WalSegment::indexOf))
+                    .toList();
+        }
+    }
+
+    private PointWalProperties properties() {
+        return new PointWalProperties(true, directory.toString(), SMALL_SEGMENT_BYTES, true, 60_000);
+    }
+
+    static class RecordingHandler implements WalReplayHandler {
+
+        private final Map<Long, Long> snapshotBalances = new HashMap<>();
+        private final List<WalRecord> records = new ArrayList<>();
+        private final List<Boolean> covered = new ArrayList<>();
+
+        @Override
+        public void onSnapshotBalance(UserPoint balance) {
+            snapshotBalances.put(balance.id(), balance.point());
+        }
+
+        @Override
+        public void onRecord(WalRecord record, boolean coveredBySnapshot) {
+            records.add(record);
+            covered.add(coveredBySnapshot);
+        }
+    }
+}